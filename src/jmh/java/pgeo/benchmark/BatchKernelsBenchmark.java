@@ -0,0 +1,81 @@
+package pgeo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pgeo.simd.BatchKernels;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchKernelsBenchmark {
+
+    @Param({"scalar", "best"})
+    public String kernels;
+
+    @Param({"4096"})
+    public int count;
+
+    private BatchKernels selected;
+    private double[] ax;
+    private double[] ay;
+    private double[] bx;
+    private double[] by;
+    private double[] cx;
+    private double[] cy;
+    private double[] areas;
+    private byte[] sides;
+
+    @Setup
+    public void setUp() {
+        selected = "scalar".equals(kernels) ? BatchKernels.scalar() : BatchKernels.best();
+        Random random = new Random(1);
+        ax = random(random);
+        ay = random(random);
+        bx = random(random);
+        by = random(random);
+        cx = random(random);
+        cy = random(random);
+        areas = new double[count];
+        sides = new byte[count];
+    }
+
+    @Benchmark
+    public double[] triangleSignedAreas() {
+        selected.triangleSignedAreas(ax, ay, bx, by, cx, cy, areas, count);
+        return areas;
+    }
+
+    @Benchmark
+    public double polygonSignedArea() {
+        return selected.polygonSignedArea(ax, ay, count);
+    }
+
+    @Benchmark
+    public byte[] classifyPoints() {
+        selected.classifyPoints(-1, -1, 3, 3, cx, cy, sides, count);
+        return sides;
+    }
+
+    private double[] random(Random random) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble() * 200 - 100;
+        }
+        return values;
+    }
+}
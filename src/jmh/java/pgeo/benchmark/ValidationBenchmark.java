@@ -0,0 +1,71 @@
+package pgeo.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pgeo.core.Point;
+import pgeo.geometry.PGeo;
+import pgeo.geometry.TrustedPGeo;
+import pgeo.util.GeometryValidator;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final PGeo pgeo = new PGeo();
+    private final PGeo trusted = new TrustedPGeo();
+    private final double[][] triangle = {{0, 0}, {4, 0}, {2, 3}};
+    private final double[][] segmentWithLine = {{0, 0}, {4, 4}, {0, 4}, {4, 0}};
+
+    @Benchmark
+    public double areaTrianguloValidated() {
+        return pgeo.area_triangulo(triangle);
+    }
+
+    @Benchmark
+    public double areaTrianguloTrusted() {
+        return trusted.area_triangulo(triangle);
+    }
+
+    @Benchmark
+    public boolean intersecaoValidated() {
+        return pgeo.intersecao(segmentWithLine);
+    }
+
+    @Benchmark
+    public boolean intersecaoTrusted() {
+        return trusted.intersecao(segmentWithLine);
+    }
+
+    @Benchmark
+    public double[][] layerShapeValidation() {
+        GeometryValidator.validateTriangleArray(triangle);
+        return triangle;
+    }
+
+    @Benchmark
+    public void layerPointConstruction(Blackhole blackhole) {
+        blackhole.consume(Point.fromArray(triangle[0]));
+        blackhole.consume(Point.fromArray(triangle[1]));
+        blackhole.consume(Point.fromArray(triangle[2]));
+    }
+
+    @Benchmark
+    public double[][] layerDistinctPoints() {
+        GeometryValidator.validateDistinctPoints(triangle);
+        return triangle;
+    }
+}
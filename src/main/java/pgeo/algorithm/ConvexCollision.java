@@ -0,0 +1,419 @@
+package pgeo.algorithm;
+
+import java.util.Arrays;
+
+public final class ConvexCollision {
+
+    private static final int MAX_GJK_ITERATIONS = 64;
+    private static final int MAX_EPA_ITERATIONS = 64;
+    private static final double TOLERANCE = 1e-12;
+
+    public record Penetration(double depth, double normalX, double normalY) {
+    }
+
+    public static final class WarmStart {
+
+        private double axisX;
+        private double axisY;
+        private boolean hasAxis;
+        private final int[] simplexA = new int[3];
+        private final int[] simplexB = new int[3];
+        private int simplexSize;
+
+        public void reset() {
+            hasAxis = false;
+            simplexSize = 0;
+        }
+    }
+
+    private ConvexCollision() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static boolean overlapsSat(ConvexShape a, ConvexShape b) {
+        return overlapsSat(a, b, null);
+    }
+
+    public static boolean overlapsSat(ConvexShape a, ConvexShape b, WarmStart warmStart) {
+        validateShapes(a, b);
+        if (warmStart != null && warmStart.hasAxis && separates(a, b, warmStart.axisX, warmStart.axisY)) {
+            return false;
+        }
+        if (findSeparatingAxis(a, b, a, warmStart) || findSeparatingAxis(a, b, b, warmStart)) {
+            return false;
+        }
+        if (warmStart != null) {
+            warmStart.hasAxis = false;
+        }
+        return true;
+    }
+
+    public static boolean overlaps(ConvexShape a, ConvexShape b) {
+        return overlaps(a, b, null);
+    }
+
+    public static boolean overlaps(ConvexShape a, ConvexShape b, WarmStart warmStart) {
+        validateShapes(a, b);
+        Simplex simplex = new Simplex(a, b);
+        return simplex.run(warmStart, true) == 0.0;
+    }
+
+    public static double distance(ConvexShape a, ConvexShape b) {
+        return distance(a, b, null);
+    }
+
+    public static double distance(ConvexShape a, ConvexShape b, WarmStart warmStart) {
+        validateShapes(a, b);
+        Simplex simplex = new Simplex(a, b);
+        return Math.sqrt(simplex.run(warmStart, false));
+    }
+
+    public static Penetration penetration(ConvexShape a, ConvexShape b) {
+        return penetration(a, b, null);
+    }
+
+    public static Penetration penetration(ConvexShape a, ConvexShape b, WarmStart warmStart) {
+        validateShapes(a, b);
+        Simplex simplex = new Simplex(a, b);
+        if (simplex.run(warmStart, false) > 0.0) {
+            return null;
+        }
+        return expandPolytope(a, b, simplex);
+    }
+
+    private static boolean findSeparatingAxis(ConvexShape a, ConvexShape b, ConvexShape edges, WarmStart warmStart) {
+        int count = edges.getVertexCount();
+        for (int i = 0; i < count; i++) {
+            int next = i + 1 == count ? 0 : i + 1;
+            double axisX = edges.y(next) - edges.y(i);
+            double axisY = edges.x(i) - edges.x(next);
+            if (separates(a, b, axisX, axisY)) {
+                if (warmStart != null) {
+                    warmStart.axisX = axisX;
+                    warmStart.axisY = axisY;
+                    warmStart.hasAxis = true;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean separates(ConvexShape a, ConvexShape b, double axisX, double axisY) {
+        double maxA = dot(a, a.support(axisX, axisY), axisX, axisY);
+        double minA = dot(a, a.support(-axisX, -axisY), axisX, axisY);
+        double maxB = dot(b, b.support(axisX, axisY), axisX, axisY);
+        double minB = dot(b, b.support(-axisX, -axisY), axisX, axisY);
+        return maxA < minB || maxB < minA;
+    }
+
+    private static double dot(ConvexShape shape, int index, double dx, double dy) {
+        return shape.x(index) * dx + shape.y(index) * dy;
+    }
+
+    private static Penetration expandPolytope(ConvexShape a, ConvexShape b, Simplex simplex) {
+        double[] xs = Arrays.copyOf(simplex.xs, MAX_EPA_ITERATIONS + 3);
+        double[] ys = Arrays.copyOf(simplex.ys, MAX_EPA_ITERATIONS + 3);
+        if (simplex.size < 3) {
+            Penetration touching = growToTriangle(a, b, xs, ys, simplex.size);
+            if (touching != null) {
+                return touching;
+            }
+        }
+        int size = 3;
+        double orientation = (xs[1] - xs[0]) * (ys[2] - ys[0]) - (ys[1] - ys[0]) * (xs[2] - xs[0]);
+        if (orientation < 0) {
+            double x = xs[1];
+            double y = ys[1];
+            xs[1] = xs[2];
+            ys[1] = ys[2];
+            xs[2] = x;
+            ys[2] = y;
+        }
+
+        double bestDepth = 0.0;
+        double bestX = 1.0;
+        double bestY = 0.0;
+        for (int iteration = 0; iteration < MAX_EPA_ITERATIONS; iteration++) {
+            int edge = -1;
+            bestDepth = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                int next = i + 1 == size ? 0 : i + 1;
+                double ex = xs[next] - xs[i];
+                double ey = ys[next] - ys[i];
+                double length = Math.hypot(ex, ey);
+                if (length == 0.0) {
+                    continue;
+                }
+                double nx = ey / length;
+                double ny = -ex / length;
+                double distance = nx * xs[i] + ny * ys[i];
+                if (distance < bestDepth) {
+                    bestDepth = distance;
+                    bestX = nx;
+                    bestY = ny;
+                    edge = i;
+                }
+            }
+
+            int ia = a.support(bestX, bestY);
+            int ib = b.support(-bestX, -bestY);
+            double wx = a.x(ia) - b.x(ib);
+            double wy = a.y(ia) - b.y(ib);
+            double reach = wx * bestX + wy * bestY;
+            if (reach - bestDepth <= 1e-10 * Math.max(1.0, reach) || size == xs.length) {
+                break;
+            }
+
+            System.arraycopy(xs, edge + 1, xs, edge + 2, size - edge - 1);
+            System.arraycopy(ys, edge + 1, ys, edge + 2, size - edge - 1);
+            xs[edge + 1] = wx;
+            ys[edge + 1] = wy;
+            size++;
+        }
+        return new Penetration(Math.max(0.0, bestDepth), bestX, bestY);
+    }
+
+    private static Penetration growToTriangle(ConvexShape a, ConvexShape b, double[] xs, double[] ys, int size) {
+        if (size == 2 && xs[0] == xs[1] && ys[0] == ys[1]) {
+            size = 1;
+        }
+        if (size == 1) {
+            double[][] directions = {{1.0, 0.0}, {-1.0, 0.0}, {0.0, 1.0}, {0.0, -1.0}};
+            for (double[] direction : directions) {
+                supportPoint(a, b, direction[0], direction[1], xs, ys, 1);
+                if (xs[1] != xs[0] || ys[1] != ys[0]) {
+                    size = 2;
+                    break;
+                }
+            }
+            if (size == 1) {
+                return new Penetration(0.0, 1.0, 0.0);
+            }
+        }
+
+        double ex = xs[1] - xs[0];
+        double ey = ys[1] - ys[0];
+        double length = Math.hypot(ex, ey);
+        double nx = -ey / length;
+        double ny = ex / length;
+        supportPoint(a, b, nx, ny, xs, ys, 2);
+        double left = xs[2] * nx + ys[2] * ny;
+        if (left <= 1e-10 * Math.max(1.0, length)) {
+            return new Penetration(0.0, nx, ny);
+        }
+        double leftX = xs[2];
+        double leftY = ys[2];
+        supportPoint(a, b, -nx, -ny, xs, ys, 2);
+        double right = -(xs[2] * nx + ys[2] * ny);
+        if (right <= 1e-10 * Math.max(1.0, length)) {
+            return new Penetration(0.0, -nx, -ny);
+        }
+        if (left < right) {
+            xs[2] = leftX;
+            ys[2] = leftY;
+        }
+        return null;
+    }
+
+    private static void supportPoint(ConvexShape a, ConvexShape b, double dx, double dy,
+                                     double[] xs, double[] ys, int slot) {
+        int ia = a.support(dx, dy);
+        int ib = b.support(-dx, -dy);
+        xs[slot] = a.x(ia) - b.x(ib);
+        ys[slot] = a.y(ia) - b.y(ib);
+    }
+
+    private static void validateShapes(ConvexShape a, ConvexShape b) {
+        if (a == null || b == null) {
+            throw new IllegalArgumentException("Shapes cannot be null");
+        }
+    }
+
+    private static final class Simplex {
+
+        private final ConvexShape a;
+        private final ConvexShape b;
+        private final double[] xs = new double[3];
+        private final double[] ys = new double[3];
+        private final int[] indicesA = new int[3];
+        private final int[] indicesB = new int[3];
+        private int size;
+        private double vx;
+        private double vy;
+
+        Simplex(ConvexShape a, ConvexShape b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        double run(WarmStart warmStart, boolean booleanOnly) {
+            if (warmStart != null && warmStart.simplexSize > 0) {
+                for (int i = 0; i < warmStart.simplexSize; i++) {
+                    int ia = warmStart.simplexA[i];
+                    int ib = warmStart.simplexB[i];
+                    if (ia < a.getVertexCount() && ib < b.getVertexCount()) {
+                        add(ia, ib);
+                    }
+                }
+            }
+            if (size == 0) {
+                double dx = a.centroidX() - b.centroidX();
+                double dy = a.centroidY() - b.centroidY();
+                if (dx == 0.0 && dy == 0.0) {
+                    dx = 1.0;
+                }
+                add(a.support(-dx, -dy), b.support(dx, dy));
+            }
+
+            double result = -1.0;
+            for (int iteration = 0; iteration < MAX_GJK_ITERATIONS && result < 0; iteration++) {
+                if (reduce()) {
+                    result = 0.0;
+                    break;
+                }
+                double lengthSquared = vx * vx + vy * vy;
+                if (lengthSquared <= TOLERANCE * TOLERANCE) {
+                    result = 0.0;
+                    break;
+                }
+
+                int ia = a.support(-vx, -vy);
+                int ib = b.support(vx, vy);
+                double wx = a.x(ia) - b.x(ib);
+                double wy = a.y(ia) - b.y(ib);
+                double progress = lengthSquared - (vx * wx + vy * wy);
+                if (booleanOnly && vx * wx + vy * wy > 0) {
+                    result = lengthSquared;
+                } else if (progress <= TOLERANCE * Math.max(1.0, lengthSquared) || contains(ia, ib)) {
+                    result = lengthSquared;
+                } else {
+                    add(ia, ib);
+                }
+            }
+            if (result < 0) {
+                result = vx * vx + vy * vy;
+            }
+
+            if (warmStart != null) {
+                warmStart.simplexSize = size;
+                System.arraycopy(indicesA, 0, warmStart.simplexA, 0, size);
+                System.arraycopy(indicesB, 0, warmStart.simplexB, 0, size);
+            }
+            return result;
+        }
+
+        private boolean contains(int ia, int ib) {
+            for (int i = 0; i < size; i++) {
+                if (indicesA[i] == ia && indicesB[i] == ib) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(int ia, int ib) {
+            if (contains(ia, ib) || size == 3) {
+                return;
+            }
+            indicesA[size] = ia;
+            indicesB[size] = ib;
+            xs[size] = a.x(ia) - b.x(ib);
+            ys[size] = a.y(ia) - b.y(ib);
+            size++;
+        }
+
+        private boolean reduce() {
+            if (size == 1) {
+                vx = xs[0];
+                vy = ys[0];
+                return false;
+            }
+            if (size == 2) {
+                reduceSegment(0, 1);
+                return false;
+            }
+
+            double d0 = cross(1, 2);
+            double d1 = cross(2, 0);
+            double d2 = cross(0, 1);
+            boolean degenerate = d0 == 0.0 && d1 == 0.0 && d2 == 0.0;
+            if (!degenerate && ((d0 >= 0 && d1 >= 0 && d2 >= 0) || (d0 <= 0 && d1 <= 0 && d2 <= 0))) {
+                vx = 0.0;
+                vy = 0.0;
+                return true;
+            }
+
+            int bestFirst = 0;
+            int bestSecond = 1;
+            double best = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < 3; i++) {
+                int j = (i + 1) % 3;
+                double t = segmentParameter(i, j);
+                double px = xs[i] + t * (xs[j] - xs[i]);
+                double py = ys[i] + t * (ys[j] - ys[i]);
+                double d = px * px + py * py;
+                if (d < best) {
+                    best = d;
+                    bestFirst = i;
+                    bestSecond = j;
+                }
+            }
+            keep(bestFirst, bestSecond);
+            reduceSegment(0, 1);
+            return false;
+        }
+
+        private void reduceSegment(int first, int second) {
+            double t = segmentParameter(first, second);
+            if (t <= 0.0) {
+                keep(first);
+            } else if (t >= 1.0) {
+                keep(second);
+            } else {
+                vx = xs[first] + t * (xs[second] - xs[first]);
+                vy = ys[first] + t * (ys[second] - ys[first]);
+                return;
+            }
+            vx = xs[0];
+            vy = ys[0];
+        }
+
+        private double segmentParameter(int i, int j) {
+            double ex = xs[j] - xs[i];
+            double ey = ys[j] - ys[i];
+            double lengthSquared = ex * ex + ey * ey;
+            if (lengthSquared == 0.0) {
+                return 0.0;
+            }
+            return Math.max(0.0, Math.min(1.0, -(xs[i] * ex + ys[i] * ey) / lengthSquared));
+        }
+
+        private double cross(int i, int j) {
+            return xs[i] * ys[j] - ys[i] * xs[j];
+        }
+
+        private void keep(int first) {
+            move(first, 0);
+            size = 1;
+        }
+
+        private void keep(int first, int second) {
+            if (second == 0) {
+                move(0, 1);
+                move(first, 0);
+            } else {
+                move(first, 0);
+                move(second, 1);
+            }
+            size = 2;
+        }
+
+        private void move(int from, int to) {
+            xs[to] = xs[from];
+            ys[to] = ys[from];
+            indicesA[to] = indicesA[from];
+            indicesB[to] = indicesB[from];
+        }
+    }
+}
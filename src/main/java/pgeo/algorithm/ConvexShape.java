@@ -0,0 +1,201 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+public final class ConvexShape {
+
+    private final double[] coordinates;
+    private final int count;
+    private double offsetX;
+    private double offsetY;
+
+    private ConvexShape(double[] coordinates) {
+        this.coordinates = coordinates;
+        this.count = coordinates.length / 2;
+    }
+
+    public static ConvexShape of(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        Polygon hull = polygon.getConvexHull();
+        double[] coordinates = new double[hull.getVertexCount() * 2];
+        hull.copyCoordinates(coordinates, 0);
+        return new ConvexShape(coordinates);
+    }
+
+    public static ConvexShape of(Triangle triangle) {
+        if (triangle == null) {
+            throw new IllegalArgumentException("Triangle cannot be null");
+        }
+        return of(
+            triangle.getVertexA().getX(), triangle.getVertexA().getY(),
+            triangle.getVertexB().getX(), triangle.getVertexB().getY(),
+            triangle.getVertexC().getX(), triangle.getVertexC().getY());
+    }
+
+    public static ConvexShape of(double... coordinates) {
+        validateConvex(coordinates);
+        double[] copy = coordinates.clone();
+        if (signedArea(copy) < 0) {
+            int count = copy.length / 2;
+            for (int i = 0, j = count - 1; i < j; i++, j--) {
+                double x = copy[i * 2];
+                double y = copy[i * 2 + 1];
+                copy[i * 2] = copy[j * 2];
+                copy[i * 2 + 1] = copy[j * 2 + 1];
+                copy[j * 2] = x;
+                copy[j * 2 + 1] = y;
+            }
+        }
+        return new ConvexShape(copy);
+    }
+
+    public int getVertexCount() {
+        return count;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return coordinates[index * 2] + offsetX;
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return coordinates[index * 2 + 1] + offsetY;
+    }
+
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    public void setOffset(double x, double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            throw new IllegalArgumentException("Offset must be finite");
+        }
+        this.offsetX = x;
+        this.offsetY = y;
+    }
+
+    public void translate(double dx, double dy) {
+        setOffset(offsetX + dx, offsetY + dy);
+    }
+
+    public Envelope getEnvelope() {
+        Envelope local = Envelope.of(coordinates, 0, count);
+        return new Envelope(local.getMinX() + offsetX, local.getMinY() + offsetY,
+            local.getMaxX() + offsetX, local.getMaxY() + offsetY);
+    }
+
+    double x(int index) {
+        return coordinates[index * 2] + offsetX;
+    }
+
+    double y(int index) {
+        return coordinates[index * 2 + 1] + offsetY;
+    }
+
+    int support(double dx, double dy) {
+        int best = 0;
+        double bestDot = coordinates[0] * dx + coordinates[1] * dy;
+        for (int i = 1; i < count; i++) {
+            double dot = coordinates[i * 2] * dx + coordinates[i * 2 + 1] * dy;
+            if (dot > bestDot) {
+                bestDot = dot;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    double centroidX() {
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            sum += coordinates[i * 2];
+        }
+        return sum / count + offsetX;
+    }
+
+    double centroidY() {
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            sum += coordinates[i * 2 + 1];
+        }
+        return sum / count + offsetY;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for shape with %d vertices", index, count)
+            );
+        }
+    }
+
+    private static double signedArea(double[] coordinates) {
+        int count = coordinates.length / 2;
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            int next = i + 1 == count ? 0 : i + 1;
+            sum += coordinates[i * 2] * coordinates[next * 2 + 1] - coordinates[next * 2] * coordinates[i * 2 + 1];
+        }
+        return sum / 2.0;
+    }
+
+    private static void validateConvex(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException("Coordinates must contain interleaved x, y pairs");
+        }
+        if (coordinates.length < 6) {
+            throw new IllegalArgumentException("Convex shape requires at least 3 vertices");
+        }
+        for (int i = 0; i < coordinates.length; i++) {
+            if (!Double.isFinite(coordinates[i])) {
+                throw new IllegalArgumentException(
+                    String.format("Coordinate at index %d must be finite", i)
+                );
+            }
+        }
+
+        int count = coordinates.length / 2;
+        int turn = 0;
+        int xFlips = 0;
+        double previousDx = 0.0;
+        for (int i = 0; i < count; i++) {
+            int b = (i + 1) % count;
+            int c = (i + 2) % count;
+            double abX = coordinates[b * 2] - coordinates[i * 2];
+            double abY = coordinates[b * 2 + 1] - coordinates[i * 2 + 1];
+            double bcX = coordinates[c * 2] - coordinates[b * 2];
+            double bcY = coordinates[c * 2 + 1] - coordinates[b * 2 + 1];
+            int sign = (int) Math.signum(abX * bcY - abY * bcX);
+            if (sign != 0) {
+                if (turn != 0 && sign != turn) {
+                    throw new IllegalArgumentException("Shape vertices are not convex");
+                }
+                turn = sign;
+            }
+            if (abX != 0.0) {
+                if (previousDx != 0.0 && (abX > 0) != (previousDx > 0)) {
+                    xFlips++;
+                }
+                previousDx = abX;
+            }
+        }
+        if (turn == 0) {
+            throw new IllegalArgumentException("Shape vertices are collinear");
+        }
+        if (xFlips > 2) {
+            throw new IllegalArgumentException("Shape vertices wind more than once");
+        }
+    }
+}
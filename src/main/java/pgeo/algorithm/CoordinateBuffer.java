@@ -0,0 +1,81 @@
+package pgeo.algorithm;
+
+import java.util.Arrays;
+
+final class CoordinateBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] values;
+    private int size;
+
+    CoordinateBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    CoordinateBuffer(int vertexCapacity) {
+        this.values = new double[Math.max(2, vertexCapacity * 2)];
+    }
+
+    int vertexCount() {
+        return size / 2;
+    }
+
+    double x(int index) {
+        return values[index * 2];
+    }
+
+    double y(int index) {
+        return values[index * 2 + 1];
+    }
+
+    double[] values() {
+        return values;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(double x, double y) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = x;
+        values[size++] = y;
+    }
+
+    void addDistinct(double x, double y) {
+        if (size > 0
+                && Double.compare(values[size - 2], x) == 0
+                && Double.compare(values[size - 1], y) == 0) {
+            return;
+        }
+        add(x, y);
+    }
+
+    void closeRing() {
+        while (size >= 4
+                && Double.compare(values[0], values[size - 2]) == 0
+                && Double.compare(values[1], values[size - 1]) == 0) {
+            size -= 2;
+        }
+    }
+
+    double signedArea() {
+        int count = vertexCount();
+        if (count < 3) {
+            return 0.0;
+        }
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            sum += (x(i) * y(next)) - (x(next) * y(i));
+        }
+        return sum / 2.0;
+    }
+
+    double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,275 @@
+package pgeo.algorithm;
+
+import pgeo.core.LineSegment;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public final class DistanceJoin {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private DistanceJoin() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final class Grid {
+        final double minX;
+        final double minY;
+        final double cellSize;
+        final int columns;
+        final int rows;
+        final long[] keys;
+        final int[] ids;
+        final double[] xs;
+        final double[] ys;
+
+        Grid(double[] coordinates, double distance, boolean parallel) {
+            int count = coordinates.length / 2;
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                minX = Math.min(minX, coordinates[i * 2]);
+                minY = Math.min(minY, coordinates[i * 2 + 1]);
+                maxX = Math.max(maxX, coordinates[i * 2]);
+                maxY = Math.max(maxY, coordinates[i * 2 + 1]);
+            }
+            double size = Math.max(distance, Math.max(maxX - minX, maxY - minY) / Math.sqrt(count));
+            this.minX = minX;
+            this.minY = minY;
+            this.cellSize = size > 0 ? size : 1.0;
+            this.columns = (int) ((maxX - minX) / cellSize) + 1;
+            this.rows = (int) ((maxY - minY) / cellSize) + 1;
+
+            this.keys = new long[count];
+            this.ids = new int[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = key(index(coordinates[i * 2], minX, columns), index(coordinates[i * 2 + 1], minY, rows));
+                ids[i] = i;
+            }
+            SpaceFillingCurve.radixSort(keys, ids, parallel);
+            this.xs = new double[count];
+            this.ys = new double[count];
+            for (int i = 0; i < count; i++) {
+                xs[i] = coordinates[ids[i] * 2];
+                ys[i] = coordinates[ids[i] * 2 + 1];
+            }
+        }
+
+        int index(double value, double origin, int limit) {
+            double index = Math.floor((value - origin) / cellSize);
+            if (!(index > 0)) {
+                return 0;
+            }
+            return index >= limit ? limit - 1 : (int) index;
+        }
+
+        long key(int column, int row) {
+            return ((long) column << 31) | row;
+        }
+
+        int lowerBound(long key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        boolean coversX(double low, double high) {
+            return high >= minX && low <= minX + columns * cellSize;
+        }
+
+        boolean coversY(double low, double high) {
+            return high >= minY && low <= minY + rows * cellSize;
+        }
+    }
+
+    public static int[] selfJoin(double[] coordinates, double distance, boolean parallel) {
+        SpatialJoin.PairCollector collector = new SpatialJoin.PairCollector();
+        selfJoin(coordinates, distance, parallel, collector);
+        return collector.toSortedPairs();
+    }
+
+    public static long selfJoin(double[] coordinates, double distance, boolean parallel,
+                                SpatialJoin.PairConsumer consumer) {
+        validatePoints(coordinates);
+        validate(distance, consumer);
+        return pointJoin(coordinates, coordinates, distance, parallel, consumer, true);
+    }
+
+    public static int[] pointJoin(double[] first, double[] second, double distance, boolean parallel) {
+        SpatialJoin.PairCollector collector = new SpatialJoin.PairCollector();
+        pointJoin(first, second, distance, parallel, collector);
+        return collector.toSortedPairs();
+    }
+
+    public static long pointJoin(double[] first, double[] second, double distance, boolean parallel,
+                                 SpatialJoin.PairConsumer consumer) {
+        validatePoints(first);
+        validatePoints(second);
+        validate(distance, consumer);
+        return pointJoin(first, second, distance, parallel, consumer, false);
+    }
+
+    public static int[] segmentJoin(double[] points, double[] segments, double distance, boolean parallel) {
+        SpatialJoin.PairCollector collector = new SpatialJoin.PairCollector();
+        segmentJoin(points, segments, distance, parallel, collector);
+        return collector.toSortedPairs();
+    }
+
+    public static long segmentJoin(double[] points, double[] segments, double distance, boolean parallel,
+                                   SpatialJoin.PairConsumer consumer) {
+        validatePoints(points);
+        if (segments == null) {
+            throw new IllegalArgumentException("Segments array cannot be null");
+        }
+        if (segments.length % 4 != 0) {
+            throw new IllegalArgumentException(
+                String.format("Segments array must hold x1, y1, x2, y2 groups, got %d values", segments.length)
+            );
+        }
+        validate(distance, consumer);
+        if (points.length == 0 || segments.length == 0) {
+            return 0;
+        }
+        Grid grid = new Grid(points, distance, parallel);
+        double limit = distance * distance;
+        return forEachChunk(segments.length / 4, parallel, consumer, (segment, writer) -> {
+            double ax = segments[segment * 4];
+            double ay = segments[segment * 4 + 1];
+            double bx = segments[segment * 4 + 2];
+            double by = segments[segment * 4 + 3];
+            double segmentMinX = Math.min(ax, bx);
+            double segmentMaxX = Math.max(ax, bx);
+            double segmentMinY = Math.min(ay, by);
+            double segmentMaxY = Math.max(ay, by);
+            if (!grid.coversX(segmentMinX - distance, segmentMaxX + distance)
+                    || !grid.coversY(segmentMinY - distance, segmentMaxY + distance)) {
+                return;
+            }
+            int firstColumn = grid.index(segmentMinX - distance, grid.minX, grid.columns);
+            int lastColumn = grid.index(segmentMaxX + distance, grid.minX, grid.columns);
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int start = grid.lowerBound(grid.key(column, 0));
+                if (start == grid.keys.length) {
+                    break;
+                }
+                column = (int) (grid.keys[start] >>> 31);
+                if (column > lastColumn) {
+                    break;
+                }
+                double slabLow = Math.max(segmentMinX, grid.minX + column * grid.cellSize - distance);
+                double slabHigh = Math.min(segmentMaxX, grid.minX + (column + 1) * grid.cellSize + distance);
+                double low = segmentMinY;
+                double high = segmentMaxY;
+                if (ax != bx) {
+                    double slope = (by - ay) / (bx - ax);
+                    double yLow = ay + (slabLow - ax) * slope;
+                    double yHigh = ay + (slabHigh - ax) * slope;
+                    low = Math.max(segmentMinY, Math.min(yLow, yHigh));
+                    high = Math.min(segmentMaxY, Math.max(yLow, yHigh));
+                }
+                if (!grid.coversY(low - distance, high + distance)) {
+                    continue;
+                }
+                long endKey = grid.key(column, grid.index(high + distance, grid.minY, grid.rows));
+                for (int i = grid.lowerBound(grid.key(column, grid.index(low - distance, grid.minY, grid.rows)));
+                     i < grid.keys.length && grid.keys[i] <= endKey; i++) {
+                    if (LineSegment.pointDistanceSquared(grid.xs[i], grid.ys[i], ax, ay, bx, by) <= limit) {
+                        writer.add(grid.ids[i], segment);
+                    }
+                }
+            }
+        });
+    }
+
+    private interface Probe {
+        void run(int index, SpatialJoin.PairWriter writer);
+    }
+
+    private static long pointJoin(double[] first, double[] second, double distance, boolean parallel,
+                                  SpatialJoin.PairConsumer consumer, boolean self) {
+        if (first.length == 0 || second.length == 0) {
+            return 0;
+        }
+        Grid grid = new Grid(first, distance, parallel);
+        double limit = distance * distance;
+        return forEachChunk(second.length / 2, parallel, consumer, (point, writer) -> {
+            double x = second[point * 2];
+            double y = second[point * 2 + 1];
+            if (!grid.coversX(x - distance, x + distance) || !grid.coversY(y - distance, y + distance)) {
+                return;
+            }
+            int firstColumn = grid.index(x - distance, grid.minX, grid.columns);
+            int lastColumn = grid.index(x + distance, grid.minX, grid.columns);
+            int firstRow = grid.index(y - distance, grid.minY, grid.rows);
+            int lastRow = grid.index(y + distance, grid.minY, grid.rows);
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int start = grid.lowerBound(grid.key(column, 0));
+                if (start == grid.keys.length) {
+                    break;
+                }
+                column = (int) (grid.keys[start] >>> 31);
+                if (column > lastColumn) {
+                    break;
+                }
+                long endKey = grid.key(column, lastRow);
+                for (int i = grid.lowerBound(grid.key(column, firstRow)); i < grid.keys.length && grid.keys[i] <= endKey; i++) {
+                    double dx = grid.xs[i] - x;
+                    double dy = grid.ys[i] - y;
+                    if (dx * dx + dy * dy <= limit && (!self || grid.ids[i] < point)) {
+                        writer.add(grid.ids[i], point);
+                    }
+                }
+            }
+        });
+    }
+
+    private static long forEachChunk(int count, boolean parallel, SpatialJoin.PairConsumer consumer, Probe probe) {
+        AtomicLong total = new AtomicLong();
+        IntStream chunks = IntStream.range(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        if (parallel) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            SpatialJoin.PairWriter writer = new SpatialJoin.PairWriter(consumer);
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int index = chunk * CHUNK_SIZE; index < end; index++) {
+                probe.run(index, writer);
+            }
+            total.addAndGet(writer.finish());
+        });
+        return total.get();
+    }
+
+    private static void validate(double distance, SpatialJoin.PairConsumer consumer) {
+        if (!(distance >= 0) || Double.isInfinite(distance)) {
+            throw new IllegalArgumentException(
+                String.format("Distance must be non-negative and finite, got %s", distance)
+            );
+        }
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+    }
+
+    private static void validatePoints(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates array cannot be null");
+        }
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                String.format("Coordinates array must hold x, y pairs, got %d values", coordinates.length)
+            );
+        }
+    }
+}
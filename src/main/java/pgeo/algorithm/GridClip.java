@@ -0,0 +1,113 @@
+package pgeo.algorithm;
+
+import java.util.Arrays;
+
+public final class GridClip {
+
+    private final int gridColumns;
+    private final int gridRows;
+    private final int[] columns;
+    private final int[] rows;
+    private final int[] offsets;
+    private final double[] coordinates;
+
+    private GridClip(int gridColumns, int gridRows, int[] columns, int[] rows, int[] offsets, double[] coordinates) {
+        this.gridColumns = gridColumns;
+        this.gridRows = gridRows;
+        this.columns = columns;
+        this.rows = rows;
+        this.offsets = offsets;
+        this.coordinates = coordinates;
+    }
+
+    public int getGridColumns() {
+        return gridColumns;
+    }
+
+    public int getGridRows() {
+        return gridRows;
+    }
+
+    public int getTileCount() {
+        return columns.length;
+    }
+
+    public int getColumn(int tile) {
+        checkTile(tile);
+        return columns[tile];
+    }
+
+    public int getRow(int tile) {
+        checkTile(tile);
+        return rows[tile];
+    }
+
+    public int getTileIndex(int tile) {
+        checkTile(tile);
+        return rows[tile] * gridColumns + columns[tile];
+    }
+
+    public int getVertexCount(int tile) {
+        checkTile(tile);
+        return (offsets[tile + 1] - offsets[tile]) / 2;
+    }
+
+    public int getOffset(int tile) {
+        checkTile(tile);
+        return offsets[tile];
+    }
+
+    public double[] getCoordinates() {
+        return coordinates;
+    }
+
+    public double[] toArray(int tile) {
+        checkTile(tile);
+        return Arrays.copyOfRange(coordinates, offsets[tile], offsets[tile + 1]);
+    }
+
+    private void checkTile(int tile) {
+        if (tile < 0 || tile >= columns.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Tile %d out of bounds for %d clipped tiles", tile, columns.length)
+            );
+        }
+    }
+
+    static final class Builder {
+
+        private final int gridColumns;
+        private final int gridRows;
+        private int[] columns = new int[8];
+        private int[] rows = new int[8];
+        private int[] offsets = new int[9];
+        private final CoordinateBuffer coordinates = new CoordinateBuffer(64);
+        private int count;
+
+        Builder(int gridColumns, int gridRows) {
+            this.gridColumns = gridColumns;
+            this.gridRows = gridRows;
+        }
+
+        void add(int column, int row, CoordinateBuffer ring) {
+            if (count == columns.length) {
+                columns = Arrays.copyOf(columns, count * 2);
+                rows = Arrays.copyOf(rows, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2 + 1);
+            }
+            columns[count] = column;
+            rows[count] = row;
+            for (int i = 0; i < ring.vertexCount(); i++) {
+                coordinates.add(ring.x(i), ring.y(i));
+            }
+            count++;
+            offsets[count] = coordinates.vertexCount() * 2;
+        }
+
+        GridClip build() {
+            return new GridClip(gridColumns, gridRows,
+                Arrays.copyOf(columns, count), Arrays.copyOf(rows, count),
+                Arrays.copyOf(offsets, count + 1), coordinates.toArray());
+        }
+    }
+}
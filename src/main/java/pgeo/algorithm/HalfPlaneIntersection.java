@@ -0,0 +1,292 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Line;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.stream.IntStream;
+
+public final class HalfPlaneIntersection {
+
+    private static final double RELATIVE_EPSILON = 1e-10;
+    private static final double PARALLEL_EPSILON = 1e-12;
+
+    private HalfPlaneIntersection() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static Polygon intersect(Line... lines) {
+        return intersect(toHalfPlanes(lines, null));
+    }
+
+    public static Polygon intersect(Envelope bounds, Line... lines) {
+        if (bounds == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        return intersect(toHalfPlanes(lines, bounds));
+    }
+
+    public static Polygon intersect(double[] halfPlanes) {
+        validateHalfPlanes(halfPlanes, "Half-planes");
+        return solve(halfPlanes, halfPlanes.length / 4);
+    }
+
+    public static Polygon[] intersectAll(double[][] problems, boolean parallel) {
+        if (problems == null) {
+            throw new IllegalArgumentException("Problems array cannot be null");
+        }
+        for (int p = 0; p < problems.length; p++) {
+            validateHalfPlanes(problems[p], String.format("Problem %d", p));
+        }
+
+        IntStream indices = IntStream.range(0, problems.length);
+        if (parallel) {
+            indices = indices.parallel();
+        }
+        Polygon[] results = new Polygon[problems.length];
+        indices.forEach(p -> results[p] = solve(problems[p], problems[p].length / 4));
+        return results;
+    }
+
+    private static Polygon solve(double[] planes, int count) {
+        double[] px = new double[count];
+        double[] py = new double[count];
+        double[] dx = new double[count];
+        double[] dy = new double[count];
+        double[] angle = new double[count];
+        double scale = 1.0;
+
+        for (int i = 0; i < count; i++) {
+            double ax = planes[i * 4];
+            double ay = planes[i * 4 + 1];
+            double ex = planes[i * 4 + 2] - ax;
+            double ey = planes[i * 4 + 3] - ay;
+            double length = Math.hypot(ex, ey);
+            px[i] = ax;
+            py[i] = ay;
+            dx[i] = ex / length;
+            dy[i] = ey / length;
+            angle[i] = Math.atan2(ey, ex);
+            scale = Math.max(scale, Math.max(Math.abs(ax), Math.abs(ay)));
+        }
+        double epsilon = RELATIVE_EPSILON * scale;
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        sortByAngle(order, new int[count], angle, 0, count);
+        validateBounded(order, angle, count);
+
+        int[] deque = new int[count];
+        int head = 0;
+        int tail = 0;
+        double[] vertex = new double[2];
+
+        for (int k = 0; k < count; k++) {
+            int plane = order[k];
+            while (tail - head > 1) {
+                intersection(deque[tail - 2], deque[tail - 1], px, py, dx, dy, vertex);
+                if (!isOutside(plane, vertex[0], vertex[1], px, py, dx, dy, epsilon)) {
+                    break;
+                }
+                tail--;
+            }
+            while (tail - head > 1) {
+                intersection(deque[head], deque[head + 1], px, py, dx, dy, vertex);
+                if (!isOutside(plane, vertex[0], vertex[1], px, py, dx, dy, epsilon)) {
+                    break;
+                }
+                head++;
+            }
+            if (tail > head) {
+                int last = deque[tail - 1];
+                if (Math.abs(cross(dx[plane], dy[plane], dx[last], dy[last])) < PARALLEL_EPSILON) {
+                    if (dx[plane] * dx[last] + dy[plane] * dy[last] < 0) {
+                        return null;
+                    }
+                    if (!isOutside(plane, px[last], py[last], px, py, dx, dy, 0.0)) {
+                        continue;
+                    }
+                    tail--;
+                }
+            }
+            deque[tail++] = plane;
+        }
+
+        while (tail - head > 2) {
+            intersection(deque[tail - 2], deque[tail - 1], px, py, dx, dy, vertex);
+            if (!isOutside(deque[head], vertex[0], vertex[1], px, py, dx, dy, epsilon)) {
+                break;
+            }
+            tail--;
+        }
+        while (tail - head > 2) {
+            intersection(deque[head], deque[head + 1], px, py, dx, dy, vertex);
+            if (!isOutside(deque[tail - 1], vertex[0], vertex[1], px, py, dx, dy, epsilon)) {
+                break;
+            }
+            head++;
+        }
+        if (tail - head < 3) {
+            return null;
+        }
+
+        return toPolygon(deque, head, tail, px, py, dx, dy, epsilon);
+    }
+
+    private static Polygon toPolygon(int[] deque, int head, int tail, double[] px, double[] py,
+                                     double[] dx, double[] dy, double epsilon) {
+        int size = tail - head;
+        double[] coordinates = new double[size * 2];
+        double[] vertex = new double[2];
+        int count = 0;
+
+        for (int k = 0; k < size; k++) {
+            int first = deque[head + k];
+            int second = deque[head + (k + 1) % size];
+            if (Math.abs(cross(dx[first], dy[first], dx[second], dy[second])) < PARALLEL_EPSILON) {
+                return null;
+            }
+            intersection(first, second, px, py, dx, dy, vertex);
+            if (count > 0 && isNear(coordinates, count - 1, vertex[0], vertex[1], epsilon)) {
+                continue;
+            }
+            coordinates[count * 2] = vertex[0];
+            coordinates[count * 2 + 1] = vertex[1];
+            count++;
+        }
+        while (count > 1 && isNear(coordinates, 0, coordinates[count * 2 - 2], coordinates[count * 2 - 1], epsilon)) {
+            count--;
+        }
+        if (count < 3) {
+            return null;
+        }
+
+        double twiceArea = 0.0;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            twiceArea += coordinates[i * 2] * coordinates[next * 2 + 1]
+                - coordinates[next * 2] * coordinates[i * 2 + 1];
+        }
+        if (twiceArea <= 0.0) {
+            return null;
+        }
+
+        Point[] vertices = new Point[count];
+        for (int i = 0; i < count; i++) {
+            vertices[i] = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
+        }
+        return new Polygon(vertices);
+    }
+
+    private static boolean isNear(double[] coordinates, int index, double x, double y, double epsilon) {
+        return Math.abs(coordinates[index * 2] - x) <= epsilon
+            && Math.abs(coordinates[index * 2 + 1] - y) <= epsilon;
+    }
+
+    private static boolean isOutside(int plane, double x, double y, double[] px, double[] py,
+                                     double[] dx, double[] dy, double epsilon) {
+        return cross(dx[plane], dy[plane], x - px[plane], y - py[plane]) < -epsilon;
+    }
+
+    private static void intersection(int first, int second, double[] px, double[] py,
+                                     double[] dx, double[] dy, double[] out) {
+        double t = cross(dx[second], dy[second], px[second] - px[first], py[second] - py[first])
+            / cross(dx[second], dy[second], dx[first], dy[first]);
+        out[0] = px[first] + t * dx[first];
+        out[1] = py[first] + t * dy[first];
+    }
+
+    private static double cross(double ax, double ay, double bx, double by) {
+        return ax * by - ay * bx;
+    }
+
+    private static void validateBounded(int[] order, double[] angle, int count) {
+        for (int k = 0; k < count; k++) {
+            double from = angle[order[k]];
+            double to = k + 1 < count ? angle[order[k + 1]] : angle[order[0]] + 2 * Math.PI;
+            if (to - from >= Math.PI) {
+                throw new IllegalArgumentException(
+                    "Half-planes do not enclose a bounded region; add bounding half-planes or an envelope"
+                );
+            }
+        }
+    }
+
+    private static void sortByAngle(int[] order, int[] scratch, double[] angle, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortByAngle(order, scratch, angle, from, middle);
+        sortByAngle(order, scratch, angle, middle, to);
+        if (angle[order[middle - 1]] <= angle[order[middle]]) {
+            return;
+        }
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int k = from; k < to; k++) {
+            if (right >= to || (left < middle && angle[scratch[left]] <= angle[scratch[right]])) {
+                order[k] = scratch[left++];
+            } else {
+                order[k] = scratch[right++];
+            }
+        }
+    }
+
+    private static double[] toHalfPlanes(Line[] lines, Envelope bounds) {
+        if (lines == null) {
+            throw new IllegalArgumentException("Lines array cannot be null");
+        }
+        int extra = bounds == null ? 0 : 4;
+        double[] planes = new double[(lines.length + extra) * 4];
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == null) {
+                throw new IllegalArgumentException(String.format("Line at index %d cannot be null", i));
+            }
+            planes[i * 4] = lines[i].getPointA().getX();
+            planes[i * 4 + 1] = lines[i].getPointA().getY();
+            planes[i * 4 + 2] = lines[i].getPointB().getX();
+            planes[i * 4 + 3] = lines[i].getPointB().getY();
+        }
+        if (bounds != null) {
+            double[] box = {
+                bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMinY(),
+                bounds.getMaxX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(),
+                bounds.getMaxX(), bounds.getMaxY(), bounds.getMinX(), bounds.getMaxY(),
+                bounds.getMinX(), bounds.getMaxY(), bounds.getMinX(), bounds.getMinY()
+            };
+            System.arraycopy(box, 0, planes, lines.length * 4, box.length);
+        }
+        validateHalfPlanes(planes, "Half-planes");
+        return planes;
+    }
+
+    private static void validateHalfPlanes(double[] planes, String name) {
+        if (planes == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        if (planes.length % 4 != 0) {
+            throw new IllegalArgumentException(
+                String.format("%s must hold 4 values per half-plane, got %d values", name, planes.length)
+            );
+        }
+        for (int i = 0; i < planes.length; i += 4) {
+            for (int j = i; j < i + 4; j++) {
+                if (!Double.isFinite(planes[j])) {
+                    throw new IllegalArgumentException(
+                        String.format("%s half-plane %d has a non-finite coordinate", name, i / 4)
+                    );
+                }
+            }
+            if (planes[i] == planes[i + 2] && planes[i + 1] == planes[i + 3]) {
+                throw new IllegalArgumentException(
+                    String.format("%s half-plane %d requires two distinct points", name, i / 4)
+                );
+            }
+        }
+    }
+}
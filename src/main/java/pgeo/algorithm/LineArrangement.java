@@ -0,0 +1,593 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Line;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.Arrays;
+
+public final class LineArrangement {
+
+    @FunctionalInterface
+    public interface IntersectionVisitor {
+        void visit(int first, int second, double x, double y);
+    }
+
+    private static final int OUTER = 0;
+    private static final int BOX = -1;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final double RELATIVE_EPSILON = 1e-12;
+    private static final double PARALLEL_SINE = 1e-9;
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private double[] lines;
+    private int lineCount;
+
+    private double[] vertexX;
+    private double[] vertexY;
+    private int[] vertexEdge;
+    private double[] sideValue;
+    private int[] sideSign;
+    private int[] sideStamp;
+    private int vertexCount;
+    private int stamp;
+
+    private int[] origin;
+    private int[] next;
+    private int[] prev;
+    private int[] face;
+    private int[] edgeLine;
+    private int halfEdgeCount;
+
+    private int[] faceEdge;
+    private int faceCount;
+
+    public LineArrangement(Envelope bounds) {
+        if (bounds == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        if (!(bounds.getMaxX() > bounds.getMinX()) || !(bounds.getMaxY() > bounds.getMinY())) {
+            throw new IllegalArgumentException("Bounds must have positive width and height");
+        }
+        this.minX = bounds.getMinX();
+        this.minY = bounds.getMinY();
+        this.maxX = bounds.getMaxX();
+        this.maxY = bounds.getMaxY();
+
+        this.lines = new double[INITIAL_CAPACITY * 4];
+        this.vertexX = new double[INITIAL_CAPACITY];
+        this.vertexY = new double[INITIAL_CAPACITY];
+        this.vertexEdge = new int[INITIAL_CAPACITY];
+        this.sideValue = new double[INITIAL_CAPACITY];
+        this.sideSign = new int[INITIAL_CAPACITY];
+        this.sideStamp = new int[INITIAL_CAPACITY];
+        this.origin = new int[INITIAL_CAPACITY * 2];
+        this.next = new int[INITIAL_CAPACITY * 2];
+        this.prev = new int[INITIAL_CAPACITY * 2];
+        this.face = new int[INITIAL_CAPACITY * 2];
+        this.edgeLine = new int[INITIAL_CAPACITY * 2];
+        this.faceEdge = new int[INITIAL_CAPACITY];
+
+        double[] corners = {minX, minY, maxX, minY, maxX, maxY, minX, maxY};
+        for (int k = 0; k < 4; k++) {
+            addVertex(corners[k * 2], corners[k * 2 + 1]);
+        }
+        faceCount = 2;
+        faceEdge[OUTER] = 1;
+        faceEdge[1] = 0;
+        for (int k = 0; k < 4; k++) {
+            int inner = addEdgePair();
+            int outer = inner + 1;
+            origin[inner] = k;
+            origin[outer] = (k + 1) % 4;
+            next[inner] = 2 * ((k + 1) % 4);
+            prev[inner] = 2 * ((k + 3) % 4);
+            next[outer] = 2 * ((k + 3) % 4) + 1;
+            prev[outer] = 2 * ((k + 1) % 4) + 1;
+            face[inner] = 1;
+            face[outer] = OUTER;
+            edgeLine[inner] = BOX;
+            edgeLine[outer] = BOX;
+            vertexEdge[k] = inner;
+        }
+    }
+
+    public static LineArrangement of(Line... lines) {
+        double[] flat = toFlat(lines);
+        double[] bounds = flat.length == 0 ? new double[4] : new double[]{flat[0], flat[1], flat[0], flat[1]};
+        for (int i = 0; i < flat.length; i += 2) {
+            include(bounds, flat[i], flat[i + 1]);
+        }
+        forEachIntersection(flat, (first, second, x, y) -> {
+            if (!nearlyParallel(flat, first, second)) {
+                include(bounds, x, y);
+            }
+        });
+        double margin = Math.max(bounds[2] - bounds[0], bounds[3] - bounds[1]) * 0.1 + 1.0;
+
+        LineArrangement arrangement = new LineArrangement(new Envelope(
+            bounds[0] - margin, bounds[1] - margin, bounds[2] + margin, bounds[3] + margin));
+        for (Line line : lines) {
+            arrangement.insert(line);
+        }
+        return arrangement;
+    }
+
+    public int insert(Line line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Line cannot be null");
+        }
+        return insert(line.getPointA().getX(), line.getPointA().getY(),
+            line.getPointB().getX(), line.getPointB().getY());
+    }
+
+    public int insert(double ax, double ay, double bx, double by) {
+        validateLine(ax, ay, bx, by, lineCount);
+        double length = Math.hypot(bx - ax, by - ay);
+        int index = lineCount++;
+        if (lines.length < lineCount * 4) {
+            lines = Arrays.copyOf(lines, lines.length * 2);
+        }
+        lines[index * 4] = ax;
+        lines[index * 4 + 1] = ay;
+        lines[index * 4 + 2] = (bx - ax) / length;
+        lines[index * 4 + 3] = (by - ay) / length;
+        stamp++;
+
+        int current = findEntry(index);
+        while (current >= 0) {
+            int wedge = wedgeEdge(current, index);
+            int target = origin[wedge ^ 1];
+            if (sign(target, index) == 0 && projection(target, index) > projection(current, index)) {
+                current = target;
+                continue;
+            }
+            if (face[wedge] == OUTER) {
+                break;
+            }
+
+            double from = projection(current, index);
+            int exitEdge = -1;
+            int exitVertex = -1;
+            int h = wedge;
+            do {
+                int p = origin[h];
+                int q = origin[h ^ 1];
+                if (q != current && sign(q, index) == 0 && projection(q, index) > from) {
+                    exitVertex = q;
+                    break;
+                }
+                if (sign(p, index) < 0 && sign(q, index) > 0 && crossingProjection(p, q, index) > from) {
+                    exitEdge = h;
+                    break;
+                }
+                h = next[h];
+            } while (h != wedge);
+            if (exitEdge < 0 && exitVertex < 0) {
+                throw new IllegalStateException(
+                    String.format("Line %d lost track of its face while being inserted", index)
+                );
+            }
+
+            int exit = exitEdge >= 0 ? splitEdge(exitEdge, index) : exitVertex;
+            splitFace(current, wedge, exit, h, next[h], index);
+            current = exit;
+        }
+        return index;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public Envelope getBounds() {
+        return new Envelope(minX, minY, maxX, maxY);
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public double getVertexX(int vertex) {
+        checkIndex(vertex, vertexCount);
+        return vertexX[vertex];
+    }
+
+    public double getVertexY(int vertex) {
+        checkIndex(vertex, vertexCount);
+        return vertexY[vertex];
+    }
+
+    public int getEdgeCount() {
+        return halfEdgeCount / 2;
+    }
+
+    public int getFaceCount() {
+        return faceCount - 1;
+    }
+
+    public int getFaceSize(int index) {
+        checkIndex(index, faceCount - 1);
+        int start = faceEdge[index + 1];
+        int size = 0;
+        int h = start;
+        do {
+            size++;
+            h = next[h];
+        } while (h != start);
+        return size;
+    }
+
+    public int copyFace(int index, double[] target, int offset) {
+        int size = getFaceSize(index);
+        if (target == null) {
+            throw new IllegalArgumentException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset > target.length - size * 2) {
+            throw new IllegalArgumentException(
+                String.format("Target buffer needs %d values from offset %d but has length %d",
+                    size * 2, offset, target.length)
+            );
+        }
+        int start = faceEdge[index + 1];
+        int h = start;
+        int position = offset;
+        do {
+            target[position++] = vertexX[origin[h]];
+            target[position++] = vertexY[origin[h]];
+            h = next[h];
+        } while (h != start);
+        return size * 2;
+    }
+
+    public Polygon getFace(int index) {
+        double[] coordinates = new double[getFaceSize(index) * 2];
+        copyFace(index, coordinates, 0);
+        Point[] vertices = new Point[coordinates.length / 2];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
+        }
+        return new Polygon(vertices);
+    }
+
+    public static int forEachIntersection(double[] lines, IntersectionVisitor visitor) {
+        validateLines(lines);
+        if (visitor == null) {
+            throw new IllegalArgumentException("Visitor cannot be null");
+        }
+        int count = lines.length / 4;
+        double[] ex = new double[count];
+        double[] ey = new double[count];
+        double[] cross = new double[count];
+        for (int i = 0; i < count; i++) {
+            double ax = lines[i * 4];
+            double ay = lines[i * 4 + 1];
+            ex[i] = lines[i * 4 + 2] - ax;
+            ey[i] = lines[i * 4 + 3] - ay;
+            cross[i] = ex[i] * ay - ey[i] * ax;
+        }
+
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            double exi = ex[i];
+            double eyi = ey[i];
+            double ci = cross[i];
+            for (int j = i + 1; j < count; j++) {
+                double denominator = (exi * ey[j]) - (eyi * ex[j]);
+                if (Double.compare(denominator, 0.0) == 0) {
+                    continue;
+                }
+                visitor.visit(i, j,
+                    (ci * ex[j] - exi * cross[j]) / denominator,
+                    (ey[j] * ci - eyi * cross[j]) / denominator);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    public static double[] intersectionPoints(double[] lines) {
+        int count = forEachIntersection(lines, (first, second, x, y) -> { });
+        double[] points = new double[count * 2];
+        int[] position = new int[1];
+        forEachIntersection(lines, (first, second, x, y) -> {
+            points[position[0]++] = x;
+            points[position[0]++] = y;
+        });
+        return points;
+    }
+
+    public static double[] intersectionPoints(Line... lines) {
+        return intersectionPoints(toFlat(lines));
+    }
+
+    private int findEntry(int line) {
+        int best = -1;
+        boolean bestIsEdge = false;
+        double bestT = Double.POSITIVE_INFINITY;
+        int start = faceEdge[OUTER];
+        int h = start;
+        do {
+            int p = origin[h];
+            int q = origin[h ^ 1];
+            int sp = sign(p, line);
+            int sq = sign(q, line);
+            if (sp == 0) {
+                double t = projection(p, line);
+                if (t < bestT) {
+                    bestT = t;
+                    best = p;
+                    bestIsEdge = false;
+                }
+            } else if (sq != 0 && sp != sq) {
+                double t = crossingProjection(p, q, line);
+                if (t < bestT) {
+                    bestT = t;
+                    best = h;
+                    bestIsEdge = true;
+                }
+            }
+            h = next[h];
+        } while (h != start);
+
+        if (best >= 0 && bestIsEdge) {
+            return splitEdge(best, line);
+        }
+        return best;
+    }
+
+    private int wedgeEdge(int vertex, int line) {
+        int start = vertexEdge[vertex];
+        int e = start;
+        do {
+            if (rank(vertex, e, line) == 0) {
+                return e;
+            }
+            e = prev[e] ^ 1;
+        } while (e != start);
+
+        do {
+            int following = prev[e] ^ 1;
+            int rank = rank(vertex, e, line);
+            int followingRank = rank(vertex, following, line);
+            if (followingRank < rank || (followingRank == rank && turn(e, following) < 0)) {
+                return e;
+            }
+            e = following;
+        } while (e != start);
+        return start;
+    }
+
+    private int rank(int vertex, int edge, int line) {
+        int target = origin[edge ^ 1];
+        int side = sign(target, line);
+        if (side == 0) {
+            return projection(target, line) > projection(vertex, line) ? 0 : 2;
+        }
+        return side > 0 ? 1 : 3;
+    }
+
+    private double turn(int first, int second) {
+        int a = origin[first];
+        int b = origin[second];
+        double ax = vertexX[origin[first ^ 1]] - vertexX[a];
+        double ay = vertexY[origin[first ^ 1]] - vertexY[a];
+        double bx = vertexX[origin[second ^ 1]] - vertexX[b];
+        double by = vertexY[origin[second ^ 1]] - vertexY[b];
+        return ax * by - ay * bx;
+    }
+
+    private int sign(int vertex, int line) {
+        if (sideStamp[vertex] != stamp) {
+            double x = vertexX[vertex];
+            double y = vertexY[vertex];
+            double ax = lines[line * 4];
+            double ay = lines[line * 4 + 1];
+            double value = lines[line * 4 + 2] * (y - ay) - lines[line * 4 + 3] * (x - ax);
+            double tolerance = RELATIVE_EPSILON
+                * Math.max(Math.max(1.0, Math.max(Math.abs(x), Math.abs(y))), Math.max(Math.abs(ax), Math.abs(ay)));
+            sideValue[vertex] = value;
+            sideSign[vertex] = value > tolerance ? 1 : (value < -tolerance ? -1 : 0);
+            sideStamp[vertex] = stamp;
+        }
+        return sideSign[vertex];
+    }
+
+    private double crossingProjection(int p, int q, int line) {
+        double ratio = sideValue[p] / (sideValue[p] - sideValue[q]);
+        return projection(p, line) + (projection(q, line) - projection(p, line)) * ratio;
+    }
+
+    private double projection(int vertex, int line) {
+        return (vertexX[vertex] - lines[line * 4]) * lines[line * 4 + 2]
+            + (vertexY[vertex] - lines[line * 4 + 1]) * lines[line * 4 + 3];
+    }
+
+    private int splitEdge(int h, int line) {
+        int t = h ^ 1;
+        int p = origin[h];
+        int q = origin[t];
+        int other = edgeLine[h];
+        double ratio = sideValue[p] / (sideValue[p] - sideValue[q]);
+        double x = vertexX[p] + (vertexX[q] - vertexX[p]) * ratio;
+        double y = vertexY[p] + (vertexY[q] - vertexY[p]) * ratio;
+        if (other != BOX) {
+            double dx = lines[line * 4 + 2];
+            double dy = lines[line * 4 + 3];
+            double odx = lines[other * 4 + 2];
+            double ody = lines[other * 4 + 3];
+            double denominator = dx * ody - dy * odx;
+            if (denominator != 0.0) {
+                double s = ((lines[other * 4] - lines[line * 4]) * ody
+                    - (lines[other * 4 + 1] - lines[line * 4 + 1]) * odx) / denominator;
+                x = lines[line * 4] + s * dx;
+                y = lines[line * 4 + 1] + s * dy;
+            }
+        }
+        x = Math.max(Math.min(vertexX[p], vertexX[q]), Math.min(Math.max(vertexX[p], vertexX[q]), x));
+        y = Math.max(Math.min(vertexY[p], vertexY[q]), Math.min(Math.max(vertexY[p], vertexY[q]), y));
+
+        int vertex = addVertex(x, y);
+        sideValue[vertex] = 0.0;
+        sideSign[vertex] = 0;
+        sideStamp[vertex] = stamp;
+
+        int h2 = addEdgePair();
+        int t2 = h2 + 1;
+        origin[h2] = vertex;
+        origin[t2] = q;
+        edgeLine[h2] = other;
+        edgeLine[t2] = other;
+
+        next[h2] = next[h];
+        prev[next[h]] = h2;
+        prev[h2] = h;
+        next[h] = h2;
+        face[h2] = face[h];
+
+        prev[t2] = prev[t];
+        next[prev[t]] = t2;
+        next[t2] = t;
+        prev[t] = t2;
+        face[t2] = face[t];
+        origin[t] = vertex;
+
+        vertexEdge[vertex] = h2;
+        if (vertexEdge[q] == t) {
+            vertexEdge[q] = t2;
+        }
+        return vertex;
+    }
+
+    private void splitFace(int from, int fromEdge, int to, int intoTo, int toEdge, int line) {
+        int intoFrom = prev[fromEdge];
+        int forward = addEdgePair();
+        int backward = forward + 1;
+        origin[forward] = from;
+        origin[backward] = to;
+        edgeLine[forward] = line;
+        edgeLine[backward] = line;
+
+        next[forward] = toEdge;
+        prev[toEdge] = forward;
+        prev[forward] = intoFrom;
+        next[intoFrom] = forward;
+
+        next[backward] = fromEdge;
+        prev[fromEdge] = backward;
+        prev[backward] = intoTo;
+        next[intoTo] = backward;
+
+        int kept = face[fromEdge];
+        face[forward] = kept;
+        faceEdge[kept] = forward;
+
+        if (faceCount == faceEdge.length) {
+            faceEdge = Arrays.copyOf(faceEdge, faceCount * 2);
+        }
+        int created = faceCount++;
+        faceEdge[created] = backward;
+        int h = backward;
+        do {
+            face[h] = created;
+            h = next[h];
+        } while (h != backward);
+    }
+
+    private int addVertex(double x, double y) {
+        if (vertexCount == vertexX.length) {
+            int capacity = vertexCount * 2;
+            vertexX = Arrays.copyOf(vertexX, capacity);
+            vertexY = Arrays.copyOf(vertexY, capacity);
+            vertexEdge = Arrays.copyOf(vertexEdge, capacity);
+            sideValue = Arrays.copyOf(sideValue, capacity);
+            sideSign = Arrays.copyOf(sideSign, capacity);
+            sideStamp = Arrays.copyOf(sideStamp, capacity);
+        }
+        vertexX[vertexCount] = x;
+        vertexY[vertexCount] = y;
+        return vertexCount++;
+    }
+
+    private int addEdgePair() {
+        if (halfEdgeCount + 2 > origin.length) {
+            int capacity = origin.length * 2;
+            origin = Arrays.copyOf(origin, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            face = Arrays.copyOf(face, capacity);
+            edgeLine = Arrays.copyOf(edgeLine, capacity);
+        }
+        int edge = halfEdgeCount;
+        halfEdgeCount += 2;
+        return edge;
+    }
+
+    private static void include(double[] bounds, double x, double y) {
+        bounds[0] = Math.min(bounds[0], x);
+        bounds[1] = Math.min(bounds[1], y);
+        bounds[2] = Math.max(bounds[2], x);
+        bounds[3] = Math.max(bounds[3], y);
+    }
+
+    private static boolean nearlyParallel(double[] lines, int first, int second) {
+        double ax = lines[first * 4 + 2] - lines[first * 4];
+        double ay = lines[first * 4 + 3] - lines[first * 4 + 1];
+        double bx = lines[second * 4 + 2] - lines[second * 4];
+        double by = lines[second * 4 + 3] - lines[second * 4 + 1];
+        return Math.abs(ax * by - ay * bx) <= PARALLEL_SINE * Math.hypot(ax, ay) * Math.hypot(bx, by);
+    }
+
+    private static double[] toFlat(Line[] lines) {
+        if (lines == null) {
+            throw new IllegalArgumentException("Lines array cannot be null");
+        }
+        double[] flat = new double[lines.length * 4];
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == null) {
+                throw new IllegalArgumentException(String.format("Line at index %d cannot be null", i));
+            }
+            flat[i * 4] = lines[i].getPointA().getX();
+            flat[i * 4 + 1] = lines[i].getPointA().getY();
+            flat[i * 4 + 2] = lines[i].getPointB().getX();
+            flat[i * 4 + 3] = lines[i].getPointB().getY();
+        }
+        return flat;
+    }
+
+    private static void validateLines(double[] lines) {
+        if (lines == null) {
+            throw new IllegalArgumentException("Lines array cannot be null");
+        }
+        if (lines.length % 4 != 0) {
+            throw new IllegalArgumentException(
+                String.format("Lines must hold 4 values per line, got %d values", lines.length)
+            );
+        }
+        for (int i = 0; i < lines.length; i += 4) {
+            validateLine(lines[i], lines[i + 1], lines[i + 2], lines[i + 3], i / 4);
+        }
+    }
+
+    private static void validateLine(double ax, double ay, double bx, double by, int index) {
+        if (!Double.isFinite(ax) || !Double.isFinite(ay) || !Double.isFinite(bx) || !Double.isFinite(by)) {
+            throw new IllegalArgumentException(String.format("Line %d has a non-finite coordinate", index));
+        }
+        if (ax == bx && ay == by) {
+            throw new IllegalArgumentException(String.format("Line %d requires two distinct points", index));
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for size %d", index, size)
+            );
+        }
+    }
+}
@@ -0,0 +1,893 @@
+package pgeo.algorithm;
+
+import pgeo.core.MultiPolygon;
+import pgeo.core.Polygon;
+import pgeo.util.GeometryValidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+public final class PolygonOverlay {
+
+    public enum Operation {
+        UNION,
+        INTERSECTION,
+        DIFFERENCE,
+        XOR;
+
+        boolean contains(boolean inSubject, boolean inClip) {
+            switch (this) {
+                case UNION:
+                    return inSubject || inClip;
+                case INTERSECTION:
+                    return inSubject && inClip;
+                case DIFFERENCE:
+                    return inSubject && !inClip;
+                default:
+                    return inSubject != inClip;
+            }
+        }
+    }
+
+    private static final int MAX_NODING_PASSES = 8;
+    private static final double TWO_PI = Math.PI * 2.0;
+
+    private static final Comparator<Edge> STATUS_ORDER = PolygonOverlay::compareStatus;
+    private static final Comparator<Event> EVENT_ORDER = PolygonOverlay::compareEvents;
+
+    private PolygonOverlay() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static List<double[][]> union(Polygon subject, Polygon clip) {
+        return overlay(subject, clip, Operation.UNION);
+    }
+
+    public static List<double[][]> intersection(Polygon subject, Polygon clip) {
+        return overlay(subject, clip, Operation.INTERSECTION);
+    }
+
+    public static List<double[][]> difference(Polygon subject, Polygon clip) {
+        return overlay(subject, clip, Operation.DIFFERENCE);
+    }
+
+    public static List<double[][]> xor(Polygon subject, Polygon clip) {
+        return overlay(subject, clip, Operation.XOR);
+    }
+
+    public static List<double[][]> overlay(Polygon subject, Polygon clip, Operation operation) {
+        return overlay(new double[][]{ringOf(subject, "Subject")}, new double[][]{ringOf(clip, "Clip")}, operation);
+    }
+
+    public static MultiPolygon overlay(MultiPolygon subject, MultiPolygon clip, Operation operation) {
+        if (subject == null || clip == null) {
+            throw new IllegalArgumentException("Multipolygons cannot be null");
+        }
+        return MultiPolygon.fromRings(overlay(flatten(subject.toRings()), flatten(clip.toRings()), operation));
+    }
+
+    public static List<double[][]> overlay(double[][] subjectRings, double[][] clipRings, Operation operation) {
+        return overlay(subjectRings, false, clipRings, false, operation);
+    }
+
+    private static List<double[][]> overlay(double[][] subjectRings, boolean subjectNoded,
+                                            double[][] clipRings, boolean clipNoded, Operation operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+
+        List<Edge> edges = new ArrayList<>();
+        addRings(subjectRings, "Subject", true, edges);
+        addRings(clipRings, "Clip", false, edges);
+
+        List<Edge> noded = mergeDuplicates(node(edges, subjectNoded, clipNoded));
+        computeFlags(noded);
+        return assemble(noded, operation);
+    }
+
+    public static List<double[][]> cascadedUnion(List<double[][]> polygons) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons cannot be null");
+        }
+        if (polygons.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Part> parts = new ArrayList<>(polygons.size());
+        for (int i = 0; i < polygons.size(); i++) {
+            double[][] rings = polygons.get(i);
+            if (rings == null || rings.length == 0) {
+                throw new IllegalArgumentException(String.format("Polygon %d has no rings", i));
+            }
+            parts.add(Part.of(rings, false));
+        }
+
+        sortByTiles(parts);
+        while (parts.size() > 1) {
+            List<Part> merged = new ArrayList<>((parts.size() + 1) / 2);
+            for (int i = 0; i < parts.size(); i += 2) {
+                merged.add(i + 1 < parts.size() ? parts.get(i).union(parts.get(i + 1)) : parts.get(i));
+            }
+            parts = merged;
+        }
+
+        Part dissolved = parts.get(0);
+        return overlay(dissolved.rings, dissolved.noded, new double[0][], true, Operation.UNION);
+    }
+
+    public static double[][] flatten(List<double[][]> polygons) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons cannot be null");
+        }
+        int count = 0;
+        for (double[][] polygon : polygons) {
+            count += polygon.length;
+        }
+        double[][] rings = new double[count][];
+        int index = 0;
+        for (double[][] polygon : polygons) {
+            for (double[] ring : polygon) {
+                rings[index++] = ring;
+            }
+        }
+        return rings;
+    }
+
+    private static double[] ringOf(Polygon polygon, String name) {
+        if (polygon == null) {
+            throw new IllegalArgumentException(name + " polygon cannot be null");
+        }
+        double[] coordinates = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(coordinates, 0);
+        return coordinates;
+    }
+
+    private static void addRings(double[][] rings, String name, boolean subject, List<Edge> edges) {
+        if (rings == null) {
+            throw new IllegalArgumentException(name + " rings cannot be null");
+        }
+        for (int r = 0; r < rings.length; r++) {
+            double[] ring = rings[r];
+            if (ring == null) {
+                throw new IllegalArgumentException(String.format("%s ring %d cannot be null", name, r));
+            }
+            if (ring.length % 2 != 0) {
+                throw new IllegalArgumentException(
+                    String.format("%s ring %d must contain interleaved x, y pairs", name, r)
+                );
+            }
+            if (ring.length < 6) {
+                throw new IllegalArgumentException(
+                    String.format("%s ring %d requires at least 3 vertices", name, r)
+                );
+            }
+            int invalid = GeometryValidator.indexOfInvalidCoordinate(ring);
+            if (invalid >= 0) {
+                throw new IllegalArgumentException(
+                    String.format("%s ring %d has a non-finite coordinate at index %d", name, r, invalid)
+                );
+            }
+
+            int count = ring.length / 2;
+            for (int i = 0; i < count; i++) {
+                int next = (i + 1) % count;
+                double ax = ring[i * 2] + 0.0;
+                double ay = ring[i * 2 + 1] + 0.0;
+                double bx = ring[next * 2] + 0.0;
+                double by = ring[next * 2 + 1] + 0.0;
+                if (comparePoints(ax, ay, bx, by) != 0) {
+                    edges.add(new Edge(ax, ay, bx, by, subject ? 1 : 0, subject ? 0 : 1));
+                }
+            }
+        }
+    }
+
+    private static List<Edge> node(List<Edge> edges, boolean subjectNoded, boolean clipNoded) {
+        for (int pass = 0; ; pass++) {
+            if (!splitIntersections(edges, subjectNoded, clipNoded)) {
+                return edges;
+            }
+            if (pass == MAX_NODING_PASSES) {
+                throw new IllegalStateException(
+                    String.format("Edges still intersect after %d noding passes", MAX_NODING_PASSES)
+                );
+            }
+
+            List<Edge> pieces = new ArrayList<>(edges.size() * 2);
+            for (Edge edge : edges) {
+                edge.splitInto(pieces);
+            }
+            edges = pieces;
+        }
+    }
+
+    private static boolean splitIntersections(List<Edge> edges, boolean subjectNoded, boolean clipNoded) {
+        EdgeGrid grid = new EdgeGrid(edges);
+        boolean split = false;
+
+        for (int cell = 0; cell < grid.cellCount(); cell++) {
+            int to = grid.end(cell);
+            for (int i = grid.start(cell); i < to; i++) {
+                Edge a = edges.get(grid.item(i));
+                for (int j = i + 1; j < to; j++) {
+                    Edge b = edges.get(grid.item(j));
+                    if (a.x0 <= b.x1 && b.x0 <= a.x1
+                            && a.minY() <= b.maxY() && b.minY() <= a.maxY()
+                            && mayCross(a, b, subjectNoded, clipNoded)) {
+                        split |= splitIntersection(a, b);
+                    }
+                }
+            }
+        }
+        return split;
+    }
+
+    private static boolean mayCross(Edge a, Edge b, boolean subjectNoded, boolean clipNoded) {
+        if (a.subjectCount != b.subjectCount) {
+            return true;
+        }
+        return a.subjectCount > 0 ? !subjectNoded : !clipNoded;
+    }
+
+    private static boolean splitIntersection(Edge a, Edge b) {
+        int o1 = a.orientation(b.x0, b.y0);
+        int o2 = a.orientation(b.x1, b.y1);
+
+        if (o1 == 0 && o2 == 0) {
+            boolean split = a.splitAt(b.x0, b.y0);
+            split |= a.splitAt(b.x1, b.y1);
+            split |= b.splitAt(a.x0, a.y0);
+            split |= b.splitAt(a.x1, a.y1);
+            return split;
+        }
+        if (o1 * o2 > 0) {
+            return false;
+        }
+
+        int o3 = b.orientation(a.x0, a.y0);
+        int o4 = b.orientation(a.x1, a.y1);
+        if (o3 * o4 > 0) {
+            return false;
+        }
+
+        if (o1 == 0 || o2 == 0 || o3 == 0 || o4 == 0) {
+            boolean split = o1 == 0 && a.splitAt(b.x0, b.y0);
+            split |= o2 == 0 && a.splitAt(b.x1, b.y1);
+            split |= o3 == 0 && b.splitAt(a.x0, a.y0);
+            split |= o4 == 0 && b.splitAt(a.x1, a.y1);
+            return split;
+        }
+
+        double adx = a.x1 - a.x0;
+        double ady = a.y1 - a.y0;
+        double bdx = b.x1 - b.x0;
+        double bdy = b.y1 - b.y0;
+        double t = ((b.x0 - a.x0) * bdy - (b.y0 - a.y0) * bdx) / (adx * bdy - ady * bdx);
+
+        double x = clamp(a.x0 + t * adx, Math.max(a.x0, b.x0), Math.min(a.x1, b.x1)) + 0.0;
+        double y = clamp(a.y0 + t * ady, Math.max(a.minY(), b.minY()), Math.min(a.maxY(), b.maxY())) + 0.0;
+
+        boolean split = a.splitAt(x, y);
+        split |= b.splitAt(x, y);
+        return split;
+    }
+
+    private static List<Edge> mergeDuplicates(List<Edge> edges) {
+        Map<EdgeKey, Edge> unique = new LinkedHashMap<>();
+        for (Edge edge : edges) {
+            Edge existing = unique.putIfAbsent(new EdgeKey(edge.x0, edge.y0, edge.x1, edge.y1), edge);
+            if (existing != null) {
+                existing.subjectCount += edge.subjectCount;
+                existing.clipCount += edge.clipCount;
+            }
+        }
+
+        List<Edge> result = new ArrayList<>(unique.size());
+        for (Edge edge : unique.values()) {
+            if (edge.flipsSubject() || edge.flipsClip()) {
+                edge.id = result.size();
+                result.add(edge);
+            }
+        }
+        return result;
+    }
+
+    private static void computeFlags(List<Edge> edges) {
+        List<Event> events = new ArrayList<>(edges.size() * 2);
+        for (Edge edge : edges) {
+            events.add(new Event(edge, true));
+            events.add(new Event(edge, false));
+        }
+        events.sort(EVENT_ORDER);
+
+        TreeSet<Edge> status = new TreeSet<>(STATUS_ORDER);
+        for (Event event : events) {
+            Edge edge = event.edge;
+            if (!event.left) {
+                if (!status.remove(edge)) {
+                    status.removeIf(active -> active == edge);
+                }
+                continue;
+            }
+
+            status.add(edge);
+            Edge below = status.lower(edge);
+            edge.subjectBelow = below != null && below.subjectAbove;
+            edge.clipBelow = below != null && below.clipAbove;
+            edge.subjectAbove = edge.subjectBelow != edge.flipsSubject();
+            edge.clipAbove = edge.clipBelow != edge.flipsClip();
+        }
+    }
+
+    private static List<double[][]> assemble(List<Edge> edges, Operation operation) {
+        Map<EdgeKey, Integer> vertexIds = new HashMap<>();
+        CoordinateBuffer vertices = new CoordinateBuffer(edges.size());
+        List<List<HalfEdge>> outgoing = new ArrayList<>();
+        List<HalfEdge> halfEdges = new ArrayList<>();
+
+        for (Edge edge : edges) {
+            boolean above = operation.contains(edge.subjectAbove, edge.clipAbove);
+            boolean below = operation.contains(edge.subjectBelow, edge.clipBelow);
+            if (above == below) {
+                continue;
+            }
+
+            int start = vertexId(edge.x0, edge.y0, vertexIds, vertices, outgoing);
+            int end = vertexId(edge.x1, edge.y1, vertexIds, vertices, outgoing);
+            HalfEdge half = above
+                ? new HalfEdge(start, end, Math.atan2(edge.y1 - edge.y0, edge.x1 - edge.x0))
+                : new HalfEdge(end, start, Math.atan2(edge.y0 - edge.y1, edge.x0 - edge.x1));
+            halfEdges.add(half);
+            outgoing.get(half.from).add(half);
+        }
+
+        List<Ring> shells = new ArrayList<>();
+        List<Ring> holes = new ArrayList<>();
+        for (HalfEdge start : halfEdges) {
+            if (start.used) {
+                continue;
+            }
+            Ring ring = traceRing(start, vertices, outgoing);
+            if (ring != null) {
+                (ring.area > 0.0 ? shells : holes).add(ring);
+            }
+        }
+
+        List<List<double[]>> polygons = new ArrayList<>(shells.size());
+        for (Ring shell : shells) {
+            List<double[]> rings = new ArrayList<>();
+            rings.add(shell.coordinates);
+            polygons.add(rings);
+        }
+        for (Ring hole : holes) {
+            int owner = -1;
+            for (int i = 0; i < shells.size(); i++) {
+                Ring shell = shells.get(i);
+                if ((owner < 0 || shell.area < shells.get(owner).area) && shell.encloses(hole)) {
+                    owner = i;
+                }
+            }
+            if (owner >= 0) {
+                polygons.get(owner).add(hole.coordinates);
+            }
+        }
+
+        List<double[][]> result = new ArrayList<>(polygons.size());
+        for (List<double[]> rings : polygons) {
+            result.add(rings.toArray(new double[0][]));
+        }
+        return result;
+    }
+
+    private static Ring traceRing(HalfEdge start, CoordinateBuffer vertices, List<List<HalfEdge>> outgoing) {
+        CoordinateBuffer ring = new CoordinateBuffer();
+        HalfEdge current = start;
+
+        while (current != null) {
+            current.used = true;
+            ring.add(vertices.x(current.from), vertices.y(current.from));
+            if (current.to == start.from) {
+                return Ring.of(removeCollinear(ring));
+            }
+            current = nextHalfEdge(current, outgoing.get(current.to));
+        }
+        return null;
+    }
+
+    private static HalfEdge nextHalfEdge(HalfEdge incoming, List<HalfEdge> candidates) {
+        double reverse = incoming.angle + Math.PI;
+        HalfEdge best = null;
+        double bestTurn = Double.POSITIVE_INFINITY;
+
+        for (HalfEdge candidate : candidates) {
+            if (candidate.used) {
+                continue;
+            }
+            double turn = reverse - candidate.angle;
+            while (turn <= 0.0) {
+                turn += TWO_PI;
+            }
+            while (turn > TWO_PI) {
+                turn -= TWO_PI;
+            }
+            if (turn < bestTurn) {
+                bestTurn = turn;
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private static double[] removeCollinear(CoordinateBuffer ring) {
+        int count = ring.vertexCount();
+        double[] kept = new double[count * 2];
+        int size = 0;
+
+        for (int i = 0; i < count; i++) {
+            double x = ring.x(i);
+            double y = ring.y(i);
+            while (size >= 2 && isCollinear(kept, size - 2, size - 1, x, y)) {
+                size--;
+            }
+            kept[size * 2] = x;
+            kept[size * 2 + 1] = y;
+            size++;
+        }
+
+        int first = 0;
+        boolean changed = true;
+        while (changed && size - first >= 3) {
+            changed = false;
+            if (isCollinear(kept, size - 2, size - 1, kept[first * 2], kept[first * 2 + 1])) {
+                size--;
+                changed = true;
+            } else if (isCollinear(kept, size - 1, first, kept[first * 2 + 2], kept[first * 2 + 3])) {
+                first++;
+                changed = true;
+            }
+        }
+
+        return Arrays.copyOfRange(kept, first * 2, size * 2);
+    }
+
+    private static boolean isCollinear(double[] coordinates, int a, int b, double x, double y) {
+        return RobustPredicates.isCollinear(
+            coordinates[a * 2], coordinates[a * 2 + 1], coordinates[b * 2], coordinates[b * 2 + 1], x, y);
+    }
+
+    private static int vertexId(double x, double y, Map<EdgeKey, Integer> ids,
+                                CoordinateBuffer vertices, List<List<HalfEdge>> outgoing) {
+        Integer id = ids.get(new EdgeKey(x, y, x, y));
+        if (id != null) {
+            return id;
+        }
+        int created = vertices.vertexCount();
+        vertices.add(x, y);
+        outgoing.add(new ArrayList<>(2));
+        ids.put(new EdgeKey(x, y, x, y), created);
+        return created;
+    }
+
+    private static void sortByTiles(List<Part> parts) {
+        parts.sort(Comparator.comparingDouble(Part::centerX));
+        int slices = (int) Math.ceil(Math.sqrt(parts.size()));
+        int sliceSize = (parts.size() + slices - 1) / slices;
+
+        for (int from = 0; from < parts.size(); from += sliceSize) {
+            parts.subList(from, Math.min(parts.size(), from + sliceSize))
+                .sort(Comparator.comparingDouble(Part::centerY));
+        }
+    }
+
+    private static int compareEvents(Event a, Event b) {
+        int byPoint = comparePoints(a.x(), a.y(), b.x(), b.y());
+        if (byPoint != 0) {
+            return byPoint;
+        }
+        if (a.left != b.left) {
+            return a.left ? 1 : -1;
+        }
+        if (a.left) {
+            int turn = a.edge.orientation(b.edge.x1, b.edge.y1);
+            if (turn != 0) {
+                return -turn;
+            }
+        }
+        return Integer.compare(a.edge.id, b.edge.id);
+    }
+
+    private static int compareStatus(Edge s, Edge t) {
+        if (s == t) {
+            return 0;
+        }
+
+        int byStart = comparePoints(s.x0, s.y0, t.x0, t.y0);
+        if (byStart > 0) {
+            return -compareStatus(t, s);
+        }
+
+        int side = byStart == 0 ? 0 : s.orientation(t.x0, t.y0);
+        if (side == 0) {
+            side = s.orientation(t.x1, t.y1);
+        }
+        return side != 0 ? -side : Integer.compare(s.id, t.id);
+    }
+
+    private static int comparePoints(double ax, double ay, double bx, double by) {
+        int byX = Double.compare(ax, bx);
+        return byX != 0 ? byX : Double.compare(ay, by);
+    }
+
+    private static double clamp(double value, double lo, double hi) {
+        return Math.max(lo, Math.min(hi, value));
+    }
+
+    private static final class Edge {
+
+        final double x0;
+        final double y0;
+        final double x1;
+        final double y1;
+        int subjectCount;
+        int clipCount;
+        int id;
+        boolean subjectAbove;
+        boolean clipAbove;
+        boolean subjectBelow;
+        boolean clipBelow;
+        private CoordinateBuffer splits;
+
+        Edge(double ax, double ay, double bx, double by, int subjectCount, int clipCount) {
+            boolean ordered = comparePoints(ax, ay, bx, by) < 0;
+            this.x0 = ordered ? ax : bx;
+            this.y0 = ordered ? ay : by;
+            this.x1 = ordered ? bx : ax;
+            this.y1 = ordered ? by : ay;
+            this.subjectCount = subjectCount;
+            this.clipCount = clipCount;
+        }
+
+        double minY() {
+            return Math.min(y0, y1);
+        }
+
+        double maxY() {
+            return Math.max(y0, y1);
+        }
+
+        boolean flipsSubject() {
+            return (subjectCount & 1) == 1;
+        }
+
+        boolean flipsClip() {
+            return (clipCount & 1) == 1;
+        }
+
+        int orientation(double x, double y) {
+            return RobustPredicates.orientation(x0, y0, x1, y1, x, y);
+        }
+
+        boolean splitAt(double x, double y) {
+            if (comparePoints(x, y, x0, y0) <= 0 || comparePoints(x, y, x1, y1) >= 0) {
+                return false;
+            }
+            if (splits == null) {
+                splits = new CoordinateBuffer(2);
+            }
+            splits.add(x, y);
+            return true;
+        }
+
+        void splitInto(List<Edge> pieces) {
+            if (splits == null) {
+                pieces.add(this);
+                return;
+            }
+
+            int count = splits.vertexCount();
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> comparePoints(splits.x(a), splits.y(a), splits.x(b), splits.y(b)));
+
+            double fromX = x0;
+            double fromY = y0;
+            for (int index : order) {
+                double x = splits.x(index);
+                double y = splits.y(index);
+                if (comparePoints(fromX, fromY, x, y) != 0) {
+                    pieces.add(new Edge(fromX, fromY, x, y, subjectCount, clipCount));
+                    fromX = x;
+                    fromY = y;
+                }
+            }
+            pieces.add(new Edge(fromX, fromY, x1, y1, subjectCount, clipCount));
+        }
+    }
+
+    private static final class EdgeGrid {
+
+        private final double minX;
+        private final double minY;
+        private final double cellWidth;
+        private final double cellHeight;
+        private final int columns;
+        private final int rows;
+        private final int[] starts;
+        private final int[] items;
+
+        EdgeGrid(List<Edge> edges) {
+            double lowX = Double.POSITIVE_INFINITY;
+            double lowY = Double.POSITIVE_INFINITY;
+            double highX = Double.NEGATIVE_INFINITY;
+            double highY = Double.NEGATIVE_INFINITY;
+            for (Edge edge : edges) {
+                lowX = Math.min(lowX, edge.x0);
+                highX = Math.max(highX, edge.x1);
+                lowY = Math.min(lowY, edge.minY());
+                highY = Math.max(highY, edge.maxY());
+            }
+
+            int count = Math.max(1, edges.size());
+            double width = highX - lowX;
+            double height = highY - lowY;
+            double targetColumns = height > 0 ? Math.sqrt(count * width / height) : count;
+
+            this.minX = lowX;
+            this.minY = lowY;
+            this.columns = width > 0 ? (int) Math.max(1, Math.min(count, Math.ceil(targetColumns))) : 1;
+            this.rows = height > 0 ? Math.max(1, (count + columns - 1) / columns) : 1;
+            this.cellWidth = width > 0 ? width / columns : 1.0;
+            this.cellHeight = height > 0 ? height / rows : 1.0;
+
+            int[] counts = new int[columns * rows + 1];
+            for (Edge edge : edges) {
+                cover(edge, cell -> counts[cell + 1]++);
+            }
+            for (int cell = 0; cell < columns * rows; cell++) {
+                counts[cell + 1] += counts[cell];
+            }
+
+            this.starts = counts;
+            this.items = new int[counts[columns * rows]];
+            int[] cursor = Arrays.copyOf(counts, columns * rows);
+            for (int i = 0; i < edges.size(); i++) {
+                int index = i;
+                cover(edges.get(i), cell -> items[cursor[cell]++] = index);
+            }
+        }
+
+        int cellCount() {
+            return columns * rows;
+        }
+
+        int start(int cell) {
+            return starts[cell];
+        }
+
+        int end(int cell) {
+            return starts[cell + 1];
+        }
+
+        int item(int position) {
+            return items[position];
+        }
+
+        private void cover(Edge edge, IntConsumer visitor) {
+            int firstColumn = column(edge.x0);
+            int lastColumn = column(edge.x1);
+            int firstRow = row(edge.minY());
+            int lastRow = row(edge.maxY());
+
+            if (firstColumn == lastColumn) {
+                for (int r = firstRow; r <= lastRow; r++) {
+                    visitor.accept(r * columns + firstColumn);
+                }
+                return;
+            }
+
+            double slope = (edge.y1 - edge.y0) / (edge.x1 - edge.x0);
+            for (int c = firstColumn; c <= lastColumn; c++) {
+                double left = Math.max(edge.x0, minX + c * cellWidth);
+                double right = Math.min(edge.x1, minX + (c + 1) * cellWidth);
+                double yLeft = edge.y0 + (left - edge.x0) * slope;
+                double yRight = edge.y0 + (right - edge.x0) * slope;
+                int from = Math.max(firstRow, row(Math.min(yLeft, yRight)) - 1);
+                int to = Math.min(lastRow, row(Math.max(yLeft, yRight)) + 1);
+                for (int r = from; r <= to; r++) {
+                    visitor.accept(r * columns + c);
+                }
+            }
+        }
+
+        private int column(double x) {
+            return Math.min(columns - 1, Math.max(0, (int) ((x - minX) / cellWidth)));
+        }
+
+        private int row(double y) {
+            return Math.min(rows - 1, Math.max(0, (int) ((y - minY) / cellHeight)));
+        }
+    }
+
+    private static final class Event {
+
+        final Edge edge;
+        final boolean left;
+
+        Event(Edge edge, boolean left) {
+            this.edge = edge;
+            this.left = left;
+        }
+
+        double x() {
+            return left ? edge.x0 : edge.x1;
+        }
+
+        double y() {
+            return left ? edge.y0 : edge.y1;
+        }
+    }
+
+    private static final class HalfEdge {
+
+        final int from;
+        final int to;
+        final double angle;
+        boolean used;
+
+        HalfEdge(int from, int to, double angle) {
+            this.from = from;
+            this.to = to;
+            this.angle = angle;
+        }
+    }
+
+    private record EdgeKey(double x0, double y0, double x1, double y1) {
+    }
+
+    private static final class Ring {
+
+        final double[] coordinates;
+        final double area;
+        final double minX;
+        final double minY;
+        final double maxX;
+        final double maxY;
+
+        private Ring(double[] coordinates, double area, double minX, double minY, double maxX, double maxY) {
+            this.coordinates = coordinates;
+            this.area = area;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        static Ring of(double[] coordinates) {
+            int count = coordinates.length / 2;
+            if (count < 3) {
+                return null;
+            }
+
+            double sum = 0.0;
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                int next = (i + 1) % count;
+                double x = coordinates[i * 2];
+                double y = coordinates[i * 2 + 1];
+                sum += (x * coordinates[next * 2 + 1]) - (coordinates[next * 2] * y);
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+
+            return sum == 0.0 ? null : new Ring(coordinates, sum / 2.0, minX, minY, maxX, maxY);
+        }
+
+        boolean encloses(Ring other) {
+            if (other.minX < minX || other.maxX > maxX || other.minY < minY || other.maxY > maxY) {
+                return false;
+            }
+            for (int i = 0; i < other.coordinates.length; i += 2) {
+                int location = locate(other.coordinates[i], other.coordinates[i + 1]);
+                if (location != 0) {
+                    return location > 0;
+                }
+            }
+            return false;
+        }
+
+        private int locate(double x, double y) {
+            int count = coordinates.length / 2;
+            boolean inside = false;
+
+            for (int i = 0, j = count - 1; i < count; j = i++) {
+                double xi = coordinates[i * 2];
+                double yi = coordinates[i * 2 + 1];
+                double xj = coordinates[j * 2];
+                double yj = coordinates[j * 2 + 1];
+                int side = RobustPredicates.orientation(xj, yj, xi, yi, x, y);
+
+                if (side == 0 && x >= Math.min(xi, xj) && x <= Math.max(xi, xj)
+                        && y >= Math.min(yi, yj) && y <= Math.max(yi, yj)) {
+                    return 0;
+                }
+                if ((yi > y) != (yj > y) && (yi > yj ? side > 0 : side < 0)) {
+                    inside = !inside;
+                }
+            }
+            return inside ? 1 : -1;
+        }
+    }
+
+    private static final class Part {
+
+        final double[][] rings;
+        final boolean noded;
+        final double minX;
+        final double minY;
+        final double maxX;
+        final double maxY;
+
+        private Part(double[][] rings, boolean noded, double minX, double minY, double maxX, double maxY) {
+            this.rings = rings;
+            this.noded = noded;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        static Part of(double[][] rings, boolean noded) {
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (double[] ring : rings) {
+                if (ring == null) {
+                    throw new IllegalArgumentException("Ring cannot be null");
+                }
+                for (int i = 0; i + 1 < ring.length; i += 2) {
+                    minX = Math.min(minX, ring[i]);
+                    minY = Math.min(minY, ring[i + 1]);
+                    maxX = Math.max(maxX, ring[i]);
+                    maxY = Math.max(maxY, ring[i + 1]);
+                }
+            }
+            return new Part(rings, noded, minX, minY, maxX, maxY);
+        }
+
+        double centerX() {
+            return (minX + maxX) / 2.0;
+        }
+
+        double centerY() {
+            return (minY + maxY) / 2.0;
+        }
+
+        Part union(Part other) {
+            boolean overlaps = minX <= other.maxX && other.minX <= maxX && minY <= other.maxY && other.minY <= maxY;
+            if (overlaps) {
+                return Part.of(flatten(overlay(rings, noded, other.rings, other.noded, Operation.UNION)), true);
+            }
+
+            double[][] merged = Arrays.copyOf(rings, rings.length + other.rings.length);
+            System.arraycopy(other.rings, 0, merged, rings.length, other.rings.length);
+            return new Part(merged, noded && other.noded,
+                Math.min(minX, other.minX), Math.min(minY, other.minY),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY));
+        }
+    }
+}
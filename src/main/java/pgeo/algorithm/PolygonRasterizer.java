@@ -0,0 +1,350 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class PolygonRasterizer {
+
+    public static final int MAX_SAMPLES = 64;
+
+    private final double minX;
+    private final double maxY;
+    private final double pixelWidth;
+    private final double pixelHeight;
+    private final int width;
+    private final int height;
+
+    private interface SpanConsumer {
+        void accept(int line, double[] crossings, int count);
+    }
+
+    private static final class EdgeTable {
+        final double[] xLow;
+        final double[] yLow;
+        final double[] yHigh;
+        final double[] slope;
+        final int[] lastLine;
+        final int[] firstLine;
+        final int count;
+
+        EdgeTable(int capacity) {
+            xLow = new double[capacity];
+            yLow = new double[capacity];
+            yHigh = new double[capacity];
+            slope = new double[capacity];
+            lastLine = new int[capacity];
+            firstLine = new int[capacity];
+            count = capacity;
+        }
+    }
+
+    public PolygonRasterizer(Envelope bounds, int width, int height) {
+        if (bounds == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        if (!(bounds.getMaxX() > bounds.getMinX()) || !(bounds.getMaxY() > bounds.getMinY())) {
+            throw new IllegalArgumentException("Bounds must have positive width and height");
+        }
+        if (width < 1 || height < 1 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                String.format("Grid size %d x %d must be positive and fit in an array", width, height)
+            );
+        }
+        this.minX = bounds.getMinX();
+        this.maxY = bounds.getMaxY();
+        this.pixelWidth = (bounds.getMaxX() - bounds.getMinX()) / width;
+        this.pixelHeight = (bounds.getMaxY() - bounds.getMinY()) / height;
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int fill(Polygon polygon, byte[] mask) {
+        return fill(ring(polygon), mask);
+    }
+
+    public int fill(Triangle triangle, byte[] mask) {
+        return fill(ring(triangle), mask);
+    }
+
+    public int fill(Polygon polygon, long[] bits) {
+        return fill(ring(polygon), bits);
+    }
+
+    public int fill(Triangle triangle, long[] bits) {
+        return fill(ring(triangle), bits);
+    }
+
+    public void addCoverage(Polygon polygon, int samples, double[] coverage) {
+        addCoverage(ring(polygon), samples, coverage);
+    }
+
+    public void addCoverage(Triangle triangle, int samples, double[] coverage) {
+        addCoverage(ring(triangle), samples, coverage);
+    }
+
+    public void fillAll(Polygon[] polygons, int[] labels, boolean parallel) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons array cannot be null");
+        }
+        validateTarget(labels == null ? -1 : labels.length, width * height, "Labels");
+        EdgeTable[] tables = new EdgeTable[polygons.length];
+        IntStream indices = IntStream.range(0, polygons.length);
+        if (parallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> tables[i] = buildEdges(ring(polygons[i]), 1));
+
+        int bands = parallel ? Math.min(height, ForkJoinPool.commonPool().getParallelism() * 4) : 1;
+        int bandSize = (height + bands - 1) / bands;
+        IntStream bandIndices = IntStream.range(0, bands);
+        if (parallel) {
+            bandIndices = bandIndices.parallel();
+        }
+        bandIndices.forEach(band -> {
+            int from = band * bandSize;
+            int to = Math.min(height, from + bandSize);
+            for (int i = 0; i < tables.length; i++) {
+                int label = i;
+                scan(tables[i], 1, from, to, (line, crossings, count) -> {
+                    int rowOffset = line * width;
+                    for (int k = 0; k + 1 < count; k += 2) {
+                        int end = column(crossings[k + 1]);
+                        for (int c = column(crossings[k]); c < end; c++) {
+                            labels[rowOffset + c] = label;
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private int fill(double[] ring, byte[] mask) {
+        validateTarget(mask == null ? -1 : mask.length, width * height, "Mask");
+        int[] filled = new int[1];
+        scan(buildEdges(ring, 1), 1, 0, height, (line, crossings, count) -> {
+            int rowOffset = line * width;
+            for (int k = 0; k + 1 < count; k += 2) {
+                int start = column(crossings[k]);
+                int end = column(crossings[k + 1]);
+                if (start < end) {
+                    Arrays.fill(mask, rowOffset + start, rowOffset + end, (byte) 1);
+                    filled[0] += end - start;
+                }
+            }
+        });
+        return filled[0];
+    }
+
+    private int fill(double[] ring, long[] bits) {
+        validateTarget(bits == null ? -1 : bits.length, (int) (((long) width * height + 63) >>> 6), "Bitset");
+        int[] filled = new int[1];
+        scan(buildEdges(ring, 1), 1, 0, height, (line, crossings, count) -> {
+            int rowOffset = line * width;
+            for (int k = 0; k + 1 < count; k += 2) {
+                int start = rowOffset + column(crossings[k]);
+                int end = rowOffset + column(crossings[k + 1]);
+                if (start < end) {
+                    setBits(bits, start, end);
+                    filled[0] += end - start;
+                }
+            }
+        });
+        return filled[0];
+    }
+
+    private void addCoverage(double[] ring, int samples, double[] coverage) {
+        if (samples < 1 || samples > MAX_SAMPLES) {
+            throw new IllegalArgumentException(
+                String.format("Samples per pixel row must be between 1 and %d, got %d", MAX_SAMPLES, samples)
+            );
+        }
+        validateTarget(coverage == null ? -1 : coverage.length, width * height, "Coverage");
+        double weight = 1.0 / samples;
+        scan(buildEdges(ring, samples), samples, 0, height * samples, (line, crossings, count) -> {
+            int rowOffset = (line / samples) * width;
+            for (int k = 0; k + 1 < count; k += 2) {
+                double start = Math.max(0.0, (crossings[k] - minX) / pixelWidth);
+                double end = Math.min(width, (crossings[k + 1] - minX) / pixelWidth);
+                if (!(start < end)) {
+                    continue;
+                }
+                int first = (int) start;
+                int last = Math.min(width - 1, (int) end);
+                if (first == last) {
+                    coverage[rowOffset + first] += (end - start) * weight;
+                    continue;
+                }
+                coverage[rowOffset + first] += (first + 1 - start) * weight;
+                for (int c = first + 1; c < last; c++) {
+                    coverage[rowOffset + c] += weight;
+                }
+                coverage[rowOffset + last] += (end - last) * weight;
+            }
+        });
+    }
+
+    private EdgeTable buildEdges(double[] ring, int samples) {
+        int vertices = ring.length / 2;
+        double step = pixelHeight / samples;
+        int lines = height * samples;
+        double[] xLow = new double[vertices];
+        double[] yLow = new double[vertices];
+        double[] yHigh = new double[vertices];
+        double[] slope = new double[vertices];
+        int[] firstLine = new int[vertices];
+        int[] lastLine = new int[vertices];
+        long[] keys = new long[vertices];
+        int count = 0;
+        for (int i = 0; i < vertices; i++) {
+            int next = i + 1 == vertices ? 0 : i + 1;
+            double ax = ring[i * 2];
+            double ay = ring[i * 2 + 1];
+            double bx = ring[next * 2];
+            double by = ring[next * 2 + 1];
+            if (ay == by) {
+                continue;
+            }
+            if (ay > by) {
+                double t = ax;
+                ax = bx;
+                bx = t;
+                t = ay;
+                ay = by;
+                by = t;
+            }
+            double first = Math.floor((maxY - by) / step - 0.5);
+            double last = Math.ceil((maxY - ay) / step - 0.5);
+            if (last < 0 || first >= lines) {
+                continue;
+            }
+            xLow[count] = ax;
+            yLow[count] = ay;
+            yHigh[count] = by;
+            slope[count] = (bx - ax) / (by - ay);
+            firstLine[count] = (int) Math.max(0, first);
+            lastLine[count] = (int) Math.min(lines - 1, last);
+            keys[count] = ((long) firstLine[count] << 32) | count;
+            count++;
+        }
+
+        EdgeTable table = new EdgeTable(count);
+        Arrays.sort(keys, 0, count);
+        for (int i = 0; i < count; i++) {
+            int edge = (int) keys[i];
+            table.xLow[i] = xLow[edge];
+            table.yLow[i] = yLow[edge];
+            table.yHigh[i] = yHigh[edge];
+            table.slope[i] = slope[edge];
+            table.firstLine[i] = firstLine[edge];
+            table.lastLine[i] = lastLine[edge];
+        }
+        return table;
+    }
+
+    private void scan(EdgeTable table, int samples, int fromLine, int toLine, SpanConsumer consumer) {
+        double step = pixelHeight / samples;
+        int[] active = new int[table.count];
+        double[] crossings = new double[table.count];
+        int activeCount = 0;
+        int next = 0;
+        for (int line = fromLine; line < toLine; line++) {
+            while (next < table.count && table.firstLine[next] <= line) {
+                active[activeCount++] = next++;
+            }
+            double y = maxY - (line + 0.5) * step;
+            int crossingCount = 0;
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int edge = active[i];
+                if (table.lastLine[edge] < line) {
+                    continue;
+                }
+                active[kept++] = edge;
+                if (table.yLow[edge] <= y && y < table.yHigh[edge]) {
+                    double x = table.xLow[edge] + (y - table.yLow[edge]) * table.slope[edge];
+                    int j = crossingCount++;
+                    while (j > 0 && crossings[j - 1] > x) {
+                        crossings[j] = crossings[j - 1];
+                        j--;
+                    }
+                    crossings[j] = x;
+                }
+            }
+            activeCount = kept;
+            if (crossingCount > 1) {
+                consumer.accept(line, crossings, crossingCount);
+            }
+            if (activeCount == 0 && next == table.count) {
+                return;
+            }
+        }
+    }
+
+    private int column(double x) {
+        double position = Math.ceil((x - minX) / pixelWidth - 0.5);
+        if (!(position > 0)) {
+            return 0;
+        }
+        return position >= width ? width : (int) position;
+    }
+
+    private static void setBits(long[] bits, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            bits[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[firstWord] |= firstMask;
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            bits[word] = -1L;
+        }
+        bits[lastWord] |= lastMask;
+    }
+
+    private static double[] ring(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        double[] ring = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(ring, 0);
+        return ring;
+    }
+
+    private static double[] ring(Triangle triangle) {
+        if (triangle == null) {
+            throw new IllegalArgumentException("Triangle cannot be null");
+        }
+        return new double[]{
+            triangle.getVertexA().getX(), triangle.getVertexA().getY(),
+            triangle.getVertexB().getX(), triangle.getVertexB().getY(),
+            triangle.getVertexC().getX(), triangle.getVertexC().getY()
+        };
+    }
+
+    private static void validateTarget(int length, int required, String name) {
+        if (length < 0) {
+            throw new IllegalArgumentException(String.format("%s array cannot be null", name));
+        }
+        if (length < required) {
+            throw new IllegalArgumentException(
+                String.format("%s array holds %d values, %d required", name, length, required)
+            );
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package pgeo.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+public final class Proximity {
+
+    private static final int BRUTE_FORCE_SIZE = 3;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final int QUERY_CHUNK = 1 << 10;
+
+    public static final class Pair {
+
+        private final int first;
+        private final int second;
+        private final double distanceSquared;
+
+        Pair(int first, int second, double distanceSquared) {
+            this.first = Math.min(first, second);
+            this.second = Math.max(first, second);
+            this.distanceSquared = distanceSquared;
+        }
+
+        public int getFirst() {
+            return first;
+        }
+
+        public int getSecond() {
+            return second;
+        }
+
+        public double getDistanceSquared() {
+            return distanceSquared;
+        }
+
+        public double getDistance() {
+            return Math.sqrt(distanceSquared);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Pair[%d, %d, distance=%.4f]", first, second, getDistance());
+        }
+    }
+
+    private Proximity() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static Pair closestPair(double[] coordinates) {
+        return closestPair(coordinates, false);
+    }
+
+    public static Pair closestPair(double[] coordinates, boolean parallel) {
+        int count = validatePoints(coordinates);
+
+        int[] order = IntStream.range(0, count).toArray();
+        int[] aux = new int[count];
+        sortByX(coordinates, order, aux, 0, count);
+
+        double[] best = {Double.POSITIVE_INFINITY, -1, -1};
+        if (parallel && count >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new ClosestPairTask(coordinates, order, aux, 0, count, best));
+        } else {
+            closestPair(coordinates, order, aux, 0, count, best);
+        }
+        return new Pair((int) best[1], (int) best[2], best[0]);
+    }
+
+    public static int[] allNearestNeighbours(double[] coordinates) {
+        return allNearestNeighbours(coordinates, null, false);
+    }
+
+    public static int[] allNearestNeighbours(double[] coordinates, double[] distancesSquared, boolean parallel) {
+        int count = validatePoints(coordinates);
+        if (distancesSquared != null && distancesSquared.length < count) {
+            throw new IllegalArgumentException(
+                String.format("Distance buffer of length %d cannot hold %d points", distancesSquared.length, count)
+            );
+        }
+
+        int[] tree = IntStream.range(0, count).toArray();
+        buildTree(coordinates, tree, 0, count, 0);
+
+        int[] nearest = new int[count];
+        IntStream chunks = IntStream.range(0, (count + QUERY_CHUNK - 1) / QUERY_CHUNK);
+        if (parallel) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            NeighbourSearch search = new NeighbourSearch(coordinates, tree);
+            int end = Math.min(count, (chunk + 1) * QUERY_CHUNK);
+            for (int point = chunk * QUERY_CHUNK; point < end; point++) {
+                search.run(point);
+                nearest[point] = search.index;
+                if (distancesSquared != null) {
+                    distancesSquared[point] = search.distanceSquared;
+                }
+            }
+        });
+        return nearest;
+    }
+
+    private static void closestPair(double[] c, int[] order, int[] aux, int lo, int hi, double[] best) {
+        if (hi - lo <= BRUTE_FORCE_SIZE) {
+            bruteForce(c, order, lo, hi, best);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double midX = c[order[mid] * 2];
+        closestPair(c, order, aux, lo, mid, best);
+        closestPair(c, order, aux, mid, hi, best);
+        combine(c, order, aux, lo, mid, hi, midX, best);
+    }
+
+    private static void bruteForce(double[] c, int[] order, int lo, int hi, double[] best) {
+        for (int a = lo; a < hi; a++) {
+            for (int b = a + 1; b < hi; b++) {
+                update(c, order[a], order[b], best);
+            }
+        }
+        for (int a = lo + 1; a < hi; a++) {
+            int index = order[a];
+            int b = a - 1;
+            while (b >= lo && c[order[b] * 2 + 1] > c[index * 2 + 1]) {
+                order[b + 1] = order[b];
+                b--;
+            }
+            order[b + 1] = index;
+        }
+    }
+
+    private static void combine(double[] c, int[] order, int[] aux, int lo, int mid, int hi,
+                                double midX, double[] best) {
+        int left = lo;
+        int right = mid;
+        for (int k = lo; k < hi; k++) {
+            if (right >= hi || (left < mid && c[order[left] * 2 + 1] <= c[order[right] * 2 + 1])) {
+                aux[k] = order[left++];
+            } else {
+                aux[k] = order[right++];
+            }
+        }
+        System.arraycopy(aux, lo, order, lo, hi - lo);
+
+        int stripEnd = lo;
+        for (int k = lo; k < hi; k++) {
+            double dx = c[order[k] * 2] - midX;
+            if (dx * dx < best[0]) {
+                aux[stripEnd++] = order[k];
+            }
+        }
+        for (int a = lo; a < stripEnd; a++) {
+            double ay = c[aux[a] * 2 + 1];
+            for (int b = a + 1; b < stripEnd; b++) {
+                double dy = c[aux[b] * 2 + 1] - ay;
+                if (dy * dy >= best[0]) {
+                    break;
+                }
+                update(c, aux[a], aux[b], best);
+            }
+        }
+    }
+
+    private static void update(double[] c, int i, int j, double[] best) {
+        double dx = c[i * 2] - c[j * 2];
+        double dy = c[i * 2 + 1] - c[j * 2 + 1];
+        double distanceSquared = dx * dx + dy * dy;
+        if (distanceSquared < best[0]) {
+            best[0] = distanceSquared;
+            best[1] = i;
+            best[2] = j;
+        }
+    }
+
+    private static void sortByX(double[] c, int[] order, int[] aux, int lo, int hi) {
+        if (hi - lo < 2) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sortByX(c, order, aux, lo, mid);
+        sortByX(c, order, aux, mid, hi);
+        int left = lo;
+        int right = mid;
+        for (int k = lo; k < hi; k++) {
+            if (right >= hi || (left < mid && c[order[left] * 2] <= c[order[right] * 2])) {
+                aux[k] = order[left++];
+            } else {
+                aux[k] = order[right++];
+            }
+        }
+        System.arraycopy(aux, lo, order, lo, hi - lo);
+    }
+
+    private static void buildTree(double[] c, int[] tree, int lo, int hi, int axis) {
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            select(c, tree, lo, hi - 1, mid, axis);
+            buildTree(c, tree, lo, mid, axis ^ 1);
+            lo = mid + 1;
+            axis ^= 1;
+        }
+    }
+
+    private static void select(double[] c, int[] tree, int lo, int hi, int k, int axis) {
+        while (hi > lo) {
+            int middle = (lo + hi) >>> 1;
+            double pivot = c[tree[middle] * 2 + axis];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (c[tree[i] * 2 + axis] < pivot) {
+                    i++;
+                }
+                while (c[tree[j] * 2 + axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = tree[i];
+                    tree[i] = tree[j];
+                    tree[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int validatePoints(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException("Coordinates must contain interleaved x, y pairs");
+        }
+        if (coordinates.length < 4) {
+            throw new IllegalArgumentException("At least 2 points are required");
+        }
+        for (int i = 0; i < coordinates.length; i++) {
+            if (!Double.isFinite(coordinates[i])) {
+                throw new IllegalArgumentException(
+                    String.format("Coordinate at index %d must be finite", i)
+                );
+            }
+        }
+        return coordinates.length / 2;
+    }
+
+    private static final class ClosestPairTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] coordinates;
+        private final int[] order;
+        private final int[] aux;
+        private final int lo;
+        private final int hi;
+        private final double[] best;
+
+        ClosestPairTask(double[] coordinates, int[] order, int[] aux, int lo, int hi, double[] best) {
+            this.coordinates = coordinates;
+            this.order = order;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_THRESHOLD) {
+                closestPair(coordinates, order, aux, lo, hi, best);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            double midX = coordinates[order[mid] * 2];
+            double[] rightBest = {Double.POSITIVE_INFINITY, -1, -1};
+            invokeAll(
+                new ClosestPairTask(coordinates, order, aux, lo, mid, best),
+                new ClosestPairTask(coordinates, order, aux, mid, hi, rightBest));
+            if (rightBest[0] < best[0]) {
+                System.arraycopy(rightBest, 0, best, 0, 3);
+            }
+            combine(coordinates, order, aux, lo, mid, hi, midX, best);
+        }
+    }
+
+    private static final class NeighbourSearch {
+
+        private final double[] coordinates;
+        private final int[] tree;
+        private double x;
+        private double y;
+        private int query;
+        int index;
+        double distanceSquared;
+
+        NeighbourSearch(double[] coordinates, int[] tree) {
+            this.coordinates = coordinates;
+            this.tree = tree;
+        }
+
+        void run(int point) {
+            query = point;
+            x = coordinates[point * 2];
+            y = coordinates[point * 2 + 1];
+            index = -1;
+            distanceSquared = Double.POSITIVE_INFINITY;
+            search(0, tree.length, 0);
+        }
+
+        private void search(int lo, int hi, int axis) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int node = tree[mid];
+                double nx = coordinates[node * 2];
+                double ny = coordinates[node * 2 + 1];
+                if (node != query) {
+                    double dx = nx - x;
+                    double dy = ny - y;
+                    double d = dx * dx + dy * dy;
+                    if (d < distanceSquared) {
+                        distanceSquared = d;
+                        index = node;
+                    }
+                }
+
+                double diff = axis == 0 ? x - nx : y - ny;
+                if (diff < 0) {
+                    search(lo, mid, axis ^ 1);
+                    if (diff * diff >= distanceSquared) {
+                        return;
+                    }
+                    lo = mid + 1;
+                } else {
+                    search(mid + 1, hi, axis ^ 1);
+                    if (diff * diff >= distanceSquared) {
+                        return;
+                    }
+                    hi = mid;
+                }
+                axis ^= 1;
+            }
+        }
+    }
+}
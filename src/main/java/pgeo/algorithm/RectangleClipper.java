@@ -0,0 +1,320 @@
+package pgeo.algorithm;
+
+import pgeo.core.Polygon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class RectangleClipper {
+
+    private static final int X_AXIS = 0;
+    private static final int Y_AXIS = 1;
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    public RectangleClipper(double minX, double minY, double maxX, double maxY) {
+        validateRange(minX, maxX, "x");
+        validateRange(minY, maxY, "y");
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double[] clipPolygon(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        double[] coordinates = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(coordinates, 0);
+        return clipPolygon(coordinates);
+    }
+
+    public double[] clipPolygon(double[] coordinates) {
+        int count = validateRing(coordinates);
+
+        CoordinateBuffer strip = new CoordinateBuffer(count + 4);
+        clipRingToSlab(coordinates, count, X_AXIS, minX, maxX, strip);
+        if (strip.vertexCount() < 3) {
+            return new double[0];
+        }
+
+        CoordinateBuffer clipped = new CoordinateBuffer(strip.vertexCount() + 4);
+        clipRingToSlab(strip.values(), strip.vertexCount(), Y_AXIS, minY, maxY, clipped);
+        if (clipped.vertexCount() < 3) {
+            return new double[0];
+        }
+
+        return clipped.toArray();
+    }
+
+    public List<double[]> clipPolyline(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        if (coordinates.length % 2 != 0 || coordinates.length < 4) {
+            throw new IllegalArgumentException("Polyline requires at least 2 interleaved x, y pairs");
+        }
+
+        List<double[]> runs = new ArrayList<>();
+        CoordinateBuffer run = new CoordinateBuffer();
+        double[] segment = new double[4];
+        int count = coordinates.length / 2;
+
+        for (int i = 0; i < count - 1; i++) {
+            boolean visible = clipSegment(
+                coordinates[i * 2], coordinates[i * 2 + 1],
+                coordinates[i * 2 + 2], coordinates[i * 2 + 3], segment);
+
+            if (!visible) {
+                flushRun(run, runs);
+                continue;
+            }
+
+            int last = run.vertexCount() - 1;
+            boolean continues = last >= 0
+                && Double.compare(run.x(last), segment[0]) == 0
+                && Double.compare(run.y(last), segment[1]) == 0;
+
+            if (!continues) {
+                flushRun(run, runs);
+                run.add(segment[0], segment[1]);
+            }
+            run.addDistinct(segment[2], segment[3]);
+        }
+
+        flushRun(run, runs);
+        return runs;
+    }
+
+    public boolean clipSegment(double x0, double y0, double x1, double y1, double[] out) {
+        if (out == null || out.length < 4) {
+            throw new IllegalArgumentException("Output buffer must hold 4 values");
+        }
+
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        double[] range = {0.0, 1.0};
+
+        if (!clipParameter(-dx, x0 - minX, range)
+                || !clipParameter(dx, maxX - x0, range)
+                || !clipParameter(-dy, y0 - minY, range)
+                || !clipParameter(dy, maxY - y0, range)) {
+            return false;
+        }
+
+        out[0] = range[0] == 0.0 ? x0 : x0 + range[0] * dx;
+        out[1] = range[0] == 0.0 ? y0 : y0 + range[0] * dy;
+        out[2] = range[1] == 1.0 ? x1 : x0 + range[1] * dx;
+        out[3] = range[1] == 1.0 ? y1 : y0 + range[1] * dy;
+        return true;
+    }
+
+    public static GridClip clipToGrid(double[] coordinates, double originX, double originY,
+                                      double tileWidth, double tileHeight, int columns, int rows) {
+        int count = validateRing(coordinates);
+        if (!(tileWidth > 0) || !(tileHeight > 0) || Double.isInfinite(tileWidth) || Double.isInfinite(tileHeight)) {
+            throw new IllegalArgumentException("Tile size must be positive and finite");
+        }
+        if (columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Grid requires at least one column and one row");
+        }
+        if (!Double.isFinite(originX) || !Double.isFinite(originY)) {
+            throw new IllegalArgumentException("Grid origin must be finite");
+        }
+
+        CoordinateBuffer[] strips = distributeToSlabs(
+            coordinates, count, X_AXIS, originX, tileWidth, columns);
+        GridClip.Builder result = new GridClip.Builder(columns, rows);
+
+        for (int column = 0; column < columns; column++) {
+            CoordinateBuffer strip = strips[column];
+            if (strip == null) {
+                continue;
+            }
+            strip.closeRing();
+            if (strip.vertexCount() < 3) {
+                continue;
+            }
+
+            CoordinateBuffer[] cells = distributeToSlabs(
+                strip.values(), strip.vertexCount(), Y_AXIS, originY, tileHeight, rows);
+
+            for (int row = 0; row < rows; row++) {
+                CoordinateBuffer cell = cells[row];
+                if (cell == null) {
+                    continue;
+                }
+                cell.closeRing();
+                if (cell.vertexCount() >= 3 && cell.signedArea() != 0.0) {
+                    result.add(column, row, cell);
+                }
+            }
+        }
+
+        return result.build();
+    }
+
+    private static CoordinateBuffer[] distributeToSlabs(double[] coordinates, int count, int axis,
+                                                        double origin, double size, int slabs) {
+        CoordinateBuffer[] buffers = new CoordinateBuffer[slabs];
+
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            double p = coordinates[i * 2 + axis];
+            double q = coordinates[next * 2 + axis];
+
+            int first = (int) Math.max(0, Math.floor((Math.min(p, q) - origin) / size));
+            int last = (int) Math.min(slabs - 1, Math.floor((Math.max(p, q) - origin) / size));
+
+            for (int slab = first; slab <= last; slab++) {
+                if (buffers[slab] == null) {
+                    buffers[slab] = new CoordinateBuffer();
+                }
+                double lo = origin + slab * size;
+                double hi = slab == slabs - 1 ? origin + slabs * size : origin + (slab + 1) * size;
+                clipEdgeToSlab(coordinates, i, next, axis, lo, hi, buffers[slab]);
+            }
+        }
+
+        return buffers;
+    }
+
+    private static void clipRingToSlab(double[] coordinates, int count, int axis,
+                                       double lo, double hi, CoordinateBuffer out) {
+        for (int i = 0; i < count; i++) {
+            clipEdgeToSlab(coordinates, i, (i + 1) % count, axis, lo, hi, out);
+        }
+        out.closeRing();
+    }
+
+    private static void clipEdgeToSlab(double[] coordinates, int from, int to, int axis,
+                                       double lo, double hi, CoordinateBuffer out) {
+        double px = coordinates[from * 2];
+        double py = coordinates[from * 2 + 1];
+        double qx = coordinates[to * 2];
+        double qy = coordinates[to * 2 + 1];
+        double p = axis == X_AXIS ? px : py;
+        double q = axis == X_AXIS ? qx : qy;
+
+        if ((p < lo && q < lo) || (p > hi && q > hi)) {
+            return;
+        }
+
+        double delta = q - p;
+        double t0 = 0.0;
+        double t1 = 1.0;
+
+        if (delta != 0.0) {
+            double tLo = (lo - p) / delta;
+            double tHi = (hi - p) / delta;
+            t0 = Math.max(0.0, Math.min(tLo, tHi));
+            t1 = Math.min(1.0, Math.max(tLo, tHi));
+            if (t0 > t1) {
+                return;
+            }
+        }
+
+        appendAt(px, py, qx, qy, t0, axis, lo, hi, out);
+        appendAt(px, py, qx, qy, t1, axis, lo, hi, out);
+    }
+
+    private static void appendAt(double px, double py, double qx, double qy, double t,
+                                 int axis, double lo, double hi, CoordinateBuffer out) {
+        if (t == 0.0) {
+            out.addDistinct(px, py);
+            return;
+        }
+        if (t == 1.0) {
+            out.addDistinct(qx, qy);
+            return;
+        }
+
+        double x = px + t * (qx - px);
+        double y = py + t * (qy - py);
+
+        if (axis == X_AXIS) {
+            x = clamp(x, lo, hi);
+        } else {
+            y = clamp(y, lo, hi);
+        }
+        out.addDistinct(x, y);
+    }
+
+    private static double clamp(double value, double lo, double hi) {
+        return Math.max(lo, Math.min(hi, value));
+    }
+
+    private static boolean clipParameter(double denominator, double numerator, double[] range) {
+        if (denominator == 0.0) {
+            return numerator >= 0.0;
+        }
+        double t = numerator / denominator;
+        if (denominator < 0.0) {
+            if (t > range[1]) {
+                return false;
+            }
+            if (t > range[0]) {
+                range[0] = t;
+            }
+        } else {
+            if (t < range[0]) {
+                return false;
+            }
+            if (t < range[1]) {
+                range[1] = t;
+            }
+        }
+        return true;
+    }
+
+    private static void flushRun(CoordinateBuffer run, List<double[]> runs) {
+        if (run.vertexCount() >= 2) {
+            runs.add(run.toArray());
+        }
+        run.clear();
+    }
+
+    private static int validateRing(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException("Coordinates must be interleaved x, y pairs");
+        }
+        if (coordinates.length < 6) {
+            throw new IllegalArgumentException("Polygon requires at least 3 vertices");
+        }
+        return coordinates.length / 2;
+    }
+
+    private static void validateRange(double min, double max, String axis) {
+        if (!Double.isFinite(min) || !Double.isFinite(max)) {
+            throw new IllegalArgumentException(axis + " bounds must be finite");
+        }
+        if (!(min < max)) {
+            throw new IllegalArgumentException(
+                String.format("Minimum %s must be less than maximum %s", axis, axis)
+            );
+        }
+    }
+}
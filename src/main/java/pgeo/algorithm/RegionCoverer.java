@@ -0,0 +1,301 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class RegionCoverer {
+
+    public static final int MAX_LEVEL = 30;
+
+    private final double minX;
+    private final double minY;
+    private final double width;
+    private final double height;
+    private final int minLevel;
+    private final int maxLevel;
+    private final int maxCells;
+
+    private static final class Candidate {
+        final int level;
+        final int x;
+        final int y;
+        final int[] edges;
+
+        Candidate(int level, int x, int y, int[] edges) {
+            this.level = level;
+            this.x = x;
+            this.y = y;
+            this.edges = edges;
+        }
+    }
+
+    public RegionCoverer(Envelope domain, int minLevel, int maxLevel, int maxCells) {
+        if (domain == null) {
+            throw new IllegalArgumentException("Domain cannot be null");
+        }
+        if (!(domain.getMaxX() > domain.getMinX()) || !(domain.getMaxY() > domain.getMinY())) {
+            throw new IllegalArgumentException("Domain must have positive width and height");
+        }
+        if (minLevel < 0 || maxLevel > MAX_LEVEL || minLevel > maxLevel) {
+            throw new IllegalArgumentException(
+                String.format("Levels must satisfy 0 <= minLevel <= maxLevel <= %d, got %d and %d",
+                    MAX_LEVEL, minLevel, maxLevel)
+            );
+        }
+        if (maxCells < 1) {
+            throw new IllegalArgumentException(String.format("Max cells must be positive, got %d", maxCells));
+        }
+        this.minX = domain.getMinX();
+        this.minY = domain.getMinY();
+        this.width = domain.getMaxX() - domain.getMinX();
+        this.height = domain.getMaxY() - domain.getMinY();
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        this.maxCells = maxCells;
+    }
+
+    public long[] cover(Envelope envelope) {
+        if (envelope == null) {
+            throw new IllegalArgumentException("Envelope cannot be null");
+        }
+        return cover(null, envelope);
+    }
+
+    public long[] cover(Triangle triangle) {
+        if (triangle == null) {
+            throw new IllegalArgumentException("Triangle cannot be null");
+        }
+        double[] ring = {
+            triangle.getVertexA().getX(), triangle.getVertexA().getY(),
+            triangle.getVertexB().getX(), triangle.getVertexB().getY(),
+            triangle.getVertexC().getX(), triangle.getVertexC().getY()
+        };
+        return cover(ring, triangle.getEnvelope());
+    }
+
+    public long[] cover(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        double[] ring = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(ring, 0);
+        return cover(ring, polygon.getEnvelope());
+    }
+
+    public Envelope getCellEnvelope(long cell) {
+        int level = cellLevel(cell);
+        double cellWidth = width / (1L << level);
+        double cellHeight = height / (1L << level);
+        int x = cellX(cell);
+        int y = cellY(cell);
+        return new Envelope(minX + x * cellWidth, minY + y * cellHeight,
+            minX + (x + 1) * cellWidth, minY + (y + 1) * cellHeight);
+    }
+
+    public static long cellId(int level, int x, int y) {
+        if (level < 0 || level > MAX_LEVEL) {
+            throw new IllegalArgumentException(String.format("Level must be between 0 and %d, got %d", MAX_LEVEL, level));
+        }
+        if ((x >>> level) != 0 || (y >>> level) != 0) {
+            throw new IllegalArgumentException(
+                String.format("Cell (%d, %d) outside level %d", x, y, level)
+            );
+        }
+        return ((SpaceFillingCurve.interleave(x, y) << 1) | 1L) << (2 * (MAX_LEVEL - level));
+    }
+
+    public static int cellLevel(long cell) {
+        validateCell(cell);
+        return MAX_LEVEL - Long.numberOfTrailingZeros(cell) / 2;
+    }
+
+    public static int cellX(long cell) {
+        return SpaceFillingCurve.deinterleaveX(cell >>> (Long.numberOfTrailingZeros(cell) + 1));
+    }
+
+    public static int cellY(long cell) {
+        return SpaceFillingCurve.deinterleaveY(cell >>> (Long.numberOfTrailingZeros(cell) + 1));
+    }
+
+    public static long rangeMin(long cell) {
+        validateCell(cell);
+        return cell - (Long.lowestOneBit(cell) - 1);
+    }
+
+    public static long rangeMax(long cell) {
+        validateCell(cell);
+        return cell + (Long.lowestOneBit(cell) - 1);
+    }
+
+    public static boolean contains(long cell, long other) {
+        validateCell(other);
+        return rangeMin(cell) <= other && other <= rangeMax(cell);
+    }
+
+    private long[] cover(double[] ring, Envelope region) {
+        double regionMinX = Math.max(region.getMinX(), minX);
+        double regionMinY = Math.max(region.getMinY(), minY);
+        double regionMaxX = Math.min(region.getMaxX(), minX + width);
+        double regionMaxY = Math.min(region.getMaxY(), minY + height);
+        if (regionMinX > regionMaxX || regionMinY > regionMaxY) {
+            return new long[0];
+        }
+        double[] bounds = {region.getMinX(), region.getMinY(), region.getMaxX(), region.getMaxY()};
+
+        int[] allEdges = new int[ring == null ? 0 : ring.length / 2];
+        for (int i = 0; i < allEdges.length; i++) {
+            allEdges[i] = i;
+        }
+
+        long[] cells = new long[16];
+        int count = 0;
+        List<Candidate> frontier = new ArrayList<>();
+        int first = cellIndex(regionMinX - minX, width, minLevel);
+        int last = cellIndex(regionMaxX - minX, width, minLevel);
+        int firstRow = cellIndex(regionMinY - minY, height, minLevel);
+        int lastRow = cellIndex(regionMaxY - minY, height, minLevel);
+        for (int x = first; x <= last; x++) {
+            for (int y = firstRow; y <= lastRow; y++) {
+                if (classify(ring, bounds, minLevel, x, y, allEdges, frontier)) {
+                    if (cells.length == count) {
+                        cells = Arrays.copyOf(cells, count * 2);
+                    }
+                    cells[count++] = cellId(minLevel, x, y);
+                }
+            }
+        }
+
+        List<Candidate> children = new ArrayList<>();
+        long[] contained = new long[16];
+        for (int level = minLevel; level < maxLevel && !frontier.isEmpty(); level++) {
+            children.clear();
+            int containedCount = 0;
+            for (Candidate parent : frontier) {
+                for (int child = 0; child < 4; child++) {
+                    int x = parent.x * 2 + (child & 1);
+                    int y = parent.y * 2 + (child >>> 1);
+                    if (classify(ring, bounds, level + 1, x, y, parent.edges, children)) {
+                        if (contained.length == containedCount) {
+                            contained = Arrays.copyOf(contained, containedCount * 2);
+                        }
+                        contained[containedCount++] = cellId(level + 1, x, y);
+                    }
+                }
+            }
+            if (count + containedCount + children.size() > maxCells) {
+                break;
+            }
+            if (cells.length < count + containedCount) {
+                cells = Arrays.copyOf(cells, Math.max(cells.length * 2, count + containedCount));
+            }
+            System.arraycopy(contained, 0, cells, count, containedCount);
+            count += containedCount;
+            List<Candidate> swap = frontier;
+            frontier = children;
+            children = swap;
+        }
+
+        if (cells.length < count + frontier.size()) {
+            cells = Arrays.copyOf(cells, count + frontier.size());
+        }
+        for (Candidate candidate : frontier) {
+            cells[count++] = cellId(candidate.level, candidate.x, candidate.y);
+        }
+        long[] result = Arrays.copyOf(cells, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private boolean classify(double[] ring, double[] region, int level, int x, int y,
+                             int[] edges, List<Candidate> partial) {
+        double cellWidth = width / (1L << level);
+        double cellHeight = height / (1L << level);
+        double x0 = minX + x * cellWidth;
+        double y0 = minY + y * cellHeight;
+        double x1 = x0 + cellWidth;
+        double y1 = y0 + cellHeight;
+
+        if (!overlaps(x0, x1, region[0], region[2], minX + width)
+                || !overlaps(y0, y1, region[1], region[3], minY + height)) {
+            return false;
+        }
+        if (ring == null) {
+            if (x0 >= region[0] && x1 <= region[2] && y0 >= region[1] && y1 <= region[3]) {
+                return true;
+            }
+            partial.add(new Candidate(level, x, y, edges));
+            return false;
+        }
+
+        int[] crossing = new int[edges.length];
+        int crossingCount = 0;
+        int vertices = ring.length / 2;
+        for (int edge : edges) {
+            int next = edge + 1 == vertices ? 0 : edge + 1;
+            if (segmentTouchesBox(ring[edge * 2], ring[edge * 2 + 1], ring[next * 2], ring[next * 2 + 1],
+                    x0, y0, x1, y1)) {
+                crossing[crossingCount++] = edge;
+            }
+        }
+        if (crossingCount > 0) {
+            partial.add(new Candidate(level, x, y, Arrays.copyOf(crossing, crossingCount)));
+            return false;
+        }
+        return containsPoint(ring, (x0 + x1) / 2, (y0 + y1) / 2);
+    }
+
+    private static boolean segmentTouchesBox(double ax, double ay, double bx, double by,
+                                             double x0, double y0, double x1, double y1) {
+        if (Math.max(ax, bx) < x0 || Math.min(ax, bx) > x1 || Math.max(ay, by) < y0 || Math.min(ay, by) > y1) {
+            return false;
+        }
+        double dx = bx - ax;
+        double dy = by - ay;
+        double s00 = dx * (y0 - ay) - dy * (x0 - ax);
+        double s10 = dx * (y0 - ay) - dy * (x1 - ax);
+        double s01 = dx * (y1 - ay) - dy * (x0 - ax);
+        double s11 = dx * (y1 - ay) - dy * (x1 - ax);
+        return !((s00 > 0 && s10 > 0 && s01 > 0 && s11 > 0) || (s00 < 0 && s10 < 0 && s01 < 0 && s11 < 0));
+    }
+
+    private static boolean containsPoint(double[] ring, double x, double y) {
+        boolean inside = false;
+        int vertices = ring.length / 2;
+        for (int i = 0, j = vertices - 1; i < vertices; j = i++) {
+            double yi = ring[i * 2 + 1];
+            double yj = ring[j * 2 + 1];
+            if ((yi > y) != (yj > y)) {
+                double xCross = ring[j * 2] + (y - yj) / (yi - yj) * (ring[i * 2] - ring[j * 2]);
+                if (x < xCross) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    private static boolean overlaps(double low, double high, double regionLow, double regionHigh, double limit) {
+        if (regionLow < regionHigh) {
+            return low < regionHigh && high > regionLow;
+        }
+        return low <= regionLow && (regionLow < high || high >= limit);
+    }
+
+    private static int cellIndex(double offset, double extent, int level) {
+        long cells = 1L << level;
+        long index = (long) (offset / extent * cells);
+        return (int) Math.max(0, Math.min(cells - 1, index));
+    }
+
+    private static void validateCell(long cell) {
+        if (cell <= 0 || (Long.numberOfTrailingZeros(cell) & 1) != 0
+                || Long.numberOfTrailingZeros(cell) > 2 * MAX_LEVEL) {
+            throw new IllegalArgumentException(String.format("Invalid cell id %d", cell));
+        }
+    }
+}
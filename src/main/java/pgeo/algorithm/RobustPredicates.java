@@ -0,0 +1,92 @@
+package pgeo.algorithm;
+
+public final class RobustPredicates {
+
+    private static final double ORIENTATION_ERROR_BOUND = 3.3306690738754716e-16;
+
+    private RobustPredicates() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static int orientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        double detLeft = (ax - cx) * (by - cy);
+        double detRight = (ay - cy) * (bx - cx);
+        double det = detLeft - detRight;
+        double errorBound = ORIENTATION_ERROR_BOUND * (Math.abs(detLeft) + Math.abs(detRight));
+
+        if (det > errorBound) {
+            return 1;
+        }
+        if (-det > errorBound) {
+            return -1;
+        }
+        return exactOrientation(ax, ay, bx, by, cx, cy);
+    }
+
+    public static boolean isCollinear(double ax, double ay, double bx, double by, double cx, double cy) {
+        return orientation(ax, ay, bx, by, cx, cy) == 0;
+    }
+
+    private static int exactOrientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        double acx = ax - cx;
+        double acxTail = differenceTail(ax, cx, acx);
+        double bcy = by - cy;
+        double bcyTail = differenceTail(by, cy, bcy);
+        double acy = ay - cy;
+        double acyTail = differenceTail(ay, cy, acy);
+        double bcx = bx - cx;
+        double bcxTail = differenceTail(bx, cx, bcx);
+
+        double[] expansion = new double[16];
+        int length = 0;
+        length = addProduct(expansion, length, acx, bcy);
+        length = addProduct(expansion, length, acx, bcyTail);
+        length = addProduct(expansion, length, acxTail, bcy);
+        length = addProduct(expansion, length, acxTail, bcyTail);
+        length = addProduct(expansion, length, -acy, bcx);
+        length = addProduct(expansion, length, -acy, bcxTail);
+        length = addProduct(expansion, length, -acyTail, bcx);
+        length = addProduct(expansion, length, -acyTail, bcxTail);
+
+        return length == 0 ? 0 : (int) Math.signum(expansion[length - 1]);
+    }
+
+    private static int addProduct(double[] expansion, int length, double a, double b) {
+        double product = a * b;
+        length = growExpansion(expansion, length, Math.fma(a, b, -product));
+        return growExpansion(expansion, length, product);
+    }
+
+    private static int growExpansion(double[] expansion, int length, double value) {
+        if (value == 0.0) {
+            return length;
+        }
+        int size = 0;
+        double sum = value;
+        for (int i = 0; i < length; i++) {
+            double component = expansion[i];
+            double total = sum + component;
+            double tail = sumTail(sum, component, total);
+            if (tail != 0.0) {
+                expansion[size++] = tail;
+            }
+            sum = total;
+        }
+        if (sum != 0.0) {
+            expansion[size++] = sum;
+        }
+        return size;
+    }
+
+    private static double sumTail(double a, double b, double sum) {
+        double bVirtual = sum - a;
+        double aVirtual = sum - bVirtual;
+        return (a - aVirtual) + (b - bVirtual);
+    }
+
+    private static double differenceTail(double a, double b, double difference) {
+        double bVirtual = a - difference;
+        double aVirtual = difference + bVirtual;
+        return (a - aVirtual) + (bVirtual - b);
+    }
+}
@@ -0,0 +1,205 @@
+package pgeo.algorithm;
+
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+public final class RotatingCalipers {
+
+    public record Segment(double x0, double y0, double x1, double y1) {
+
+        public double length() {
+            return Math.hypot(x1 - x0, y1 - y0);
+        }
+    }
+
+    private RotatingCalipers() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static Segment diameter(Polygon polygon) {
+        double[] extremes = collinearExtremes(polygon);
+        if (extremes != null) {
+            return new Segment(extremes[0], extremes[1], extremes[2], extremes[3]);
+        }
+        double[] hull = hullOf(polygon);
+        int count = hull.length / 2;
+
+        int bestA = 0;
+        int bestB = 0;
+        double best = -1.0;
+        int j = 1;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            while (edgeArea(hull, i, next, (j + 1) % count) > edgeArea(hull, i, next, j)) {
+                j = (j + 1) % count;
+            }
+            double d = distanceSquared(hull, i, j);
+            if (d > best) {
+                best = d;
+                bestA = i;
+                bestB = j;
+            }
+            d = distanceSquared(hull, next, j);
+            if (d > best) {
+                best = d;
+                bestA = next;
+                bestB = j;
+            }
+        }
+        return new Segment(hull[bestA * 2], hull[bestA * 2 + 1], hull[bestB * 2], hull[bestB * 2 + 1]);
+    }
+
+    public static Segment width(Polygon polygon) {
+        double[] extremes = collinearExtremes(polygon);
+        if (extremes != null) {
+            return new Segment(extremes[0], extremes[1], extremes[0], extremes[1]);
+        }
+        double[] hull = hullOf(polygon);
+        int count = hull.length / 2;
+
+        Segment best = null;
+        double bestHeight = Double.POSITIVE_INFINITY;
+        int j = 1;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            while (edgeArea(hull, i, next, (j + 1) % count) > edgeArea(hull, i, next, j)) {
+                j = (j + 1) % count;
+            }
+
+            double ex = hull[next * 2] - hull[i * 2];
+            double ey = hull[next * 2 + 1] - hull[i * 2 + 1];
+            double length = Math.hypot(ex, ey);
+            double height = edgeArea(hull, i, next, j) / length;
+            if (height < bestHeight) {
+                bestHeight = height;
+                double px = hull[j * 2];
+                double py = hull[j * 2 + 1];
+                double t = ((px - hull[i * 2]) * ex + (py - hull[i * 2 + 1]) * ey) / (length * length);
+                best = new Segment(px, py, hull[i * 2] + t * ex, hull[i * 2 + 1] + t * ey);
+            }
+        }
+        return best;
+    }
+
+    public static Polygon minimumAreaRectangle(Polygon polygon) {
+        if (collinearExtremes(polygon) != null) {
+            throw new IllegalArgumentException("Minimum-area rectangle of collinear vertices is not a polygon");
+        }
+        double[] hull = hullOf(polygon);
+        int count = hull.length / 2;
+
+        double bestArea = Double.POSITIVE_INFINITY;
+        double[] corners = new double[8];
+        int right = 1;
+        int top = 1;
+        int left = 1;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            double ox = hull[i * 2];
+            double oy = hull[i * 2 + 1];
+            double ux = hull[next * 2] - ox;
+            double uy = hull[next * 2 + 1] - oy;
+            double length = Math.hypot(ux, uy);
+            ux /= length;
+            uy /= length;
+            double nx = -uy;
+            double ny = ux;
+
+            right = advance(hull, count, right, ox, oy, ux, uy, 1.0);
+            if (i == 0) {
+                top = right;
+            }
+            top = advance(hull, count, top, ox, oy, nx, ny, 1.0);
+            if (i == 0) {
+                left = top;
+            }
+            left = advance(hull, count, left, ox, oy, ux, uy, -1.0);
+
+            double maxU = project(hull, right, ox, oy, ux, uy);
+            double minU = project(hull, left, ox, oy, ux, uy);
+            double maxN = project(hull, top, ox, oy, nx, ny);
+            double area = (maxU - minU) * maxN;
+            if (area < bestArea) {
+                bestArea = area;
+                corners[0] = ox + ux * minU;
+                corners[1] = oy + uy * minU;
+                corners[2] = ox + ux * maxU;
+                corners[3] = oy + uy * maxU;
+                corners[4] = corners[2] + nx * maxN;
+                corners[5] = corners[3] + ny * maxN;
+                corners[6] = corners[0] + nx * maxN;
+                corners[7] = corners[1] + ny * maxN;
+            }
+        }
+
+        return new Polygon(new Point[]{
+            new Point(corners[0], corners[1]),
+            new Point(corners[2], corners[3]),
+            new Point(corners[4], corners[5]),
+            new Point(corners[6], corners[7])
+        });
+    }
+
+    private static int advance(double[] hull, int count, int index,
+                               double ox, double oy, double dx, double dy, double sign) {
+        for (int steps = 0; steps < count; steps++) {
+            int next = (index + 1) % count;
+            if (sign * project(hull, next, ox, oy, dx, dy) <= sign * project(hull, index, ox, oy, dx, dy)) {
+                break;
+            }
+            index = next;
+        }
+        return index;
+    }
+
+    private static double project(double[] hull, int index, double ox, double oy, double dx, double dy) {
+        return (hull[index * 2] - ox) * dx + (hull[index * 2 + 1] - oy) * dy;
+    }
+
+    private static double edgeArea(double[] hull, int a, int b, int c) {
+        double abX = hull[b * 2] - hull[a * 2];
+        double abY = hull[b * 2 + 1] - hull[a * 2 + 1];
+        double acX = hull[c * 2] - hull[a * 2];
+        double acY = hull[c * 2 + 1] - hull[a * 2 + 1];
+        return Math.abs(abX * acY - abY * acX);
+    }
+
+    private static double distanceSquared(double[] hull, int a, int b) {
+        double dx = hull[a * 2] - hull[b * 2];
+        double dy = hull[a * 2 + 1] - hull[b * 2 + 1];
+        return dx * dx + dy * dy;
+    }
+
+    private static double[] collinearExtremes(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        if (!polygon.isCollinear()) {
+            return null;
+        }
+        int count = polygon.getVertexCount();
+        int low = 0;
+        int high = 0;
+        for (int i = 1; i < count; i++) {
+            if (compare(polygon, i, low) < 0) {
+                low = i;
+            }
+            if (compare(polygon, i, high) > 0) {
+                high = i;
+            }
+        }
+        return new double[]{polygon.getX(low), polygon.getY(low), polygon.getX(high), polygon.getY(high)};
+    }
+
+    private static int compare(Polygon polygon, int first, int second) {
+        int byX = Double.compare(polygon.getX(first), polygon.getX(second));
+        return byX != 0 ? byX : Double.compare(polygon.getY(first), polygon.getY(second));
+    }
+
+    private static double[] hullOf(Polygon polygon) {
+        Polygon hull = polygon.getConvexHull();
+        double[] coordinates = new double[hull.getVertexCount() * 2];
+        hull.copyCoordinates(coordinates, 0);
+        return coordinates;
+    }
+}
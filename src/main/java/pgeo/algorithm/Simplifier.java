@@ -0,0 +1,448 @@
+package pgeo.algorithm;
+
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+import pgeo.core.Polyline;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public final class Simplifier {
+
+    public enum Method {
+        DOUGLAS_PEUCKER,
+        VISVALINGAM_WHYATT
+    }
+
+    private final Method method;
+    private final double tolerance;
+    private final boolean preserveTopology;
+
+    public Simplifier(Method method, double tolerance) {
+        this(method, tolerance, false);
+    }
+
+    public Simplifier(Method method, double tolerance, boolean preserveTopology) {
+        if (method == null) {
+            throw new IllegalArgumentException("Method cannot be null");
+        }
+        if (!(tolerance >= 0) || Double.isInfinite(tolerance)) {
+            throw new IllegalArgumentException("Tolerance must be non-negative and finite");
+        }
+        this.method = method;
+        this.tolerance = tolerance;
+        this.preserveTopology = preserveTopology;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public boolean isPreserveTopology() {
+        return preserveTopology;
+    }
+
+    public int simplifyLine(double[] coordinates, int vertexCount) {
+        validateBuffer(coordinates, vertexCount, 2, "Line");
+        return compact(coordinates, vertexCount, simplify(coordinates, vertexCount, false));
+    }
+
+    public int simplifyRing(double[] coordinates, int vertexCount) {
+        validateBuffer(coordinates, vertexCount, 3, "Ring");
+        return compact(coordinates, vertexCount, simplify(coordinates, vertexCount, true));
+    }
+
+    public Polyline simplify(Polyline polyline) {
+        if (polyline == null) {
+            throw new IllegalArgumentException("Polyline cannot be null");
+        }
+        double[] coordinates = new double[polyline.getVertexCount() * 2];
+        polyline.copyCoordinates(coordinates, 0);
+        int count = simplifyLine(coordinates, polyline.getVertexCount());
+        return Polyline.of(Arrays.copyOf(coordinates, count * 2));
+    }
+
+    public Polygon simplify(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        double[] coordinates = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(coordinates, 0);
+        int count = simplifyRing(coordinates, polygon.getVertexCount());
+
+        Point[] vertices = new Point[count];
+        for (int i = 0; i < count; i++) {
+            vertices[i] = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
+        }
+        return new Polygon(vertices);
+    }
+
+    public int[] simplifyAll(double[][] geometries, boolean rings, boolean parallel) {
+        if (geometries == null) {
+            throw new IllegalArgumentException("Geometries array cannot be null");
+        }
+        for (int g = 0; g < geometries.length; g++) {
+            validateBuffer(geometries[g], geometries[g] == null ? 0 : geometries[g].length / 2,
+                rings ? 3 : 2, String.format("Geometry %d", g));
+        }
+
+        IntStream indices = IntStream.range(0, geometries.length);
+        if (parallel) {
+            indices = indices.parallel();
+        }
+        return indices.map(g -> {
+            double[] coordinates = geometries[g];
+            int count = coordinates.length / 2;
+            return compact(coordinates, count, simplify(coordinates, count, rings));
+        }).toArray();
+    }
+
+    private boolean[] simplify(double[] coordinates, int count, boolean closed) {
+        boolean[] keep = new boolean[count];
+        Arrays.fill(keep, true);
+        if (method == Method.DOUGLAS_PEUCKER) {
+            douglasPeucker(coordinates, count, closed, keep);
+        } else {
+            visvalingamWhyatt(coordinates, count, closed, keep);
+        }
+        return keep;
+    }
+
+    private void douglasPeucker(double[] coordinates, int count, boolean closed, boolean[] keep) {
+        int[] stack = new int[count * 2 + 4];
+        int top = 0;
+
+        int far = count - 1;
+        if (closed) {
+            far = farthestFrom(coordinates, count, 0);
+            stack[top++] = far;
+            stack[top++] = count;
+        }
+        stack[top++] = 0;
+        stack[top++] = far;
+
+        double toleranceSquared = tolerance * tolerance;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+            if (last - first < 2) {
+                continue;
+            }
+
+            int a = first % count;
+            int b = last % count;
+            double ax = coordinates[a * 2];
+            double ay = coordinates[a * 2 + 1];
+            double bx = coordinates[b * 2];
+            double by = coordinates[b * 2 + 1];
+
+            int split = -1;
+            double maxDistance = -1.0;
+            for (int i = first + 1; i < last; i++) {
+                double distance = segmentDistanceSquared(coordinates[i * 2], coordinates[i * 2 + 1], ax, ay, bx, by);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    split = i;
+                }
+            }
+
+            if (maxDistance <= toleranceSquared
+                    && !(preserveTopology && crossesKept(coordinates, count, closed, keep, a, b))) {
+                for (int i = first + 1; i < last; i++) {
+                    keep[i] = false;
+                }
+            } else {
+                stack[top++] = first;
+                stack[top++] = split;
+                stack[top++] = split;
+                stack[top++] = last;
+            }
+        }
+
+        if (closed && countKept(keep) < 3) {
+            int third = -1;
+            double maxDistance = -1.0;
+            for (int i = 1; i < count; i++) {
+                if (i == far) {
+                    continue;
+                }
+                double distance = segmentDistanceSquared(coordinates[i * 2], coordinates[i * 2 + 1],
+                    coordinates[0], coordinates[1], coordinates[far * 2], coordinates[far * 2 + 1]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    third = i;
+                }
+            }
+            keep[third] = true;
+        }
+    }
+
+    private void visvalingamWhyatt(double[] coordinates, int count, boolean closed, boolean[] keep) {
+        int[] previous = new int[count];
+        int[] next = new int[count];
+        for (int i = 0; i < count; i++) {
+            previous[i] = i == 0 ? count - 1 : i - 1;
+            next[i] = i == count - 1 ? 0 : i + 1;
+        }
+
+        AreaHeap heap = new AreaHeap(count);
+        for (int i = 0; i < count; i++) {
+            if (closed || (i > 0 && i < count - 1)) {
+                heap.push(i, triangleArea(coordinates, previous[i], i, next[i]));
+            }
+        }
+
+        int remaining = count;
+        int minimum = closed ? 3 : 2;
+        while (remaining > minimum && !heap.isEmpty() && heap.peekArea() < tolerance) {
+            double area = heap.peekArea();
+            int vertex = heap.pop();
+            int before = previous[vertex];
+            int after = next[vertex];
+
+            if (preserveTopology && crossesKept(coordinates, count, closed, keep, before, after)) {
+                heap.push(vertex, Double.POSITIVE_INFINITY);
+                continue;
+            }
+
+            keep[vertex] = false;
+            remaining--;
+            next[before] = after;
+            previous[after] = before;
+
+            if (heap.contains(before)) {
+                heap.update(before, Math.max(area, triangleArea(coordinates, previous[before], before, after)));
+            }
+            if (heap.contains(after)) {
+                heap.update(after, Math.max(area, triangleArea(coordinates, before, after, next[after])));
+            }
+        }
+    }
+
+    private static boolean crossesKept(double[] coordinates, int count, boolean closed, boolean[] keep, int a, int b) {
+        double ax = coordinates[a * 2];
+        double ay = coordinates[a * 2 + 1];
+        double bx = coordinates[b * 2];
+        double by = coordinates[b * 2 + 1];
+
+        int start = -1;
+        int first = -1;
+        for (int i = 0; i <= count; i++) {
+            if (i == count && !closed) {
+                break;
+            }
+            int vertex = i == count ? first : i;
+            if (i < count && !keep[i]) {
+                continue;
+            }
+            if (first < 0) {
+                first = vertex;
+            }
+            if (start >= 0 && !isReplaced(start, a, b)
+                    && start != a && start != b && vertex != a && vertex != b
+                    && segmentsIntersect(ax, ay, bx, by,
+                        coordinates[start * 2], coordinates[start * 2 + 1],
+                        coordinates[vertex * 2], coordinates[vertex * 2 + 1])) {
+                return true;
+            }
+            start = vertex;
+        }
+        return false;
+    }
+
+    private static boolean isReplaced(int segmentStart, int a, int b) {
+        if (a < b) {
+            return segmentStart >= a && segmentStart < b;
+        }
+        return segmentStart >= a || segmentStart < b;
+    }
+
+    private static boolean segmentsIntersect(double ax, double ay, double bx, double by,
+                                             double cx, double cy, double dx, double dy) {
+        int o1 = RobustPredicates.orientation(ax, ay, bx, by, cx, cy);
+        int o2 = RobustPredicates.orientation(ax, ay, bx, by, dx, dy);
+        int o3 = RobustPredicates.orientation(cx, cy, dx, dy, ax, ay);
+        int o4 = RobustPredicates.orientation(cx, cy, dx, dy, bx, by);
+
+        if (o1 * o2 > 0 || o3 * o4 > 0) {
+            return false;
+        }
+        if (o1 != 0 || o2 != 0 || o3 != 0 || o4 != 0) {
+            return true;
+        }
+        return Math.max(Math.min(ax, bx), Math.min(cx, dx)) <= Math.min(Math.max(ax, bx), Math.max(cx, dx))
+            && Math.max(Math.min(ay, by), Math.min(cy, dy)) <= Math.min(Math.max(ay, by), Math.max(cy, dy));
+    }
+
+    private static int farthestFrom(double[] coordinates, int count, int origin) {
+        int farthest = 1;
+        double maxDistance = -1.0;
+        for (int i = 1; i < count; i++) {
+            double dx = coordinates[i * 2] - coordinates[origin * 2];
+            double dy = coordinates[i * 2 + 1] - coordinates[origin * 2 + 1];
+            double distance = dx * dx + dy * dy;
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                farthest = i;
+            }
+        }
+        return farthest;
+    }
+
+    private static double segmentDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = 0.0;
+        if (lengthSquared > 0.0) {
+            t = Math.max(0.0, Math.min(1.0, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        }
+        double ex = ax + t * dx - px;
+        double ey = ay + t * dy - py;
+        return ex * ex + ey * ey;
+    }
+
+    private static double triangleArea(double[] coordinates, int a, int b, int c) {
+        double abX = coordinates[b * 2] - coordinates[a * 2];
+        double abY = coordinates[b * 2 + 1] - coordinates[a * 2 + 1];
+        double acX = coordinates[c * 2] - coordinates[a * 2];
+        double acY = coordinates[c * 2 + 1] - coordinates[a * 2 + 1];
+        return Math.abs(abX * acY - abY * acX) / 2.0;
+    }
+
+    private static int countKept(boolean[] keep) {
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    private static int compact(double[] coordinates, int count, boolean[] keep) {
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (keep[i]) {
+                coordinates[size * 2] = coordinates[i * 2];
+                coordinates[size * 2 + 1] = coordinates[i * 2 + 1];
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static void validateBuffer(double[] coordinates, int vertexCount, int minimum, String name) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException(name + " coordinates cannot be null");
+        }
+        if (vertexCount < minimum) {
+            throw new IllegalArgumentException(
+                String.format("%s requires at least %d vertices", name, minimum)
+            );
+        }
+        if (vertexCount * 2 > coordinates.length) {
+            throw new IllegalArgumentException(
+                String.format("%s buffer of length %d cannot hold %d vertices", name, coordinates.length, vertexCount)
+            );
+        }
+    }
+
+    private static final class AreaHeap {
+
+        private final int[] heap;
+        private final int[] positions;
+        private final double[] areas;
+        private int size;
+
+        AreaHeap(int capacity) {
+            this.heap = new int[capacity];
+            this.positions = new int[capacity];
+            this.areas = new double[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int vertex) {
+            return positions[vertex] >= 0;
+        }
+
+        double peekArea() {
+            return areas[heap[0]];
+        }
+
+        void push(int vertex, double area) {
+            areas[vertex] = area;
+            heap[size] = vertex;
+            positions[vertex] = size;
+            siftUp(size++);
+        }
+
+        int pop() {
+            int vertex = heap[0];
+            positions[vertex] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return vertex;
+        }
+
+        void update(int vertex, double area) {
+            double previous = areas[vertex];
+            areas[vertex] = area;
+            if (area < previous) {
+                siftUp(positions[vertex]);
+            } else {
+                siftDown(positions[vertex]);
+            }
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (areas[heap[parent]] <= areas[heap[index]]) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = index * 2 + 1;
+                int right = left + 1;
+                if (left < size && areas[heap[left]] < areas[heap[smallest]]) {
+                    smallest = left;
+                }
+                if (right < size && areas[heap[right]] < areas[heap[smallest]]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int vertex = heap[i];
+            heap[i] = heap[j];
+            heap[j] = vertex;
+            positions[heap[i]] = i;
+            positions[heap[j]] = j;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Point;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public final class SpaceFillingCurve {
+
+    public enum Curve {
+        MORTON,
+        HILBERT
+    }
+
+    public static final int MAX_BITS = 31;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final Curve curve;
+    private final int bits;
+    private final double minX;
+    private final double minY;
+    private final double scaleX;
+    private final double scaleY;
+    private final int maxCell;
+
+    public SpaceFillingCurve(Curve curve, Envelope bounds, int bits) {
+        if (curve == null) {
+            throw new IllegalArgumentException("Curve cannot be null");
+        }
+        if (bounds == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        if (bits < 1 || bits > MAX_BITS) {
+            throw new IllegalArgumentException(
+                String.format("Bits per axis must be between 1 and %d, got %d", MAX_BITS, bits)
+            );
+        }
+        if (!(bounds.getMaxX() > bounds.getMinX()) || !(bounds.getMaxY() > bounds.getMinY())) {
+            throw new IllegalArgumentException("Bounds must have positive width and height");
+        }
+        this.curve = curve;
+        this.bits = bits;
+        this.minX = bounds.getMinX();
+        this.minY = bounds.getMinY();
+        this.maxCell = (int) ((1L << bits) - 1);
+        this.scaleX = (1L << bits) / (bounds.getMaxX() - bounds.getMinX());
+        this.scaleY = (1L << bits) / (bounds.getMaxY() - bounds.getMinY());
+    }
+
+    public Curve getCurve() {
+        return curve;
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    public int quantizeX(double x) {
+        return quantize((x - minX) * scaleX);
+    }
+
+    public int quantizeY(double y) {
+        return quantize((y - minY) * scaleY);
+    }
+
+    public long encode(Point point) {
+        if (point == null) {
+            throw new IllegalArgumentException("Point cannot be null");
+        }
+        return encode(point.getX(), point.getY());
+    }
+
+    public long encode(double x, double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            throw new IllegalArgumentException(String.format("Coordinates must be finite, got (%s, %s)", x, y));
+        }
+        return encodeCell(quantizeX(x), quantizeY(y));
+    }
+
+    public long encodeCell(int cellX, int cellY) {
+        if (cellX < 0 || cellX > maxCell || cellY < 0 || cellY > maxCell) {
+            throw new IllegalArgumentException(
+                String.format("Cell (%d, %d) outside a %d-bit grid", cellX, cellY, bits)
+            );
+        }
+        return curve == Curve.MORTON ? interleave(cellX, cellY) : hilbertIndex(bits, cellX, cellY);
+    }
+
+    public void encodeAll(double[] coordinates, long[] keys) {
+        int count = validateCoordinates(coordinates);
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys array cannot be null");
+        }
+        if (keys.length < count) {
+            throw new IllegalArgumentException(
+                String.format("Keys array holds %d values, %d required", keys.length, count)
+            );
+        }
+        for (int i = 0; i < count; i++) {
+            keys[i] = encode(coordinates[i * 2], coordinates[i * 2 + 1]);
+        }
+    }
+
+    public long[] sort(double[] coordinates, int[] payload, boolean parallel) {
+        int count = validateCoordinates(coordinates);
+        if (payload != null && payload.length != count) {
+            throw new IllegalArgumentException(
+                String.format("Payload holds %d values but there are %d points", payload.length, count)
+            );
+        }
+        long[] keys = new long[count];
+        IntStream indices = IntStream.range(0, count);
+        if (parallel) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> keys[i] = encode(coordinates[i * 2], coordinates[i * 2 + 1]));
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        radixSort(keys, order, parallel);
+
+        double[] source = coordinates.clone();
+        int[] payloadSource = payload == null ? null : payload.clone();
+        for (int i = 0; i < count; i++) {
+            int from = order[i];
+            coordinates[i * 2] = source[from * 2];
+            coordinates[i * 2 + 1] = source[from * 2 + 1];
+            if (payload != null) {
+                payload[i] = payloadSource[from];
+            }
+        }
+        return keys;
+    }
+
+    public static long interleave(int x, int y) {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    public static int deinterleaveX(long key) {
+        return compact(key);
+    }
+
+    public static int deinterleaveY(long key) {
+        return compact(key >>> 1);
+    }
+
+    public static long hilbertIndex(int bits, int x, int y) {
+        validateBits(bits);
+        if ((x >>> bits) != 0 || (y >>> bits) != 0) {
+            throw new IllegalArgumentException(
+                String.format("Cell (%d, %d) outside a %d-bit grid", x, y, bits)
+            );
+        }
+        long index = 0;
+        for (int level = bits - 1; level >= 0; level--) {
+            int rx = (x >>> level) & 1;
+            int ry = (y >>> level) & 1;
+            index = (index << 2) | ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = ~x;
+                    y = ~y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return index;
+    }
+
+    public static int hilbertX(int bits, long index) {
+        return hilbertDecode(bits, index, true);
+    }
+
+    public static int hilbertY(int bits, long index) {
+        return hilbertDecode(bits, index, false);
+    }
+
+    public static void radixSort(long[] keys, int[] payload, boolean parallel) {
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys array cannot be null");
+        }
+        if (payload != null && payload.length != keys.length) {
+            throw new IllegalArgumentException(
+                String.format("Payload holds %d values but there are %d keys", payload.length, keys.length)
+            );
+        }
+        int count = keys.length;
+        long combined = 0;
+        for (long key : keys) {
+            if (key < 0) {
+                throw new IllegalArgumentException("Keys must be non-negative");
+            }
+            combined |= key;
+        }
+        int passes = (64 - Long.numberOfLeadingZeros(combined) + RADIX_BITS - 1) / RADIX_BITS;
+        int chunks = parallel && count >= PARALLEL_THRESHOLD
+            ? Math.max(1, ForkJoinPool.commonPool().getParallelism() * 4) : 1;
+        int chunkSize = (count + chunks - 1) / chunks;
+
+        long[] keyBuffer = new long[count];
+        int[] payloadBuffer = payload == null ? null : new int[count];
+        long[] fromKeys = keys;
+        long[] toKeys = keyBuffer;
+        int[] fromPayload = payload;
+        int[] toPayload = payloadBuffer;
+        int[][] offsets = new int[chunks][RADIX];
+
+        for (int pass = 0; pass < passes; pass++) {
+            int shift = pass * RADIX_BITS;
+            long[] sourceKeys = fromKeys;
+            IntStream chunkIndices = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                chunkIndices = chunkIndices.parallel();
+            }
+            chunkIndices.forEach(c -> {
+                int[] histogram = offsets[c];
+                Arrays.fill(histogram, 0);
+                int end = Math.min(count, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < end; i++) {
+                    histogram[(int) (sourceKeys[i] >>> shift) & (RADIX - 1)]++;
+                }
+            });
+
+            int position = 0;
+            boolean trivial = false;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int bucket = 0;
+                for (int c = 0; c < chunks; c++) {
+                    int size = offsets[c][digit];
+                    offsets[c][digit] = position + bucket;
+                    bucket += size;
+                }
+                trivial |= bucket == count;
+                position += bucket;
+            }
+            if (trivial) {
+                continue;
+            }
+
+            long[] targetKeys = toKeys;
+            int[] sourcePayload = fromPayload;
+            int[] targetPayload = toPayload;
+            chunkIndices = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                chunkIndices = chunkIndices.parallel();
+            }
+            chunkIndices.forEach(c -> {
+                int[] next = offsets[c];
+                int end = Math.min(count, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < end; i++) {
+                    long key = sourceKeys[i];
+                    int slot = next[(int) (key >>> shift) & (RADIX - 1)]++;
+                    targetKeys[slot] = key;
+                    if (sourcePayload != null) {
+                        targetPayload[slot] = sourcePayload[i];
+                    }
+                }
+            });
+
+            fromKeys = targetKeys;
+            toKeys = sourceKeys;
+            fromPayload = targetPayload;
+            toPayload = sourcePayload;
+        }
+
+        if (fromKeys != keys) {
+            System.arraycopy(fromKeys, 0, keys, 0, count);
+            if (payload != null) {
+                System.arraycopy(fromPayload, 0, payload, 0, count);
+            }
+        }
+    }
+
+    private static int hilbertDecode(int bits, long index, boolean wantX) {
+        validateBits(bits);
+        int x = 0;
+        int y = 0;
+        for (int level = 0; level < bits; level++) {
+            int quadrant = (int) (index >>> (2 * level)) & 3;
+            int rx = (quadrant >>> 1) & 1;
+            int ry = (quadrant ^ rx) & 1;
+            if (ry == 0) {
+                if (rx == 1) {
+                    int mask = (1 << level) - 1;
+                    x = mask - x;
+                    y = mask - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+            x |= rx << level;
+            y |= ry << level;
+        }
+        return wantX ? x : y;
+    }
+
+    private int quantize(double scaled) {
+        if (!(scaled > 0)) {
+            return 0;
+        }
+        return scaled >= maxCell ? maxCell : (int) scaled;
+    }
+
+    private static long spread(int value) {
+        long v = value & 0xFFFFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    private static int compact(long key) {
+        long v = key & 0x5555555555555555L;
+        v = (v | (v >>> 1)) & 0x3333333333333333L;
+        v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v >>> 16)) & 0x00000000FFFFFFFFL;
+        return (int) v;
+    }
+
+    private static void validateBits(int bits) {
+        if (bits < 1 || bits > MAX_BITS) {
+            throw new IllegalArgumentException(
+                String.format("Bits per axis must be between 1 and %d, got %d", MAX_BITS, bits)
+            );
+        }
+    }
+
+    private static int validateCoordinates(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates array cannot be null");
+        }
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException(
+                String.format("Coordinates array must hold x, y pairs, got %d values", coordinates.length)
+            );
+        }
+        return coordinates.length / 2;
+    }
+}
@@ -0,0 +1,559 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.Polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public final class SpatialJoin {
+
+    public enum Strategy {
+        PARTITION,
+        INDEX_NESTED_LOOP
+    }
+
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(int[] pairs, int count);
+    }
+
+    private static final int NODE_SIZE = 16;
+    private static final int CURVE_BITS = 16;
+    private static final int CHUNK_SIZE = 1024;
+    private static final int FLUSH_PAIRS = 4096;
+    private static final int ITEMS_PER_CELL = 32;
+    private static final int MAX_GRID = 2048;
+    private static final int INDEX_THRESHOLD = 1 << 12;
+    private static final int SIZE_RATIO = 64;
+
+    private final int[] treeItems;
+    private final double[][] treeLevels;
+    private final int[] ringStarts;
+    private final double[] ringCoordinates;
+
+    static final class PairWriter {
+        private final PairConsumer consumer;
+        private int[] buffer;
+        private int size;
+        private long total;
+
+        PairWriter(PairConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        void add(int first, int second) {
+            if (buffer == null) {
+                buffer = new int[FLUSH_PAIRS * 2];
+            }
+            buffer[size * 2] = first;
+            buffer[size * 2 + 1] = second;
+            if (++size == FLUSH_PAIRS) {
+                flush();
+            }
+        }
+
+        long finish() {
+            flush();
+            return total;
+        }
+
+        private void flush() {
+            if (size > 0) {
+                consumer.accept(buffer, size);
+                total += size;
+                buffer = null;
+                size = 0;
+            }
+        }
+    }
+
+    static final class PairCollector implements PairConsumer {
+        private final List<int[]> buffers = new ArrayList<>();
+        private final List<Integer> counts = new ArrayList<>();
+        private long total;
+
+        @Override
+        public synchronized void accept(int[] pairs, int count) {
+            buffers.add(pairs);
+            counts.add(count);
+            total += count;
+        }
+
+        int[] toSortedPairs() {
+            if (total > Integer.MAX_VALUE / 2) {
+                throw new IllegalArgumentException(
+                    String.format("Join produced %d pairs, too many for one array", total)
+                );
+            }
+            long[] keys = new long[(int) total];
+            int position = 0;
+            for (int b = 0; b < buffers.size(); b++) {
+                int[] pairs = buffers.get(b);
+                for (int i = 0; i < counts.get(b); i++) {
+                    keys[position++] = ((long) pairs[i * 2] << 32) | pairs[i * 2 + 1];
+                }
+            }
+            Arrays.parallelSort(keys);
+            int[] result = new int[keys.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                result[i * 2] = (int) (keys[i] >>> 32);
+                result[i * 2 + 1] = (int) keys[i];
+            }
+            return result;
+        }
+    }
+
+    public SpatialJoin(Polygon[] polygons) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons array cannot be null");
+        }
+        int count = polygons.length;
+        double[][] rings = new double[count][];
+        double[] bounds = new double[count * 4];
+        int vertices = 0;
+        for (int i = 0; i < count; i++) {
+            if (polygons[i] == null) {
+                throw new IllegalArgumentException(String.format("Polygon %d cannot be null", i));
+            }
+            rings[i] = new double[polygons[i].getVertexCount() * 2];
+            polygons[i].copyCoordinates(rings[i], 0);
+            vertices += rings[i].length / 2;
+            Envelope envelope = polygons[i].getEnvelope();
+            bounds[i * 4] = envelope.getMinX();
+            bounds[i * 4 + 1] = envelope.getMinY();
+            bounds[i * 4 + 2] = envelope.getMaxX();
+            bounds[i * 4 + 3] = envelope.getMaxY();
+        }
+        this.treeItems = packOrder(bounds);
+        this.treeLevels = buildLevels(bounds, treeItems);
+        this.ringStarts = new int[count + 1];
+        this.ringCoordinates = new double[vertices * 2];
+        for (int position = 0; position < count; position++) {
+            double[] ring = rings[treeItems[position]];
+            System.arraycopy(ring, 0, ringCoordinates, ringStarts[position] * 2, ring.length);
+            ringStarts[position + 1] = ringStarts[position] + ring.length / 2;
+        }
+    }
+
+    public int getPolygonCount() {
+        return treeItems.length;
+    }
+
+    public static Strategy plan(int leftCount, int rightCount) {
+        if (leftCount < 0 || rightCount < 0) {
+            throw new IllegalArgumentException(
+                String.format("Collection sizes must be non-negative, got %d and %d", leftCount, rightCount)
+            );
+        }
+        int smaller = Math.min(leftCount, rightCount);
+        int larger = Math.max(leftCount, rightCount);
+        if (smaller <= INDEX_THRESHOLD || (long) smaller * SIZE_RATIO <= larger) {
+            return Strategy.INDEX_NESTED_LOOP;
+        }
+        return Strategy.PARTITION;
+    }
+
+    public int[] joinPoints(double[] coordinates, boolean parallel) {
+        validateItems(coordinates, 2, "Coordinates array must hold x, y pairs, got %d values");
+        return joinPoints(coordinates, plan(coordinates.length / 2, treeItems.length), parallel);
+    }
+
+    public int[] joinPoints(double[] coordinates, Strategy strategy, boolean parallel) {
+        PairCollector collector = new PairCollector();
+        joinPoints(coordinates, strategy, parallel, collector);
+        return collector.toSortedPairs();
+    }
+
+    public long joinPoints(double[] coordinates, Strategy strategy, boolean parallel, PairConsumer consumer) {
+        validateItems(coordinates, 2, "Coordinates array must hold x, y pairs, got %d values");
+        return join(coordinates, 2, strategy, parallel, consumer);
+    }
+
+    public int[] joinSegments(double[] segments, boolean parallel) {
+        validateItems(segments, 4, "Segments array must hold x1, y1, x2, y2 groups, got %d values");
+        return joinSegments(segments, plan(segments.length / 4, treeItems.length), parallel);
+    }
+
+    public int[] joinSegments(double[] segments, Strategy strategy, boolean parallel) {
+        PairCollector collector = new PairCollector();
+        joinSegments(segments, strategy, parallel, collector);
+        return collector.toSortedPairs();
+    }
+
+    public long joinSegments(double[] segments, Strategy strategy, boolean parallel, PairConsumer consumer) {
+        validateItems(segments, 4, "Segments array must hold x1, y1, x2, y2 groups, got %d values");
+        return join(segments, 4, strategy, parallel, consumer);
+    }
+
+    private long join(double[] items, int stride, Strategy strategy, boolean parallel, PairConsumer consumer) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        if (items.length == 0 || treeItems.length == 0) {
+            return 0;
+        }
+        return strategy == Strategy.INDEX_NESTED_LOOP
+            ? indexJoin(items, stride, parallel, consumer)
+            : partitionJoin(items, stride, parallel, consumer);
+    }
+
+    private long indexJoin(double[] items, int stride, boolean parallel, PairConsumer consumer) {
+        int count = items.length / stride;
+        int[] order = probeOrder(items, stride, parallel);
+        AtomicLong total = new AtomicLong();
+        IntStream chunks = IntStream.range(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        if (parallel) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            PairWriter writer = new PairWriter(consumer);
+            int[] stack = new int[treeLevels.length * NODE_SIZE * 2 + 2];
+            double[] box = new double[4];
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int position = chunk * CHUNK_SIZE; position < end; position++) {
+                int item = order[position];
+                itemBox(items, stride, item, box);
+                int top = 0;
+                stack[top++] = treeLevels.length;
+                stack[top++] = 0;
+                while (top > 0) {
+                    int node = stack[--top];
+                    int level = stack[--top] - 1;
+                    double[] boxes = treeLevels[level];
+                    boolean root = level == treeLevels.length - 1;
+                    int first = root ? 0 : node * NODE_SIZE;
+                    int last = root ? boxes.length / 4 : Math.min(boxes.length / 4, first + NODE_SIZE);
+                    for (int child = first; child < last; child++) {
+                        if (!overlaps(boxes, child, box)) {
+                            continue;
+                        }
+                        if (level > 0) {
+                            stack[top++] = level;
+                            stack[top++] = child;
+                        } else if (intersects(items, stride, item, child)) {
+                            writer.add(item, treeItems[child]);
+                        }
+                    }
+                }
+            }
+            total.addAndGet(writer.finish());
+        });
+        return total.get();
+    }
+
+    private static int[] probeOrder(double[] items, int stride, boolean parallel) {
+        int count = items.length / stride;
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        if (count <= CHUNK_SIZE) {
+            return order;
+        }
+        double[] centres = new double[count * 2];
+        double[] box = new double[4];
+        double[] extent = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int i = 0; i < count; i++) {
+            itemBox(items, stride, i, box);
+            centres[i * 2] = (box[0] + box[2]) / 2;
+            centres[i * 2 + 1] = (box[1] + box[3]) / 2;
+            expand(extent, box);
+        }
+        if (!(extent[2] > extent[0]) || !(extent[3] > extent[1])) {
+            return order;
+        }
+        new SpaceFillingCurve(SpaceFillingCurve.Curve.HILBERT,
+            new Envelope(extent[0], extent[1], extent[2], extent[3]), CURVE_BITS).sort(centres, order, parallel);
+        return order;
+    }
+
+    private long partitionJoin(double[] items, int stride, boolean parallel, PairConsumer consumer) {
+        int count = items.length / stride;
+        double[] itemBoxes = new double[count * 4];
+        double[] box = new double[4];
+        double[] extent = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (int i = 0; i < count; i++) {
+            itemBox(items, stride, i, box);
+            System.arraycopy(box, 0, itemBoxes, i * 4, 4);
+            expand(extent, box);
+        }
+        double[] polygonExtent = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        double[] bounds = treeLevels[0];
+        for (int i = 0; i < treeItems.length; i++) {
+            System.arraycopy(bounds, i * 4, box, 0, 4);
+            expand(polygonExtent, box);
+        }
+        double minX = Math.max(extent[0], polygonExtent[0]);
+        double minY = Math.max(extent[1], polygonExtent[1]);
+        double maxX = Math.min(extent[2], polygonExtent[2]);
+        double maxY = Math.min(extent[3], polygonExtent[3]);
+        if (minX > maxX || minY > maxY) {
+            return 0;
+        }
+
+        int grid = (int) Math.max(1, Math.min(MAX_GRID,
+            Math.ceil(Math.sqrt((double) (count + treeItems.length) / ITEMS_PER_CELL))));
+        double[] frame = {minX, minY, maxX, maxY};
+        double cellWidth = maxX > minX ? (maxX - minX) / grid : 1.0;
+        double cellHeight = maxY > minY ? (maxY - minY) / grid : 1.0;
+        int[][] itemCells = assign(itemBoxes, count, frame, grid, cellWidth, cellHeight);
+        int[][] polygonCells = assign(bounds, treeItems.length, frame, grid, cellWidth, cellHeight);
+
+        AtomicLong total = new AtomicLong();
+        IntStream rows = IntStream.range(0, grid);
+        if (parallel) {
+            rows = rows.parallel();
+        }
+        rows.forEach(gridRow -> {
+            PairWriter writer = new PairWriter(consumer);
+            double[] itemBounds = new double[4];
+            for (int cell = gridRow * grid; cell < (gridRow + 1) * grid; cell++) {
+                int itemStart = itemCells[0][cell];
+                int itemEnd = itemCells[0][cell + 1];
+                int polygonStart = polygonCells[0][cell];
+                int polygonEnd = polygonCells[0][cell + 1];
+                if (itemStart == itemEnd || polygonStart == polygonEnd) {
+                    continue;
+                }
+                for (int i = itemStart; i < itemEnd; i++) {
+                    int item = itemCells[1][i];
+                    System.arraycopy(itemBoxes, item * 4, itemBounds, 0, 4);
+                    for (int p = polygonStart; p < polygonEnd; p++) {
+                        int position = polygonCells[1][p];
+                        if (!overlaps(bounds, position, itemBounds)) {
+                            continue;
+                        }
+                        double referenceX = Math.max(itemBounds[0], bounds[position * 4]);
+                        double referenceY = Math.max(itemBounds[1], bounds[position * 4 + 1]);
+                        int column = cellIndex(referenceX, minX, cellWidth, grid);
+                        int row = cellIndex(referenceY, minY, cellHeight, grid);
+                        if (row * grid + column == cell && intersects(items, stride, item, position)) {
+                            writer.add(item, treeItems[position]);
+                        }
+                    }
+                }
+            }
+            total.addAndGet(writer.finish());
+        });
+        return total.get();
+    }
+
+    private static int[][] assign(double[] boxes, int count, double[] frame, int grid,
+                                  double cellWidth, double cellHeight) {
+        int[] starts = new int[grid * grid + 1];
+        int[] range = new int[4];
+        for (int i = 0; i < count; i++) {
+            if (cellRange(boxes, i, frame, grid, cellWidth, cellHeight, range)) {
+                for (int row = range[1]; row <= range[3]; row++) {
+                    for (int column = range[0]; column <= range[2]; column++) {
+                        starts[row * grid + column + 1]++;
+                    }
+                }
+            }
+        }
+        for (int cell = 0; cell < grid * grid; cell++) {
+            starts[cell + 1] += starts[cell];
+        }
+        int[] entries = new int[starts[grid * grid]];
+        int[] next = Arrays.copyOf(starts, grid * grid);
+        for (int i = 0; i < count; i++) {
+            if (cellRange(boxes, i, frame, grid, cellWidth, cellHeight, range)) {
+                for (int row = range[1]; row <= range[3]; row++) {
+                    for (int column = range[0]; column <= range[2]; column++) {
+                        entries[next[row * grid + column]++] = i;
+                    }
+                }
+            }
+        }
+        return new int[][]{starts, entries};
+    }
+
+    private static boolean cellRange(double[] boxes, int index, double[] frame, int grid,
+                                     double cellWidth, double cellHeight, int[] range) {
+        if (boxes[index * 4] > frame[2] || boxes[index * 4 + 2] < frame[0]
+                || boxes[index * 4 + 1] > frame[3] || boxes[index * 4 + 3] < frame[1]) {
+            return false;
+        }
+        range[0] = cellIndex(boxes[index * 4], frame[0], cellWidth, grid);
+        range[1] = cellIndex(boxes[index * 4 + 1], frame[1], cellHeight, grid);
+        range[2] = cellIndex(boxes[index * 4 + 2], frame[0], cellWidth, grid);
+        range[3] = cellIndex(boxes[index * 4 + 3], frame[1], cellHeight, grid);
+        return true;
+    }
+
+    private static int[] packOrder(double[] bounds) {
+        int count = bounds.length / 4;
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        if (count < 2) {
+            return order;
+        }
+        double[] centres = new double[count * 2];
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            double x = (bounds[i * 4] + bounds[i * 4 + 2]) / 2;
+            double y = (bounds[i * 4 + 1] + bounds[i * 4 + 3]) / 2;
+            centres[i * 2] = x;
+            centres[i * 2 + 1] = y;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        Envelope extent = new Envelope(minX, minY, maxX > minX ? maxX : minX + 1, maxY > minY ? maxY : minY + 1);
+        new SpaceFillingCurve(SpaceFillingCurve.Curve.HILBERT, extent, CURVE_BITS).sort(centres, order, false);
+        return order;
+    }
+
+    private static double[][] buildLevels(double[] bounds, int[] treeItems) {
+        List<double[]> levels = new ArrayList<>();
+        double[] level = new double[treeItems.length * 4];
+        for (int i = 0; i < treeItems.length; i++) {
+            System.arraycopy(bounds, treeItems[i] * 4, level, i * 4, 4);
+        }
+        levels.add(level);
+        while (level.length > 4) {
+            int children = level.length / 4;
+            double[] parent = new double[((children + NODE_SIZE - 1) / NODE_SIZE) * 4];
+            Arrays.fill(parent, Double.NaN);
+            for (int child = 0; child < children; child++) {
+                int node = child / NODE_SIZE;
+                if (child % NODE_SIZE == 0) {
+                    System.arraycopy(level, child * 4, parent, node * 4, 4);
+                } else {
+                    parent[node * 4] = Math.min(parent[node * 4], level[child * 4]);
+                    parent[node * 4 + 1] = Math.min(parent[node * 4 + 1], level[child * 4 + 1]);
+                    parent[node * 4 + 2] = Math.max(parent[node * 4 + 2], level[child * 4 + 2]);
+                    parent[node * 4 + 3] = Math.max(parent[node * 4 + 3], level[child * 4 + 3]);
+                }
+            }
+            levels.add(parent);
+            level = parent;
+        }
+        return levels.toArray(new double[0][]);
+    }
+
+    private boolean intersects(double[] items, int stride, int item, int position) {
+        double[] ring = ringCoordinates;
+        int start = ringStarts[position];
+        int end = ringStarts[position + 1];
+        int offset = item * stride;
+        if (stride == 2) {
+            return containsPoint(ring, start, end, items[offset], items[offset + 1]);
+        }
+        double ax = items[offset];
+        double ay = items[offset + 1];
+        double bx = items[offset + 2];
+        double by = items[offset + 3];
+        if (containsPoint(ring, start, end, ax, ay)) {
+            return true;
+        }
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            if (segmentsIntersect(ax, ay, bx, by, ring[j * 2], ring[j * 2 + 1], ring[i * 2], ring[i * 2 + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsPoint(double[] ring, int start, int end, double x, double y) {
+        boolean inside = false;
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            double xi = ring[i * 2];
+            double yi = ring[i * 2 + 1];
+            double xj = ring[j * 2];
+            double yj = ring[j * 2 + 1];
+            if (onSegment(xj, yj, xi, yi, x, y)) {
+                return true;
+            }
+            if ((yi > y) != (yj > y)) {
+                int side = RobustPredicates.orientation(xj, yj, xi, yi, x, y);
+                if ((yi > yj) == (side > 0)) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    private static boolean onSegment(double ax, double ay, double bx, double by, double x, double y) {
+        return x >= Math.min(ax, bx) && x <= Math.max(ax, bx) && y >= Math.min(ay, by) && y <= Math.max(ay, by)
+            && RobustPredicates.orientation(ax, ay, bx, by, x, y) == 0;
+    }
+
+    private static boolean segmentsIntersect(double ax, double ay, double bx, double by,
+                                             double cx, double cy, double dx, double dy) {
+        if (Math.max(ax, bx) < Math.min(cx, dx) || Math.max(cx, dx) < Math.min(ax, bx)
+                || Math.max(ay, by) < Math.min(cy, dy) || Math.max(cy, dy) < Math.min(ay, by)) {
+            return false;
+        }
+        int o1 = RobustPredicates.orientation(ax, ay, bx, by, cx, cy);
+        int o2 = RobustPredicates.orientation(ax, ay, bx, by, dx, dy);
+        int o3 = RobustPredicates.orientation(cx, cy, dx, dy, ax, ay);
+        int o4 = RobustPredicates.orientation(cx, cy, dx, dy, bx, by);
+        if (o1 * o2 < 0 && o3 * o4 < 0) {
+            return true;
+        }
+        return (o1 == 0 && onSegment(ax, ay, bx, by, cx, cy))
+            || (o2 == 0 && onSegment(ax, ay, bx, by, dx, dy))
+            || (o3 == 0 && onSegment(cx, cy, dx, dy, ax, ay))
+            || (o4 == 0 && onSegment(cx, cy, dx, dy, bx, by));
+    }
+
+    private static void itemBox(double[] items, int stride, int item, double[] box) {
+        int offset = item * stride;
+        if (stride == 2) {
+            box[0] = box[2] = items[offset];
+            box[1] = box[3] = items[offset + 1];
+            return;
+        }
+        box[0] = Math.min(items[offset], items[offset + 2]);
+        box[1] = Math.min(items[offset + 1], items[offset + 3]);
+        box[2] = Math.max(items[offset], items[offset + 2]);
+        box[3] = Math.max(items[offset + 1], items[offset + 3]);
+    }
+
+    private static boolean overlaps(double[] boxes, int index, double[] box) {
+        return boxes[index * 4] <= box[2] && boxes[index * 4 + 2] >= box[0]
+            && boxes[index * 4 + 1] <= box[3] && boxes[index * 4 + 3] >= box[1];
+    }
+
+    private static void expand(double[] extent, double[] box) {
+        extent[0] = Math.min(extent[0], box[0]);
+        extent[1] = Math.min(extent[1], box[1]);
+        extent[2] = Math.max(extent[2], box[2]);
+        extent[3] = Math.max(extent[3], box[3]);
+    }
+
+    private static int cellIndex(double value, double origin, double size, int grid) {
+        double index = Math.floor((value - origin) / size);
+        if (!(index > 0)) {
+            return 0;
+        }
+        return index >= grid ? grid - 1 : (int) index;
+    }
+
+    private static void validateItems(double[] items, int stride, String message) {
+        if (items == null) {
+            throw new IllegalArgumentException("Input array cannot be null");
+        }
+        if (items.length % stride != 0) {
+            throw new IllegalArgumentException(String.format(message, items.length));
+        }
+    }
+}
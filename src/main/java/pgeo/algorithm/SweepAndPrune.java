@@ -0,0 +1,352 @@
+package pgeo.algorithm;
+
+import pgeo.core.Envelope;
+import pgeo.core.LineSegment;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.Arrays;
+
+public final class SweepAndPrune {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = -1L;
+
+    private double[] bounds;
+    private int[][] endpoints;
+    private int[][] positions;
+    private boolean[] live;
+    private int[] freeIds;
+    private int freeCount;
+    private int idLimit;
+    private int size;
+
+    private long[] pairSlots;
+    private int pairCount;
+
+    private long swapCount;
+
+    public SweepAndPrune() {
+        this.bounds = new double[INITIAL_CAPACITY * 4];
+        this.endpoints = new int[][]{new int[INITIAL_CAPACITY * 2], new int[INITIAL_CAPACITY * 2]};
+        this.positions = new int[][]{new int[INITIAL_CAPACITY * 2], new int[INITIAL_CAPACITY * 2]};
+        this.live = new boolean[INITIAL_CAPACITY];
+        this.freeIds = new int[INITIAL_CAPACITY];
+        this.pairSlots = new long[INITIAL_CAPACITY * 2];
+        Arrays.fill(pairSlots, EMPTY);
+    }
+
+    public int add(Polygon polygon) {
+        if (polygon == null) {
+            throw new IllegalArgumentException("Polygon cannot be null");
+        }
+        return add(polygon.getEnvelope());
+    }
+
+    public int add(Triangle triangle) {
+        if (triangle == null) {
+            throw new IllegalArgumentException("Triangle cannot be null");
+        }
+        return add(triangle.getEnvelope());
+    }
+
+    public int add(LineSegment segment) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Segment cannot be null");
+        }
+        return add(segment.getEnvelope());
+    }
+
+    public int add(Envelope envelope) {
+        if (envelope == null) {
+            throw new IllegalArgumentException("Envelope cannot be null");
+        }
+        return add(envelope.getMinX(), envelope.getMinY(), envelope.getMaxX(), envelope.getMaxY());
+    }
+
+    public int add(double minX, double minY, double maxX, double maxY) {
+        validateBounds(minX, minY, maxX, maxY);
+
+        int id = freeCount > 0 ? freeIds[--freeCount] : idLimit++;
+        ensureCapacity(id + 1);
+        live[id] = true;
+        bounds[id * 4] = minX;
+        bounds[id * 4 + 1] = minY;
+        bounds[id * 4 + 2] = maxX;
+        bounds[id * 4 + 3] = maxY;
+
+        for (int axis = 0; axis < 2; axis++) {
+            int[] order = endpoints[axis];
+            int[] position = positions[axis];
+            int slot = size * 2;
+            order[slot] = id * 2;
+            position[id * 2] = slot;
+            order[slot + 1] = id * 2 + 1;
+            position[id * 2 + 1] = slot + 1;
+        }
+        size++;
+
+        for (int axis = 0; axis < 2; axis++) {
+            sortDown(axis, id * 2);
+            sortDown(axis, id * 2 + 1);
+        }
+        return id;
+    }
+
+    public void update(int id, Envelope envelope) {
+        if (envelope == null) {
+            throw new IllegalArgumentException("Envelope cannot be null");
+        }
+        update(id, envelope.getMinX(), envelope.getMinY(), envelope.getMaxX(), envelope.getMaxY());
+    }
+
+    public void update(int id, double minX, double minY, double maxX, double maxY) {
+        checkId(id);
+        validateBounds(minX, minY, maxX, maxY);
+        move(id, minX, minY, maxX, maxY);
+    }
+
+    public void translate(int id, double dx, double dy) {
+        checkId(id);
+        update(id, bounds[id * 4] + dx, bounds[id * 4 + 1] + dy, bounds[id * 4 + 2] + dx, bounds[id * 4 + 3] + dy);
+    }
+
+    public void remove(int id) {
+        checkId(id);
+        move(id, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+            Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+        live[id] = false;
+        size--;
+        freeIds[freeCount++] = id;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Envelope getEnvelope(int id) {
+        checkId(id);
+        return new Envelope(bounds[id * 4], bounds[id * 4 + 1], bounds[id * 4 + 2], bounds[id * 4 + 3]);
+    }
+
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    public boolean isOverlapping(int first, int second) {
+        checkId(first);
+        checkId(second);
+        return first != second && findSlot(pairKey(first, second)) >= 0;
+    }
+
+    public int[] getPairs() {
+        int[] pairs = new int[pairCount * 2];
+        copyPairs(pairs, 0);
+        return pairs;
+    }
+
+    public int copyPairs(int[] target, int offset) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset > target.length - pairCount * 2) {
+            throw new IllegalArgumentException(
+                String.format("Target buffer needs %d values from offset %d but has length %d",
+                    pairCount * 2, offset, target.length)
+            );
+        }
+        int index = offset;
+        for (long key : pairSlots) {
+            if (key != EMPTY) {
+                target[index++] = (int) (key >>> 32);
+                target[index++] = (int) key;
+            }
+        }
+        return pairCount * 2;
+    }
+
+    public long getSwapCount() {
+        return swapCount;
+    }
+
+    private void move(int id, double minX, double minY, double maxX, double maxY) {
+        double oldMinX = bounds[id * 4];
+        double oldMinY = bounds[id * 4 + 1];
+        bounds[id * 4] = minX;
+        bounds[id * 4 + 1] = minY;
+        bounds[id * 4 + 2] = maxX;
+        bounds[id * 4 + 3] = maxY;
+
+        resort(0, id, minX > oldMinX);
+        resort(1, id, minY > oldMinY);
+    }
+
+    private void resort(int axis, int id, boolean minMovedUp) {
+        int first = minMovedUp ? id * 2 + 1 : id * 2;
+        int second = minMovedUp ? id * 2 : id * 2 + 1;
+        sortDown(axis, first);
+        sortUp(axis, first);
+        sortDown(axis, second);
+        sortUp(axis, second);
+    }
+
+    private void sortDown(int axis, int endpoint) {
+        int[] order = endpoints[axis];
+        int[] position = positions[axis];
+        int index = position[endpoint];
+        while (index > 0 && compare(axis, endpoint, order[index - 1]) < 0) {
+            int other = order[index - 1];
+            swapped(axis, endpoint, other);
+            order[index] = other;
+            position[other] = index;
+            index--;
+        }
+        order[index] = endpoint;
+        position[endpoint] = index;
+    }
+
+    private void sortUp(int axis, int endpoint) {
+        int[] order = endpoints[axis];
+        int[] position = positions[axis];
+        int last = size * 2 - 1;
+        int index = position[endpoint];
+        while (index < last && compare(axis, endpoint, order[index + 1]) > 0) {
+            int other = order[index + 1];
+            swapped(axis, other, endpoint);
+            order[index] = other;
+            position[other] = index;
+            index++;
+        }
+        order[index] = endpoint;
+        position[endpoint] = index;
+    }
+
+    private void swapped(int axis, int lower, int upper) {
+        swapCount++;
+        int lowerId = lower >>> 1;
+        int upperId = upper >>> 1;
+        if (lowerId == upperId) {
+            return;
+        }
+        boolean lowerIsMax = (lower & 1) == 1;
+        boolean upperIsMax = (upper & 1) == 1;
+        if (!lowerIsMax && upperIsMax) {
+            if (overlaps(lowerId, upperId)) {
+                addPair(pairKey(lowerId, upperId));
+            }
+        } else if (lowerIsMax && !upperIsMax) {
+            removePair(pairKey(lowerId, upperId));
+        }
+    }
+
+    private int compare(int axis, int first, int second) {
+        int cmp = Double.compare(value(axis, first), value(axis, second));
+        return cmp != 0 ? cmp : Integer.compare(first & 1, second & 1);
+    }
+
+    private double value(int axis, int endpoint) {
+        return bounds[(endpoint >>> 1) * 4 + axis + (endpoint & 1) * 2];
+    }
+
+    private boolean overlaps(int a, int b) {
+        return bounds[a * 4] <= bounds[b * 4 + 2] && bounds[b * 4] <= bounds[a * 4 + 2]
+            && bounds[a * 4 + 1] <= bounds[b * 4 + 3] && bounds[b * 4 + 1] <= bounds[a * 4 + 3];
+    }
+
+    private static long pairKey(int a, int b) {
+        int low = Math.min(a, b);
+        int high = Math.max(a, b);
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    private void addPair(long key) {
+        if (findSlot(key) >= 0) {
+            return;
+        }
+        if ((pairCount + 1) * 2 > pairSlots.length) {
+            long[] old = pairSlots;
+            pairSlots = new long[old.length * 2];
+            Arrays.fill(pairSlots, EMPTY);
+            for (long existing : old) {
+                if (existing != EMPTY) {
+                    pairSlots[probe(existing)] = existing;
+                }
+            }
+        }
+        pairSlots[probe(key)] = key;
+        pairCount++;
+    }
+
+    private void removePair(long key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return;
+        }
+        int mask = pairSlots.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (pairSlots[next] != EMPTY) {
+            int home = hash(pairSlots[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                pairSlots[hole] = pairSlots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        pairSlots[hole] = EMPTY;
+        pairCount--;
+    }
+
+    private int findSlot(long key) {
+        int mask = pairSlots.length - 1;
+        for (int slot = hash(key) & mask; pairSlots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (pairSlots[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int probe(long key) {
+        int mask = pairSlots.length - 1;
+        int slot = hash(key) & mask;
+        while (pairSlots[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void ensureCapacity(int ids) {
+        if (ids <= live.length) {
+            return;
+        }
+        int capacity = Math.max(ids, live.length * 2);
+        bounds = Arrays.copyOf(bounds, capacity * 4);
+        live = Arrays.copyOf(live, capacity);
+        freeIds = Arrays.copyOf(freeIds, capacity);
+        for (int axis = 0; axis < 2; axis++) {
+            endpoints[axis] = Arrays.copyOf(endpoints[axis], capacity * 2);
+            positions[axis] = Arrays.copyOf(positions[axis], capacity * 2);
+        }
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= idLimit || !live[id]) {
+            throw new IllegalArgumentException(String.format("Unknown object id %d", id));
+        }
+    }
+
+    private static void validateBounds(double minX, double minY, double maxX, double maxY) {
+        if (!Double.isFinite(minX) || !Double.isFinite(minY) || !Double.isFinite(maxX) || !Double.isFinite(maxY)) {
+            throw new IllegalArgumentException("Bounds must be finite");
+        }
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Minimum bounds cannot exceed maximum bounds");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package pgeo.client;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+public final class BatchOptions {
+
+    public enum Operation {
+        AREA(6),
+        POSITION(6),
+        INTERSECT(8),
+        QUAD(8);
+
+        private final int columns;
+
+        Operation(int columns) {
+            this.columns = columns;
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public static Operation fromName(String name) {
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    String.format("Unknown operation '%s'. Expected area|position|intersect|quad", name)
+                );
+            }
+        }
+    }
+
+    public static final int DEFAULT_CHUNK_RECORDS = 8192;
+
+    private final Operation operation;
+    private final Path input;
+    private final Path output;
+    private final int threads;
+    private final int chunkRecords;
+    private final boolean skipHeader;
+
+    public BatchOptions(Operation operation, Path input, Path output,
+                        int threads, int chunkRecords, boolean skipHeader) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Batch mode requires --op=area|position|intersect|quad");
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("Batch mode requires --in <file>");
+        }
+        if (output == null) {
+            throw new IllegalArgumentException("Batch mode requires --out <file>");
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        if (chunkRecords <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.operation = operation;
+        this.input = input;
+        this.output = output;
+        this.threads = threads;
+        this.chunkRecords = chunkRecords;
+        this.skipHeader = skipHeader;
+    }
+
+    public static boolean isBatchMode(String[] args) {
+        if (args == null) {
+            return false;
+        }
+        for (String arg : args) {
+            if ("--batch".equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static BatchOptions parse(String[] args) {
+        if (args == null) {
+            throw new IllegalArgumentException("Arguments cannot be null");
+        }
+
+        Operation operation = null;
+        Path input = null;
+        Path output = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkRecords = DEFAULT_CHUNK_RECORDS;
+        boolean skipHeader = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+
+            if ("--batch".equals(arg)) {
+                continue;
+            }
+            if ("--header".equals(arg)) {
+                skipHeader = true;
+                continue;
+            }
+
+            int equals = arg.indexOf('=');
+            String name = equals >= 0 ? arg.substring(0, equals) : arg;
+            String value;
+
+            if (equals >= 0) {
+                value = arg.substring(equals + 1);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException(String.format("Missing value for %s", name));
+            }
+
+            switch (name) {
+                case "--op":
+                    operation = Operation.fromName(value);
+                    break;
+                case "--in":
+                    input = Paths.get(value);
+                    break;
+                case "--out":
+                    output = Paths.get(value);
+                    break;
+                case "--threads":
+                    threads = parsePositive(name, value);
+                    break;
+                case "--chunk":
+                    chunkRecords = parsePositive(name, value);
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown option %s", name));
+            }
+        }
+
+        return new BatchOptions(operation, input, output, threads, chunkRecords, skipHeader);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public Path getInput() {
+        return input;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getChunkRecords() {
+        return chunkRecords;
+    }
+
+    public boolean isSkipHeader() {
+        return skipHeader;
+    }
+
+    private static int parsePositive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(String.format("%s must be positive, got %d", name, parsed));
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("%s expects an integer, got '%s'", name, value));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package pgeo.client;
+
+import java.util.Arrays;
+
+public final class BatchReport {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final long records;
+    private final long failures;
+    private final long elapsedNanos;
+    private final long[] sortedChunkNanos;
+
+    public BatchReport(long records, long failures, long elapsedNanos, long[] chunkNanos) {
+        if (chunkNanos == null) {
+            throw new IllegalArgumentException("Chunk latencies cannot be null");
+        }
+        this.records = records;
+        this.failures = failures;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedChunkNanos = chunkNanos.clone();
+        Arrays.sort(this.sortedChunkNanos);
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getChunkCount() {
+        return sortedChunkNanos.length;
+    }
+
+    public double getThroughput() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return records * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    public double getMeanRecordLatencyMicros() {
+        if (records == 0) {
+            return 0.0;
+        }
+        long total = 0;
+        for (long nanos : sortedChunkNanos) {
+            total += nanos;
+        }
+        return total / NANOS_PER_MICRO / records;
+    }
+
+    public double getChunkLatencyMicros(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        if (sortedChunkNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedChunkNanos.length) - 1;
+        index = Math.max(0, Math.min(sortedChunkNanos.length - 1, index));
+        return sortedChunkNanos[index] / NANOS_PER_MICRO;
+    }
+}
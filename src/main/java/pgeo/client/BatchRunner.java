@@ -0,0 +1,255 @@
+package pgeo.client;
+
+import pgeo.geometry.PGeoBatch;
+import pgeo.io.CoordinateChunk;
+import pgeo.io.CoordinateLoader;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BatchRunner {
+
+    private static final int MIN_SLICE_RECORDS = 256;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final String ERROR_LINE = "ERROR";
+
+    private final PGeoBatch batch;
+    private final PrintStream console;
+
+    public BatchRunner() {
+        this(new PGeoBatch(), System.out);
+    }
+
+    public BatchRunner(PGeoBatch batch, PrintStream console) {
+        this.batch = batch;
+        this.console = console;
+    }
+
+    public int execute(String[] args) {
+        try {
+            BatchOptions options = BatchOptions.parse(args);
+            BatchReport report = run(options);
+            printReport(options, report);
+            return report.getFailures() == 0 ? 0 : 2;
+        } catch (IllegalArgumentException e) {
+            console.printf("  ✗ %s%n", e.getMessage());
+            return 1;
+        } catch (IOException | UncheckedIOException e) {
+            console.printf("  ✗ I/O failure: %s%n", e.getMessage());
+            return 1;
+        }
+    }
+
+    public BatchReport run(BatchOptions options) throws IOException {
+        int columns = options.getOperation().getColumns();
+        ExecutorService workers = Executors.newFixedThreadPool(options.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "pgeo-batch-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (CoordinateLoader loader = CoordinateLoader.open(
+                 options.getInput(), columns, options.getChunkRecords(), options.isSkipHeader(), true);
+             FileChannel output = FileChannel.open(options.getOutput(),
+                 StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ChunkProcessor processor = new ChunkProcessor(options, workers, output);
+            long start = System.nanoTime();
+            long records = loader.forEachChunk(processor::process);
+            long elapsed = System.nanoTime() - start;
+
+            return new BatchReport(records, processor.failures, elapsed, processor.latencies());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void printReport(BatchOptions options, BatchReport report) {
+        console.printf("  ✓ Operation: %s%n", options.getOperation().name().toLowerCase());
+        console.printf("  ✓ Records: %d (%d failed)%n", report.getRecords(), report.getFailures());
+        console.printf("  ✓ Elapsed: %.3f ms%n", report.getElapsedNanos() / 1_000_000.0);
+        console.printf("  ✓ Throughput: %.0f records/s%n", report.getThroughput());
+        console.printf("  ✓ Mean latency: %.3f µs/record%n", report.getMeanRecordLatencyMicros());
+        console.printf("  ✓ Chunk latency (µs): p50=%.1f p99=%.1f max=%.1f over %d chunks%n",
+            report.getChunkLatencyMicros(50), report.getChunkLatencyMicros(99),
+            report.getChunkLatencyMicros(100), report.getChunkCount());
+    }
+
+    private final class ChunkProcessor {
+
+        private final BatchOptions.Operation operation;
+        private final ExecutorService workers;
+        private final int threads;
+        private final FileChannel output;
+        private final double[] areas;
+        private final int[] positions;
+        private final boolean[] intersections;
+        private final boolean[] failed;
+        private final StringBuilder text = new StringBuilder();
+        private ByteBuffer encoded = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+        private long[] latencies = new long[16];
+        private int chunkCount;
+        private long failures;
+
+        ChunkProcessor(BatchOptions options, ExecutorService workers, FileChannel output) {
+            this.operation = options.getOperation();
+            this.workers = workers;
+            this.threads = options.getThreads();
+            this.output = output;
+            int capacity = options.getChunkRecords();
+            this.areas = new double[capacity];
+            this.positions = new int[capacity];
+            this.intersections = new boolean[capacity];
+            this.failed = new boolean[capacity];
+        }
+
+        void process(CoordinateChunk chunk) {
+            long start = System.nanoTime();
+            int size = chunk.size();
+            double[] values = chunk.getValues();
+
+            Arrays.fill(failed, 0, size, false);
+
+            int sliceSize = Math.max(MIN_SLICE_RECORDS, (size + threads - 1) / threads);
+            List<Future<?>> slices = new ArrayList<>();
+            for (int from = 0; from < size; from += sliceSize) {
+                int sliceFrom = from;
+                int sliceTo = Math.min(size, from + sliceSize);
+                slices.add(workers.submit(() -> computeSlice(values, sliceFrom, sliceTo)));
+            }
+            awaitAll(slices);
+            for (int i = 0; i < size; i++) {
+                if (chunk.isMalformed(i)) {
+                    failed[i] = true;
+                }
+            }
+
+            recordLatency(System.nanoTime() - start);
+            writeResults(size);
+        }
+
+        long[] latencies() {
+            return Arrays.copyOf(latencies, chunkCount);
+        }
+
+        private void computeSlice(double[] values, int from, int to) {
+            try {
+                compute(values, from, to);
+            } catch (IllegalArgumentException e) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        compute(values, i, i + 1);
+                    } catch (IllegalArgumentException recordFailure) {
+                        failed[i] = true;
+                    }
+                }
+            }
+        }
+
+        private void compute(double[] values, int from, int to) {
+            switch (operation) {
+                case AREA:
+                    batch.area_triangulo(values, from, to, areas);
+                    break;
+                case POSITION:
+                    batch.acima_abaixo(values, from, to, positions);
+                    break;
+                case INTERSECT:
+                    batch.intersecao(values, from, to, intersections);
+                    break;
+                case QUAD:
+                    batch.area_P4(values, from, to, areas);
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported operation " + operation);
+            }
+        }
+
+        private void awaitAll(List<Future<?>> slices) {
+            try {
+                for (Future<?> slice : slices) {
+                    slice.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while processing batch", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Batch worker failed", cause);
+            }
+        }
+
+        private void recordLatency(long nanos) {
+            if (chunkCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, chunkCount * 2);
+            }
+            latencies[chunkCount++] = nanos;
+        }
+
+        private void writeResults(int size) {
+            text.setLength(0);
+
+            for (int i = 0; i < size; i++) {
+                if (failed[i]) {
+                    failures++;
+                    text.append(ERROR_LINE);
+                } else {
+                    appendResult(i);
+                }
+                text.append('\n');
+            }
+
+            encode();
+            try {
+                while (encoded.hasRemaining()) {
+                    output.write(encoded);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void appendResult(int index) {
+            switch (operation) {
+                case AREA:
+                case QUAD:
+                    text.append(areas[index]);
+                    break;
+                case POSITION:
+                    text.append(positions[index]);
+                    break;
+                case INTERSECT:
+                    text.append(intersections[index]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported operation " + operation);
+            }
+        }
+
+        private void encode() {
+            int length = text.length();
+            if (encoded.capacity() < length) {
+                encoded = ByteBuffer.allocate(Math.max(length, encoded.capacity() * 2));
+            }
+            encoded.clear();
+            for (int i = 0; i < length; i++) {
+                encoded.put((byte) text.charAt(i));
+            }
+            encoded.flip();
+        }
+    }
+}
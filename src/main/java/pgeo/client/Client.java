@@ -24,10 +24,29 @@ public class Client {
     }
 
     public static void main(String[] args) {
+        if (BatchOptions.isBatchMode(args)) {
+            exitOnFailure(new BatchRunner().execute(args));
+            return;
+        }
+        if (GeometryServer.isServerMode(args)) {
+            exitOnFailure(GeometryServer.execute(args));
+            return;
+        }
+        if (LoadTest.isLoadTestMode(args)) {
+            exitOnFailure(LoadTest.execute(args));
+            return;
+        }
+
         Client client = new Client();
         client.run();
     }
 
+    private static void exitOnFailure(int exitCode) {
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
     public void run() {
         printWelcome();
 
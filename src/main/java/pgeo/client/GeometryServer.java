@@ -0,0 +1,280 @@
+package pgeo.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import pgeo.geometry.PGeo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public class GeometryServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final String API_PREFIX = "/api/";
+    public static final String BATCH_PREFIX = "/api/batch/";
+
+    static final int MAX_BODY_BYTES = 8 << 20;
+
+    private static final int BACKLOG = 256;
+    private static final int QUEUE_PER_THREAD = 64;
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Function<double[][], Object>> operations;
+
+    public GeometryServer(PGeo pgeo, InetSocketAddress address, ExecutorService executor) throws IOException {
+        if (pgeo == null) {
+            throw new IllegalArgumentException("PGeo cannot be null");
+        }
+        if (address == null) {
+            throw new IllegalArgumentException("Address cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+        this.operations = createOperations(pgeo);
+        this.server = HttpServer.create(address, BACKLOG);
+        this.server.setExecutor(executor);
+        this.server.createContext("/health", exchange -> respond(exchange, 200, Map.of("status", "ok")));
+        this.server.createContext(API_PREFIX, this::handle);
+    }
+
+    public static GeometryServer start(int port) throws IOException {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        GeometryServer server = new GeometryServer(new PGeo(), address, createRequestExecutor());
+        server.start();
+        return server;
+    }
+
+    public static ExecutorService createRequestExecutor() {
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return createBoundedExecutor(Runtime.getRuntime().availableProcessors() * 2);
+        }
+    }
+
+    public static ExecutorService createBoundedExecutor(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        return new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(threads * QUEUE_PER_THREAD),
+            runnable -> {
+                Thread thread = new Thread(runnable, "pgeo-http-worker");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    public static boolean isServerMode(String[] args) {
+        return hasFlag(args, "--serve");
+    }
+
+    public static int execute(String[] args) {
+        int port = intOption(args, "--port", DEFAULT_PORT);
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        try (GeometryServer server = start(port)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(stopped::countDown));
+            System.out.printf("  ✓ PGeo service listening on %s%n", server.getBaseUri());
+            stopped.await();
+            return 0;
+        } catch (IOException e) {
+            System.out.printf("  ✗ Cannot start service: %s%n", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public URI getBaseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create(String.format("http://%s:%d", address.getHostString(), address.getPort()));
+    }
+
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdownNow();
+    }
+
+    static boolean hasFlag(String[] args, String flag) {
+        if (args == null) {
+            return false;
+        }
+        for (String arg : args) {
+            if (flag.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static int intOption(String[] args, String name, int defaultValue) {
+        if (args == null) {
+            return defaultValue;
+        }
+        for (int i = 0; i < args.length; i++) {
+            String value = null;
+            if (args[i].startsWith(name + "=")) {
+                value = args[i].substring(name.length() + 1);
+            } else if (args[i].equals(name) && i + 1 < args.length) {
+                value = args[i + 1];
+            }
+            if (value != null) {
+                try {
+                    return Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(String.format("%s expects an integer, got '%s'", name, value));
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static Map<String, Function<double[][], Object>> createOperations(PGeo pgeo) {
+        Map<String, Function<double[][], Object>> operations = new LinkedHashMap<>();
+        operations.put("area_triangulo", pgeo::area_triangulo);
+        operations.put("acima_abaixo", pgeo::acima_abaixo);
+        operations.put("intersecao", pgeo::intersecao);
+        operations.put("ponto_intersecao", pgeo::ponto_intersecao);
+        operations.put("area_P4", pgeo::area_P4);
+        return operations;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            boolean batch = path.startsWith(BATCH_PREFIX);
+            String name = path.substring(batch ? BATCH_PREFIX.length() : API_PREFIX.length());
+            Function<double[][], Object> operation = operations.get(name);
+
+            if (operation == null) {
+                respond(exchange, 404, Map.of("error", "Unknown operation: " + name));
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                respond(exchange, 405, Map.of("error", "Use POST"));
+                return;
+            }
+
+            String text = readBody(exchange);
+            if (text == null) {
+                respond(exchange, 413, Map.of("error",
+                    String.format("Request body exceeds %d bytes", MAX_BODY_BYTES)));
+                return;
+            }
+            Object request = Json.parse(text);
+            if (!(request instanceof Map)) {
+                throw new IllegalArgumentException("Request body must be a JSON object");
+            }
+            Map<?, ?> body = (Map<?, ?>) request;
+
+            Object response;
+            if (batch) {
+                response = evaluateBatch(operation, body.get("records"));
+            } else {
+                Map<String, Object> single = new LinkedHashMap<>();
+                single.put("result", wrap(operation.apply(Json.toPoints(body.get("points"), "points"))));
+                response = single;
+            }
+
+            respond(exchange, 200, response);
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, Map.of("error", String.valueOf(e.getMessage())));
+        } catch (RuntimeException e) {
+            respond(exchange, 500, Map.of("error", "Internal error"));
+        }
+    }
+
+    private Map<String, Object> evaluateBatch(Function<double[][], Object> operation, Object records) {
+        if (!(records instanceof List)) {
+            throw new IllegalArgumentException("records must be an array of point arrays");
+        }
+        List<?> inputs = (List<?>) records;
+        List<Object> results = new ArrayList<>(inputs.size());
+        List<Object> errors = new ArrayList<>();
+
+        for (int i = 0; i < inputs.size(); i++) {
+            try {
+                double[][] points = Json.toPoints(inputs.get(i), "records[" + i + "]");
+                results.add(wrap(operation.apply(points)));
+            } catch (IllegalArgumentException e) {
+                results.add(null);
+                Map<String, Object> error = new LinkedHashMap<>();
+                error.put("index", i);
+                error.put("message", e.getMessage());
+                errors.add(error);
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("results", results);
+        response.put("errors", errors);
+        return response;
+    }
+
+    private static Object wrap(Object result) {
+        if (result instanceof double[][]) {
+            List<Object> rows = new ArrayList<>();
+            for (double[] row : (double[][]) result) {
+                rows.add(row);
+            }
+            return rows;
+        }
+        return result;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                return null;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object payload) throws IOException {
+        byte[] bytes = Json.write(payload).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
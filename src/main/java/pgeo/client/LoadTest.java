@@ -0,0 +1,193 @@
+package pgeo.client;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadTest {
+
+    public static final int DEFAULT_REQUESTS = 10_000;
+    public static final int DEFAULT_CONCURRENCY = 16;
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String TRIANGLE = "[[0,0],[4,0],[2,3]]";
+
+    private final URI baseUri;
+    private final int requests;
+    private final int concurrency;
+    private final int batchSize;
+    private final PrintStream console;
+
+    public LoadTest(URI baseUri, int requests, int concurrency, int batchSize, PrintStream console) {
+        if (baseUri == null) {
+            throw new IllegalArgumentException("Base URI cannot be null");
+        }
+        if (requests <= 0 || concurrency <= 0 || batchSize < 0) {
+            throw new IllegalArgumentException("Requests and concurrency must be positive, batch size non-negative");
+        }
+        this.baseUri = baseUri;
+        this.requests = requests;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.console = console;
+    }
+
+    public static boolean isLoadTestMode(String[] args) {
+        return GeometryServer.hasFlag(args, "--load-test");
+    }
+
+    public static int execute(String[] args) {
+        int port = GeometryServer.intOption(args, "--port", 0);
+        int requests = GeometryServer.intOption(args, "--requests", DEFAULT_REQUESTS);
+        int concurrency = GeometryServer.intOption(args, "--concurrency", DEFAULT_CONCURRENCY);
+        int batchSize = GeometryServer.intOption(args, "--batch-size", 0);
+
+        try {
+            if (port > 0) {
+                new LoadTest(URI.create("http://127.0.0.1:" + port), requests, concurrency, batchSize, System.out)
+                    .run().print(System.out);
+                return 0;
+            }
+            try (GeometryServer server = GeometryServer.start(0)) {
+                new LoadTest(server.getBaseUri(), requests, concurrency, batchSize, System.out)
+                    .run().print(System.out);
+            }
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.printf("  ✗ Load test failed: %s%n", e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+
+    public Result run() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+        HttpRequest request = buildRequest();
+        long[] latencies = new long[requests];
+        AtomicInteger nextRequest = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService senders = Executors.newFixedThreadPool(concurrency);
+
+        console.printf("  ℹ Sending %d requests to %s with %d connections%n", requests, request.uri(), concurrency);
+
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(senders.submit(() -> {
+                    int index;
+                    while ((index = nextRequest.getAndIncrement()) < requests) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IOException("Load test worker failed", e.getCause());
+        } finally {
+            senders.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(requests, Math.max(1, batchSize), failures.get(), elapsed, latencies);
+    }
+
+    private HttpRequest buildRequest() {
+        String body;
+        String path;
+
+        if (batchSize > 0) {
+            StringBuilder records = new StringBuilder("{\"records\":[");
+            for (int i = 0; i < batchSize; i++) {
+                if (i > 0) records.append(',');
+                records.append(TRIANGLE);
+            }
+            body = records.append("]}").toString();
+            path = GeometryServer.BATCH_PREFIX + "area_triangulo";
+        } else {
+            body = "{\"points\":" + TRIANGLE + "}";
+            path = GeometryServer.API_PREFIX + "area_triangulo";
+        }
+
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    public static final class Result {
+
+        private final int requests;
+        private final int recordsPerRequest;
+        private final int failures;
+        private final long elapsedNanos;
+        private final long[] sortedLatencies;
+
+        Result(int requests, int recordsPerRequest, int failures, long elapsedNanos, long[] latencies) {
+            this.requests = requests;
+            this.recordsPerRequest = recordsPerRequest;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(this.sortedLatencies);
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public int getFailures() {
+            return failures;
+        }
+
+        public double getRequestsPerSecond() {
+            return requests * 1_000_000_000.0 / Math.max(1, elapsedNanos);
+        }
+
+        public double getLatencyMicros(double percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            index = Math.max(0, Math.min(sortedLatencies.length - 1, index));
+            return sortedLatencies[index] / 1_000.0;
+        }
+
+        public void print(PrintStream out) {
+            out.printf("  ✓ Requests: %d (%d failed)%n", requests, failures);
+            out.printf("  ✓ Elapsed: %.3f ms%n", elapsedNanos / 1_000_000.0);
+            out.printf("  ✓ Throughput: %.0f requests/s (%.0f records/s)%n",
+                getRequestsPerSecond(), getRequestsPerSecond() * recordsPerRequest);
+            out.printf("  ✓ Latency (µs): p50=%.1f p99=%.1f max=%.1f%n",
+                getLatencyMicros(50), getLatencyMicros(99), getLatencyMicros(100));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package pgeo.core;
+
+import java.util.Objects;
+
+public final class Envelope {
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    public Envelope(double minX, double minY, double maxX, double maxY) {
+        validateRange(minX, maxX, "x");
+        validateRange(minY, maxY, "y");
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double getWidth() {
+        return maxX - minX;
+    }
+
+    public double getHeight() {
+        return maxY - minY;
+    }
+
+    public double getArea() {
+        return getWidth() * getHeight();
+    }
+
+    public boolean contains(double x, double y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    public boolean contains(Envelope other) {
+        Objects.requireNonNull(other, "Envelope cannot be null");
+        return other.minX >= minX && other.maxX <= maxX && other.minY >= minY && other.maxY <= maxY;
+    }
+
+    public boolean intersects(Envelope other) {
+        Objects.requireNonNull(other, "Envelope cannot be null");
+        return other.minX <= maxX && other.maxX >= minX && other.minY <= maxY && other.maxY >= minY;
+    }
+
+    public Envelope union(Envelope other) {
+        Objects.requireNonNull(other, "Envelope cannot be null");
+        return new Envelope(
+            Math.min(minX, other.minX), Math.min(minY, other.minY),
+            Math.max(maxX, other.maxX), Math.max(maxY, other.maxY));
+    }
+
+    public static Envelope of(double[] coordinates, int fromVertex, int toVertex) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        if (fromVertex < 0 || toVertex * 2 > coordinates.length || fromVertex >= toVertex) {
+            throw new IllegalArgumentException(
+                String.format("Invalid vertex range [%d, %d) for %d coordinates", fromVertex, toVertex, coordinates.length)
+            );
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = fromVertex * 2; i < toVertex * 2; i += 2) {
+            minX = Math.min(minX, coordinates[i]);
+            maxX = Math.max(maxX, coordinates[i]);
+            minY = Math.min(minY, coordinates[i + 1]);
+            maxY = Math.max(maxY, coordinates[i + 1]);
+        }
+        return new Envelope(minX, minY, maxX, maxY);
+    }
+
+    private static void validateRange(double min, double max, String axis) {
+        if (!Double.isFinite(min) || !Double.isFinite(max)) {
+            throw new IllegalArgumentException(axis + " bounds must be finite");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException(
+                String.format("Minimum %s cannot exceed maximum %s", axis, axis)
+            );
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Envelope envelope = (Envelope) obj;
+        return Double.compare(minX, envelope.minX) == 0
+            && Double.compare(minY, envelope.minY) == 0
+            && Double.compare(maxX, envelope.maxX) == 0
+            && Double.compare(maxY, envelope.maxY) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minX, minY, maxX, maxY);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Envelope[(%.4f, %.4f) - (%.4f, %.4f)]", minX, minY, maxX, maxY);
+    }
+}
@@ -80,6 +80,10 @@ public final class Line {
         return Double.compare(crossProduct, 0.0) == 0;
     }
 
+    public PreparedLine prepare() {
+        return new PreparedLine(this);
+    }
+
     public static Line fromArray(double[][] coordinates) {
         validateCoordinatesArray(coordinates);
         Point a = Point.fromArray(coordinates[0]);
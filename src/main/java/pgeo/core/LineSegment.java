@@ -33,6 +33,65 @@ public final class LineSegment {
         return new Point(midX, midY);
     }
 
+    public Envelope getEnvelope() {
+        return new Envelope(
+            Math.min(startPoint.getX(), endPoint.getX()), Math.min(startPoint.getY(), endPoint.getY()),
+            Math.max(startPoint.getX(), endPoint.getX()), Math.max(startPoint.getY(), endPoint.getY()));
+    }
+
+    public double distanceTo(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        return Math.sqrt(pointDistanceSquared(point.getX(), point.getY(),
+            startPoint.getX(), startPoint.getY(), endPoint.getX(), endPoint.getY()));
+    }
+
+    public double distanceTo(LineSegment other) {
+        Objects.requireNonNull(other, "Line segment cannot be null");
+        return Math.sqrt(segmentDistanceSquared(
+            startPoint.getX(), startPoint.getY(), endPoint.getX(), endPoint.getY(),
+            other.startPoint.getX(), other.startPoint.getY(), other.endPoint.getX(), other.endPoint.getY()));
+    }
+
+    public Point closestPointTo(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        double ax = startPoint.getX();
+        double ay = startPoint.getY();
+        double t = projection(point.getX(), point.getY(), ax, ay, endPoint.getX(), endPoint.getY());
+        return new Point(ax + t * (endPoint.getX() - ax), ay + t * (endPoint.getY() - ay));
+    }
+
+    public static double pointDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+        double t = projection(px, py, ax, ay, bx, by);
+        double dx = px - (ax + t * (bx - ax));
+        double dy = py - (ay + t * (by - ay));
+        return dx * dx + dy * dy;
+    }
+
+    public static double segmentDistanceSquared(double ax, double ay, double bx, double by,
+                                                double cx, double cy, double dx, double dy) {
+        double d1 = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+        double d2 = (bx - ax) * (dy - ay) - (by - ay) * (dx - ax);
+        double d3 = (dx - cx) * (ay - cy) - (dy - cy) * (ax - cx);
+        double d4 = (dx - cx) * (by - cy) - (dy - cy) * (bx - cx);
+        if (((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0)) && ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0))) {
+            return 0.0;
+        }
+        return Math.min(
+            Math.min(pointDistanceSquared(ax, ay, cx, cy, dx, dy), pointDistanceSquared(bx, by, cx, cy, dx, dy)),
+            Math.min(pointDistanceSquared(cx, cy, ax, ay, bx, by), pointDistanceSquared(dx, dy, ax, ay, bx, by)));
+    }
+
+    private static double projection(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0.0) {
+            return 0.0;
+        }
+        double t = ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        return t < 0.0 ? 0.0 : Math.min(t, 1.0);
+    }
+
     public boolean intersectsLine(Line line) {
         Objects.requireNonNull(line, "Line cannot be null");
 
@@ -0,0 +1,164 @@
+package pgeo.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public final class MultiPolygon {
+
+    private final double[] coordinates;
+    private final int[] ringStarts;
+    private final int[] polygonRings;
+
+    private MultiPolygon(double[] coordinates, int[] ringStarts, int[] polygonRings) {
+        this.coordinates = coordinates;
+        this.ringStarts = ringStarts;
+        this.polygonRings = polygonRings;
+    }
+
+    public static MultiPolygon of(PolygonWithHoles... polygons) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons array cannot be null");
+        }
+        return of(Arrays.asList(polygons));
+    }
+
+    public static MultiPolygon of(List<PolygonWithHoles> polygons) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons list cannot be null");
+        }
+        List<double[][]> rings = new ArrayList<>(polygons.size());
+        for (int i = 0; i < polygons.size(); i++) {
+            PolygonWithHoles polygon = polygons.get(i);
+            if (polygon == null) {
+                throw new IllegalArgumentException(String.format("Polygon at index %d cannot be null", i));
+            }
+            rings.add(polygon.toRings());
+        }
+        return pack(rings);
+    }
+
+    public static MultiPolygon fromRings(List<double[][]> polygons) {
+        if (polygons == null) {
+            throw new IllegalArgumentException("Polygons list cannot be null");
+        }
+        for (int p = 0; p < polygons.size(); p++) {
+            double[][] rings = polygons.get(p);
+            if (rings == null || rings.length == 0) {
+                throw new IllegalArgumentException(String.format("Polygon %d requires a shell ring", p));
+            }
+            for (int r = 0; r < rings.length; r++) {
+                Rings.validateRing(rings[r], String.format("Polygon %d ring %d", p, r));
+            }
+        }
+        return pack(polygons);
+    }
+
+    private static MultiPolygon pack(List<double[][]> polygons) {
+        int[] polygonRings = new int[polygons.size() + 1];
+        for (int p = 0; p < polygons.size(); p++) {
+            polygonRings[p + 1] = polygonRings[p] + polygons.get(p).length;
+        }
+
+        double[][] rings = new double[polygonRings[polygons.size()]][];
+        for (int p = 0; p < polygons.size(); p++) {
+            System.arraycopy(polygons.get(p), 0, rings, polygonRings[p], polygons.get(p).length);
+        }
+
+        int[] starts = Rings.ringStarts(rings);
+        return new MultiPolygon(Rings.pack(rings, starts), starts, polygonRings);
+    }
+
+    public boolean isEmpty() {
+        return polygonRings.length == 1;
+    }
+
+    public int getPolygonCount() {
+        return polygonRings.length - 1;
+    }
+
+    public PolygonWithHoles getPolygon(int index) {
+        if (index < 0 || index >= getPolygonCount()) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for multipolygon with %d polygons", index, getPolygonCount())
+            );
+        }
+        return new PolygonWithHoles(coordinates, ringStarts, polygonRings[index],
+            polygonRings[index + 1] - polygonRings[index]);
+    }
+
+    public int getRingCount() {
+        return ringStarts.length - 1;
+    }
+
+    public int getVertexCount() {
+        return coordinates.length / 2;
+    }
+
+    public List<double[][]> toRings() {
+        List<double[][]> polygons = new ArrayList<>(getPolygonCount());
+        for (int p = 0; p < getPolygonCount(); p++) {
+            polygons.add(getPolygon(p).toRings());
+        }
+        return polygons;
+    }
+
+    public double calculateArea() {
+        double area = 0.0;
+        for (int p = 0; p < getPolygonCount(); p++) {
+            area += getPolygon(p).calculateArea();
+        }
+        return area;
+    }
+
+    public double calculatePerimeter() {
+        double perimeter = 0.0;
+        for (int r = 0; r < getRingCount(); r++) {
+            perimeter += Rings.perimeter(coordinates, ringStarts[r], ringStarts[r + 1]);
+        }
+        return perimeter;
+    }
+
+    public boolean contains(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        return contains(point.getX(), point.getY());
+    }
+
+    public boolean contains(double x, double y) {
+        for (int p = 0; p < getPolygonCount(); p++) {
+            if (getPolygon(p).contains(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Envelope getEnvelope() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Empty multipolygon has no envelope");
+        }
+        return Envelope.of(coordinates, 0, getVertexCount());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        MultiPolygon other = (MultiPolygon) obj;
+        return Arrays.equals(coordinates, other.coordinates)
+            && Arrays.equals(ringStarts, other.ringStarts)
+            && Arrays.equals(polygonRings, other.polygonRings);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(coordinates) + Arrays.hashCode(polygonRings);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MultiPolygon[%d polygons, %d rings, %d vertices]",
+            getPolygonCount(), getRingCount(), getVertexCount());
+    }
+}
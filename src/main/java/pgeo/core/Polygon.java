@@ -1,15 +1,38 @@
 package pgeo.core;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Objects;
 
 public final class Polygon {
 
+    @FunctionalInterface
+    public interface EdgeVisitor {
+        void visit(int index, double x0, double y0, double x1, double y1);
+    }
+
+    private static final Comparator<Point> LEXICOGRAPHIC =
+        Comparator.comparingDouble(Point::getX).thenComparingDouble(Point::getY);
+
     private final Point[] vertices;
+    private final double[] coordinates;
+
+    private volatile Polygon convexHull;
+    private volatile boolean collinear;
+
+    private Polygon(Point[] vertices, double[] coordinates) {
+        this.vertices = vertices;
+        this.coordinates = coordinates;
+    }
 
     public Polygon(Point[] vertices) {
         validateVertices(vertices);
         this.vertices = copyVertices(vertices);
+        this.coordinates = new double[vertices.length * 2];
+        for (int i = 0; i < vertices.length; i++) {
+            coordinates[i * 2] = vertices[i].getX();
+            coordinates[i * 2 + 1] = vertices[i].getY();
+        }
     }
 
     public Point[] getVertices() {
@@ -17,30 +40,59 @@ public final class Polygon {
     }
 
     public Point getVertex(int index) {
-        if (index < 0 || index >= vertices.length) {
-            throw new IndexOutOfBoundsException(
-                String.format("Index %d out of bounds for polygon with %d vertices", index, vertices.length)
-            );
-        }
+        checkIndex(index);
         return vertices[index];
     }
 
+    public double getX(int index) {
+        checkIndex(index);
+        return coordinates[index * 2];
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return coordinates[index * 2 + 1];
+    }
+
     public int getVertexCount() {
         return vertices.length;
     }
 
+    public void forEachEdge(EdgeVisitor visitor) {
+        Objects.requireNonNull(visitor, "Edge visitor cannot be null");
+        int count = vertices.length;
+        for (int i = 0; i < count; i++) {
+            int next = i + 1 == count ? 0 : i + 1;
+            visitor.visit(i, coordinates[i * 2], coordinates[i * 2 + 1],
+                coordinates[next * 2], coordinates[next * 2 + 1]);
+        }
+    }
+
+    public int copyCoordinates(double[] target, int offset) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset > target.length - coordinates.length) {
+            throw new IllegalArgumentException(
+                String.format("Target buffer needs %d values from offset %d but has length %d",
+                    coordinates.length, offset, target.length)
+            );
+        }
+        System.arraycopy(coordinates, 0, target, offset, coordinates.length);
+        return coordinates.length;
+    }
+
     public double calculateArea() {
         return Math.abs(calculateSignedArea());
     }
 
     public double calculateSignedArea() {
         double sum = 0.0;
+        int count = vertices.length;
 
-        for (int i = 0; i < vertices.length; i++) {
-            Point current = vertices[i];
-            Point next = vertices[(i + 1) % vertices.length];
-
-            sum += (current.getX() * next.getY()) - (next.getX() * current.getY());
+        for (int i = 0; i < count; i++) {
+            int next = i + 1 == count ? 0 : i + 1;
+            sum += (coordinates[i * 2] * coordinates[next * 2 + 1]) - (coordinates[next * 2] * coordinates[i * 2 + 1]);
         }
 
         return sum / 2.0;
@@ -48,16 +100,22 @@ public final class Polygon {
 
     public double calculatePerimeter() {
         double perimeter = 0.0;
+        int count = vertices.length;
 
-        for (int i = 0; i < vertices.length; i++) {
-            Point current = vertices[i];
-            Point next = vertices[(i + 1) % vertices.length];
-            perimeter += current.distanceTo(next);
+        for (int i = 0; i < count; i++) {
+            int next = i + 1 == count ? 0 : i + 1;
+            double dx = coordinates[i * 2] - coordinates[next * 2];
+            double dy = coordinates[i * 2 + 1] - coordinates[next * 2 + 1];
+            perimeter += Math.sqrt(dx * dx + dy * dy);
         }
 
         return perimeter;
     }
 
+    public Envelope getEnvelope() {
+        return Envelope.of(coordinates, 0, vertices.length);
+    }
+
     public boolean isConvex() {
         int vertexCount = vertices.length;
         if (vertexCount < 3) {
@@ -87,6 +145,32 @@ public final class Polygon {
         return true;
     }
 
+    public boolean isCollinear() {
+        return convexHullOrNull() == null;
+    }
+
+    public Polygon getConvexHull() {
+        Polygon hull = convexHullOrNull();
+        if (hull == null) {
+            throw new IllegalArgumentException("Convex hull of collinear vertices is not a polygon");
+        }
+        return hull;
+    }
+
+    private Polygon convexHullOrNull() {
+        Polygon hull = convexHull;
+        if (hull == null && !collinear) {
+            hull = computeConvexHull();
+            if (hull == null) {
+                collinear = true;
+            } else {
+                hull.convexHull = hull;
+                convexHull = hull;
+            }
+        }
+        return hull;
+    }
+
     public static Polygon createQuadrilateral(Point a, Point b, Point c, Point d) {
         Objects.requireNonNull(a, "Point A cannot be null");
         Objects.requireNonNull(b, "Point B cannot be null");
@@ -115,11 +199,53 @@ public final class Polygon {
     public double[][] toArray() {
         double[][] result = new double[vertices.length][];
         for (int i = 0; i < vertices.length; i++) {
-            result[i] = vertices[i].toArray();
+            result[i] = new double[]{coordinates[i * 2], coordinates[i * 2 + 1]};
         }
         return result;
     }
 
+    private Polygon computeConvexHull() {
+        Point[] sorted = copyVertices(vertices);
+        Arrays.sort(sorted, LEXICOGRAPHIC);
+
+        Point[] hull = new Point[sorted.length * 2];
+        int size = 0;
+        for (Point point : sorted) {
+            while (size >= 2 && calculateCrossProduct(hull[size - 2], hull[size - 1], point) <= 0) {
+                size--;
+            }
+            hull[size++] = point;
+        }
+        int lowerSize = size + 1;
+        for (int i = sorted.length - 2; i >= 0; i--) {
+            while (size >= lowerSize && calculateCrossProduct(hull[size - 2], hull[size - 1], sorted[i]) <= 0) {
+                size--;
+            }
+            hull[size++] = sorted[i];
+        }
+        size--;
+
+        if (size < 3) {
+            return null;
+        }
+
+        Point[] hullVertices = Arrays.copyOf(hull, size);
+        double[] hullCoordinates = new double[size * 2];
+        for (int i = 0; i < size; i++) {
+            hullCoordinates[i * 2] = hullVertices[i].getX();
+            hullCoordinates[i * 2 + 1] = hullVertices[i].getY();
+        }
+        return new Polygon(hullVertices, hullCoordinates);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= vertices.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for polygon with %d vertices", index, vertices.length)
+            );
+        }
+    }
+
     private double calculateCrossProduct(Point a, Point b, Point c) {
         double abX = b.getX() - a.getX();
         double abY = b.getY() - a.getY();
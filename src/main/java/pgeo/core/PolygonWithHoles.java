@@ -0,0 +1,191 @@
+package pgeo.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class PolygonWithHoles {
+
+    private final double[] coordinates;
+    private final int[] ringStarts;
+    private final int firstRing;
+    private final int ringCount;
+
+    PolygonWithHoles(double[] coordinates, int[] ringStarts, int firstRing, int ringCount) {
+        this.coordinates = coordinates;
+        this.ringStarts = ringStarts;
+        this.firstRing = firstRing;
+        this.ringCount = ringCount;
+    }
+
+    public static PolygonWithHoles of(double[] shell, double[]... holes) {
+        if (holes == null) {
+            throw new IllegalArgumentException("Holes array cannot be null");
+        }
+        double[][] rings = new double[holes.length + 1][];
+        rings[0] = shell;
+        System.arraycopy(holes, 0, rings, 1, holes.length);
+        return fromRings(rings);
+    }
+
+    public static PolygonWithHoles fromRings(double[][] rings) {
+        if (rings == null) {
+            throw new IllegalArgumentException("Rings array cannot be null");
+        }
+        if (rings.length == 0) {
+            throw new IllegalArgumentException("Polygon requires a shell ring");
+        }
+        Rings.validateRing(rings[0], "Shell");
+        for (int r = 1; r < rings.length; r++) {
+            Rings.validateRing(rings[r], String.format("Hole %d", r - 1));
+        }
+
+        int[] starts = Rings.ringStarts(rings);
+        return new PolygonWithHoles(Rings.pack(rings, starts), starts, 0, rings.length);
+    }
+
+    public static PolygonWithHoles fromPolygons(Polygon shell, Polygon... holes) {
+        if (holes == null) {
+            throw new IllegalArgumentException("Holes array cannot be null");
+        }
+        double[][] rings = new double[holes.length + 1][];
+        rings[0] = Rings.toCoordinates(shell, "Shell");
+        for (int i = 0; i < holes.length; i++) {
+            rings[i + 1] = Rings.toCoordinates(holes[i], String.format("Hole %d", i));
+        }
+        return fromRings(rings);
+    }
+
+    public int getRingCount() {
+        return ringCount;
+    }
+
+    public int getHoleCount() {
+        return ringCount - 1;
+    }
+
+    public int getVertexCount() {
+        return ringStarts[firstRing + ringCount] - ringStarts[firstRing];
+    }
+
+    public int getRingVertexCount(int ring) {
+        checkRing(ring);
+        return ringStarts[firstRing + ring + 1] - ringStarts[firstRing + ring];
+    }
+
+    public double getX(int ring, int vertex) {
+        return coordinates[vertexIndex(ring, vertex) * 2];
+    }
+
+    public double getY(int ring, int vertex) {
+        return coordinates[vertexIndex(ring, vertex) * 2 + 1];
+    }
+
+    public double[] getRing(int ring) {
+        checkRing(ring);
+        return Arrays.copyOfRange(coordinates, start(ring) * 2, end(ring) * 2);
+    }
+
+    public double[][] toRings() {
+        double[][] rings = new double[ringCount][];
+        for (int r = 0; r < ringCount; r++) {
+            rings[r] = getRing(r);
+        }
+        return rings;
+    }
+
+    public double calculateArea() {
+        double area = Math.abs(Rings.signedArea(coordinates, start(0), end(0)));
+        for (int r = 1; r < ringCount; r++) {
+            area -= Math.abs(Rings.signedArea(coordinates, start(r), end(r)));
+        }
+        return area;
+    }
+
+    public double calculatePerimeter() {
+        double perimeter = 0.0;
+        for (int r = 0; r < ringCount; r++) {
+            perimeter += Rings.perimeter(coordinates, start(r), end(r));
+        }
+        return perimeter;
+    }
+
+    public boolean contains(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        return contains(point.getX(), point.getY());
+    }
+
+    public boolean contains(double x, double y) {
+        boolean inside = false;
+        for (int r = 0; r < ringCount; r++) {
+            if (Rings.isOnBoundary(coordinates, start(r), end(r), x, y)) {
+                return true;
+            }
+            if (Rings.crossesRay(coordinates, start(r), end(r), x, y)) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    public Envelope getEnvelope() {
+        return Envelope.of(coordinates, start(0), end(0));
+    }
+
+    private int start(int ring) {
+        return ringStarts[firstRing + ring];
+    }
+
+    private int end(int ring) {
+        return ringStarts[firstRing + ring + 1];
+    }
+
+    private int vertexIndex(int ring, int vertex) {
+        int count = getRingVertexCount(ring);
+        if (vertex < 0 || vertex >= count) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for ring with %d vertices", vertex, count)
+            );
+        }
+        return start(ring) + vertex;
+    }
+
+    private void checkRing(int ring) {
+        if (ring < 0 || ring >= ringCount) {
+            throw new IndexOutOfBoundsException(
+                String.format("Ring %d out of bounds for polygon with %d rings", ring, ringCount)
+            );
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PolygonWithHoles other = (PolygonWithHoles) obj;
+        if (ringCount != other.ringCount) {
+            return false;
+        }
+        for (int r = 0; r < ringCount; r++) {
+            if (!Arrays.equals(coordinates, start(r) * 2, end(r) * 2,
+                    other.coordinates, other.start(r) * 2, other.end(r) * 2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = start(0) * 2; i < end(ringCount - 1) * 2; i++) {
+            hash = 31 * hash + Double.hashCode(coordinates[i]);
+        }
+        return 31 * hash + ringCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PolygonWithHoles[%d vertices, %d holes, area=%.4f]",
+            getVertexCount(), getHoleCount(), calculateArea());
+    }
+}
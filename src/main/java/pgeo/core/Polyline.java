@@ -0,0 +1,409 @@
+package pgeo.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class Polyline {
+
+    static final int CHUNK_SEGMENTS = 32;
+
+    private final double[] coordinates;
+    private final int vertexCount;
+
+    private volatile double[] cumulativeLengths;
+    private volatile double[] chunkBounds;
+    private volatile double[] chunkTree;
+
+    private Polyline(double[] coordinates) {
+        this.coordinates = coordinates;
+        this.vertexCount = coordinates.length / 2;
+    }
+
+    public static Polyline of(double... coordinates) {
+        validateCoordinates(coordinates);
+        return new Polyline(coordinates.clone());
+    }
+
+    public static Polyline fromPoints(Point... points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points array cannot be null");
+        }
+        double[] coordinates = new double[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            if (points[i] == null) {
+                throw new IllegalArgumentException(
+                    String.format("Point at index %d cannot be null", i)
+                );
+            }
+            coordinates[i * 2] = points[i].getX();
+            coordinates[i * 2 + 1] = points[i].getY();
+        }
+        validateCoordinates(coordinates);
+        return new Polyline(coordinates);
+    }
+
+    public static Polyline fromArray(double[][] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates array cannot be null");
+        }
+        double[] packed = new double[coordinates.length * 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            if (coordinates[i] == null || coordinates[i].length != 2) {
+                throw new IllegalArgumentException(
+                    String.format("Coordinate at index %d must contain exactly 2 values", i)
+                );
+            }
+            packed[i * 2] = coordinates[i][0];
+            packed[i * 2 + 1] = coordinates[i][1];
+        }
+        validateCoordinates(packed);
+        return new Polyline(packed);
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getSegmentCount() {
+        return vertexCount - 1;
+    }
+
+    public double getX(int index) {
+        checkIndex(index);
+        return coordinates[index * 2];
+    }
+
+    public double getY(int index) {
+        checkIndex(index);
+        return coordinates[index * 2 + 1];
+    }
+
+    public Point getVertex(int index) {
+        checkIndex(index);
+        return new Point(coordinates[index * 2], coordinates[index * 2 + 1]);
+    }
+
+    public int copyCoordinates(double[] target, int offset) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset > target.length - coordinates.length) {
+            throw new IllegalArgumentException(
+                String.format("Target buffer needs %d values from offset %d but has length %d",
+                    coordinates.length, offset, target.length)
+            );
+        }
+        System.arraycopy(coordinates, 0, target, offset, coordinates.length);
+        return coordinates.length;
+    }
+
+    public double getLength() {
+        return cumulativeLengths()[vertexCount - 1];
+    }
+
+    public double getLengthAtVertex(int index) {
+        checkIndex(index);
+        return cumulativeLengths()[index];
+    }
+
+    public int segmentAt(double distance) {
+        return segmentAt(cumulativeLengths(), clamp(distance));
+    }
+
+    public Point pointAtDistance(double distance) {
+        double[] point = new double[2];
+        pointAtDistance(distance, point, 0);
+        return new Point(point[0], point[1]);
+    }
+
+    public void pointAtDistance(double distance, double[] target, int offset) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset > target.length - 2) {
+            throw new IllegalArgumentException(
+                String.format("Target buffer needs 2 values from offset %d but has length %d", offset, target.length)
+            );
+        }
+        double[] lengths = cumulativeLengths();
+        double clamped = clamp(distance);
+        int segment = segmentAt(lengths, clamped);
+        interpolate(lengths, segment, clamped, target, offset);
+    }
+
+    public double locate(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        return locate(point.getX(), point.getY());
+    }
+
+    public double locate(double x, double y) {
+        if (!Double.isFinite(x) || !Double.isFinite(y)) {
+            throw new IllegalArgumentException("Coordinates must be finite");
+        }
+        double[] tree = chunkTree();
+        double[] best = {Double.POSITIVE_INFINITY, 0.0};
+        search(tree, tree.length / 8, 1, x, y, cumulativeLengths(), best);
+        return best[1];
+    }
+
+    public Polyline substring(double fromDistance, double toDistance) {
+        double from = clamp(fromDistance);
+        double to = clamp(toDistance);
+        if (from > to) {
+            throw new IllegalArgumentException(
+                String.format("Start distance %.4f cannot exceed end distance %.4f", fromDistance, toDistance)
+            );
+        }
+
+        double[] lengths = cumulativeLengths();
+        int first = segmentAt(lengths, from);
+        int last = segmentAt(lengths, to);
+
+        double[] result = new double[(last - first + 2) * 2];
+        interpolate(lengths, first, from, result, 0);
+        int size = 2;
+        for (int i = first + 1; i <= last; i++) {
+            if (lengths[i] > from && lengths[i] < to) {
+                result[size++] = coordinates[i * 2];
+                result[size++] = coordinates[i * 2 + 1];
+            }
+        }
+        interpolate(lengths, last, to, result, size);
+        size += 2;
+
+        return new Polyline(size == result.length ? result : Arrays.copyOf(result, size));
+    }
+
+    public Envelope getEnvelope() {
+        return Envelope.of(coordinates, 0, vertexCount);
+    }
+
+    public Envelope getChunkEnvelope(int chunk) {
+        int chunkCount = getChunkCount();
+        if (chunk < 0 || chunk >= chunkCount) {
+            throw new IndexOutOfBoundsException(
+                String.format("Chunk %d out of bounds for polyline with %d chunks", chunk, chunkCount)
+            );
+        }
+        double[] bounds = chunkBounds();
+        return new Envelope(bounds[chunk * 4], bounds[chunk * 4 + 1], bounds[chunk * 4 + 2], bounds[chunk * 4 + 3]);
+    }
+
+    public int getChunkCount() {
+        return (vertexCount - 2) / CHUNK_SEGMENTS + 1;
+    }
+
+    public double[][] toArray() {
+        double[][] result = new double[vertexCount][];
+        for (int i = 0; i < vertexCount; i++) {
+            result[i] = new double[]{coordinates[i * 2], coordinates[i * 2 + 1]};
+        }
+        return result;
+    }
+
+    private double[] cumulativeLengths() {
+        double[] lengths = cumulativeLengths;
+        if (lengths == null) {
+            lengths = new double[vertexCount];
+            for (int i = 1; i < vertexCount; i++) {
+                double dx = coordinates[i * 2] - coordinates[i * 2 - 2];
+                double dy = coordinates[i * 2 + 1] - coordinates[i * 2 - 1];
+                lengths[i] = lengths[i - 1] + Math.sqrt(dx * dx + dy * dy);
+            }
+            cumulativeLengths = lengths;
+        }
+        return lengths;
+    }
+
+    private double[] chunkBounds() {
+        double[] bounds = chunkBounds;
+        if (bounds == null) {
+            int chunkCount = getChunkCount();
+            bounds = new double[chunkCount * 4];
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int first = chunk * CHUNK_SEGMENTS;
+                int last = Math.min(first + CHUNK_SEGMENTS, vertexCount - 1);
+                double minX = Double.POSITIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                for (int i = first; i <= last; i++) {
+                    minX = Math.min(minX, coordinates[i * 2]);
+                    maxX = Math.max(maxX, coordinates[i * 2]);
+                    minY = Math.min(minY, coordinates[i * 2 + 1]);
+                    maxY = Math.max(maxY, coordinates[i * 2 + 1]);
+                }
+                bounds[chunk * 4] = minX;
+                bounds[chunk * 4 + 1] = minY;
+                bounds[chunk * 4 + 2] = maxX;
+                bounds[chunk * 4 + 3] = maxY;
+            }
+            chunkBounds = bounds;
+        }
+        return bounds;
+    }
+
+    private double[] chunkTree() {
+        double[] tree = chunkTree;
+        if (tree == null) {
+            double[] bounds = chunkBounds();
+            int chunkCount = bounds.length / 4;
+            int leaves = Integer.highestOneBit(chunkCount);
+            if (leaves < chunkCount) {
+                leaves <<= 1;
+            }
+            tree = new double[leaves * 8];
+            for (int node = leaves; node < leaves * 2; node++) {
+                int chunk = node - leaves;
+                if (chunk < chunkCount) {
+                    System.arraycopy(bounds, chunk * 4, tree, node * 4, 4);
+                } else {
+                    tree[node * 4] = Double.POSITIVE_INFINITY;
+                    tree[node * 4 + 1] = Double.POSITIVE_INFINITY;
+                    tree[node * 4 + 2] = Double.NEGATIVE_INFINITY;
+                    tree[node * 4 + 3] = Double.NEGATIVE_INFINITY;
+                }
+            }
+            for (int node = leaves - 1; node >= 1; node--) {
+                int left = node * 8;
+                int right = left + 4;
+                tree[node * 4] = Math.min(tree[left], tree[right]);
+                tree[node * 4 + 1] = Math.min(tree[left + 1], tree[right + 1]);
+                tree[node * 4 + 2] = Math.max(tree[left + 2], tree[right + 2]);
+                tree[node * 4 + 3] = Math.max(tree[left + 3], tree[right + 3]);
+            }
+            chunkTree = tree;
+        }
+        return tree;
+    }
+
+    private void search(double[] tree, int leaves, int node, double x, double y, double[] lengths, double[] best) {
+        if (node >= leaves) {
+            scanChunk(node - leaves, x, y, lengths, best);
+            return;
+        }
+        int near = node * 2;
+        int far = near + 1;
+        double nearDistance = boundsDistanceSquared(tree, near, x, y);
+        double farDistance = boundsDistanceSquared(tree, far, x, y);
+        if (farDistance < nearDistance) {
+            near = far;
+            far = node * 2;
+            double swap = nearDistance;
+            nearDistance = farDistance;
+            farDistance = swap;
+        }
+        if (nearDistance <= best[0]) {
+            search(tree, leaves, near, x, y, lengths, best);
+        }
+        if (farDistance <= best[0]) {
+            search(tree, leaves, far, x, y, lengths, best);
+        }
+    }
+
+    private void scanChunk(int chunk, double x, double y, double[] lengths, double[] best) {
+        int first = chunk * CHUNK_SEGMENTS;
+        int last = Math.min(first + CHUNK_SEGMENTS, vertexCount - 1);
+        for (int i = first; i < last; i++) {
+            double x0 = coordinates[i * 2];
+            double y0 = coordinates[i * 2 + 1];
+            double dx = coordinates[i * 2 + 2] - x0;
+            double dy = coordinates[i * 2 + 3] - y0;
+            double lengthSquared = dx * dx + dy * dy;
+
+            double t = 0.0;
+            if (lengthSquared > 0.0) {
+                t = Math.max(0.0, Math.min(1.0, ((x - x0) * dx + (y - y0) * dy) / lengthSquared));
+            }
+            double px = x0 + t * dx - x;
+            double py = y0 + t * dy - y;
+            double distanceSquared = px * px + py * py;
+            double location = lengths[i] + t * (lengths[i + 1] - lengths[i]);
+            if (distanceSquared < best[0] || (distanceSquared == best[0] && location < best[1])) {
+                best[0] = distanceSquared;
+                best[1] = location;
+            }
+        }
+    }
+
+    private int segmentAt(double[] lengths, double distance) {
+        int low = 0;
+        int high = vertexCount - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lengths[mid] <= distance) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void interpolate(double[] lengths, int segment, double distance, double[] target, int offset) {
+        double segmentLength = lengths[segment + 1] - lengths[segment];
+        double t = segmentLength > 0.0 ? Math.min(1.0, (distance - lengths[segment]) / segmentLength) : 0.0;
+        double x0 = coordinates[segment * 2];
+        double y0 = coordinates[segment * 2 + 1];
+        target[offset] = x0 + t * (coordinates[segment * 2 + 2] - x0);
+        target[offset + 1] = y0 + t * (coordinates[segment * 2 + 3] - y0);
+    }
+
+    private double clamp(double distance) {
+        if (Double.isNaN(distance)) {
+            throw new IllegalArgumentException("Distance cannot be NaN");
+        }
+        return Math.max(0.0, Math.min(getLength(), distance));
+    }
+
+    private static double boundsDistanceSquared(double[] bounds, int chunk, double x, double y) {
+        double dx = Math.max(0.0, Math.max(bounds[chunk * 4] - x, x - bounds[chunk * 4 + 2]));
+        double dy = Math.max(0.0, Math.max(bounds[chunk * 4 + 1] - y, y - bounds[chunk * 4 + 3]));
+        return dx * dx + dy * dy;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= vertexCount) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for polyline with %d vertices", index, vertexCount)
+            );
+        }
+    }
+
+    private static void validateCoordinates(double[] coordinates) {
+        if (coordinates == null) {
+            throw new IllegalArgumentException("Coordinates cannot be null");
+        }
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException("Coordinates must contain interleaved x, y pairs");
+        }
+        if (coordinates.length < 4) {
+            throw new IllegalArgumentException("Polyline requires at least 2 vertices");
+        }
+        for (int i = 0; i < coordinates.length; i++) {
+            if (!Double.isFinite(coordinates[i])) {
+                throw new IllegalArgumentException(
+                    String.format("Coordinate at index %d must be finite", i)
+                );
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Polyline polyline = (Polyline) obj;
+        return Arrays.equals(coordinates, polyline.coordinates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(coordinates);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Polyline[%d vertices, length=%.4f]", vertexCount, getLength());
+    }
+}
@@ -0,0 +1,102 @@
+package pgeo.core;
+
+import java.util.Objects;
+
+public final class PreparedLine {
+
+    private final Line line;
+    private final double ax;
+    private final double ay;
+    private final double bx;
+    private final double by;
+    private final double cross;
+    private final double a;
+    private final double b;
+    private final double c;
+
+    public PreparedLine(Line line) {
+        Objects.requireNonNull(line, "Line cannot be null");
+        this.line = line;
+        this.ax = line.getPointA().getX();
+        this.ay = line.getPointA().getY();
+        this.bx = line.getPointB().getX();
+        this.by = line.getPointB().getY();
+        this.cross = (ax * by) - (ay * bx);
+
+        double length = Math.hypot(bx - ax, by - ay);
+        if (!(length > 0) || Double.isInfinite(length)) {
+            throw new IllegalArgumentException(
+                String.format("Line length must be positive and finite, got %s", length)
+            );
+        }
+        this.a = (ay - by) / length;
+        this.b = (bx - ax) / length;
+        this.c = cross / length;
+    }
+
+    public PreparedLine(double ax, double ay, double bx, double by) {
+        this(new Line(new Point(ax, ay), new Point(bx, by)));
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public double getA() {
+        return a;
+    }
+
+    public double getB() {
+        return b;
+    }
+
+    public double getC() {
+        return c;
+    }
+
+    public int positionOfPoint(double x, double y) {
+        double det = cross + (ay * x) - (ax * y) + (bx * y) - (x * by);
+        return det > 0 ? 1 : (det < 0 ? -1 : 0);
+    }
+
+    public int positionOfPoint(Point point) {
+        Objects.requireNonNull(point, "Point cannot be null");
+        return positionOfPoint(point.getX(), point.getY());
+    }
+
+    public double signedDistance(double x, double y) {
+        return (a * x) + (b * y) + c;
+    }
+
+    public double distance(double x, double y) {
+        return Math.abs(signedDistance(x, y));
+    }
+
+    public void classify(double[] xs, double[] ys, byte[] out) {
+        if (xs == null || ys == null || out == null) {
+            throw new IllegalArgumentException("Coordinate and output arrays cannot be null");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException(
+                String.format("xs holds %d values but ys holds %d", xs.length, ys.length)
+            );
+        }
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException(
+                String.format("out holds %d values, %d required", out.length, xs.length)
+            );
+        }
+
+        for (int i = 0; i < xs.length; i++) {
+            double x = xs[i];
+            double y = ys[i];
+            double det = cross + (ay * x) - (ax * y) + (bx * y) - (x * by);
+            out[i] = (byte) (det > 0 ? 1 : (det < 0 ? -1 : 0));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PreparedLine[%sx + %sy + %s = 0]", a, b, c);
+    }
+}
@@ -0,0 +1,102 @@
+package pgeo.core;
+
+final class Rings {
+
+    private Rings() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static double signedArea(double[] coordinates, int start, int end) {
+        double sum = 0.0;
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            sum += (coordinates[j * 2] * coordinates[i * 2 + 1]) - (coordinates[i * 2] * coordinates[j * 2 + 1]);
+        }
+        return sum / 2.0;
+    }
+
+    static double perimeter(double[] coordinates, int start, int end) {
+        double perimeter = 0.0;
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            double dx = coordinates[i * 2] - coordinates[j * 2];
+            double dy = coordinates[i * 2 + 1] - coordinates[j * 2 + 1];
+            perimeter += Math.sqrt(dx * dx + dy * dy);
+        }
+        return perimeter;
+    }
+
+    static boolean isOnBoundary(double[] coordinates, int start, int end, double x, double y) {
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            double xi = coordinates[i * 2];
+            double yi = coordinates[i * 2 + 1];
+            double xj = coordinates[j * 2];
+            double yj = coordinates[j * 2 + 1];
+
+            if (x < Math.min(xi, xj) || x > Math.max(xi, xj) || y < Math.min(yi, yj) || y > Math.max(yi, yj)) {
+                continue;
+            }
+            if (Double.compare((xj - xi) * (y - yi) - (yj - yi) * (x - xi), 0.0) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean crossesRay(double[] coordinates, int start, int end, double x, double y) {
+        boolean odd = false;
+        for (int i = start, j = end - 1; i < end; j = i++) {
+            double xi = coordinates[i * 2];
+            double yi = coordinates[i * 2 + 1];
+            double xj = coordinates[j * 2];
+            double yj = coordinates[j * 2 + 1];
+
+            if ((yi > y) != (yj > y) && x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                odd = !odd;
+            }
+        }
+        return odd;
+    }
+
+    static void validateRing(double[] ring, String name) {
+        if (ring == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        if (ring.length % 2 != 0) {
+            throw new IllegalArgumentException(name + " must contain interleaved x, y pairs");
+        }
+        if (ring.length < 6) {
+            throw new IllegalArgumentException(name + " requires at least 3 vertices");
+        }
+        for (int i = 0; i < ring.length; i++) {
+            if (!Double.isFinite(ring[i])) {
+                throw new IllegalArgumentException(
+                    String.format("%s coordinate at index %d must be finite", name, i)
+                );
+            }
+        }
+    }
+
+    static int[] ringStarts(double[][] rings) {
+        int[] starts = new int[rings.length + 1];
+        for (int r = 0; r < rings.length; r++) {
+            starts[r + 1] = starts[r] + rings[r].length / 2;
+        }
+        return starts;
+    }
+
+    static double[] pack(double[][] rings, int[] starts) {
+        double[] coordinates = new double[starts[rings.length] * 2];
+        for (int r = 0; r < rings.length; r++) {
+            System.arraycopy(rings[r], 0, coordinates, starts[r] * 2, rings[r].length);
+        }
+        return coordinates;
+    }
+
+    static double[] toCoordinates(Polygon polygon, String name) {
+        if (polygon == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        double[] coordinates = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(coordinates, 0);
+        return coordinates;
+    }
+}
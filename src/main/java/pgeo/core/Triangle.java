@@ -38,6 +38,14 @@ public final class Triangle {
         return Math.abs(calculateSignedArea());
     }
 
+    public Envelope getEnvelope() {
+        return new Envelope(
+            Math.min(vertexA.getX(), Math.min(vertexB.getX(), vertexC.getX())),
+            Math.min(vertexA.getY(), Math.min(vertexB.getY(), vertexC.getY())),
+            Math.max(vertexA.getX(), Math.max(vertexB.getX(), vertexC.getX())),
+            Math.max(vertexA.getY(), Math.max(vertexB.getY(), vertexC.getY())));
+    }
+
     public static double calculateSignedAreaFromPoints(Point a, Point b, Point c) {
         Objects.requireNonNull(a, "Point A cannot be null");
         Objects.requireNonNull(b, "Point B cannot be null");
@@ -15,7 +15,7 @@ public class PGeo {
 
     public double area_triangulo(double[][] A) {
         GeometryValidator.validateTriangleArray(A);
-        validateDistinctPoints(A);
+        GeometryValidator.validateDistinctPoints(A);
 
         Point a = Point.fromArray(A[0]);
         Point b = Point.fromArray(A[1]);
@@ -90,7 +90,7 @@ public class PGeo {
 
     public double area_P4(double[][] A) {
         GeometryValidator.validateQuadrilateralArray(A);
-        validateDistinctPoints(A);
+        GeometryValidator.validateDistinctPoints(A);
 
         Point a = Point.fromArray(A[0]);
         Point b = Point.fromArray(A[1]);
@@ -157,26 +157,9 @@ public class PGeo {
         }
     }
 
-    private void validateDistinctPoints(double[][] points) {
-        for (int i = 0; i < points.length; i++) {
-            for (int j = i + 1; j < points.length; j++) {
-                if (arePointsCoincident(points[i], points[j])) {
-                    throw new IllegalArgumentException(
-                        String.format("Points at index %d and %d are coincident", i, j)
-                    );
-                }
-            }
-        }
-    }
-
     private void validateDistinctLinePoints(Point a, Point b) {
         if (a.isCoincident(b)) {
             throw new IllegalArgumentException("Line requires two distinct points");
         }
     }
-
-    private boolean arePointsCoincident(double[] p1, double[] p2) {
-        return Double.compare(p1[0], p2[0]) == 0 
-            && Double.compare(p1[1], p2[1]) == 0;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package pgeo.geometry;
+
+import pgeo.io.CoordinateChunk;
+import pgeo.util.GeometryValidator;
+
+public class PGeoBatch {
+
+    public static final int TRIANGLE_STRIDE = 6;
+    public static final int SEGMENT_WITH_LINE_STRIDE = 8;
+    public static final int QUADRILATERAL_STRIDE = 8;
+
+    private static final int POSITION_ABOVE = 1;
+    private static final int POSITION_ON_LINE = 0;
+    private static final int POSITION_BELOW = -1;
+
+    public void area_triangulo(double[] A, int count, double[] out) {
+        area_triangulo(A, 0, count, out);
+    }
+
+    public void area_triangulo(double[] A, int from, int to, double[] out) {
+        validateBuffers(A, from, to, TRIANGLE_STRIDE, out == null ? -1 : out.length);
+
+        for (int i = from; i < to; i++) {
+            int base = i * TRIANGLE_STRIDE;
+            double ax = A[base];
+            double ay = A[base + 1];
+            double bx = A[base + 2];
+            double by = A[base + 3];
+            double cx = A[base + 4];
+            double cy = A[base + 5];
+
+            validateFinite(A, base, TRIANGLE_STRIDE, i);
+            validateDistinct(ax, ay, bx, by, i);
+            validateDistinct(ax, ay, cx, cy, i);
+            validateDistinct(bx, by, cx, cy, i);
+
+            out[i] = Math.abs(signedArea(ax, ay, bx, by, cx, cy));
+        }
+    }
+
+    public void acima_abaixo(double[] A, int count, int[] out) {
+        acima_abaixo(A, 0, count, out);
+    }
+
+    public void acima_abaixo(double[] A, int from, int to, int[] out) {
+        validateBuffers(A, from, to, TRIANGLE_STRIDE, out == null ? -1 : out.length);
+
+        for (int i = from; i < to; i++) {
+            int base = i * TRIANGLE_STRIDE;
+            double ax = A[base];
+            double ay = A[base + 1];
+            double bx = A[base + 2];
+            double by = A[base + 3];
+
+            validateFinite(A, base, TRIANGLE_STRIDE, i);
+            validateDistinctLine(ax, ay, bx, by, i);
+
+            double area = signedArea(ax, ay, bx, by, A[base + 4], A[base + 5]);
+
+            if (area > 0) {
+                out[i] = POSITION_ABOVE;
+            } else if (area < 0) {
+                out[i] = POSITION_BELOW;
+            } else {
+                out[i] = POSITION_ON_LINE;
+            }
+        }
+    }
+
+    public void intersecao(double[] A, int count, boolean[] out) {
+        intersecao(A, 0, count, out);
+    }
+
+    public void intersecao(double[] A, int from, int to, boolean[] out) {
+        validateBuffers(A, from, to, SEGMENT_WITH_LINE_STRIDE, out == null ? -1 : out.length);
+
+        for (int i = from; i < to; i++) {
+            int base = i * SEGMENT_WITH_LINE_STRIDE;
+            double sx1 = A[base];
+            double sy1 = A[base + 1];
+            double sx2 = A[base + 2];
+            double sy2 = A[base + 3];
+            double lx1 = A[base + 4];
+            double ly1 = A[base + 5];
+            double lx2 = A[base + 6];
+            double ly2 = A[base + 7];
+
+            validateFinite(A, base, SEGMENT_WITH_LINE_STRIDE, i);
+            validateDistinctLine(sx1, sy1, sx2, sy2, i);
+            validateDistinctLine(lx1, ly1, lx2, ly2, i);
+
+            double startSide = Math.signum(signedArea(lx1, ly1, lx2, ly2, sx1, sy1));
+            double endSide = Math.signum(signedArea(lx1, ly1, lx2, ly2, sx2, sy2));
+
+            out[i] = startSide == 0 || endSide == 0 || startSide != endSide;
+        }
+    }
+
+    public void area_P4(double[] A, int count, double[] out) {
+        area_P4(A, 0, count, out);
+    }
+
+    public void area_P4(double[] A, int from, int to, double[] out) {
+        validateBuffers(A, from, to, QUADRILATERAL_STRIDE, out == null ? -1 : out.length);
+
+        for (int i = from; i < to; i++) {
+            int base = i * QUADRILATERAL_STRIDE;
+
+            validateFinite(A, base, QUADRILATERAL_STRIDE, i);
+            for (int p = 0; p < 4; p++) {
+                for (int q = p + 1; q < 4; q++) {
+                    validateDistinct(A[base + p * 2], A[base + p * 2 + 1],
+                        A[base + q * 2], A[base + q * 2 + 1], i);
+                }
+            }
+
+            double sum = 0.0;
+            for (int p = 0; p < 4; p++) {
+                int current = base + p * 2;
+                int next = base + ((p + 1) % 4) * 2;
+                sum += (A[current] * A[next + 1]) - (A[next] * A[current + 1]);
+            }
+
+            out[i] = Math.abs(sum / 2.0);
+        }
+    }
+
+    public void area_triangulo(CoordinateChunk chunk, double[] out) {
+        validateChunk(chunk, TRIANGLE_STRIDE);
+        area_triangulo(chunk.getValues(), chunk.size(), out);
+    }
+
+    public void acima_abaixo(CoordinateChunk chunk, int[] out) {
+        validateChunk(chunk, TRIANGLE_STRIDE);
+        acima_abaixo(chunk.getValues(), chunk.size(), out);
+    }
+
+    public void intersecao(CoordinateChunk chunk, boolean[] out) {
+        validateChunk(chunk, SEGMENT_WITH_LINE_STRIDE);
+        intersecao(chunk.getValues(), chunk.size(), out);
+    }
+
+    public void area_P4(CoordinateChunk chunk, double[] out) {
+        validateChunk(chunk, QUADRILATERAL_STRIDE);
+        area_P4(chunk.getValues(), chunk.size(), out);
+    }
+
+    static double signedArea(double ax, double ay, double bx, double by, double cx, double cy) {
+        double twiceSignedArea = (ax * by) - (ay * bx)
+                               + (ay * cx) - (ax * cy)
+                               + (bx * cy) - (cx * by);
+
+        return twiceSignedArea / 2.0;
+    }
+
+    private void validateBuffers(double[] A, int from, int to, int stride, int outLength) {
+        if (A == null) {
+            throw new IllegalArgumentException("Coordinate buffer cannot be null");
+        }
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException(
+                String.format("Invalid record range [%d, %d)", from, to)
+            );
+        }
+        if ((long) to * stride > A.length) {
+            throw new IllegalArgumentException(
+                String.format("Coordinate buffer holds %d values, %d records need %d",
+                    A.length, to, (long) to * stride)
+            );
+        }
+        if (outLength < 0) {
+            throw new IllegalArgumentException("Output buffer cannot be null");
+        }
+        if (outLength < to) {
+            throw new IllegalArgumentException(
+                String.format("Output buffer holds %d results, %d records given", outLength, to)
+            );
+        }
+    }
+
+    private void validateChunk(CoordinateChunk chunk, int stride) {
+        if (chunk == null) {
+            throw new IllegalArgumentException("Chunk cannot be null");
+        }
+        if (chunk.getColumns() != stride) {
+            throw new IllegalArgumentException(
+                String.format("Operation requires %d columns per record, chunk has %d",
+                    stride, chunk.getColumns())
+            );
+        }
+    }
+
+    private void validateFinite(double[] A, int base, int stride, int record) {
+        int invalid = GeometryValidator.indexOfInvalidCoordinate(A, base, base + stride);
+        if (invalid >= 0) {
+            throw new IllegalArgumentException(
+                String.format("Record %d has a non-finite coordinate at column %d", record, invalid - base)
+            );
+        }
+    }
+
+    private void validateDistinct(double x1, double y1, double x2, double y2, int record) {
+        if (Double.compare(x1, x2) == 0 && Double.compare(y1, y2) == 0) {
+            throw new IllegalArgumentException(
+                String.format("Record %d has coincident points", record)
+            );
+        }
+    }
+
+    private void validateDistinctLine(double x1, double y1, double x2, double y2, int record) {
+        if (Double.compare(x1, x2) == 0 && Double.compare(y1, y2) == 0) {
+            throw new IllegalArgumentException(
+                String.format("Record %d: line requires two distinct points", record)
+            );
+        }
+    }
+}
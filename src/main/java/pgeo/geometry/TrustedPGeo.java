@@ -0,0 +1,90 @@
+package pgeo.geometry;
+
+public class TrustedPGeo extends PGeo {
+
+    @Override
+    public double area_triangulo(double[][] A) {
+        return Math.abs(signedArea(A[0], A[1], A[2]));
+    }
+
+    @Override
+    public int acima_abaixo(double[][] A) {
+        return (int) Math.signum(signedArea(A[0], A[1], A[2]));
+    }
+
+    @Override
+    public boolean intersecao(double[][] A) {
+        int positionStart = (int) Math.signum(signedArea(A[2], A[3], A[0]));
+        int positionEnd = (int) Math.signum(signedArea(A[2], A[3], A[1]));
+
+        return positionStart == 0 || positionEnd == 0 || positionStart != positionEnd;
+    }
+
+    @Override
+    public double[][] ponto_intersecao(double[][] A) {
+        if (!intersecao(A)) {
+            return null;
+        }
+
+        double x1 = A[0][0];
+        double y1 = A[0][1];
+        double x2 = A[1][0];
+        double y2 = A[1][1];
+        double x3 = A[2][0];
+        double y3 = A[2][1];
+        double x4 = A[3][0];
+        double y4 = A[3][1];
+
+        double denominator = ((x1 - x2) * (y3 - y4)) - ((y1 - y2) * (x3 - x4));
+
+        if (Double.compare(denominator, 0.0) == 0) {
+            return null;
+        }
+
+        double t = (((x1 - x3) * (y3 - y4)) - ((y1 - y3) * (x3 - x4))) / denominator;
+
+        return new double[][]{{x1 + (t * (x2 - x1)), y1 + (t * (y2 - y1))}};
+    }
+
+    @Override
+    public double area_P4(double[][] A) {
+        double sum = 0.0;
+
+        for (int i = 0; i < 4; i++) {
+            double[] current = A[i];
+            double[] next = A[(i + 1) % 4];
+            sum += (current[0] * next[1]) - (next[0] * current[1]);
+        }
+
+        return Math.abs(sum / 2.0);
+    }
+
+    @Override
+    public double calculateTriangleSignedArea(double[][] A) {
+        return signedArea(A[0], A[1], A[2]);
+    }
+
+    @Override
+    public boolean arePointsCollinear(double[][] A) {
+        return Double.compare(signedArea(A[0], A[1], A[2]), 0.0) == 0;
+    }
+
+    @Override
+    public boolean isPointOnLine(double[][] A) {
+        return acima_abaixo(A) == 0;
+    }
+
+    @Override
+    public boolean isPointAboveLine(double[][] A) {
+        return acima_abaixo(A) > 0;
+    }
+
+    @Override
+    public boolean isPointBelowLine(double[][] A) {
+        return acima_abaixo(A) < 0;
+    }
+
+    private static double signedArea(double[] a, double[] b, double[] c) {
+        return PGeoBatch.signedArea(a[0], a[1], b[0], b[1], c[0], c[1]);
+    }
+}
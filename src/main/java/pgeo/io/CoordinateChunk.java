@@ -0,0 +1,91 @@
+package pgeo.io;
+
+import java.util.Arrays;
+
+public final class CoordinateChunk {
+
+    private final double[] values;
+    private final boolean[] malformed;
+    private final int columns;
+    private final int capacity;
+    private int size;
+    private long firstRecordIndex;
+
+    public CoordinateChunk(int columns, int capacity) {
+        if (columns <= 0) {
+            throw new IllegalArgumentException("Chunk requires at least 1 column");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Chunk capacity must be positive");
+        }
+        this.values = new double[columns * capacity];
+        this.malformed = new boolean[capacity];
+        this.columns = columns;
+        this.capacity = capacity;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public long getFirstRecordIndex() {
+        return firstRecordIndex;
+    }
+
+    public double get(int record, int column) {
+        if (record < 0 || record >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Record %d out of bounds for chunk with %d records", record, size)
+            );
+        }
+        if (column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException(
+                String.format("Column %d out of bounds for chunk with %d columns", column, columns)
+            );
+        }
+        return values[record * columns + column];
+    }
+
+    public boolean isMalformed(int record) {
+        if (record < 0 || record >= size) {
+            throw new IndexOutOfBoundsException(
+                String.format("Record %d out of bounds for chunk with %d records", record, size)
+            );
+        }
+        return malformed[record];
+    }
+
+    void reset(long firstRecordIndex) {
+        this.firstRecordIndex = firstRecordIndex;
+        this.size = 0;
+    }
+
+    void commitRecord() {
+        malformed[size++] = false;
+    }
+
+    void commitMalformedRecord() {
+        Arrays.fill(values, size * columns, (size + 1) * columns, Double.NaN);
+        malformed[size++] = true;
+    }
+}
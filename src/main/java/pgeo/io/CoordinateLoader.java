@@ -0,0 +1,313 @@
+package pgeo.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+public final class CoordinateLoader implements Closeable {
+
+    public static final int DEFAULT_CHUNK_RECORDS = 8192;
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final int PREFETCH_DEPTH = 2;
+
+    private final ReadableByteChannel channel;
+    private final int columns;
+    private final int chunkRecords;
+    private final boolean tolerateMalformed;
+    private ByteBuffer buffer;
+    private boolean headerPending;
+    private boolean endOfInput;
+    private long lineNumber;
+    private long recordCount;
+
+    public CoordinateLoader(ReadableByteChannel channel, int columns, int chunkRecords, boolean skipHeader) {
+        this(channel, columns, chunkRecords, skipHeader, false);
+    }
+
+    public CoordinateLoader(ReadableByteChannel channel, int columns, int chunkRecords, boolean skipHeader,
+                            boolean tolerateMalformed) {
+        Objects.requireNonNull(channel, "Channel cannot be null");
+        if (columns <= 0) {
+            throw new IllegalArgumentException("Loader requires at least 1 column");
+        }
+        if (chunkRecords <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.channel = channel;
+        this.columns = columns;
+        this.chunkRecords = chunkRecords;
+        this.tolerateMalformed = tolerateMalformed;
+        this.buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        this.buffer.flip();
+        this.headerPending = skipHeader;
+    }
+
+    public static CoordinateLoader open(Path path, int columns) throws IOException {
+        return open(path, columns, DEFAULT_CHUNK_RECORDS, false);
+    }
+
+    public static CoordinateLoader open(Path path, int columns, int chunkRecords, boolean skipHeader)
+            throws IOException {
+        return open(path, columns, chunkRecords, skipHeader, false);
+    }
+
+    public static CoordinateLoader open(Path path, int columns, int chunkRecords, boolean skipHeader,
+                                        boolean tolerateMalformed) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return new CoordinateLoader(FileChannel.open(path, StandardOpenOption.READ),
+            columns, chunkRecords, skipHeader, tolerateMalformed);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getChunkRecords() {
+        return chunkRecords;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public CoordinateChunk newChunk() {
+        return new CoordinateChunk(columns, chunkRecords);
+    }
+
+    public boolean readChunk(CoordinateChunk chunk) throws IOException {
+        Objects.requireNonNull(chunk, "Chunk cannot be null");
+        if (chunk.getColumns() != columns) {
+            throw new IllegalArgumentException(
+                String.format("Chunk has %d columns, loader expects %d", chunk.getColumns(), columns)
+            );
+        }
+
+        chunk.reset(recordCount);
+
+        while (!chunk.isFull()) {
+            int lineEnd = findLineEnd();
+
+            if (lineEnd >= 0) {
+                parseLine(buffer.position(), lineEnd, chunk);
+                buffer.position(lineEnd + 1);
+            } else if (endOfInput) {
+                if (buffer.hasRemaining()) {
+                    parseLine(buffer.position(), buffer.limit(), chunk);
+                    buffer.position(buffer.limit());
+                }
+                break;
+            } else {
+                refill();
+            }
+        }
+
+        return !chunk.isEmpty();
+    }
+
+    public long forEachChunk(Consumer<CoordinateChunk> consumer) throws IOException {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+
+        BlockingQueue<CoordinateChunk> freeChunks = new ArrayBlockingQueue<>(PREFETCH_DEPTH);
+        BlockingQueue<CoordinateChunk> filledChunks = new ArrayBlockingQueue<>(PREFETCH_DEPTH + 1);
+        CoordinateChunk endMarker = new CoordinateChunk(1, 1);
+        Throwable[] readerFailure = new Throwable[1];
+
+        for (int i = 0; i < PREFETCH_DEPTH; i++) {
+            freeChunks.add(newChunk());
+        }
+
+        Thread reader = new Thread(() -> {
+            try {
+                while (true) {
+                    CoordinateChunk chunk = freeChunks.take();
+                    if (!readChunk(chunk)) {
+                        break;
+                    }
+                    filledChunks.put(chunk);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                readerFailure[0] = e;
+            } finally {
+                filledChunks.offer(endMarker);
+            }
+        }, "pgeo-coordinate-loader");
+        reader.setDaemon(true);
+        reader.start();
+
+        long processed = 0;
+
+        try {
+            while (true) {
+                CoordinateChunk chunk = filledChunks.take();
+                if (chunk == endMarker) {
+                    break;
+                }
+                consumer.accept(chunk);
+                processed += chunk.size();
+                freeChunks.put(chunk);
+            }
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading coordinates", e);
+        } finally {
+            reader.interrupt();
+        }
+
+        rethrowReaderFailure(readerFailure[0]);
+        return processed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int findLineEnd() {
+        byte[] bytes = buffer.array();
+        int limit = buffer.limit();
+        for (int i = buffer.position(); i < limit; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void refill() throws IOException {
+        buffer.compact();
+
+        if (!buffer.hasRemaining()) {
+            ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        if (channel.read(buffer) < 0) {
+            endOfInput = true;
+        }
+
+        buffer.flip();
+    }
+
+    private void parseLine(int start, int end, CoordinateChunk chunk) {
+        lineNumber++;
+        byte[] bytes = buffer.array();
+
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+
+        int position = skipBlanks(bytes, start, end);
+
+        if (position == end || bytes[position] == '#') {
+            return;
+        }
+
+        if (headerPending) {
+            headerPending = false;
+            return;
+        }
+
+        try {
+            parseFields(bytes, position, end, chunk.getValues(), chunk.size() * columns);
+            chunk.commitRecord();
+        } catch (IllegalArgumentException e) {
+            if (!tolerateMalformed) {
+                throw e;
+            }
+            chunk.commitMalformedRecord();
+        }
+        recordCount++;
+    }
+
+    private void parseFields(byte[] bytes, int position, int end, double[] values, int base) {
+        int field = 0;
+
+        while (position < end) {
+            int fieldStart = position;
+            while (position < end && !isSeparator(bytes[position])) {
+                position++;
+            }
+
+            if (field == columns) {
+                throw fieldCountMismatch(field + 1);
+            }
+            if (fieldStart == position) {
+                throw new IllegalArgumentException(
+                    String.format("Line %d: empty field at column %d", lineNumber, field + 1)
+                );
+            }
+
+            values[base + field] = parseField(bytes, fieldStart, position, field);
+            field++;
+
+            position = skipBlanks(bytes, position, end);
+            if (position < end && (bytes[position] == ',' || bytes[position] == ';')) {
+                position = skipBlanks(bytes, position + 1, end);
+                if (position == end) {
+                    throw new IllegalArgumentException(
+                        String.format("Line %d: trailing separator", lineNumber)
+                    );
+                }
+            }
+        }
+
+        if (field != columns) {
+            throw fieldCountMismatch(field);
+        }
+    }
+
+    private double parseField(byte[] bytes, int start, int end, int field) {
+        try {
+            return CoordinateParser.parseDouble(bytes, start, end);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                String.format("Line %d: invalid number at column %d", lineNumber, field + 1), e
+            );
+        }
+    }
+
+    private IllegalArgumentException fieldCountMismatch(int found) {
+        return new IllegalArgumentException(
+            String.format("Line %d: expected %d values, got %d", lineNumber, columns, found)
+        );
+    }
+
+    private static int skipBlanks(byte[] bytes, int position, int end) {
+        while (position < end && (bytes[position] == ' ' || bytes[position] == '\t')) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isSeparator(byte value) {
+        return value == ',' || value == ';' || value == ' ' || value == '\t';
+    }
+
+    private static void rethrowReaderFailure(Throwable failure) throws IOException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) failure).getCause();
+        }
+        throw (RuntimeException) failure;
+    }
+}
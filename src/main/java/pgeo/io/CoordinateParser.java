@@ -0,0 +1,126 @@
+package pgeo.io;
+
+import java.nio.charset.StandardCharsets;
+
+public final class CoordinateParser {
+
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+
+    private CoordinateParser() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static double parseDouble(byte[] buffer, int start, int end) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (start < 0 || end > buffer.length || start >= end) {
+            throw new NumberFormatException(
+                String.format("Empty or out of range field [%d, %d)", start, end)
+            );
+        }
+
+        int position = start;
+        boolean negative = false;
+
+        if (buffer[position] == '-' || buffer[position] == '+') {
+            negative = buffer[position] == '-';
+            position++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean sawDigit = false;
+        boolean sawDot = false;
+
+        while (position < end) {
+            byte current = buffer[position];
+
+            if (current >= '0' && current <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || current != '0') {
+                    significantDigits++;
+                }
+                if (significantDigits > MAX_FAST_PATH_DIGITS) {
+                    return parseFallback(buffer, start, end);
+                }
+                mantissa = mantissa * 10 + (current - '0');
+                if (sawDot) {
+                    fractionDigits++;
+                }
+            } else if (current == '.' && !sawDot) {
+                sawDot = true;
+            } else {
+                break;
+            }
+            position++;
+        }
+
+        if (!sawDigit) {
+            return parseFallback(buffer, start, end);
+        }
+
+        int exponent = 0;
+
+        if (position < end) {
+            byte marker = buffer[position];
+            if (marker != 'e' && marker != 'E') {
+                return parseFallback(buffer, start, end);
+            }
+            position++;
+
+            boolean negativeExponent = false;
+            if (position < end && (buffer[position] == '-' || buffer[position] == '+')) {
+                negativeExponent = buffer[position] == '-';
+                position++;
+            }
+            if (position == end) {
+                return parseFallback(buffer, start, end);
+            }
+
+            while (position < end) {
+                byte current = buffer[position];
+                if (current < '0' || current > '9' || exponent > 1000) {
+                    return parseFallback(buffer, start, end);
+                }
+                exponent = exponent * 10 + (current - '0');
+                position++;
+            }
+
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+
+        int decimalExponent = exponent - fractionDigits;
+
+        if (mantissa > MAX_EXACT_MANTISSA
+                || decimalExponent > MAX_EXACT_POWER_OF_TEN
+                || decimalExponent < -MAX_EXACT_POWER_OF_TEN) {
+            return parseFallback(buffer, start, end);
+        }
+
+        double value = decimalExponent >= 0
+            ? mantissa * POWERS_OF_TEN[decimalExponent]
+            : mantissa / POWERS_OF_TEN[-decimalExponent];
+
+        return negative ? -value : value;
+    }
+
+    private static double parseFallback(byte[] buffer, int start, int end) {
+        return Double.parseDouble(new String(buffer, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,154 @@
+package pgeo.simd;
+
+public abstract class BatchKernels {
+
+    public static final String KERNELS_PROPERTY = "pgeo.kernels";
+
+    private static final String VECTOR_KERNELS_CLASS = "pgeo.simd.VectorBatchKernels";
+    private static final BatchKernels SCALAR = new ScalarBatchKernels();
+    private static final BatchKernels BEST = loadBest();
+
+    BatchKernels() {
+    }
+
+    public static BatchKernels scalar() {
+        return SCALAR;
+    }
+
+    public static BatchKernels best() {
+        return BEST;
+    }
+
+    public abstract String getName();
+
+    public final void triangleSignedAreas(double[] ax, double[] ay, double[] bx, double[] by,
+                                          double[] cx, double[] cy, double[] out, int count) {
+        validateCount(count);
+        validateLength(ax, "ax", count);
+        validateLength(ay, "ay", count);
+        validateLength(bx, "bx", count);
+        validateLength(by, "by", count);
+        validateLength(cx, "cx", count);
+        validateLength(cy, "cy", count);
+        validateLength(out, "out", count);
+        computeTriangleSignedAreas(ax, ay, bx, by, cx, cy, out, count);
+    }
+
+    public final double polygonSignedArea(double[] xs, double[] ys, int count) {
+        if (count < 3) {
+            throw new IllegalArgumentException("Polygon requires at least 3 vertices");
+        }
+        validateLength(xs, "xs", count);
+        validateLength(ys, "ys", count);
+        return computeShoelaceSum(xs, ys, count) / 2.0;
+    }
+
+    public final void classifyPoints(double ax, double ay, double bx, double by,
+                                     double[] xs, double[] ys, byte[] out, int count) {
+        if (Double.compare(ax, bx) == 0 && Double.compare(ay, by) == 0) {
+            throw new IllegalArgumentException("Line requires two distinct points");
+        }
+        validateCount(count);
+        validateLength(xs, "xs", count);
+        validateLength(ys, "ys", count);
+        if (out == null) {
+            throw new IllegalArgumentException("out cannot be null");
+        }
+        if (out.length < count) {
+            throw new IllegalArgumentException(
+                String.format("out holds %d values, %d required", out.length, count)
+            );
+        }
+        computeClassification(ax, ay, bx, by, xs, ys, out, count);
+    }
+
+    public final int lineSegmentIntersections(double ax, double ay, double bx, double by,
+                                              double[] x1, double[] y1, double[] x2, double[] y2,
+                                              boolean[] hits, double[] outX, double[] outY, int count) {
+        if (Double.compare(ax, bx) == 0 && Double.compare(ay, by) == 0) {
+            throw new IllegalArgumentException("Line requires two distinct points");
+        }
+        validateCount(count);
+        validateLength(x1, "x1", count);
+        validateLength(y1, "y1", count);
+        validateLength(x2, "x2", count);
+        validateLength(y2, "y2", count);
+        validateHits(hits, count);
+        validateLength(outX, "outX", count);
+        validateLength(outY, "outY", count);
+        return computeLineSegmentIntersections(ax, ay, bx, by, x1, y1, x2, y2, hits, outX, outY, count);
+    }
+
+    public final int segmentLineIntersections(double x1, double y1, double x2, double y2,
+                                              double[] ax, double[] ay, double[] bx, double[] by,
+                                              boolean[] hits, double[] outX, double[] outY, int count) {
+        if (Double.compare(x1, x2) == 0 && Double.compare(y1, y2) == 0) {
+            throw new IllegalArgumentException("Line segment requires two distinct points");
+        }
+        validateCount(count);
+        validateLength(ax, "ax", count);
+        validateLength(ay, "ay", count);
+        validateLength(bx, "bx", count);
+        validateLength(by, "by", count);
+        validateHits(hits, count);
+        validateLength(outX, "outX", count);
+        validateLength(outY, "outY", count);
+        return computeSegmentLineIntersections(x1, y1, x2, y2, ax, ay, bx, by, hits, outX, outY, count);
+    }
+
+    abstract void computeTriangleSignedAreas(double[] ax, double[] ay, double[] bx, double[] by,
+                                             double[] cx, double[] cy, double[] out, int count);
+
+    abstract double computeShoelaceSum(double[] xs, double[] ys, int count);
+
+    abstract void computeClassification(double ax, double ay, double bx, double by,
+                                        double[] xs, double[] ys, byte[] out, int count);
+
+    abstract int computeLineSegmentIntersections(double ax, double ay, double bx, double by,
+                                                 double[] x1, double[] y1, double[] x2, double[] y2,
+                                                 boolean[] hits, double[] outX, double[] outY, int count);
+
+    abstract int computeSegmentLineIntersections(double x1, double y1, double x2, double y2,
+                                                 double[] ax, double[] ay, double[] bx, double[] by,
+                                                 boolean[] hits, double[] outX, double[] outY, int count);
+
+    private static BatchKernels loadBest() {
+        if ("scalar".equalsIgnoreCase(System.getProperty(KERNELS_PROPERTY))) {
+            return SCALAR;
+        }
+        try {
+            Class<?> vectorKernels = Class.forName(VECTOR_KERNELS_CLASS);
+            return (BatchKernels) vectorKernels.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+    private static void validateCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+    }
+
+    private static void validateHits(boolean[] hits, int count) {
+        if (hits == null) {
+            throw new IllegalArgumentException("hits cannot be null");
+        }
+        if (hits.length < count) {
+            throw new IllegalArgumentException(
+                String.format("hits holds %d values, %d required", hits.length, count)
+            );
+        }
+    }
+
+    private static void validateLength(double[] values, String name, int count) {
+        if (values == null) {
+            throw new IllegalArgumentException(name + " cannot be null");
+        }
+        if (values.length < count) {
+            throw new IllegalArgumentException(
+                String.format("%s holds %d values, %d required", name, values.length, count)
+            );
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package pgeo.simd;
+
+final class ScalarBatchKernels extends BatchKernels {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    void computeTriangleSignedAreas(double[] ax, double[] ay, double[] bx, double[] by,
+                                    double[] cx, double[] cy, double[] out, int count) {
+        for (int i = 0; i < count; i++) {
+            out[i] = determinant(ax[i], ay[i], bx[i], by[i], cx[i], cy[i]) / 2.0;
+        }
+    }
+
+    @Override
+    double computeShoelaceSum(double[] xs, double[] ys, int count) {
+        return shoelaceRange(xs, ys, 0, count - 1) + closingTerm(xs, ys, count);
+    }
+
+    @Override
+    void computeClassification(double ax, double ay, double bx, double by,
+                               double[] xs, double[] ys, byte[] out, int count) {
+        classifyRange(ax, ay, bx, by, xs, ys, out, 0, count);
+    }
+
+    @Override
+    int computeLineSegmentIntersections(double ax, double ay, double bx, double by,
+                                        double[] x1, double[] y1, double[] x2, double[] y2,
+                                        boolean[] hits, double[] outX, double[] outY, int count) {
+        return lineSegmentRange(ax, ay, bx, by, x1, y1, x2, y2, hits, outX, outY, 0, count);
+    }
+
+    @Override
+    int computeSegmentLineIntersections(double x1, double y1, double x2, double y2,
+                                        double[] ax, double[] ay, double[] bx, double[] by,
+                                        boolean[] hits, double[] outX, double[] outY, int count) {
+        return segmentLineRange(x1, y1, x2, y2, ax, ay, bx, by, hits, outX, outY, 0, count);
+    }
+
+    static double determinant(double ax, double ay, double bx, double by, double cx, double cy) {
+        return (ax * by) - (ay * bx)
+             + (ay * cx) - (ax * cy)
+             + (bx * cy) - (cx * by);
+    }
+
+    static double shoelaceRange(double[] xs, double[] ys, int from, int to) {
+        double sum = 0.0;
+        for (int i = from; i < to; i++) {
+            sum += (xs[i] * ys[i + 1]) - (xs[i + 1] * ys[i]);
+        }
+        return sum;
+    }
+
+    static double closingTerm(double[] xs, double[] ys, int count) {
+        int last = count - 1;
+        return (xs[last] * ys[0]) - (xs[0] * ys[last]);
+    }
+
+    static void classifyRange(double ax, double ay, double bx, double by,
+                              double[] xs, double[] ys, byte[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double det = determinant(ax, ay, bx, by, xs[i], ys[i]);
+            out[i] = (byte) (det > 0 ? 1 : (det < 0 ? -1 : 0));
+        }
+    }
+
+    static int lineSegmentRange(double ax, double ay, double bx, double by,
+                                double[] x1, double[] y1, double[] x2, double[] y2,
+                                boolean[] hits, double[] outX, double[] outY, int from, int to) {
+        double lx = ax - bx;
+        double ly = ay - by;
+        double k = (ax * by) - (ay * bx);
+        int found = 0;
+
+        for (int i = from; i < to; i++) {
+            double start = k + (ay * x1[i]) - (ax * y1[i]) + (bx * y1[i]) - (x1[i] * by);
+            double end = k + (ay * x2[i]) - (ax * y2[i]) + (bx * y2[i]) - (x2[i] * by);
+            boolean hit = !((start > 0 && end > 0) || (start < 0 && end < 0));
+            double denominator = ((x1[i] - x2[i]) * ly) - ((y1[i] - y2[i]) * lx);
+
+            hits[i] = hit;
+            if (hit && denominator != 0.0) {
+                double t = (((x1[i] - ax) * ly) - ((y1[i] - ay) * lx)) / denominator;
+                outX[i] = x1[i] + (t * (x2[i] - x1[i]));
+                outY[i] = y1[i] + (t * (y2[i] - y1[i]));
+            } else {
+                outX[i] = Double.NaN;
+                outY[i] = Double.NaN;
+            }
+            if (hit) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    static int segmentLineRange(double x1, double y1, double x2, double y2,
+                                double[] ax, double[] ay, double[] bx, double[] by,
+                                boolean[] hits, double[] outX, double[] outY, int from, int to) {
+        double sx = x2 - x1;
+        double sy = y2 - y1;
+        double ex = x1 - x2;
+        double ey = y1 - y2;
+        int found = 0;
+
+        for (int i = from; i < to; i++) {
+            double lx = ax[i] - bx[i];
+            double ly = ay[i] - by[i];
+            double k = (ax[i] * by[i]) - (ay[i] * bx[i]);
+            double start = k + (ay[i] * x1) - (ax[i] * y1) + (bx[i] * y1) - (x1 * by[i]);
+            double end = k + (ay[i] * x2) - (ax[i] * y2) + (bx[i] * y2) - (x2 * by[i]);
+            boolean hit = !((start > 0 && end > 0) || (start < 0 && end < 0));
+            double denominator = (ex * ly) - (ey * lx);
+
+            hits[i] = hit;
+            if (hit && denominator != 0.0) {
+                double t = (((x1 - ax[i]) * ly) - ((y1 - ay[i]) * lx)) / denominator;
+                outX[i] = x1 + (t * sx);
+                outY[i] = y1 + (t * sy);
+            } else {
+                outX[i] = Double.NaN;
+                outY[i] = Double.NaN;
+            }
+            if (hit) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -86,6 +86,34 @@ public final class GeometryValidator {
         return !Double.isNaN(value) && !Double.isInfinite(value);
     }
 
+    public static int indexOfInvalidCoordinate(double[] values) {
+        validateNotNull(values, "Coordinate buffer");
+        return indexOfInvalidCoordinate(values, 0, values.length);
+    }
+
+    public static int indexOfInvalidCoordinate(double[] values, int from, int to) {
+        validateNotNull(values, "Coordinate buffer");
+        if (from < 0 || to > values.length || from > to) {
+            throw new IllegalArgumentException(
+                String.format("Invalid range [%d, %d) for buffer of length %d", from, to, values.length)
+            );
+        }
+
+        for (int i = from; i < to; i++) {
+            if (!Double.isFinite(values[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static void validateCoordinateBuffer(double[] values) {
+        int invalid = indexOfInvalidCoordinate(values);
+        if (invalid >= 0) {
+            validateCoordinate(values[invalid], String.format("Value[%d]", invalid));
+        }
+    }
+
     public static boolean arePointsDistinct(double[] point1, double[] point2) {
         if (!isValidPointArray(point1) || !isValidPointArray(point2)) {
             return false;
@@ -109,6 +137,20 @@ public final class GeometryValidator {
         return true;
     }
 
+    public static void validateDistinctPoints(double[][] coordinates) {
+        validateNotNull(coordinates, "Coordinates");
+        for (int i = 0; i < coordinates.length; i++) {
+            for (int j = i + 1; j < coordinates.length; j++) {
+                if (Double.compare(coordinates[i][0], coordinates[j][0]) == 0
+                        && Double.compare(coordinates[i][1], coordinates[j][1]) == 0) {
+                    throw new IllegalArgumentException(
+                        String.format("Points at index %d and %d are coincident", i, j)
+                    );
+                }
+            }
+        }
+    }
+
     private static void validateNotNull(Object obj, String name) {
         if (obj == null) {
             throw new IllegalArgumentException(name + " cannot be null");
@@ -137,9 +179,16 @@ public final class GeometryValidator {
                         i, COORDINATES_PER_POINT, coordinates[i].length)
                 );
             }
-            validateCoordinate(coordinates[i][0], String.format("Point[%d].x", i));
-            validateCoordinate(coordinates[i][1], String.format("Point[%d].y", i));
+            validatePointCoordinate(coordinates[i][0], i, 'x');
+            validatePointCoordinate(coordinates[i][1], i, 'y');
+        }
+    }
+
+    private static void validatePointCoordinate(double value, int index, char axis) {
+        if (Double.isFinite(value)) {
+            return;
         }
+        validateCoordinate(value, String.format("Point[%d].%c", index, axis));
     }
 
     private static boolean isValidArray(double[][] coordinates, int expectedRows) {
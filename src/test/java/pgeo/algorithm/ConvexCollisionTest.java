@@ -0,0 +1,283 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConvexCollision")
+class ConvexCollisionTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static ConvexShape square(double x, double y, double size) {
+        ConvexShape shape = ConvexShape.of(0, 0, size, 0, size, size, 0, size);
+        shape.setOffset(x, y);
+        return shape;
+    }
+
+    private static ConvexShape randomShape(Random random) {
+        Point[] points = new Point[12];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point(random.nextGaussian(), random.nextGaussian());
+        }
+        ConvexShape shape = ConvexShape.of(new Polygon(points));
+        shape.setOffset(random.nextDouble() * 6 - 3, random.nextDouble() * 6 - 3);
+        return shape;
+    }
+
+    private static ConvexShape gridShape(Random random) {
+        int x = random.nextInt(6);
+        int y = random.nextInt(6);
+        if (random.nextBoolean()) {
+            int width = 1 + random.nextInt(4);
+            int height = 1 + random.nextInt(4);
+            return ConvexShape.of(x, y, x + width, y, x + width, y + height, x, y + height);
+        }
+        while (true) {
+            double bx = x + random.nextInt(5) - 2;
+            double by = y + random.nextInt(5) - 2;
+            double cx = x + random.nextInt(5) - 2;
+            double cy = y + random.nextInt(5) - 2;
+            if ((bx - x) * (cy - y) - (by - y) * (cx - x) != 0) {
+                return ConvexShape.of(x, y, bx, by, cx, cy);
+            }
+        }
+    }
+
+    private static double segmentPointDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double t = Math.max(0.0, Math.min(1.0, ((px - ax) * dx + (py - ay) * dy) / (dx * dx + dy * dy)));
+        return Math.hypot(ax + t * dx - px, ay + t * dy - py);
+    }
+
+    private static double bruteForceDistance(ConvexShape a, ConvexShape b) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int pass = 0; pass < 2; pass++) {
+            ConvexShape points = pass == 0 ? a : b;
+            ConvexShape edges = pass == 0 ? b : a;
+            for (int i = 0; i < points.getVertexCount(); i++) {
+                for (int e = 0; e < edges.getVertexCount(); e++) {
+                    int next = (e + 1) % edges.getVertexCount();
+                    best = Math.min(best, segmentPointDistance(points.getX(i), points.getY(i),
+                        edges.getX(e), edges.getY(e), edges.getX(next), edges.getY(next)));
+                }
+            }
+        }
+        return best;
+    }
+
+    private static double satPenetration(ConvexShape a, ConvexShape b) {
+        double best = Double.POSITIVE_INFINITY;
+        for (ConvexShape edges : new ConvexShape[]{a, b}) {
+            for (int e = 0; e < edges.getVertexCount(); e++) {
+                int next = (e + 1) % edges.getVertexCount();
+                double nx = edges.getY(next) - edges.getY(e);
+                double ny = edges.getX(e) - edges.getX(next);
+                double length = Math.hypot(nx, ny);
+                nx /= length;
+                ny /= length;
+                double minA = Double.POSITIVE_INFINITY;
+                double maxA = Double.NEGATIVE_INFINITY;
+                double minB = Double.POSITIVE_INFINITY;
+                double maxB = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < a.getVertexCount(); i++) {
+                    double p = a.getX(i) * nx + a.getY(i) * ny;
+                    minA = Math.min(minA, p);
+                    maxA = Math.max(maxA, p);
+                }
+                for (int i = 0; i < b.getVertexCount(); i++) {
+                    double p = b.getX(i) * nx + b.getY(i) * ny;
+                    minB = Math.min(minB, p);
+                    maxB = Math.max(maxB, p);
+                }
+                best = Math.min(best, Math.min(maxA - minB, maxB - minA));
+            }
+        }
+        return best;
+    }
+
+    @Nested
+    @DisplayName("Squares")
+    class Squares {
+
+        @Test
+        @DisplayName("should detect overlap and separation")
+        void shouldDetectOverlapAndSeparation() {
+            ConvexShape a = square(0, 0, 1);
+
+            assertTrue(ConvexCollision.overlaps(a, square(0.5, 0.5, 1)));
+            assertTrue(ConvexCollision.overlapsSat(a, square(0.5, 0.5, 1)));
+            assertFalse(ConvexCollision.overlaps(a, square(2, 0, 1)));
+            assertFalse(ConvexCollision.overlapsSat(a, square(2, 0, 1)));
+        }
+
+        @Test
+        @DisplayName("should treat touching shapes as overlapping")
+        void shouldTreatTouchingAsOverlapping() {
+            ConvexShape a = square(0, 0, 1);
+
+            assertTrue(ConvexCollision.overlaps(a, square(1, 0, 1)));
+            assertTrue(ConvexCollision.overlapsSat(a, square(1, 0, 1)));
+            assertEquals(0.0, ConvexCollision.distance(a, square(1, 0, 1)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should compute separation distance")
+        void shouldComputeDistance() {
+            ConvexShape a = square(0, 0, 1);
+
+            assertEquals(2.0, ConvexCollision.distance(a, square(3, 0.5, 1)), DELTA);
+            assertEquals(Math.sqrt(2), ConvexCollision.distance(a, square(2, 2, 1)), DELTA);
+            assertEquals(0.0, ConvexCollision.distance(a, square(0.5, 0.5, 1)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should compute penetration depth and normal from first to second")
+        void shouldComputePenetration() {
+            ConvexCollision.Penetration penetration =
+                ConvexCollision.penetration(square(0, 0, 1), square(0.9, 0.2, 1));
+
+            assertNotNull(penetration);
+            assertEquals(0.1, penetration.depth(), DELTA);
+            assertEquals(1.0, penetration.normalX(), DELTA);
+            assertEquals(0.0, penetration.normalY(), DELTA);
+            assertNull(ConvexCollision.penetration(square(0, 0, 1), square(3, 0, 1)));
+        }
+
+        @Test
+        @DisplayName("should compute penetration depth for aligned boxes")
+        void shouldComputeAlignedPenetration() {
+            ConvexCollision.Penetration penetration = ConvexCollision.penetration(
+                ConvexShape.of(0, 0, 2, 0, 2, 2, 0, 2), ConvexShape.of(1, 0, 3, 0, 3, 2, 1, 2));
+
+            assertEquals(1.0, penetration.depth(), DELTA);
+            assertEquals(1.0, penetration.normalX(), DELTA);
+            assertEquals(0.0, penetration.normalY(), DELTA);
+            assertEquals(2.0, ConvexCollision.penetration(square(0, 0, 2), square(0, 0, 2)).depth(), DELTA);
+            assertEquals(0.0, ConvexCollision.penetration(square(0, 0, 1), square(1, 0, 1)).depth(), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Random Shapes")
+    class RandomShapes {
+
+        @Test
+        @DisplayName("should agree between SAT, GJK and brute force")
+        void shouldAgreeWithBruteForce() {
+            Random random = new Random(17);
+            for (int trial = 0; trial < 500; trial++) {
+                ConvexShape a = randomShape(random);
+                ConvexShape b = randomShape(random);
+
+                boolean sat = ConvexCollision.overlapsSat(a, b);
+                assertEquals(sat, ConvexCollision.overlaps(a, b), "trial " + trial);
+
+                double distance = ConvexCollision.distance(a, b);
+                if (sat) {
+                    assertEquals(0.0, distance, 1e-9, "trial " + trial);
+                    ConvexCollision.Penetration penetration = ConvexCollision.penetration(a, b);
+                    assertEquals(satPenetration(a, b), penetration.depth(), 1e-6, "trial " + trial);
+                } else {
+                    assertEquals(bruteForceDistance(a, b), distance, 1e-9, "trial " + trial);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should match SAT penetration on grid-snapped shapes")
+        void shouldMatchSatOnGridShapes() {
+            Random random = new Random(29);
+            for (int trial = 0; trial < 5000; trial++) {
+                ConvexShape a = gridShape(random);
+                ConvexShape b = gridShape(random);
+                if (!ConvexCollision.overlapsSat(a, b)) {
+                    continue;
+                }
+
+                ConvexCollision.Penetration penetration = ConvexCollision.penetration(a, b);
+                assertEquals(satPenetration(a, b), penetration.depth(), 1e-9, "trial " + trial);
+
+                b.translate(penetration.normalX() * (penetration.depth() + 1e-6),
+                    penetration.normalY() * (penetration.depth() + 1e-6));
+                assertFalse(ConvexCollision.overlapsSat(a, b), "trial " + trial);
+            }
+        }
+
+        @Test
+        @DisplayName("should separate shapes when moved along the penetration normal")
+        void shouldSeparateAlongNormal() {
+            Random random = new Random(5);
+            for (int trial = 0; trial < 200; trial++) {
+                ConvexShape a = randomShape(random);
+                ConvexShape b = randomShape(random);
+                ConvexCollision.Penetration penetration = ConvexCollision.penetration(a, b);
+                if (penetration == null) {
+                    continue;
+                }
+
+                b.translate(penetration.normalX() * (penetration.depth() + 1e-6),
+                    penetration.normalY() * (penetration.depth() + 1e-6));
+
+                assertFalse(ConvexCollision.overlapsSat(a, b), "trial " + trial);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Warm Start")
+    class WarmStartCache {
+
+        @Test
+        @DisplayName("should give the same answers across frames of motion")
+        void shouldMatchColdQueries() {
+            ConvexShape a = square(0, 0, 1);
+            ConvexShape b = ConvexShape.of(0, 0, 1, 0, 0.5, 1);
+            ConvexCollision.WarmStart satCache = new ConvexCollision.WarmStart();
+            ConvexCollision.WarmStart gjkCache = new ConvexCollision.WarmStart();
+
+            for (int frame = 0; frame < 200; frame++) {
+                double t = frame * 0.05;
+                b.setOffset(2.5 * Math.cos(t), 2.5 * Math.sin(t * 1.3));
+
+                assertEquals(ConvexCollision.overlapsSat(a, b), ConvexCollision.overlapsSat(a, b, satCache));
+                assertEquals(ConvexCollision.overlaps(a, b), ConvexCollision.overlaps(a, b, gjkCache));
+                assertEquals(ConvexCollision.distance(a, b), ConvexCollision.distance(a, b, gjkCache), 1e-9);
+            }
+        }
+
+        @Test
+        @DisplayName("should tolerate a cache reused for another pair")
+        void shouldTolerateForeignCache() {
+            ConvexCollision.WarmStart cache = new ConvexCollision.WarmStart();
+            Random random = new Random(3);
+            ConvexShape big = randomShape(random);
+            ConvexCollision.distance(big, randomShape(random), cache);
+
+            ConvexShape a = ConvexShape.of(0, 0, 1, 0, 0, 1);
+            ConvexShape b = ConvexShape.of(3, 0, 4, 0, 3, 1);
+            assertEquals(2.0, ConvexCollision.distance(a, b, cache), DELTA);
+
+            cache.reset();
+            assertEquals(2.0, ConvexCollision.distance(a, b, cache), DELTA);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject null shapes")
+    void shouldRejectNullShapes() {
+        ConvexShape shape = square(0, 0, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> ConvexCollision.overlaps(shape, null));
+        assertThrows(IllegalArgumentException.class, () -> ConvexCollision.overlapsSat(null, shape));
+        assertThrows(IllegalArgumentException.class, () -> ConvexCollision.distance(null, null));
+        assertThrows(IllegalArgumentException.class, () -> ConvexCollision.penetration(shape, null));
+    }
+}
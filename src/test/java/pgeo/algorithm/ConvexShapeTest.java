@@ -0,0 +1,69 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConvexShape")
+class ConvexShapeTest {
+
+    private static final double DELTA = 1e-12;
+
+    @Test
+    @DisplayName("should reorder clockwise input counter-clockwise")
+    void shouldReorderClockwiseInput() {
+        ConvexShape shape = ConvexShape.of(0, 0, 0, 2, 2, 2, 2, 0);
+
+        assertEquals(4, shape.getVertexCount());
+        assertEquals(2.0, shape.getX(1), DELTA);
+        assertEquals(2.0, shape.getY(1), DELTA);
+    }
+
+    @Test
+    @DisplayName("should build from polygon hull and triangle")
+    void shouldBuildFromPolygonAndTriangle() {
+        Polygon dart = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {2, 1}, {2, 4}});
+        Triangle triangle = new Triangle(new Point(0, 0), new Point(0, 3), new Point(3, 0));
+
+        assertEquals(3, ConvexShape.of(dart).getVertexCount());
+        assertEquals(3, ConvexShape.of(triangle).getVertexCount());
+    }
+
+    @Test
+    @DisplayName("should apply offset to vertices and envelope")
+    void shouldApplyOffset() {
+        ConvexShape shape = ConvexShape.of(0, 0, 2, 0, 2, 1);
+
+        shape.setOffset(10, 20);
+        shape.translate(1, -1);
+
+        assertEquals(11.0, shape.getX(0), DELTA);
+        assertEquals(19.0, shape.getY(0), DELTA);
+        assertEquals(new Envelope(11, 19, 13, 20), shape.getEnvelope());
+        assertThrows(IllegalArgumentException.class, () -> shape.setOffset(Double.NaN, 0));
+    }
+
+    @Test
+    @DisplayName("should reject concave, collinear and self-intersecting input")
+    void shouldRejectInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> ConvexShape.of(0, 0, 4, 0, 2, 1, 2, 4));
+        assertThrows(IllegalArgumentException.class, () -> ConvexShape.of(0, 0, 1, 1, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> ConvexShape.of(0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> ConvexShape.of((Polygon) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> ConvexShape.of(Polygon.fromArray(new double[][]{{0, 0}, {1, 1}, {2, 2}, {3, 3}})));
+
+        double[] pentagram = new double[10];
+        for (int i = 0; i < 5; i++) {
+            double angle = Math.PI / 2 + i * 4 * Math.PI / 5;
+            pentagram[i * 2] = Math.cos(angle);
+            pentagram[i * 2 + 1] = Math.sin(angle);
+        }
+        assertThrows(IllegalArgumentException.class, () -> ConvexShape.of(pentagram));
+    }
+}
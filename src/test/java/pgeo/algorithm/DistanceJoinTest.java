@@ -0,0 +1,170 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.LineSegment;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DistanceJoin")
+class DistanceJoinTest {
+
+    private static double[] randomValues(Random random, int count, double extent) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble() * extent;
+        }
+        return values;
+    }
+
+    private static int[] bruteForcePoints(double[] first, double[] second, double distance, boolean self) {
+        int[] pairs = new int[16];
+        int size = 0;
+        for (int i = 0; i < first.length / 2; i++) {
+            for (int j = 0; j < second.length / 2; j++) {
+                double dx = first[i * 2] - second[j * 2];
+                double dy = first[i * 2 + 1] - second[j * 2 + 1];
+                if ((!self || i < j) && dx * dx + dy * dy <= distance * distance) {
+                    if (size + 2 > pairs.length) {
+                        pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                    }
+                    pairs[size++] = i;
+                    pairs[size++] = j;
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    private static int[] bruteForceSegments(double[] points, double[] segments, double distance) {
+        int[] pairs = new int[16];
+        int size = 0;
+        for (int i = 0; i < points.length / 2; i++) {
+            for (int s = 0; s < segments.length / 4; s++) {
+                double squared = LineSegment.pointDistanceSquared(points[i * 2], points[i * 2 + 1],
+                    segments[s * 4], segments[s * 4 + 1], segments[s * 4 + 2], segments[s * 4 + 3]);
+                if (squared <= distance * distance) {
+                    if (size + 2 > pairs.length) {
+                        pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                    }
+                    pairs[size++] = i;
+                    pairs[size++] = s;
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    @Nested
+    @DisplayName("Joins")
+    class Joins {
+
+        @Test
+        @DisplayName("should self-join points like a brute-force scan")
+        void shouldSelfJoin() {
+            double[] points = randomValues(new Random(89), 6000, 100);
+
+            int[] expected = bruteForcePoints(points, points, 1.5, true);
+
+            assertTrue(expected.length > 0);
+            assertArrayEquals(expected, DistanceJoin.selfJoin(points, 1.5, false));
+            assertArrayEquals(expected, DistanceJoin.selfJoin(points, 1.5, true));
+        }
+
+        @Test
+        @DisplayName("should join two point sets like a brute-force scan")
+        void shouldJoinPoints() {
+            Random random = new Random(97);
+            double[] first = randomValues(random, 4000, 100);
+            double[] second = randomValues(random, 5000, 120);
+
+            int[] expected = bruteForcePoints(first, second, 2, false);
+
+            assertTrue(expected.length > 0);
+            assertArrayEquals(expected, DistanceJoin.pointJoin(first, second, 2, false));
+            assertArrayEquals(expected, DistanceJoin.pointJoin(first, second, 2, true));
+        }
+
+        @Test
+        @DisplayName("should join points to segments like a brute-force scan")
+        void shouldJoinSegments() {
+            Random random = new Random(101);
+            double[] points = randomValues(random, 5000, 100);
+            double[] segments = new double[1500 * 4];
+            for (int i = 0; i < 1500; i++) {
+                double x = random.nextDouble() * 100;
+                double y = random.nextDouble() * 100;
+                segments[i * 4] = x;
+                segments[i * 4 + 1] = y;
+                segments[i * 4 + 2] = i % 10 == 0 ? x : x + random.nextDouble() * 30 - 15;
+                segments[i * 4 + 3] = y + random.nextDouble() * 30 - 15;
+            }
+
+            int[] expected = bruteForceSegments(points, segments, 0.75);
+
+            assertTrue(expected.length > 0);
+            assertArrayEquals(expected, DistanceJoin.segmentJoin(points, segments, 0.75, false));
+            assertArrayEquals(expected, DistanceJoin.segmentJoin(points, segments, 0.75, true));
+        }
+
+        @Test
+        @DisplayName("should include pairs at exactly the distance and coincident points at zero")
+        void shouldIncludeBoundary() {
+            double[] points = {0, 0, 3, 4, 0, 0, 10, 0};
+
+            assertArrayEquals(new int[]{0, 1, 0, 2, 1, 2}, DistanceJoin.selfJoin(points, 5, false));
+            assertArrayEquals(new int[]{0, 2}, DistanceJoin.selfJoin(points, 0, false));
+            assertArrayEquals(new int[]{0, 0, 2, 0}, DistanceJoin.segmentJoin(points, new double[]{3, 0, 10, 4}, 3, false));
+        }
+
+        @Test
+        @DisplayName("should join at zero or tiny distances without scanning empty cells")
+        void shouldJoinAtZeroDistance() {
+            assertArrayEquals(new int[]{0, 0, 1, 0},
+                DistanceJoin.segmentJoin(new double[]{0, 0, 10, 10, 5, 5.5}, new double[]{0, 0, 10, 10}, 0, false));
+
+            Random random = new Random(107);
+            double[] points = randomValues(random, 2000, 1000);
+            double[] segments = randomValues(random, 400 * 4, 1000);
+
+            assertArrayEquals(bruteForceSegments(points, segments, 1e-6),
+                DistanceJoin.segmentJoin(points, segments, 1e-6, true));
+            assertArrayEquals(bruteForcePoints(points, points, 0, true), DistanceJoin.selfJoin(points, 0, true));
+        }
+
+        @Test
+        @DisplayName("should stream pairs into consumer buffers")
+        void shouldStreamPairs() {
+            double[] points = randomValues(new Random(103), 20000, 10);
+            AtomicLong streamed = new AtomicLong();
+
+            long total = DistanceJoin.selfJoin(points, 0.2, true, (pairs, count) -> streamed.addAndGet(count));
+
+            assertEquals(bruteForcePoints(points, points, 0.2, true).length / 2, total);
+            assertEquals(total, streamed.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should handle empty inputs and reject invalid ones")
+        void shouldValidate() {
+            assertEquals(0, DistanceJoin.selfJoin(new double[0], 1, false).length);
+            assertEquals(0, DistanceJoin.segmentJoin(new double[]{1, 2}, new double[0], 1, true).length);
+            assertThrows(IllegalArgumentException.class, () -> DistanceJoin.selfJoin(null, 1, false));
+            assertThrows(IllegalArgumentException.class, () -> DistanceJoin.selfJoin(new double[3], 1, false));
+            assertThrows(IllegalArgumentException.class, () -> DistanceJoin.pointJoin(new double[2], new double[2], -1, false));
+            assertThrows(IllegalArgumentException.class, () -> DistanceJoin.pointJoin(new double[2], new double[2], Double.NaN, false));
+            assertThrows(IllegalArgumentException.class, () -> DistanceJoin.segmentJoin(new double[2], new double[6], 1, false));
+            assertThrows(IllegalArgumentException.class, () -> DistanceJoin.selfJoin(new double[2], 1, false, null));
+        }
+    }
+}
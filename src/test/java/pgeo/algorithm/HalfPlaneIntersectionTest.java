@@ -0,0 +1,196 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.Line;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HalfPlaneIntersection")
+class HalfPlaneIntersectionTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Line line(double ax, double ay, double bx, double by) {
+        return new Line(new Point(ax, ay), new Point(bx, by));
+    }
+
+    private static double[] clip(double[] ring, double ax, double ay, double bx, double by) {
+        int count = ring.length / 2;
+        double[] out = new double[count * 4];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            double cx = ring[i * 2];
+            double cy = ring[i * 2 + 1];
+            double nx = ring[next * 2];
+            double ny = ring[next * 2 + 1];
+            double sideC = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+            double sideN = (bx - ax) * (ny - ay) - (by - ay) * (nx - ax);
+            if (sideC >= 0) {
+                out[size++] = cx;
+                out[size++] = cy;
+            }
+            if ((sideC >= 0) != (sideN >= 0)) {
+                double t = sideC / (sideC - sideN);
+                out[size++] = cx + t * (nx - cx);
+                out[size++] = cy + t * (ny - cy);
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static double area(double[] ring) {
+        double sum = 0.0;
+        int count = ring.length / 2;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            sum += ring[i * 2] * ring[next * 2 + 1] - ring[next * 2] * ring[i * 2 + 1];
+        }
+        return sum / 2.0;
+    }
+
+    private static double[] randomTangentPlanes(Random random, int count) {
+        double[] planes = new double[count * 4];
+        double cx = random.nextDouble() * 10 - 5;
+        double cy = random.nextDouble() * 10 - 5;
+        for (int i = 0; i < count; i++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double radius = 1 + random.nextDouble() * 3;
+            double x = cx + radius * Math.cos(angle);
+            double y = cy + radius * Math.sin(angle);
+            planes[i * 4] = x;
+            planes[i * 4 + 1] = y;
+            planes[i * 4 + 2] = x - Math.sin(angle);
+            planes[i * 4 + 3] = y + Math.cos(angle);
+        }
+        return planes;
+    }
+
+    private static double[] withBox(double[] planes) {
+        double[] bounded = new double[planes.length + 16];
+        System.arraycopy(planes, 0, bounded, 0, planes.length);
+        System.arraycopy(new double[]{-100, -100, 100, -100, 100, -100, 100, 100,
+            100, 100, -100, 100, -100, 100, -100, -100}, 0, bounded, planes.length, 16);
+        return bounded;
+    }
+
+    @Nested
+    @DisplayName("Regions")
+    class Regions {
+
+        @Test
+        @DisplayName("should intersect the left sides of a square's edges")
+        void shouldBuildSquare() {
+            Polygon square = HalfPlaneIntersection.intersect(
+                line(0, 0, 1, 0), line(1, 0, 1, 1), line(1, 1, 0, 1), line(0, 1, 0, 0));
+
+            assertNotNull(square);
+            assertEquals(4, square.getVertexCount());
+            assertEquals(1.0, square.calculateSignedArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should drop redundant and duplicate parallel half-planes")
+        void shouldDropRedundantHalfPlanes() {
+            Polygon triangle = HalfPlaneIntersection.intersect(
+                line(0, 0, 4, 0), line(-1, -1, 9, -1), line(4, 0, 0, 4), line(5, 0, 0, 5),
+                line(0, 4, 0, 0), line(-1, 20, -1, 10), line(3, 8, -3, 2));
+
+            assertNotNull(triangle);
+            assertEquals(3, triangle.getVertexCount());
+            assertEquals(8.0, triangle.calculateArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should clip to an envelope")
+        void shouldClipToEnvelope() {
+            Polygon region = HalfPlaneIntersection.intersect(new Envelope(0, 0, 4, 4), line(0, 0, 4, 4));
+
+            assertNotNull(region);
+            assertEquals(8.0, region.calculateArea(), DELTA);
+            assertTrue(region.isConvex());
+        }
+
+        @Test
+        @DisplayName("should return null for empty intersections")
+        void shouldReturnNullForEmpty() {
+            Envelope bounds = new Envelope(0, 0, 10, 10);
+
+            assertNull(HalfPlaneIntersection.intersect(bounds, line(0, 2, 1, 2), line(1, 1, 0, 1)));
+            assertNull(HalfPlaneIntersection.intersect(
+                line(0, 0, 0, 1), line(0, 1, 1, 0), line(1, 0, 0, 0)));
+        }
+
+        @Test
+        @DisplayName("should reject unbounded regions")
+        void shouldRejectUnbounded() {
+            assertThrows(IllegalArgumentException.class,
+                () -> HalfPlaneIntersection.intersect(line(0, 0, 1, 0), line(1, 0, 1, 1)));
+            assertThrows(IllegalArgumentException.class,
+                () -> HalfPlaneIntersection.intersect(line(0, 0, 1, 0), line(1, 1, 0, 1)));
+        }
+
+        @Test
+        @DisplayName("should reject invalid input")
+        void shouldRejectInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> HalfPlaneIntersection.intersect((Line[]) null));
+            assertThrows(IllegalArgumentException.class, () -> HalfPlaneIntersection.intersect(new double[5]));
+            assertThrows(IllegalArgumentException.class, () -> HalfPlaneIntersection.intersect(new double[4]));
+            assertThrows(IllegalArgumentException.class,
+                () -> HalfPlaneIntersection.intersect(new double[]{0, 0, Double.NaN, 1}));
+        }
+    }
+
+    @Nested
+    @DisplayName("Random Problems")
+    class RandomProblems {
+
+        @Test
+        @DisplayName("should match iterative clipping")
+        void shouldMatchIterativeClipping() {
+            Random random = new Random(31);
+            for (int trial = 0; trial < 300; trial++) {
+                int count = 3 + random.nextInt(40);
+                double[] planes = randomTangentPlanes(random, count);
+                double[] ring = {-100, -100, 100, -100, 100, 100, -100, 100};
+                for (int i = 0; i < count && ring.length >= 6; i++) {
+                    ring = clip(ring, planes[i * 4], planes[i * 4 + 1], planes[i * 4 + 2], planes[i * 4 + 3]);
+                }
+
+                Polygon result = HalfPlaneIntersection.intersect(withBox(planes));
+
+                assertNotNull(result, "trial " + trial);
+                assertEquals(area(ring), result.calculateSignedArea(), 1e-7, "trial " + trial);
+            }
+        }
+
+        @Test
+        @DisplayName("should solve batches in parallel with the same results")
+        void shouldSolveBatches() {
+            Random random = new Random(37);
+            double[][] problems = new double[500][];
+            for (int p = 0; p < problems.length; p++) {
+                problems[p] = withBox(randomTangentPlanes(random, 8 + random.nextInt(8)));
+            }
+
+            Polygon[] sequential = HalfPlaneIntersection.intersectAll(problems, false);
+            Polygon[] parallel = HalfPlaneIntersection.intersectAll(problems, true);
+
+            for (int p = 0; p < problems.length; p++) {
+                if (sequential[p] == null) {
+                    assertNull(parallel[p]);
+                } else {
+                    assertEquals(sequential[p].calculateArea(), parallel[p].calculateArea());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.Line;
+import pgeo.core.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LineArrangement")
+class LineArrangementTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Line line(double ax, double ay, double bx, double by) {
+        return new Line(new Point(ax, ay), new Point(bx, by));
+    }
+
+    private static Line[] randomLines(Random random, int count) {
+        Line[] lines = new Line[count];
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 10 - 5;
+            double y = random.nextDouble() * 10 - 5;
+            double angle = random.nextDouble() * Math.PI;
+            lines[i] = line(x, y, x + Math.cos(angle), y + Math.sin(angle));
+        }
+        return lines;
+    }
+
+    private static double totalFaceArea(LineArrangement arrangement) {
+        double total = 0.0;
+        for (int f = 0; f < arrangement.getFaceCount(); f++) {
+            double[] ring = new double[arrangement.getFaceSize(f) * 2];
+            arrangement.copyFace(f, ring, 0);
+            double sum = 0.0;
+            int count = ring.length / 2;
+            for (int i = 0; i < count; i++) {
+                int next = (i + 1) % count;
+                sum += ring[i * 2] * ring[next * 2 + 1] - ring[next * 2] * ring[i * 2 + 1];
+            }
+            assertTrue(sum > 0, "face " + f + " should be counter-clockwise");
+            total += sum / 2.0;
+        }
+        return total;
+    }
+
+    private static double boxArea(LineArrangement arrangement) {
+        Envelope bounds = arrangement.getBounds();
+        return (bounds.getMaxX() - bounds.getMinX()) * (bounds.getMaxY() - bounds.getMinY());
+    }
+
+    @Nested
+    @DisplayName("Faces")
+    class Faces {
+
+        @Test
+        @DisplayName("should split the box into the faces of lines in general position")
+        void shouldCountFacesInGeneralPosition() {
+            Random random = new Random(41);
+            for (int n = 1; n <= 40; n += 3) {
+                LineArrangement arrangement = LineArrangement.of(randomLines(random, n));
+
+                assertEquals(1 + n + n * (n - 1) / 2, arrangement.getFaceCount(), "n = " + n);
+                assertEquals(4 + 2 * n + n * (n - 1) / 2, arrangement.getVertexCount(), "n = " + n);
+                assertEquals(boxArea(arrangement), totalFaceArea(arrangement), 1e-6 * boxArea(arrangement));
+            }
+        }
+
+        @Test
+        @DisplayName("should merge concurrent lines into one vertex")
+        void shouldHandleConcurrentLines() {
+            LineArrangement arrangement = new LineArrangement(new Envelope(-3, -2, 4, 5));
+            for (Line line : new Line[]{line(0, 0, 1, 1), line(0, 1, 1, 0), line(0.5, 0, 0.5, 1), line(0, 0.5, 1, 0.5)}) {
+                arrangement.insert(line);
+            }
+
+            assertEquals(8, arrangement.getFaceCount());
+            assertEquals(4 + 8 + 1, arrangement.getVertexCount());
+            assertEquals(boxArea(arrangement), totalFaceArea(arrangement), DELTA);
+        }
+
+        @Test
+        @DisplayName("should handle parallel and duplicate lines")
+        void shouldHandleParallelAndDuplicateLines() {
+            LineArrangement arrangement = new LineArrangement(new Envelope(-10, -10, 10, 10));
+            arrangement.insert(line(0, 0, 1, 0));
+            arrangement.insert(line(0, 2, 3, 2));
+            arrangement.insert(line(5, 0, -5, 0));
+            arrangement.insert(line(0, 0, 0, 1));
+
+            assertEquals(6, arrangement.getFaceCount());
+            assertEquals(4, arrangement.getLineCount());
+            assertEquals(400.0, totalFaceArea(arrangement), DELTA);
+        }
+
+        @Test
+        @DisplayName("should stay consistent under heavy concurrency and parallelism")
+        void shouldStayConsistentOnIntegerGrid() {
+            Random random = new Random(47);
+            LineArrangement arrangement = new LineArrangement(new Envelope(-20.5, -20.5, 20.5, 20.5));
+            for (int i = 0; i < 120; i++) {
+                int x = random.nextInt(11) - 5;
+                int y = random.nextInt(11) - 5;
+                int dx = random.nextInt(5) - 2;
+                int dy = random.nextInt(5) - 2;
+                if (dx == 0 && dy == 0) {
+                    dx = 1;
+                }
+                arrangement.insert(x, y, x + dx, y + dy);
+            }
+
+            assertEquals(arrangement.getEdgeCount() - arrangement.getVertexCount() + 1, arrangement.getFaceCount());
+            assertEquals(boxArea(arrangement), totalFaceArea(arrangement), 1e-6);
+        }
+
+        @Test
+        @DisplayName("should keep near-parallel intersections out of the automatic bounds")
+        void shouldHandleNearParallelLines() {
+            double c = Math.cos(Math.PI / 4);
+            double s = Math.sin(Math.PI / 4);
+            double[][] origins = {{-847, 196}, {-2025, 1241}, {-337, 703}, {324, 1367}, {-118, -31}};
+            Line[] lines = new Line[origins.length + 1];
+            lines[0] = line(1008, -447, 1008, -446);
+            for (int i = 0; i < origins.length; i++) {
+                lines[i + 1] = line(origins[i][0], origins[i][1], origins[i][0] + c, origins[i][1] + s);
+            }
+
+            LineArrangement arrangement = LineArrangement.of(lines);
+
+            assertEquals(10, arrangement.getFaceCount());
+            assertEquals(boxArea(arrangement), totalFaceArea(arrangement), 1e-3);
+
+            Random random = new Random(53);
+            for (int trial = 0; trial < 100; trial++) {
+                Line[] directed = new Line[8];
+                for (int i = 0; i < directed.length; i++) {
+                    double x = random.nextInt(5000) - 2500;
+                    double y = random.nextInt(5000) - 2500;
+                    double angle = random.nextInt(8) * Math.PI / 4;
+                    directed[i] = line(x, y, x + Math.cos(angle), y + Math.sin(angle));
+                }
+
+                LineArrangement fuzzed = LineArrangement.of(directed);
+
+                assertEquals(fuzzed.getEdgeCount() - fuzzed.getVertexCount() + 1, fuzzed.getFaceCount(),
+                    "trial " + trial);
+            }
+        }
+
+        @Test
+        @DisplayName("should ignore lines along the boundary or outside the box")
+        void shouldIgnoreLinesOutsideBox() {
+            LineArrangement arrangement = new LineArrangement(new Envelope(0, 0, 4, 4));
+            arrangement.insert(line(0, 0, 4, 0));
+            arrangement.insert(line(10, 0, 10, 1));
+            arrangement.insert(line(-1, 1, 1, -1));
+
+            assertEquals(1, arrangement.getFaceCount());
+            assertEquals(4, arrangement.getVertexCount());
+
+            arrangement.insert(line(0, 0, 4, 4));
+            assertEquals(2, arrangement.getFaceCount());
+            assertEquals(8.0, arrangement.getFace(0).calculateArea(), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Intersection Points")
+    class IntersectionPoints {
+
+        @Test
+        @DisplayName("should enumerate every non-parallel pair once")
+        void shouldEnumerateNonParallelPairs() {
+            Random random = new Random(43);
+            Line[] lines = randomLines(random, 60);
+            lines[10] = line(0, 0, 2, 1);
+            lines[11] = line(5, 5, 9, 7);
+
+            double[] points = LineArrangement.intersectionPoints(lines);
+
+            int expected = 0;
+            int position = 0;
+            for (int i = 0; i < lines.length; i++) {
+                for (int j = i + 1; j < lines.length; j++) {
+                    if (lines[i].isParallelTo(lines[j])) {
+                        continue;
+                    }
+                    expected++;
+                    double x = points[position++];
+                    double y = points[position++];
+                    for (Line l : new Line[]{lines[i], lines[j]}) {
+                        double dx = l.getPointB().getX() - l.getPointA().getX();
+                        double dy = l.getPointB().getY() - l.getPointA().getY();
+                        double side = (dx * (y - l.getPointA().getY()) - dy * (x - l.getPointA().getX()))
+                            / Math.hypot(dx, dy);
+                        assertEquals(0.0, side, 1e-6);
+                    }
+                }
+            }
+            assertEquals(expected * 2, points.length);
+        }
+
+        @Test
+        @DisplayName("should visit pairs with their indices and skip parallel pairs")
+        void shouldVisitPairs() {
+            double[] flat = {0, 0, 1, 0, 0, 0, 0, 1, 2, -1, 2, 1};
+            List<String> visits = new ArrayList<>();
+
+            int found = LineArrangement.forEachIntersection(flat,
+                (first, second, x, y) -> visits.add(first + "-" + second + "@" + x + "," + y));
+
+            assertEquals(2, found);
+            assertEquals(List.of("0-1@0.0,0.0", "0-2@2.0,0.0"), visits);
+        }
+
+        @Test
+        @DisplayName("should reject invalid input")
+        void shouldRejectInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> LineArrangement.intersectionPoints(new double[3]));
+            assertThrows(IllegalArgumentException.class, () -> LineArrangement.intersectionPoints(new double[4]));
+            assertThrows(IllegalArgumentException.class, () -> new LineArrangement(new Envelope(0, 0, 0, 1)));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> new LineArrangement(new Envelope(0, 0, 1, 1)).getFaceSize(1));
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.algorithm.PolygonOverlay.Operation;
+import pgeo.core.MultiPolygon;
+import pgeo.core.Point;
+import pgeo.core.PolygonWithHoles;
+import pgeo.core.Polygon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolygonOverlay")
+class PolygonOverlayTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static double[] square(double minX, double minY, double size) {
+        return new double[]{minX, minY, minX + size, minY, minX + size, minY + size, minX, minY + size};
+    }
+
+    private static double signedArea(double[] ring) {
+        double sum = 0.0;
+        int count = ring.length / 2;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            sum += ring[i * 2] * ring[next * 2 + 1] - ring[next * 2] * ring[i * 2 + 1];
+        }
+        return sum / 2.0;
+    }
+
+    private static double totalArea(List<double[][]> polygons) {
+        double area = 0.0;
+        for (double[][] polygon : polygons) {
+            for (double[] ring : polygon) {
+                area += signedArea(ring);
+            }
+        }
+        return area;
+    }
+
+    private static List<double[][]> overlay(double[] subject, double[] clip, Operation operation) {
+        return PolygonOverlay.overlay(new double[][]{subject}, new double[][]{clip}, operation);
+    }
+
+    @Nested
+    @DisplayName("Overlapping Squares")
+    class OverlappingSquares {
+
+        private final double[] a = square(0, 0, 4);
+        private final double[] b = square(2, 2, 4);
+
+        @Test
+        @DisplayName("should compute union as a single outline")
+        void shouldComputeUnion() {
+            List<double[][]> result = overlay(a, b, Operation.UNION);
+
+            assertEquals(1, result.size());
+            assertEquals(1, result.get(0).length);
+            assertEquals(28.0, totalArea(result), DELTA);
+            assertEquals(8, result.get(0)[0].length / 2);
+        }
+
+        @Test
+        @DisplayName("should compute intersection")
+        void shouldComputeIntersection() {
+            List<double[][]> result = overlay(a, b, Operation.INTERSECTION);
+
+            assertEquals(1, result.size());
+            assertEquals(4.0, totalArea(result), DELTA);
+            assertEquals(4, result.get(0)[0].length / 2);
+        }
+
+        @Test
+        @DisplayName("should compute difference")
+        void shouldComputeDifference() {
+            List<double[][]> result = overlay(a, b, Operation.DIFFERENCE);
+
+            assertEquals(1, result.size());
+            assertEquals(12.0, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should compute xor as two pieces touching at corners")
+        void shouldComputeXor() {
+            List<double[][]> result = overlay(a, b, Operation.XOR);
+
+            assertEquals(24.0, totalArea(result), DELTA);
+            for (double[][] polygon : result) {
+                assertTrue(signedArea(polygon[0]) > 0);
+            }
+        }
+
+        @Test
+        @DisplayName("should accept core polygons")
+        void shouldAcceptCorePolygons() {
+            Polygon first = new Polygon(new Point[]{new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(0, 4)});
+            Polygon second = new Polygon(new Point[]{new Point(2, 2), new Point(6, 2), new Point(6, 6), new Point(2, 6)});
+
+            assertEquals(28.0, totalArea(PolygonOverlay.union(first, second)), DELTA);
+            assertEquals(4.0, totalArea(PolygonOverlay.intersection(first, second)), DELTA);
+            assertEquals(12.0, totalArea(PolygonOverlay.difference(first, second)), DELTA);
+            assertEquals(24.0, totalArea(PolygonOverlay.xor(first, second)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should produce the same area regardless of ring orientation")
+        void shouldIgnoreRingOrientation() {
+            double[] reversed = {2, 2, 2, 6, 6, 6, 6, 2};
+
+            assertEquals(28.0, totalArea(overlay(a, reversed, Operation.UNION)), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Holes")
+    class Holes {
+
+        @Test
+        @DisplayName("should cut a hole when subtracting an interior polygon")
+        void shouldCutHole() {
+            List<double[][]> result = overlay(square(0, 0, 10), square(3, 3, 2), Operation.DIFFERENCE);
+
+            assertEquals(1, result.size());
+            assertEquals(2, result.get(0).length);
+            assertTrue(signedArea(result.get(0)[0]) > 0);
+            assertTrue(signedArea(result.get(0)[1]) < 0);
+            assertEquals(96.0, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should treat extra subject rings as holes and split them when bridged")
+        void shouldTreatExtraRingsAsHoles() {
+            double[][] donut = {square(0, 0, 10), square(2, 2, 6)};
+            double[][] bridge = {{4, -1, 6, -1, 6, 11, 4, 11}};
+            double[][] bar = {square(4, -1, 2)};
+
+            List<double[][]> union = PolygonOverlay.overlay(donut, bridge, Operation.UNION);
+            List<double[][]> intersection = PolygonOverlay.overlay(donut, bar, Operation.INTERSECTION);
+
+            assertEquals(1, union.size());
+            assertEquals(3, union.get(0).length);
+            assertEquals(80.0, totalArea(union), DELTA);
+            assertEquals(2.0, totalArea(intersection), DELTA);
+        }
+
+        @Test
+        @DisplayName("should overlay multipolygons with holes")
+        void shouldOverlayMultipolygons() {
+            MultiPolygon parcel = MultiPolygon.of(PolygonWithHoles.of(square(0, 0, 10), square(2, 2, 2)));
+            MultiPolygon lake = MultiPolygon.of(PolygonWithHoles.of(square(6, 6, 2)));
+
+            MultiPolygon result = PolygonOverlay.overlay(parcel, lake, Operation.DIFFERENCE);
+
+            assertEquals(1, result.getPolygonCount());
+            assertEquals(2, result.getPolygon(0).getHoleCount());
+            assertEquals(92.0, result.calculateArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should nest an island inside a hole as a separate polygon")
+        void shouldNestIslandInsideHole() {
+            double[][] rings = {square(0, 0, 10), square(2, 2, 6), square(4, 4, 2)};
+
+            List<double[][]> result = PolygonOverlay.overlay(rings, new double[0][], Operation.UNION);
+
+            assertEquals(2, result.size());
+            assertEquals(100.0 - 36.0 + 4.0, totalArea(result), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Degenerate Inputs")
+    class DegenerateInputs {
+
+        @Test
+        @DisplayName("should merge squares sharing an edge into one rectangle")
+        void shouldMergeSharedEdge() {
+            List<double[][]> result = overlay(square(0, 0, 2), square(2, 0, 2), Operation.UNION);
+
+            assertEquals(1, result.size());
+            assertEquals(4, result.get(0)[0].length / 2);
+            assertEquals(8.0, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should return empty intersection for squares sharing only an edge")
+        void shouldReturnEmptyIntersectionForSharedEdge() {
+            assertTrue(overlay(square(0, 0, 2), square(2, 0, 2), Operation.INTERSECTION).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should keep squares touching at a vertex as two polygons")
+        void shouldKeepVertexTouchingSquaresSeparate() {
+            List<double[][]> result = overlay(square(0, 0, 2), square(2, 2, 2), Operation.UNION);
+
+            assertEquals(2, result.size());
+            assertEquals(8.0, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should handle identical polygons")
+        void shouldHandleIdenticalPolygons() {
+            double[] ring = square(1, 1, 3);
+
+            assertEquals(9.0, totalArea(overlay(ring, ring, Operation.UNION)), DELTA);
+            assertEquals(9.0, totalArea(overlay(ring, ring, Operation.INTERSECTION)), DELTA);
+            assertTrue(overlay(ring, ring, Operation.DIFFERENCE).isEmpty());
+            assertTrue(overlay(ring, ring, Operation.XOR).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should handle collinear overlapping edges and shared vertices")
+        void shouldHandleCollinearOverlap() {
+            double[] triangle = {0, 0, 4, 0, 2, 3};
+            double[] strip = {1, 0, 3, 0, 3, -1, 1, -1};
+
+            assertEquals(6.0 + 2.0, totalArea(overlay(triangle, strip, Operation.UNION)), DELTA);
+            assertTrue(overlay(triangle, strip, Operation.INTERSECTION).isEmpty());
+        }
+
+        @Test
+        @DisplayName("should ignore a closing vertex repeated at the end of a ring")
+        void shouldIgnoreClosingVertex() {
+            double[] closed = {0, 0, 4, 0, 4, 4, 0, 4, 0, 0};
+
+            assertEquals(16.0, totalArea(overlay(closed, square(10, 10, 1), Operation.DIFFERENCE)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should resolve a self-intersecting bow tie with even-odd filling")
+        void shouldResolveBowTie() {
+            double[] bowTie = {0, 0, 2, 2, 2, 0, 0, 2};
+
+            List<double[][]> result = PolygonOverlay.overlay(new double[][]{bowTie}, new double[0][], Operation.UNION);
+
+            assertEquals(2, result.size());
+            assertEquals(2.0, totalArea(result), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Random Inputs")
+    class RandomInputs {
+
+        @Test
+        @DisplayName("should satisfy the inclusion-exclusion identity")
+        void shouldSatisfyInclusionExclusion() {
+            Random random = new Random(42);
+            for (int trial = 0; trial < 50; trial++) {
+                double[] a = randomStar(random);
+                double[] b = randomStar(random);
+
+                double union = totalArea(overlay(a, b, Operation.UNION));
+                double intersection = totalArea(overlay(a, b, Operation.INTERSECTION));
+                double difference = totalArea(overlay(a, b, Operation.DIFFERENCE));
+                double reverse = totalArea(overlay(b, a, Operation.DIFFERENCE));
+                double xor = totalArea(overlay(a, b, Operation.XOR));
+
+                assertEquals(union, intersection + difference + reverse, 1e-6);
+                assertEquals(xor, difference + reverse, 1e-6);
+                assertEquals(signedArea(a), intersection + difference, 1e-6);
+            }
+        }
+
+        private double[] randomStar(Random random) {
+            int points = 5 + random.nextInt(10);
+            double cx = random.nextDouble() * 4;
+            double cy = random.nextDouble() * 4;
+            double[] ring = new double[points * 2];
+            for (int i = 0; i < points; i++) {
+                double radius = 1 + random.nextDouble() * 4;
+                double angle = 2 * Math.PI * i / points;
+                ring[i * 2] = cx + radius * Math.cos(angle);
+                ring[i * 2 + 1] = cy + radius * Math.sin(angle);
+            }
+            return ring;
+        }
+    }
+
+    @Nested
+    @DisplayName("Cascaded Union")
+    class CascadedUnion {
+
+        @Test
+        @DisplayName("should dissolve an overlapping grid into one polygon")
+        void shouldDissolveGrid() {
+            List<double[][]> cells = new ArrayList<>();
+            for (int row = 0; row < 30; row++) {
+                for (int column = 0; column < 30; column++) {
+                    cells.add(new double[][]{square(column, row, 1.5)});
+                }
+            }
+
+            List<double[][]> result = PolygonOverlay.cascadedUnion(cells);
+
+            assertEquals(1, result.size());
+            assertEquals(1, result.get(0).length);
+            assertEquals(30.5 * 30.5, totalArea(result), 1e-6);
+        }
+
+        @Test
+        @DisplayName("should keep disjoint polygons separate")
+        void shouldKeepDisjointPolygonsSeparate() {
+            List<double[][]> cells = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                cells.add(new double[][]{square(i * 3, 0, 1)});
+            }
+
+            List<double[][]> result = PolygonOverlay.cascadedUnion(cells);
+
+            assertEquals(10, result.size());
+            assertEquals(10.0, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should form a hole when parcels enclose a gap")
+        void shouldFormHole() {
+            List<double[][]> parcels = List.of(
+                new double[][]{{0, 0, 3, 0, 3, 1, 0, 1}},
+                new double[][]{{0, 2, 3, 2, 3, 3, 0, 3}},
+                new double[][]{{0, 0, 1, 0, 1, 3, 0, 3}},
+                new double[][]{{2, 0, 3, 0, 3, 3, 2, 3}}
+            );
+
+            List<double[][]> result = PolygonOverlay.cascadedUnion(parcels);
+
+            assertEquals(1, result.size());
+            assertEquals(2, result.get(0).length);
+            assertEquals(8.0, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should node parts whose envelopes only touch")
+        void shouldNodeTouchingParts() {
+            List<double[][]> parcels = List.of(
+                new double[][]{{0, 0, 1, 0, 1, 1, 0, 1}},
+                new double[][]{{0, 0.5, 1, 0.5, 1, 1.5, 0, 1.5}},
+                new double[][]{{1, 0, 2, 0, 2, 1, 1, 1}},
+                new double[][]{{1, 0.25, 2, 0.25, 2, 1.25, 1, 1.25}}
+            );
+
+            List<double[][]> result = PolygonOverlay.cascadedUnion(parcels);
+
+            assertEquals(1, result.size());
+            assertEquals(2.75, totalArea(result), DELTA);
+        }
+
+        @Test
+        @DisplayName("should return an empty result for no polygons")
+        void shouldReturnEmptyForNoPolygons() {
+            assertTrue(PolygonOverlay.cascadedUnion(List.of()).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("should reject invalid arguments")
+        void shouldRejectInvalidArguments() {
+            double[][] ring = {square(0, 0, 1)};
+
+            assertThrows(IllegalArgumentException.class, () -> PolygonOverlay.overlay(ring, ring, null));
+            assertThrows(IllegalArgumentException.class, () -> PolygonOverlay.overlay(null, ring, Operation.UNION));
+            assertThrows(IllegalArgumentException.class,
+                () -> PolygonOverlay.overlay(new double[][]{{0, 0, 1, 1}}, ring, Operation.UNION));
+            assertThrows(IllegalArgumentException.class,
+                () -> PolygonOverlay.overlay(new double[][]{{0, 0, 1, 0, Double.NaN, 1}}, ring, Operation.UNION));
+            assertThrows(IllegalArgumentException.class, () -> PolygonOverlay.union(null, null));
+            assertThrows(IllegalArgumentException.class, () -> PolygonOverlay.cascadedUnion(null));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolygonRasterizer")
+class PolygonRasterizerTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Polygon rectangle(double minX, double minY, double maxX, double maxY) {
+        return new Polygon(new Point[]{
+            new Point(minX, minY), new Point(maxX, minY), new Point(maxX, maxY), new Point(minX, maxY)
+        });
+    }
+
+    private static Polygon randomStar(Random random, double cx, double cy, double size) {
+        int count = 5 + random.nextInt(20);
+        Point[] vertices = new Point[count];
+        for (int i = 0; i < count; i++) {
+            double angle = 2 * Math.PI * i / count;
+            double radius = size * (0.2 + random.nextDouble());
+            vertices[i] = new Point(cx + radius * Math.cos(angle), cy + radius * Math.sin(angle));
+        }
+        return new Polygon(vertices);
+    }
+
+    private static boolean containsPoint(Polygon polygon, double x, double y) {
+        double[] ring = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(ring, 0);
+        boolean inside = false;
+        int count = ring.length / 2;
+        for (int i = 0, j = count - 1; i < count; j = i++) {
+            if ((ring[i * 2 + 1] > y) != (ring[j * 2 + 1] > y)
+                    && x < ring[j * 2] + (y - ring[j * 2 + 1]) / (ring[i * 2 + 1] - ring[j * 2 + 1])
+                    * (ring[i * 2] - ring[j * 2])) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    @Nested
+    @DisplayName("Masks")
+    class Masks {
+
+        @Test
+        @DisplayName("should fill pixels whose centres lie inside, top row first")
+        void shouldFillAlignedRectangle() {
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(0, 0, 10, 10), 10, 10);
+            byte[] mask = new byte[100];
+
+            int filled = rasterizer.fill(rectangle(2, 2, 5, 5), mask);
+
+            assertEquals(9, filled);
+            for (int row = 0; row < 10; row++) {
+                for (int col = 0; col < 10; col++) {
+                    boolean expected = row >= 5 && row <= 7 && col >= 2 && col <= 4;
+                    assertEquals(expected ? 1 : 0, mask[row * 10 + col], "pixel " + row + ", " + col);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should match a per-pixel point-in-polygon test")
+        void shouldMatchPointInPolygon() {
+            Random random = new Random(61);
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(-5, -3, 7, 9), 97, 83);
+            for (int trial = 0; trial < 30; trial++) {
+                Polygon polygon = randomStar(random, random.nextDouble() * 4, random.nextDouble() * 4 + 2, 5);
+                byte[] mask = new byte[97 * 83];
+                long[] bits = new long[(97 * 83 + 63) / 64];
+
+                int filled = rasterizer.fill(polygon, mask);
+
+                assertEquals(filled, rasterizer.fill(polygon, bits));
+                int expectedCount = 0;
+                for (int row = 0; row < 83; row++) {
+                    for (int col = 0; col < 97; col++) {
+                        double x = -5 + (col + 0.5) * 12.0 / 97;
+                        double y = 9 - (row + 0.5) * 12.0 / 83;
+                        boolean inside = containsPoint(polygon, x, y);
+                        int index = row * 97 + col;
+                        expectedCount += inside ? 1 : 0;
+                        assertEquals(inside ? 1 : 0, mask[index], "trial " + trial + " pixel " + index);
+                        assertEquals(inside, (bits[index >>> 6] & (1L << index)) != 0, "trial " + trial);
+                    }
+                }
+                assertEquals(expectedCount, filled);
+            }
+        }
+
+        @Test
+        @DisplayName("should rasterize triangles and clip to the grid")
+        void shouldRasterizeTriangle() {
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(0, 0, 4, 4), 4, 4);
+            byte[] mask = new byte[16];
+
+            rasterizer.fill(new Triangle(new Point(-4, -4), new Point(20, -4), new Point(-4, 20)), mask);
+
+            byte[] expected = new byte[16];
+            Arrays.fill(expected, (byte) 1);
+            assertArrayEquals(expected, mask);
+        }
+    }
+
+    @Nested
+    @DisplayName("Coverage")
+    class Coverage {
+
+        @Test
+        @DisplayName("should compute exact fractions for axis-aligned edges")
+        void shouldComputeFractions() {
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(0, 0, 8, 8), 8, 8);
+            double[] coverage = new double[64];
+
+            rasterizer.addCoverage(rectangle(2.25, 2.25, 4.75, 4.75), 4, coverage);
+
+            assertEquals(0.5625, coverage[5 * 8 + 2], DELTA);
+            assertEquals(0.75, coverage[4 * 8 + 2], DELTA);
+            assertEquals(1.0, coverage[4 * 8 + 3], DELTA);
+            assertEquals(6.25, Arrays.stream(coverage).sum(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should approximate the polygon area")
+        void shouldApproximateArea() {
+            Random random = new Random(67);
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(0, 0, 10, 10), 50, 50);
+            for (int trial = 0; trial < 20; trial++) {
+                Polygon polygon = randomStar(random, 5, 5, 3.5);
+                double[] coverage = new double[2500];
+
+                rasterizer.addCoverage(polygon, 16, coverage);
+
+                double area = Arrays.stream(coverage).sum() * 0.04;
+                assertEquals(polygon.calculateArea(), area, 0.01 * polygon.calculateArea());
+                assertTrue(Arrays.stream(coverage).allMatch(value -> value >= 0 && value <= 1 + DELTA));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Batches")
+    class Batches {
+
+        @Test
+        @DisplayName("should label many polygons in parallel row bands like a sequential pass")
+        void shouldLabelInParallel() {
+            Random random = new Random(71);
+            Polygon[] polygons = new Polygon[200];
+            for (int i = 0; i < polygons.length; i++) {
+                polygons[i] = randomStar(random, random.nextDouble() * 100, random.nextDouble() * 100, 4);
+            }
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(0, 0, 100, 100), 300, 300);
+            int[] sequential = new int[300 * 300];
+            int[] parallel = new int[300 * 300];
+            Arrays.fill(sequential, -1);
+            Arrays.fill(parallel, -1);
+
+            rasterizer.fillAll(polygons, sequential, false);
+            rasterizer.fillAll(polygons, parallel, true);
+
+            assertArrayEquals(sequential, parallel);
+            byte[] mask = new byte[300 * 300];
+            rasterizer.fill(polygons[polygons.length - 1], mask);
+            for (int i = 0; i < mask.length; i++) {
+                if (mask[i] == 1) {
+                    assertEquals(polygons.length - 1, sequential[i]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should reject invalid input")
+        void shouldRejectInvalidInput() {
+            PolygonRasterizer rasterizer = new PolygonRasterizer(new Envelope(0, 0, 1, 1), 4, 4);
+            Polygon square = rectangle(0, 0, 1, 1);
+
+            assertThrows(IllegalArgumentException.class, () -> new PolygonRasterizer(null, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new PolygonRasterizer(new Envelope(0, 0, 1, 1), 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> rasterizer.fill(square, new byte[15]));
+            assertThrows(IllegalArgumentException.class, () -> rasterizer.fill(square, (long[]) null));
+            assertThrows(IllegalArgumentException.class, () -> rasterizer.addCoverage(square, 0, new double[16]));
+            assertThrows(IllegalArgumentException.class, () -> rasterizer.fillAll(null, new int[16], false));
+        }
+    }
+}
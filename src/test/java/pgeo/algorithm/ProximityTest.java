@@ -0,0 +1,186 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Proximity")
+class ProximityTest {
+
+    private static double[] randomPoints(int count, long seed) {
+        Random random = new Random(seed);
+        double[] points = new double[count * 2];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextDouble() * 1000;
+        }
+        return points;
+    }
+
+    private static double distanceSquared(double[] points, int i, int j) {
+        double dx = points[i * 2] - points[j * 2];
+        double dy = points[i * 2 + 1] - points[j * 2 + 1];
+        return dx * dx + dy * dy;
+    }
+
+    private static double bruteForceClosest(double[] points) {
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < points.length / 2; i++) {
+            for (int j = i + 1; j < points.length / 2; j++) {
+                best = Math.min(best, distanceSquared(points, i, j));
+            }
+        }
+        return best;
+    }
+
+    @Nested
+    @DisplayName("Closest Pair")
+    class ClosestPair {
+
+        @Test
+        @DisplayName("should find the closest pair of a small set")
+        void shouldFindClosestPair() {
+            double[] points = {0, 0, 10, 10, 3, 4, 10, 11, 20, 0};
+
+            Proximity.Pair pair = Proximity.closestPair(points);
+
+            assertEquals(1, pair.getFirst());
+            assertEquals(3, pair.getSecond());
+            assertEquals(1.0, pair.getDistanceSquared());
+            assertEquals(1.0, pair.getDistance());
+        }
+
+        @Test
+        @DisplayName("should match brute force on random points")
+        void shouldMatchBruteForce() {
+            for (long seed = 0; seed < 20; seed++) {
+                double[] points = randomPoints(500, seed);
+
+                Proximity.Pair pair = Proximity.closestPair(points);
+
+                assertEquals(bruteForceClosest(points), pair.getDistanceSquared());
+                assertEquals(pair.getDistanceSquared(), distanceSquared(points, pair.getFirst(), pair.getSecond()));
+            }
+        }
+
+        @Test
+        @DisplayName("should report duplicate points at distance zero")
+        void shouldReportDuplicates() {
+            double[] points = {5, 5, 1, 1, 9, 9, 1, 1};
+
+            Proximity.Pair pair = Proximity.closestPair(points);
+
+            assertEquals(0.0, pair.getDistanceSquared());
+            assertEquals(1, pair.getFirst());
+            assertEquals(3, pair.getSecond());
+        }
+
+        @Test
+        @DisplayName("should handle points sharing one x coordinate")
+        void shouldHandleVerticalPoints() {
+            double[] points = new double[200];
+            for (int i = 0; i < 100; i++) {
+                points[i * 2] = 7;
+                points[i * 2 + 1] = (i * 37 % 100) * 2.0;
+            }
+            points[101] = 0.5;
+
+            assertEquals(bruteForceClosest(points), Proximity.closestPair(points).getDistanceSquared());
+        }
+
+        @Test
+        @DisplayName("should match sequential result in parallel")
+        void shouldMatchSequentialInParallel() {
+            double[] points = randomPoints(50_000, 7);
+
+            assertEquals(
+                Proximity.closestPair(points, false).getDistanceSquared(),
+                Proximity.closestPair(points, true).getDistanceSquared());
+        }
+
+        @Test
+        @DisplayName("should reject invalid input")
+        void shouldRejectInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> Proximity.closestPair(null));
+            assertThrows(IllegalArgumentException.class, () -> Proximity.closestPair(new double[]{1, 2}));
+            assertThrows(IllegalArgumentException.class, () -> Proximity.closestPair(new double[]{1, 2, 3}));
+            assertThrows(IllegalArgumentException.class, () -> Proximity.closestPair(new double[]{1, 2, Double.NaN, 4}));
+        }
+    }
+
+    @Nested
+    @DisplayName("All Nearest Neighbours")
+    class AllNearestNeighbours {
+
+        @Test
+        @DisplayName("should find each point's nearest neighbour")
+        void shouldFindNearestNeighbours() {
+            double[] points = {0, 0, 1, 0, 10, 0, 12, 0};
+            double[] distances = new double[4];
+
+            int[] nearest = Proximity.allNearestNeighbours(points, distances, false);
+
+            assertArrayEquals(new int[]{1, 0, 3, 2}, nearest);
+            assertArrayEquals(new double[]{1, 1, 4, 4}, distances);
+        }
+
+        @Test
+        @DisplayName("should match brute force on random points")
+        void shouldMatchBruteForce() {
+            double[] points = randomPoints(2000, 3);
+            double[] distances = new double[2000];
+
+            int[] nearest = Proximity.allNearestNeighbours(points, distances, false);
+
+            for (int i = 0; i < 2000; i++) {
+                double best = Double.POSITIVE_INFINITY;
+                for (int j = 0; j < 2000; j++) {
+                    if (j != i) {
+                        best = Math.min(best, distanceSquared(points, i, j));
+                    }
+                }
+                assertNotEquals(i, nearest[i]);
+                assertEquals(best, distances[i]);
+                assertEquals(best, distanceSquared(points, i, nearest[i]));
+            }
+        }
+
+        @Test
+        @DisplayName("should pair duplicate points with each other")
+        void shouldPairDuplicates() {
+            double[] points = {3, 3, 3, 3, 3, 3, 8, 8};
+            double[] distances = new double[4];
+
+            int[] nearest = Proximity.allNearestNeighbours(points, distances, false);
+
+            for (int i = 0; i < 3; i++) {
+                assertNotEquals(i, nearest[i]);
+                assertTrue(nearest[i] < 3);
+                assertEquals(0.0, distances[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("should match sequential result in parallel")
+        void shouldMatchSequentialInParallel() {
+            double[] points = randomPoints(30_000, 11);
+            double[] sequential = new double[30_000];
+            double[] parallel = new double[30_000];
+
+            Proximity.allNearestNeighbours(points, sequential, false);
+            Proximity.allNearestNeighbours(points, parallel, true);
+
+            assertArrayEquals(sequential, parallel);
+        }
+
+        @Test
+        @DisplayName("should reject undersized distance buffer")
+        void shouldRejectUndersizedBuffer() {
+            assertThrows(IllegalArgumentException.class,
+                () -> Proximity.allNearestNeighbours(new double[]{0, 0, 1, 1}, new double[1], false));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RectangleClipper")
+class RectangleClipperTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static double area(double[] ring) {
+        double sum = 0.0;
+        int count = ring.length / 2;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            sum += ring[i * 2] * ring[next * 2 + 1] - ring[next * 2] * ring[i * 2 + 1];
+        }
+        return Math.abs(sum / 2.0);
+    }
+
+    private static double[] star(int points, double cx, double cy, double outer, double inner) {
+        double[] ring = new double[points * 4];
+        for (int i = 0; i < points * 2; i++) {
+            double radius = i % 2 == 0 ? outer : inner;
+            double angle = Math.PI * i / points;
+            ring[i * 2] = cx + radius * Math.cos(angle);
+            ring[i * 2 + 1] = cy + radius * Math.sin(angle);
+        }
+        return ring;
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("should reject empty or inverted rectangles")
+        void shouldRejectEmptyOrInvertedRectangles() {
+            assertThrows(IllegalArgumentException.class, () -> new RectangleClipper(0, 0, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> new RectangleClipper(0, 2, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new RectangleClipper(0, 0, Double.NaN, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Polygon Clipping")
+    class PolygonClipping {
+
+        private final RectangleClipper clipper = new RectangleClipper(0, 0, 10, 10);
+
+        @Test
+        @DisplayName("should keep polygon fully inside unchanged")
+        void shouldKeepPolygonFullyInsideUnchanged() {
+            double[] ring = {1, 1, 5, 1, 5, 5, 1, 5};
+
+            assertArrayEquals(ring, clipper.clipPolygon(ring));
+        }
+
+        @Test
+        @DisplayName("should return empty result for polygon outside")
+        void shouldReturnEmptyResultForPolygonOutside() {
+            assertEquals(0, clipper.clipPolygon(new double[]{20, 20, 30, 20, 25, 30}).length);
+        }
+
+        @Test
+        @DisplayName("should clip overlapping square to the intersection")
+        void shouldClipOverlappingSquareToIntersection() {
+            double[] clipped = clipper.clipPolygon(new double[]{5, 5, 15, 5, 15, 15, 5, 15});
+
+            assertEquals(25.0, area(clipped), DELTA);
+            assertEquals(4, clipped.length / 2);
+        }
+
+        @Test
+        @DisplayName("should return the rectangle when polygon contains it")
+        void shouldReturnRectangleWhenPolygonContainsIt() {
+            double[] clipped = clipper.clipPolygon(new double[]{-5, -5, 20, -5, 20, 20, -5, 20});
+
+            assertEquals(100.0, area(clipped), DELTA);
+        }
+
+        @Test
+        @DisplayName("should clip concave polygon")
+        void shouldClipConcavePolygon() {
+            double[] uShape = {-2, 2, 12, 2, 12, 8, 8, 8, 8, 4, 2, 4, 2, 8, -2, 8};
+
+            double[] clipped = clipper.clipPolygon(uShape);
+
+            assertEquals(10 * 2 + 2 * 4 + 2 * 4, area(clipped), DELTA);
+        }
+
+        @Test
+        @DisplayName("should accept Polygon instances")
+        void shouldAcceptPolygonInstances() {
+            Polygon triangle = new Polygon(new Point[]{new Point(-10, 0), new Point(10, 0), new Point(0, 10)});
+
+            double[] clipped = clipper.clipPolygon(triangle);
+
+            assertEquals(50.0, area(clipped), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject malformed coordinate arrays")
+        void shouldRejectMalformedCoordinateArrays() {
+            assertThrows(IllegalArgumentException.class, () -> clipper.clipPolygon((double[]) null));
+            assertThrows(IllegalArgumentException.class, () -> clipper.clipPolygon(new double[]{0, 0, 1, 1}));
+            assertThrows(IllegalArgumentException.class, () -> clipper.clipPolygon(new double[]{0, 0, 1, 1, 2}));
+        }
+    }
+
+    @Nested
+    @DisplayName("Segment And Polyline Clipping")
+    class SegmentAndPolylineClipping {
+
+        private final RectangleClipper clipper = new RectangleClipper(0, 0, 10, 10);
+
+        @Test
+        @DisplayName("should clip segment crossing the rectangle")
+        void shouldClipSegmentCrossingRectangle() {
+            double[] out = new double[4];
+
+            assertTrue(clipper.clipSegment(-5, 5, 15, 5, out));
+            assertArrayEquals(new double[]{0, 5, 10, 5}, out, DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject segment outside the rectangle")
+        void shouldRejectSegmentOutsideRectangle() {
+            assertFalse(clipper.clipSegment(-5, -5, -1, 20, new double[4]));
+            assertFalse(clipper.clipSegment(11, 0, 11, 10, new double[4]));
+        }
+
+        @Test
+        @DisplayName("should split polyline into visible runs")
+        void shouldSplitPolylineIntoVisibleRuns() {
+            double[] zigzag = {-5, 5, 5, 5, 5, 15, 8, 15, 8, 5, 12, 5};
+
+            List<double[]> runs = clipper.clipPolyline(zigzag);
+
+            assertEquals(2, runs.size());
+            assertArrayEquals(new double[]{0, 5, 5, 5, 5, 10}, runs.get(0), DELTA);
+            assertArrayEquals(new double[]{8, 10, 8, 5, 10, 5}, runs.get(1), DELTA);
+        }
+    }
+
+    @Nested
+    @DisplayName("Grid Clipping")
+    class GridClipping {
+
+        @Test
+        @DisplayName("should cut a square into unit tiles")
+        void shouldCutSquareIntoUnitTiles() {
+            GridClip grid = RectangleClipper.clipToGrid(new double[]{0, 0, 4, 0, 4, 4, 0, 4}, 0, 0, 1, 1, 4, 4);
+
+            assertEquals(16, grid.getTileCount());
+            for (int tile = 0; tile < grid.getTileCount(); tile++) {
+                assertEquals(1.0, area(grid.toArray(tile)), DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("should match per-tile clipping for a concave polygon")
+        void shouldMatchPerTileClippingForConcavePolygon() {
+            double[] ring = star(7, 5, 5, 4.5, 1.5);
+
+            GridClip grid = RectangleClipper.clipToGrid(ring, 0, 0, 2.5, 2.5, 4, 4);
+
+            double total = 0.0;
+            for (int tile = 0; tile < grid.getTileCount(); tile++) {
+                int column = grid.getColumn(tile);
+                int row = grid.getRow(tile);
+                RectangleClipper tileClipper = new RectangleClipper(
+                    column * 2.5, row * 2.5, (column + 1) * 2.5, (row + 1) * 2.5);
+                double expected = area(tileClipper.clipPolygon(ring));
+                assertEquals(expected, area(grid.toArray(tile)), DELTA);
+                assertEquals(row * 4 + column, grid.getTileIndex(tile));
+                total += expected;
+            }
+            assertEquals(area(ring), total, DELTA);
+        }
+
+        @Test
+        @DisplayName("should ignore parts outside the grid")
+        void shouldIgnorePartsOutsideGrid() {
+            GridClip grid = RectangleClipper.clipToGrid(new double[]{-3, -3, 1, -3, 1, 1, -3, 1}, 0, 0, 1, 1, 2, 2);
+
+            assertEquals(1, grid.getTileCount());
+            assertEquals(0, grid.getColumn(0));
+            assertEquals(0, grid.getRow(0));
+            assertEquals(1.0, area(grid.toArray(0)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject invalid grid parameters")
+        void shouldRejectInvalidGridParameters() {
+            double[] ring = {0, 0, 1, 0, 0, 1};
+
+            assertThrows(IllegalArgumentException.class, () -> RectangleClipper.clipToGrid(ring, 0, 0, 0, 1, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> RectangleClipper.clipToGrid(ring, 0, 0, 1, 1, 0, 1));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RegionCoverer")
+class RegionCovererTest {
+
+    private static final Envelope DOMAIN = new Envelope(0, 0, 16, 16);
+
+    private static Polygon star() {
+        int points = 7;
+        Point[] vertices = new Point[points * 2];
+        for (int i = 0; i < vertices.length; i++) {
+            double angle = Math.PI * i / points;
+            double radius = i % 2 == 0 ? 6.0 : 2.5;
+            vertices[i] = new Point(8 + radius * Math.cos(angle), 8 + radius * Math.sin(angle));
+        }
+        return new Polygon(vertices);
+    }
+
+    private static boolean containsPoint(Polygon polygon, double x, double y) {
+        double[] ring = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(ring, 0);
+        boolean inside = false;
+        int count = ring.length / 2;
+        for (int i = 0, j = count - 1; i < count; j = i++) {
+            if ((ring[i * 2 + 1] > y) != (ring[j * 2 + 1] > y)
+                    && x < ring[j * 2] + (y - ring[j * 2 + 1]) / (ring[i * 2 + 1] - ring[j * 2 + 1])
+                    * (ring[i * 2] - ring[j * 2])) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static boolean covered(RegionCoverer coverer, long[] cells, double x, double y) {
+        for (long cell : cells) {
+            Envelope envelope = coverer.getCellEnvelope(cell);
+            if (x >= envelope.getMinX() && x <= envelope.getMaxX() && y >= envelope.getMinY() && y <= envelope.getMaxY()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertDisjointAndSorted(long[] cells) {
+        for (int i = 1; i < cells.length; i++) {
+            assertTrue(RegionCoverer.rangeMax(cells[i - 1]) < RegionCoverer.rangeMin(cells[i]),
+                "cells " + (i - 1) + " and " + i + " should be sorted and disjoint");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cell Ids")
+    class CellIds {
+
+        @Test
+        @DisplayName("should round-trip level and position")
+        void shouldRoundTrip() {
+            Random random = new Random(53);
+            for (int trial = 0; trial < 1000; trial++) {
+                int level = random.nextInt(RegionCoverer.MAX_LEVEL + 1);
+                int x = level == 0 ? 0 : random.nextInt(1 << level);
+                int y = level == 0 ? 0 : random.nextInt(1 << level);
+
+                long cell = RegionCoverer.cellId(level, x, y);
+
+                assertEquals(level, RegionCoverer.cellLevel(cell));
+                assertEquals(x, RegionCoverer.cellX(cell));
+                assertEquals(y, RegionCoverer.cellY(cell));
+            }
+        }
+
+        @Test
+        @DisplayName("should nest child ranges inside their parent")
+        void shouldNestRanges() {
+            long parent = RegionCoverer.cellId(3, 5, 2);
+            for (int child = 0; child < 4; child++) {
+                long id = RegionCoverer.cellId(4, 10 + (child & 1), 4 + (child >>> 1));
+                assertTrue(RegionCoverer.contains(parent, id));
+                assertFalse(RegionCoverer.contains(id, parent));
+            }
+            assertFalse(RegionCoverer.contains(parent, RegionCoverer.cellId(4, 12, 4)));
+            assertEquals(RegionCoverer.rangeMin(RegionCoverer.cellId(0, 0, 0)),
+                RegionCoverer.rangeMin(RegionCoverer.cellId(RegionCoverer.MAX_LEVEL, 0, 0)));
+        }
+
+        @Test
+        @DisplayName("should reject invalid cells")
+        void shouldRejectInvalidCells() {
+            assertThrows(IllegalArgumentException.class, () -> RegionCoverer.cellId(2, 4, 0));
+            assertThrows(IllegalArgumentException.class, () -> RegionCoverer.cellId(31, 0, 0));
+            assertThrows(IllegalArgumentException.class, () -> RegionCoverer.cellLevel(0L));
+            assertThrows(IllegalArgumentException.class, () -> RegionCoverer.cellLevel(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Covering")
+    class Covering {
+
+        @Test
+        @DisplayName("should cover an aligned envelope with one cell")
+        void shouldCoverAlignedEnvelope() {
+            RegionCoverer coverer = new RegionCoverer(DOMAIN, 0, 10, 8);
+
+            long[] cells = coverer.cover(new Envelope(8, 0, 16, 8));
+
+            assertArrayEquals(new long[]{RegionCoverer.cellId(1, 1, 0)}, cells);
+        }
+
+        @Test
+        @DisplayName("should cover a polygon within the cell budget")
+        void shouldCoverPolygon() {
+            Polygon star = star();
+            RegionCoverer coverer = new RegionCoverer(DOMAIN, 1, 12, 64);
+
+            long[] cells = coverer.cover(star);
+
+            assertTrue(cells.length > 4 && cells.length <= 64, "cells: " + cells.length);
+            assertDisjointAndSorted(cells);
+            Random random = new Random(59);
+            for (int i = 0; i < 5000; i++) {
+                double x = random.nextDouble() * 16;
+                double y = random.nextDouble() * 16;
+                if (containsPoint(star, x, y)) {
+                    assertTrue(covered(coverer, cells, x, y), "uncovered point " + x + ", " + y);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should respect minimum and maximum levels")
+        void shouldRespectLevels() {
+            RegionCoverer coverer = new RegionCoverer(DOMAIN, 3, 5, 10_000);
+
+            long[] cells = coverer.cover(star());
+
+            assertDisjointAndSorted(cells);
+            for (long cell : cells) {
+                int level = RegionCoverer.cellLevel(cell);
+                assertTrue(level >= 3 && level <= 5, "level " + level);
+            }
+            assertTrue(Arrays.stream(cells).anyMatch(cell -> RegionCoverer.cellLevel(cell) == 5));
+        }
+
+        @Test
+        @DisplayName("should tighten the covering as the budget grows")
+        void shouldTightenWithBudget() {
+            Triangle triangle = new Triangle(new Point(1, 1), new Point(15, 2), new Point(4, 14));
+            double previous = Double.MAX_VALUE;
+            for (int budget : new int[]{4, 16, 64, 256}) {
+                RegionCoverer coverer = new RegionCoverer(DOMAIN, 0, 16, budget);
+                long[] cells = coverer.cover(triangle);
+
+                double area = 0.0;
+                for (long cell : cells) {
+                    Envelope envelope = coverer.getCellEnvelope(cell);
+                    area += (envelope.getMaxX() - envelope.getMinX()) * (envelope.getMaxY() - envelope.getMinY());
+                }
+                assertTrue(cells.length <= budget);
+                assertTrue(area <= previous);
+                assertTrue(area >= triangle.calculateArea());
+                previous = area;
+            }
+        }
+
+        @Test
+        @DisplayName("should return no cells outside the domain")
+        void shouldIgnoreOutsideDomain() {
+            RegionCoverer coverer = new RegionCoverer(DOMAIN, 0, 8, 16);
+
+            assertEquals(0, coverer.cover(new Envelope(20, 20, 30, 30)).length);
+        }
+
+        @Test
+        @DisplayName("should cover a degenerate envelope with the finest cell holding it")
+        void shouldCoverPointEnvelope() {
+            RegionCoverer coverer = new RegionCoverer(DOMAIN, 0, 4, 16);
+
+            assertArrayEquals(new long[]{RegionCoverer.cellId(4, 3, 16 - 1)}, coverer.cover(new Envelope(3.5, 16, 3.5, 16)));
+        }
+
+        @Test
+        @DisplayName("should reject invalid parameters")
+        void shouldRejectInvalidParameters() {
+            assertThrows(IllegalArgumentException.class, () -> new RegionCoverer(null, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new RegionCoverer(new Envelope(0, 0, 0, 1), 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new RegionCoverer(DOMAIN, 3, 2, 1));
+            assertThrows(IllegalArgumentException.class, () -> new RegionCoverer(DOMAIN, 0, 31, 1));
+            assertThrows(IllegalArgumentException.class, () -> new RegionCoverer(DOMAIN, 0, 1, 0));
+            assertThrows(IllegalArgumentException.class, () -> new RegionCoverer(DOMAIN, 0, 1, 1).cover((Polygon) null));
+        }
+    }
+}
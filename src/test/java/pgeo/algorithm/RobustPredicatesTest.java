@@ -0,0 +1,65 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RobustPredicates")
+class RobustPredicatesTest {
+
+    private static int referenceOrientation(double ax, double ay, double bx, double by, double cx, double cy) {
+        BigDecimal acx = new BigDecimal(ax).subtract(new BigDecimal(cx));
+        BigDecimal bcy = new BigDecimal(by).subtract(new BigDecimal(cy));
+        BigDecimal acy = new BigDecimal(ay).subtract(new BigDecimal(cy));
+        BigDecimal bcx = new BigDecimal(bx).subtract(new BigDecimal(cx));
+        return acx.multiply(bcy).subtract(acy.multiply(bcx)).signum();
+    }
+
+    @Nested
+    @DisplayName("Orientation")
+    class Orientation {
+
+        @Test
+        @DisplayName("should classify clearly separated points")
+        void shouldClassifySeparatedPoints() {
+            assertEquals(1, RobustPredicates.orientation(0, 0, 1, 0, 0, 1));
+            assertEquals(-1, RobustPredicates.orientation(0, 0, 1, 0, 0, -1));
+            assertEquals(0, RobustPredicates.orientation(0, 0, 1, 1, 2, 2));
+        }
+
+        @Test
+        @DisplayName("should classify nearly collinear points exactly")
+        void shouldClassifyNearlyCollinearPoints() {
+            assertTrue(RobustPredicates.isCollinear(0.5, 0.5, 12, 12, 24, 24));
+            assertEquals(1, RobustPredicates.orientation(0, 0, 1, 0, 0.5, 1e-300));
+            assertEquals(-1, RobustPredicates.orientation(0, 0, 1, 0, 0.5, -1e-300));
+            assertEquals(1, RobustPredicates.orientation(0.5, 0.5, 12, 12, 0.5, 0.5 + Math.ulp(0.5)));
+        }
+
+        @Test
+        @DisplayName("should agree with exact arithmetic on perturbed collinear points")
+        void shouldAgreeWithExactArithmetic() {
+            Random random = new Random(7);
+            for (int i = 0; i < 20_000; i++) {
+                double ax = random.nextDouble() * 1000;
+                double ay = random.nextDouble() * 1000;
+                double bx = random.nextDouble() * 1000;
+                double by = random.nextDouble() * 1000;
+                double t = random.nextDouble();
+                double cx = ax + t * (bx - ax);
+                double cy = ay + t * (by - ay);
+                for (int ulps = random.nextInt(3); ulps > 0; ulps--) {
+                    cy = random.nextBoolean() ? Math.nextUp(cy) : Math.nextDown(cy);
+                }
+
+                assertEquals(referenceOrientation(ax, ay, bx, by, cx, cy),
+                    RobustPredicates.orientation(ax, ay, bx, by, cx, cy));
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RotatingCalipers")
+class RotatingCalipersTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static Polygon rotatedRectangle(double width, double height, double angle) {
+        double cos = Math.cos(angle);
+        double sin = Math.sin(angle);
+        double[][] corners = {{0, 0}, {width, 0}, {width, height}, {0, height}};
+        Point[] points = new Point[4];
+        for (int i = 0; i < 4; i++) {
+            points[i] = new Point(
+                5 + corners[i][0] * cos - corners[i][1] * sin,
+                -3 + corners[i][0] * sin + corners[i][1] * cos);
+        }
+        return new Polygon(points);
+    }
+
+    private static Polygon randomCloud(int count, long seed) {
+        Random random = new Random(seed);
+        Point[] points = new Point[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = new Point(random.nextGaussian() * 10, random.nextGaussian() * 4);
+        }
+        return new Polygon(points);
+    }
+
+    private static double bruteForceDiameter(Polygon polygon) {
+        double best = 0.0;
+        for (int i = 0; i < polygon.getVertexCount(); i++) {
+            for (int j = i + 1; j < polygon.getVertexCount(); j++) {
+                best = Math.max(best, polygon.getVertex(i).distanceTo(polygon.getVertex(j)));
+            }
+        }
+        return best;
+    }
+
+    private static double[] bruteForceWidthAndArea(Polygon polygon) {
+        Polygon hull = polygon.getConvexHull();
+        int count = hull.getVertexCount();
+        double width = Double.POSITIVE_INFINITY;
+        double area = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            double ux = hull.getX(next) - hull.getX(i);
+            double uy = hull.getY(next) - hull.getY(i);
+            double length = Math.hypot(ux, uy);
+            ux /= length;
+            uy /= length;
+            double minU = Double.POSITIVE_INFINITY;
+            double maxU = Double.NEGATIVE_INFINITY;
+            double maxN = 0.0;
+            for (int k = 0; k < count; k++) {
+                double dx = hull.getX(k) - hull.getX(i);
+                double dy = hull.getY(k) - hull.getY(i);
+                minU = Math.min(minU, dx * ux + dy * uy);
+                maxU = Math.max(maxU, dx * ux + dy * uy);
+                maxN = Math.max(maxN, -dx * uy + dy * ux);
+            }
+            width = Math.min(width, maxN);
+            area = Math.min(area, (maxU - minU) * maxN);
+        }
+        return new double[]{width, area};
+    }
+
+    @Nested
+    @DisplayName("Rectangle")
+    class Rectangle {
+
+        private final Polygon rectangle = rotatedRectangle(8, 3, Math.toRadians(30));
+
+        @Test
+        @DisplayName("should measure the diagonal as diameter")
+        void shouldMeasureDiameter() {
+            assertEquals(Math.hypot(8, 3), RotatingCalipers.diameter(rectangle).length(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should measure the short side as width")
+        void shouldMeasureWidth() {
+            RotatingCalipers.Segment width = RotatingCalipers.width(rectangle);
+
+            assertEquals(3.0, width.length(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should recover the rectangle itself as minimum-area rectangle")
+        void shouldRecoverRectangle() {
+            Polygon result = RotatingCalipers.minimumAreaRectangle(rectangle);
+
+            assertEquals(4, result.getVertexCount());
+            assertEquals(24.0, result.calculateArea(), DELTA);
+            assertTrue(result.calculateSignedArea() > 0);
+            for (int i = 0; i < 4; i++) {
+                double x = result.getX(i);
+                double y = result.getY(i);
+                boolean matches = false;
+                for (int k = 0; k < 4; k++) {
+                    matches |= Math.hypot(rectangle.getX(k) - x, rectangle.getY(k) - y) < 1e-9;
+                }
+                assertTrue(matches, "corner " + i);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Random Point Sets")
+    class RandomPointSets {
+
+        @Test
+        @DisplayName("should match brute force diameter, width and rectangle area")
+        void shouldMatchBruteForce() {
+            for (long seed = 0; seed < 25; seed++) {
+                Polygon cloud = randomCloud(200, seed);
+                double[] expected = bruteForceWidthAndArea(cloud);
+
+                assertEquals(bruteForceDiameter(cloud), RotatingCalipers.diameter(cloud).length(), DELTA);
+                assertEquals(expected[0], RotatingCalipers.width(cloud).length(), DELTA);
+                assertEquals(expected[1], RotatingCalipers.minimumAreaRectangle(cloud).calculateArea(), 1e-6);
+            }
+        }
+
+        @Test
+        @DisplayName("should enclose every vertex in the minimum-area rectangle")
+        void shouldEncloseVertices() {
+            Polygon cloud = randomCloud(500, 99);
+            Polygon rectangle = RotatingCalipers.minimumAreaRectangle(cloud);
+
+            for (int i = 0; i < cloud.getVertexCount(); i++) {
+                double x = cloud.getX(i);
+                double y = cloud.getY(i);
+                for (int e = 0; e < 4; e++) {
+                    int next = (e + 1) % 4;
+                    double cross = (rectangle.getX(next) - rectangle.getX(e)) * (y - rectangle.getY(e))
+                        - (rectangle.getY(next) - rectangle.getY(e)) * (x - rectangle.getX(e));
+                    assertTrue(cross >= -1e-7, "vertex " + i + " edge " + e);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should measure collinear vertices as a segment")
+    void shouldMeasureCollinearVertices() {
+        Polygon line = Polygon.fromArray(new double[][]{{1, 1}, {3, 3}, {0, 0}, {2, 2}});
+
+        assertEquals(new RotatingCalipers.Segment(0, 0, 3, 3), RotatingCalipers.diameter(line));
+        assertEquals(0.0, RotatingCalipers.width(line).length());
+        assertThrows(IllegalArgumentException.class, () -> RotatingCalipers.minimumAreaRectangle(line));
+    }
+
+    @Test
+    @DisplayName("should measure vertices collinear up to rounding without throwing")
+    void shouldMeasureNearlyCollinearVertices() {
+        Random random = new Random(113);
+        for (int trial = 0; trial < 20000; trial++) {
+            double slope = random.nextInt(9) + 1;
+            double[][] coordinates = new double[4][];
+            for (int i = 0; i < 4; i++) {
+                double u = random.nextInt(1000);
+                coordinates[i] = new double[]{0.1 * u, 0.1 * u * slope};
+            }
+            Polygon polygon;
+            try {
+                polygon = Polygon.fromArray(coordinates);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            RotatingCalipers.Segment diameter = RotatingCalipers.diameter(polygon);
+            RotatingCalipers.Segment width = RotatingCalipers.width(polygon);
+
+            assertTrue(width.length() <= diameter.length());
+        }
+    }
+
+    @Test
+    @DisplayName("should reject null polygon")
+    void shouldRejectNullPolygon() {
+        assertThrows(IllegalArgumentException.class, () -> RotatingCalipers.diameter(null));
+        assertThrows(IllegalArgumentException.class, () -> RotatingCalipers.width(null));
+        assertThrows(IllegalArgumentException.class, () -> RotatingCalipers.minimumAreaRectangle(null));
+    }
+}
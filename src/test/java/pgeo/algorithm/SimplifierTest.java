@@ -0,0 +1,240 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Polygon;
+import pgeo.core.Polyline;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Simplifier")
+class SimplifierTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static double[] noisyCircle(int vertices, double radius, double noise, long seed) {
+        Random random = new Random(seed);
+        double[] ring = new double[vertices * 2];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2.0 * Math.PI * i / vertices;
+            double r = radius + (random.nextDouble() - 0.5) * noise;
+            ring[i * 2] = r * Math.cos(angle);
+            ring[i * 2 + 1] = r * Math.sin(angle);
+        }
+        return ring;
+    }
+
+    private static double area(double[] ring, int count) {
+        double sum = 0.0;
+        for (int i = 0; i < count; i++) {
+            int next = (i + 1) % count;
+            sum += ring[i * 2] * ring[next * 2 + 1] - ring[next * 2] * ring[i * 2 + 1];
+        }
+        return Math.abs(sum / 2.0);
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("should reject invalid configuration")
+        void shouldRejectInvalidConfiguration() {
+            assertThrows(IllegalArgumentException.class, () -> new Simplifier(null, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, -1.0));
+            assertThrows(IllegalArgumentException.class, () -> new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, Double.NaN));
+        }
+
+        @Test
+        @DisplayName("should reject undersized buffers")
+        void shouldRejectUndersizedBuffers() {
+            Simplifier simplifier = new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 1.0);
+
+            assertThrows(IllegalArgumentException.class, () -> simplifier.simplifyLine(new double[]{0, 0}, 1));
+            assertThrows(IllegalArgumentException.class, () -> simplifier.simplifyLine(new double[4], 3));
+            assertThrows(IllegalArgumentException.class, () -> simplifier.simplifyRing(new double[4], 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Douglas-Peucker")
+    class DouglasPeucker {
+
+        private final Simplifier simplifier = new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 0.5);
+
+        @Test
+        @DisplayName("should drop vertices within tolerance in place")
+        void shouldDropVerticesInPlace() {
+            double[] line = {0, 0, 1, 0.1, 2, -0.1, 3, 5, 4, 6, 5, 7};
+
+            int count = simplifier.simplifyLine(line, 6);
+
+            assertEquals(4, count);
+            assertArrayEquals(new double[]{0, 0, 2, -0.1, 3, 5, 5, 7}, Arrays.copyOf(line, 8), DELTA);
+        }
+
+        @Test
+        @DisplayName("should keep endpoints of straight lines")
+        void shouldKeepEndpoints() {
+            double[] line = {0, 0, 1, 0, 2, 0, 3, 0};
+
+            assertEquals(2, simplifier.simplifyLine(line, 4));
+            assertArrayEquals(new double[]{0, 0, 3, 0}, Arrays.copyOf(line, 4), DELTA);
+        }
+
+        @Test
+        @DisplayName("should keep every vertex at zero tolerance unless collinear")
+        void shouldKeepVerticesAtZeroTolerance() {
+            double[] ring = noisyCircle(50, 10, 1, 1);
+
+            assertEquals(50, new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 0.0).simplifyRing(ring, 50));
+        }
+
+        @Test
+        @DisplayName("should simplify rings to at least a triangle")
+        void shouldSimplifyRings() {
+            double[] ring = noisyCircle(1000, 100, 0.2, 2);
+            double original = area(ring, 1000);
+
+            int count = simplifier.simplifyRing(ring, 1000);
+
+            assertTrue(count >= 3 && count < 100, "count " + count);
+            assertEquals(original, area(ring, count), original * 0.01);
+            assertEquals(3, new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 1000).simplifyRing(noisyCircle(20, 1, 0, 3), 20));
+        }
+
+        @Test
+        @DisplayName("should simplify polygons and polylines")
+        void shouldSimplifyPolygonsAndPolylines() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {5, 0.1}, {10, 0}, {10, 10}, {0, 10}});
+            Polyline polyline = Polyline.of(0, 0, 5, 0.1, 10, 0);
+
+            assertEquals(4, simplifier.simplify(polygon).getVertexCount());
+            assertEquals(Polyline.of(0, 0, 10, 0), simplifier.simplify(polyline));
+        }
+    }
+
+    @Nested
+    @DisplayName("Visvalingam-Whyatt")
+    class VisvalingamWhyatt {
+
+        @Test
+        @DisplayName("should remove vertices with the smallest effective area")
+        void shouldRemoveSmallestAreas() {
+            double[] line = {0, 0, 1, 0.1, 2, 0, 3, 3, 4, 0};
+            Simplifier simplifier = new Simplifier(Simplifier.Method.VISVALINGAM_WHYATT, 0.5);
+
+            int count = simplifier.simplifyLine(line, 5);
+
+            assertEquals(4, count);
+            assertArrayEquals(new double[]{0, 0, 2, 0, 3, 3, 4, 0}, Arrays.copyOf(line, 8), DELTA);
+        }
+
+        @Test
+        @DisplayName("should stop at a triangle for rings")
+        void shouldStopAtTriangle() {
+            double[] ring = noisyCircle(200, 10, 0.5, 4);
+
+            int count = new Simplifier(Simplifier.Method.VISVALINGAM_WHYATT, 1e9).simplifyRing(ring, 200);
+
+            assertEquals(3, count);
+            assertTrue(area(ring, count) > 0);
+        }
+
+        @Test
+        @DisplayName("should preserve area closely at small tolerance")
+        void shouldPreserveArea() {
+            double[] ring = noisyCircle(2000, 100, 0.1, 5);
+            double original = area(ring, 2000);
+
+            int count = new Simplifier(Simplifier.Method.VISVALINGAM_WHYATT, 1.0).simplifyRing(ring, 2000);
+
+            assertTrue(count < 500, "count " + count);
+            assertEquals(original, area(ring, count), original * 0.01);
+        }
+    }
+
+    @Nested
+    @DisplayName("Topology Preservation")
+    class TopologyPreservation {
+
+        private final double[] hairpin = {0, 0, 5, -0.5, 10, 0, 10, 5, 5, 5, 5, -0.2};
+
+        @Test
+        @DisplayName("should not introduce self-intersections with Douglas-Peucker")
+        void shouldPreserveTopologyWithDouglasPeucker() {
+            double[] plain = hairpin.clone();
+            double[] preserved = hairpin.clone();
+
+            int plainCount = new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 0.6).simplifyLine(plain, 6);
+            int preservedCount = new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 0.6, true).simplifyLine(preserved, 6);
+
+            assertTrue(selfIntersects(plain, plainCount));
+            assertFalse(selfIntersects(preserved, preservedCount));
+        }
+
+        @Test
+        @DisplayName("should not introduce self-intersections with Visvalingam-Whyatt")
+        void shouldPreserveTopologyWithVisvalingam() {
+            double[] preserved = hairpin.clone();
+
+            int count = new Simplifier(Simplifier.Method.VISVALINGAM_WHYATT, 100, true).simplifyLine(preserved, 6);
+
+            assertFalse(selfIntersects(preserved, count));
+            assertTrue(count < 6);
+        }
+
+        private boolean selfIntersects(double[] line, int count) {
+            for (int i = 0; i < count - 1; i++) {
+                for (int j = i + 2; j < count - 1; j++) {
+                    int o1 = RobustPredicates.orientation(line[i * 2], line[i * 2 + 1], line[i * 2 + 2], line[i * 2 + 3], line[j * 2], line[j * 2 + 1]);
+                    int o2 = RobustPredicates.orientation(line[i * 2], line[i * 2 + 1], line[i * 2 + 2], line[i * 2 + 3], line[j * 2 + 2], line[j * 2 + 3]);
+                    int o3 = RobustPredicates.orientation(line[j * 2], line[j * 2 + 1], line[j * 2 + 2], line[j * 2 + 3], line[i * 2], line[i * 2 + 1]);
+                    int o4 = RobustPredicates.orientation(line[j * 2], line[j * 2 + 1], line[j * 2 + 2], line[j * 2 + 3], line[i * 2 + 2], line[i * 2 + 3]);
+                    if (o1 * o2 < 0 && o3 * o4 < 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch")
+    class Batch {
+
+        @Test
+        @DisplayName("should match sequential results in parallel")
+        void shouldMatchSequentialResults() {
+            Simplifier simplifier = new Simplifier(Simplifier.Method.DOUGLAS_PEUCKER, 0.3);
+            double[][] sequential = new double[500][];
+            double[][] parallel = new double[500][];
+            for (int g = 0; g < sequential.length; g++) {
+                sequential[g] = noisyCircle(64 + g % 50, 10, 1, g);
+                parallel[g] = sequential[g].clone();
+            }
+
+            int[] sequentialCounts = simplifier.simplifyAll(sequential, true, false);
+            int[] parallelCounts = simplifier.simplifyAll(parallel, true, true);
+
+            assertArrayEquals(sequentialCounts, parallelCounts);
+            for (int g = 0; g < sequential.length; g++) {
+                assertArrayEquals(sequential[g], parallel[g]);
+            }
+        }
+
+        @Test
+        @DisplayName("should reject null geometries")
+        void shouldRejectNullGeometries() {
+            Simplifier simplifier = new Simplifier(Simplifier.Method.VISVALINGAM_WHYATT, 1.0);
+
+            assertThrows(IllegalArgumentException.class, () -> simplifier.simplifyAll(null, false, true));
+            assertThrows(IllegalArgumentException.class, () -> simplifier.simplifyAll(new double[][]{null}, false, true));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.Point;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpaceFillingCurve")
+class SpaceFillingCurveTest {
+
+    @Nested
+    @DisplayName("Morton")
+    class Morton {
+
+        @Test
+        @DisplayName("should interleave x into even bits and y into odd bits")
+        void shouldInterleaveBits() {
+            assertEquals(0b0101L, SpaceFillingCurve.interleave(0b11, 0));
+            assertEquals(0b1010L, SpaceFillingCurve.interleave(0, 0b11));
+            assertEquals(0b1001L, SpaceFillingCurve.interleave(0b01, 0b10));
+        }
+
+        @Test
+        @DisplayName("should round-trip full 31-bit cells")
+        void shouldRoundTrip() {
+            Random random = new Random(53);
+            for (int i = 0; i < 1000; i++) {
+                int x = random.nextInt(Integer.MAX_VALUE);
+                int y = random.nextInt(Integer.MAX_VALUE);
+                long key = SpaceFillingCurve.interleave(x, y);
+
+                assertTrue(key >= 0);
+                assertEquals(x, SpaceFillingCurve.deinterleaveX(key));
+                assertEquals(y, SpaceFillingCurve.deinterleaveY(key));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Hilbert")
+    class Hilbert {
+
+        @Test
+        @DisplayName("should visit the first-order cells in U order")
+        void shouldVisitFirstOrder() {
+            assertEquals(0, SpaceFillingCurve.hilbertIndex(1, 0, 0));
+            assertEquals(1, SpaceFillingCurve.hilbertIndex(1, 0, 1));
+            assertEquals(2, SpaceFillingCurve.hilbertIndex(1, 1, 1));
+            assertEquals(3, SpaceFillingCurve.hilbertIndex(1, 1, 0));
+        }
+
+        @Test
+        @DisplayName("should be a bijection whose consecutive cells are adjacent")
+        void shouldBeContinuousBijection() {
+            int bits = 5;
+            int side = 1 << bits;
+            boolean[] seen = new boolean[side * side];
+            int[] xs = new int[side * side];
+            int[] ys = new int[side * side];
+            for (int x = 0; x < side; x++) {
+                for (int y = 0; y < side; y++) {
+                    int index = (int) SpaceFillingCurve.hilbertIndex(bits, x, y);
+                    assertFalse(seen[index]);
+                    seen[index] = true;
+                    xs[index] = x;
+                    ys[index] = y;
+                    assertEquals(x, SpaceFillingCurve.hilbertX(bits, index));
+                    assertEquals(y, SpaceFillingCurve.hilbertY(bits, index));
+                }
+            }
+            for (int i = 1; i < side * side; i++) {
+                assertEquals(1, Math.abs(xs[i] - xs[i - 1]) + Math.abs(ys[i] - ys[i - 1]), "step " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("should round-trip full 31-bit cells")
+        void shouldRoundTrip() {
+            Random random = new Random(59);
+            for (int i = 0; i < 1000; i++) {
+                int x = random.nextInt(Integer.MAX_VALUE);
+                int y = random.nextInt(Integer.MAX_VALUE);
+                long index = SpaceFillingCurve.hilbertIndex(31, x, y);
+
+                assertEquals(x, SpaceFillingCurve.hilbertX(31, index));
+                assertEquals(y, SpaceFillingCurve.hilbertY(31, index));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Quantization")
+    class Quantization {
+
+        @Test
+        @DisplayName("should map bounds onto the grid and clamp outside points")
+        void shouldQuantize() {
+            SpaceFillingCurve curve = new SpaceFillingCurve(
+                SpaceFillingCurve.Curve.MORTON, new Envelope(0, 0, 16, 8), 4);
+
+            assertEquals(0, curve.quantizeX(0));
+            assertEquals(15, curve.quantizeX(16));
+            assertEquals(7, curve.quantizeX(7.5));
+            assertEquals(2, curve.quantizeY(1.2));
+            assertEquals(0, curve.quantizeX(-3));
+            assertEquals(15, curve.quantizeY(100));
+            assertEquals(SpaceFillingCurve.interleave(7, 2), curve.encode(new Point(7.5, 1.2)));
+        }
+
+        @Test
+        @DisplayName("should reject invalid configuration and coordinates")
+        void shouldRejectInvalidInput() {
+            Envelope bounds = new Envelope(0, 0, 1, 1);
+
+            assertThrows(IllegalArgumentException.class,
+                () -> new SpaceFillingCurve(SpaceFillingCurve.Curve.HILBERT, bounds, 32));
+            assertThrows(IllegalArgumentException.class,
+                () -> new SpaceFillingCurve(SpaceFillingCurve.Curve.HILBERT, new Envelope(0, 0, 0, 1), 8));
+            assertThrows(IllegalArgumentException.class,
+                () -> new SpaceFillingCurve(SpaceFillingCurve.Curve.HILBERT, bounds, 8).encode(Double.NaN, 0));
+            assertThrows(IllegalArgumentException.class, () -> SpaceFillingCurve.hilbertIndex(4, 16, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sorting")
+    class Sorting {
+
+        @Test
+        @DisplayName("should radix sort keys stably with their payload")
+        void shouldRadixSortStably() {
+            Random random = new Random(61);
+            for (boolean parallel : new boolean[]{false, true}) {
+                int count = 200_000;
+                long[] keys = new long[count];
+                int[] payload = new int[count];
+                for (int i = 0; i < count; i++) {
+                    keys[i] = random.nextInt(5000) * (1L << 40) + random.nextInt(3);
+                    payload[i] = i;
+                }
+                long[] expected = keys.clone();
+                Arrays.sort(expected);
+                long[] original = keys.clone();
+
+                SpaceFillingCurve.radixSort(keys, payload, parallel);
+
+                assertArrayEquals(expected, keys);
+                for (int i = 0; i < count; i++) {
+                    assertEquals(keys[i], original[payload[i]]);
+                    if (i > 0 && keys[i] == keys[i - 1]) {
+                        assertTrue(payload[i] > payload[i - 1]);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should reorder coordinates and payload along the curve")
+        void shouldSortCoordinates() {
+            Random random = new Random(67);
+            int count = 100_000;
+            double[] coordinates = new double[count * 2];
+            int[] payload = new int[count];
+            for (int i = 0; i < count; i++) {
+                coordinates[i * 2] = random.nextDouble() * 1000;
+                coordinates[i * 2 + 1] = random.nextDouble() * 500;
+                payload[i] = i;
+            }
+            double[] original = coordinates.clone();
+            SpaceFillingCurve curve = new SpaceFillingCurve(
+                SpaceFillingCurve.Curve.HILBERT, new Envelope(0, 0, 1000, 500), 16);
+
+            long[] keys = curve.sort(coordinates, payload, true);
+
+            for (int i = 0; i < count; i++) {
+                assertEquals(original[payload[i] * 2], coordinates[i * 2]);
+                assertEquals(original[payload[i] * 2 + 1], coordinates[i * 2 + 1]);
+                assertEquals(curve.encode(coordinates[i * 2], coordinates[i * 2 + 1]), keys[i]);
+                if (i > 0) {
+                    assertTrue(keys[i] >= keys[i - 1]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should reject negative keys and mismatched payloads")
+        void shouldRejectInvalidSortInput() {
+            assertThrows(IllegalArgumentException.class,
+                () -> SpaceFillingCurve.radixSort(new long[]{1, -1}, null, false));
+            assertThrows(IllegalArgumentException.class,
+                () -> SpaceFillingCurve.radixSort(new long[]{1, 2}, new int[3], false));
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpatialJoin")
+class SpatialJoinTest {
+
+    private static Polygon[] randomPolygons(Random random, int count, double extent, double size) {
+        Polygon[] polygons = new Polygon[count];
+        for (int p = 0; p < count; p++) {
+            double cx = random.nextDouble() * extent;
+            double cy = random.nextDouble() * extent;
+            int vertices = 3 + random.nextInt(10);
+            Point[] ring = new Point[vertices];
+            for (int i = 0; i < vertices; i++) {
+                double angle = 2 * Math.PI * i / vertices;
+                double radius = size * (0.3 + random.nextDouble());
+                ring[i] = new Point(cx + radius * Math.cos(angle), cy + radius * Math.sin(angle));
+            }
+            polygons[p] = new Polygon(ring);
+        }
+        return polygons;
+    }
+
+    private static double[] randomValues(Random random, int count, double extent) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble() * extent;
+        }
+        return values;
+    }
+
+    private static double[] ring(Polygon polygon) {
+        double[] ring = new double[polygon.getVertexCount() * 2];
+        polygon.copyCoordinates(ring, 0);
+        return ring;
+    }
+
+    private static boolean containsPoint(double[] ring, double x, double y) {
+        boolean inside = false;
+        int count = ring.length / 2;
+        for (int i = 0, j = count - 1; i < count; j = i++) {
+            if ((ring[i * 2 + 1] > y) != (ring[j * 2 + 1] > y)
+                    && x < ring[j * 2] + (y - ring[j * 2 + 1]) / (ring[i * 2 + 1] - ring[j * 2 + 1])
+                    * (ring[i * 2] - ring[j * 2])) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static int[] bruteForcePoints(Polygon[] polygons, double[] coordinates) {
+        int[] pairs = new int[coordinates.length * polygons.length];
+        int size = 0;
+        for (int i = 0; i < coordinates.length / 2; i++) {
+            for (int p = 0; p < polygons.length; p++) {
+                if (containsPoint(ring(polygons[p]), coordinates[i * 2], coordinates[i * 2 + 1])) {
+                    pairs[size++] = i;
+                    pairs[size++] = p;
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    private static boolean crosses(double ax, double ay, double bx, double by,
+                                   double cx, double cy, double dx, double dy) {
+        double d1 = (bx - ax) * (cy - ay) - (by - ay) * (cx - ax);
+        double d2 = (bx - ax) * (dy - ay) - (by - ay) * (dx - ax);
+        double d3 = (dx - cx) * (ay - cy) - (dy - cy) * (ax - cx);
+        double d4 = (dx - cx) * (by - cy) - (dy - cy) * (bx - cx);
+        return d1 * d2 < 0 && d3 * d4 < 0;
+    }
+
+    private static int[] bruteForceSegments(Polygon[] polygons, double[] segments) {
+        int[] pairs = new int[segments.length / 2 * polygons.length];
+        int size = 0;
+        for (int i = 0; i < segments.length / 4; i++) {
+            for (int p = 0; p < polygons.length; p++) {
+                double[] ring = ring(polygons[p]);
+                boolean hit = containsPoint(ring, segments[i * 4], segments[i * 4 + 1]);
+                int count = ring.length / 2;
+                for (int e = 0; e < count && !hit; e++) {
+                    int next = (e + 1) % count;
+                    hit = crosses(segments[i * 4], segments[i * 4 + 1], segments[i * 4 + 2], segments[i * 4 + 3],
+                        ring[e * 2], ring[e * 2 + 1], ring[next * 2], ring[next * 2 + 1]);
+                }
+                if (hit) {
+                    pairs[size++] = i;
+                    pairs[size++] = p;
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    @Nested
+    @DisplayName("Strategies")
+    class Strategies {
+
+        @Test
+        @DisplayName("should join points to polygons like a brute-force scan")
+        void shouldJoinPoints() {
+            Random random = new Random(73);
+            Polygon[] polygons = randomPolygons(random, 300, 100, 3);
+            double[] points = randomValues(random, 6000, 100);
+            SpatialJoin join = new SpatialJoin(polygons);
+
+            int[] expected = bruteForcePoints(polygons, points);
+
+            assertTrue(expected.length > 0);
+            for (SpatialJoin.Strategy strategy : SpatialJoin.Strategy.values()) {
+                assertArrayEquals(expected, join.joinPoints(points, strategy, false), strategy.name());
+                assertArrayEquals(expected, join.joinPoints(points, strategy, true), strategy.name());
+            }
+        }
+
+        @Test
+        @DisplayName("should join segments to polygons like a brute-force scan")
+        void shouldJoinSegments() {
+            Random random = new Random(79);
+            Polygon[] polygons = randomPolygons(random, 200, 100, 4);
+            double[] segments = new double[3000 * 4];
+            for (int i = 0; i < 3000; i++) {
+                double x = random.nextDouble() * 100;
+                double y = random.nextDouble() * 100;
+                segments[i * 4] = x;
+                segments[i * 4 + 1] = y;
+                segments[i * 4 + 2] = x + random.nextDouble() * 20 - 10;
+                segments[i * 4 + 3] = y + random.nextDouble() * 20 - 10;
+            }
+            SpatialJoin join = new SpatialJoin(polygons);
+
+            int[] expected = bruteForceSegments(polygons, segments);
+
+            for (SpatialJoin.Strategy strategy : SpatialJoin.Strategy.values()) {
+                assertArrayEquals(expected, join.joinSegments(segments, strategy, true), strategy.name());
+            }
+        }
+
+        @Test
+        @DisplayName("should report boundary contacts exactly once")
+        void shouldReportBoundaryContacts() {
+            Polygon square = new Polygon(new Point[]{new Point(0, 0), new Point(2, 0), new Point(2, 2), new Point(0, 2)});
+            SpatialJoin join = new SpatialJoin(new Polygon[]{square, square});
+            double[] points = {2, 1, 0, 0, 3, 3, 1, 1};
+
+            for (SpatialJoin.Strategy strategy : SpatialJoin.Strategy.values()) {
+                assertArrayEquals(new int[]{0, 0, 0, 1, 1, 0, 1, 1, 3, 0, 3, 1},
+                    join.joinPoints(points, strategy, false), strategy.name());
+                assertArrayEquals(new int[]{0, 0, 0, 1},
+                    join.joinSegments(new double[]{2, 2, 5, 5, 3, 0, 5, 1}, strategy, false), strategy.name());
+            }
+        }
+
+        @Test
+        @DisplayName("should stream pairs into consumer buffers")
+        void shouldStreamPairs() {
+            Random random = new Random(83);
+            Polygon[] polygons = randomPolygons(random, 50, 10, 2);
+            double[] points = randomValues(random, 40000, 10);
+            SpatialJoin join = new SpatialJoin(polygons);
+            AtomicLong streamed = new AtomicLong();
+
+            long total = join.joinPoints(points, SpatialJoin.Strategy.PARTITION, true,
+                (pairs, count) -> streamed.addAndGet(count));
+
+            assertEquals(bruteForcePoints(polygons, points).length / 2, total);
+            assertEquals(total, streamed.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Planning")
+    class Planning {
+
+        @Test
+        @DisplayName("should index small or lopsided inputs and partition large balanced ones")
+        void shouldPlan() {
+            assertEquals(SpatialJoin.Strategy.INDEX_NESTED_LOOP, SpatialJoin.plan(1_000_000, 2_000));
+            assertEquals(SpatialJoin.Strategy.INDEX_NESTED_LOOP, SpatialJoin.plan(10_000_000, 100_000));
+            assertEquals(SpatialJoin.Strategy.PARTITION, SpatialJoin.plan(2_000_000, 300_000));
+            assertEquals(SpatialJoin.Strategy.PARTITION, SpatialJoin.plan(50_000, 50_000));
+        }
+
+        @Test
+        @DisplayName("should handle empty inputs and reject invalid ones")
+        void shouldValidate() {
+            SpatialJoin empty = new SpatialJoin(new Polygon[0]);
+            assertEquals(0, empty.joinPoints(new double[]{1, 2}, true).length);
+
+            SpatialJoin join = new SpatialJoin(randomPolygons(new Random(1), 3, 10, 1));
+            assertEquals(0, join.joinSegments(new double[0], false).length);
+            assertThrows(IllegalArgumentException.class, () -> new SpatialJoin(null));
+            assertThrows(IllegalArgumentException.class, () -> new SpatialJoin(new Polygon[1]));
+            assertThrows(IllegalArgumentException.class, () -> join.joinPoints(new double[3], false));
+            assertThrows(IllegalArgumentException.class, () -> join.joinSegments(new double[6], false));
+            assertThrows(IllegalArgumentException.class, () -> join.joinPoints(new double[2], null, false));
+            assertThrows(IllegalArgumentException.class, () -> SpatialJoin.plan(-1, 1));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package pgeo.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.core.Envelope;
+import pgeo.core.LineSegment;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SweepAndPrune")
+class SweepAndPruneTest {
+
+    private static Set<String> pairsOf(SweepAndPrune broadPhase, int[] indexOfId) {
+        Set<String> pairs = new TreeSet<>();
+        int[] flat = broadPhase.getPairs();
+        for (int i = 0; i < flat.length; i += 2) {
+            int a = indexOfId[flat[i]];
+            int b = indexOfId[flat[i + 1]];
+            pairs.add(Math.min(a, b) + "-" + Math.max(a, b));
+        }
+        return pairs;
+    }
+
+    private static Set<String> bruteForce(double[][] boxes, boolean[] live) {
+        Set<String> pairs = new TreeSet<>();
+        for (int i = 0; i < boxes.length; i++) {
+            for (int j = i + 1; j < boxes.length; j++) {
+                if (live[i] && live[j]
+                        && new Envelope(boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3])
+                            .intersects(new Envelope(boxes[j][0], boxes[j][1], boxes[j][2], boxes[j][3]))) {
+                    pairs.add(i + "-" + j);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    @Nested
+    @DisplayName("Pairs")
+    class Pairs {
+
+        @Test
+        @DisplayName("should report overlapping geometry envelopes")
+        void shouldReportOverlappingGeometries() {
+            SweepAndPrune broadPhase = new SweepAndPrune();
+            int square = broadPhase.add(Polygon.fromArray(new double[][]{{0, 0}, {2, 0}, {2, 2}, {0, 2}}));
+            int triangle = broadPhase.add(new Triangle(new Point(1, 1), new Point(4, 1), new Point(1, 4)));
+            int segment = broadPhase.add(new LineSegment(new Point(10, 10), new Point(12, 8)));
+
+            assertEquals(1, broadPhase.getPairCount());
+            assertTrue(broadPhase.isOverlapping(square, triangle));
+            assertFalse(broadPhase.isOverlapping(square, segment));
+            assertEquals(new Envelope(10, 8, 12, 10), broadPhase.getEnvelope(segment));
+        }
+
+        @Test
+        @DisplayName("should treat touching envelopes as overlapping")
+        void shouldTreatTouchingAsOverlapping() {
+            SweepAndPrune broadPhase = new SweepAndPrune();
+            int a = broadPhase.add(0, 0, 1, 1);
+            int b = broadPhase.add(1, 1, 2, 2);
+
+            assertTrue(broadPhase.isOverlapping(a, b));
+        }
+
+        @Test
+        @DisplayName("should update pairs as objects move and are removed")
+        void shouldUpdatePairs() {
+            SweepAndPrune broadPhase = new SweepAndPrune();
+            int a = broadPhase.add(0, 0, 1, 1);
+            int b = broadPhase.add(3, 0, 4, 1);
+
+            assertEquals(0, broadPhase.getPairCount());
+
+            broadPhase.translate(b, -2.5, 0);
+            assertTrue(broadPhase.isOverlapping(a, b));
+
+            broadPhase.translate(b, 0, 5);
+            assertFalse(broadPhase.isOverlapping(a, b));
+
+            broadPhase.update(b, new Envelope(0.5, 0.5, 0.6, 0.6));
+            assertTrue(broadPhase.isOverlapping(a, b));
+
+            broadPhase.remove(b);
+            assertEquals(0, broadPhase.getPairCount());
+            assertEquals(1, broadPhase.size());
+            assertThrows(IllegalArgumentException.class, () -> broadPhase.translate(b, 1, 1));
+        }
+
+        @Test
+        @DisplayName("should copy pairs into caller buffer")
+        void shouldCopyPairs() {
+            SweepAndPrune broadPhase = new SweepAndPrune();
+            broadPhase.add(0, 0, 2, 2);
+            broadPhase.add(1, 1, 3, 3);
+            int[] buffer = new int[3];
+
+            assertEquals(2, broadPhase.copyPairs(buffer, 1));
+            assertEquals(1, buffer[1] + buffer[2]);
+            assertThrows(IllegalArgumentException.class, () -> broadPhase.copyPairs(buffer, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Incremental Updates")
+    class IncrementalUpdates {
+
+        @Test
+        @DisplayName("should match brute force through random motion, inserts and removals")
+        void shouldMatchBruteForce() {
+            Random random = new Random(21);
+            int count = 300;
+            SweepAndPrune broadPhase = new SweepAndPrune();
+            double[][] boxes = new double[count][];
+            boolean[] live = new boolean[count];
+            int[] ids = new int[count];
+            int[] indexOfId = new int[count];
+            for (int i = 0; i < count; i++) {
+                double x = random.nextDouble() * 100;
+                double y = random.nextDouble() * 100;
+                boxes[i] = new double[]{x, y, x + 1 + random.nextDouble() * 4, y + 1 + random.nextDouble() * 4};
+                ids[i] = broadPhase.add(boxes[i][0], boxes[i][1], boxes[i][2], boxes[i][3]);
+                indexOfId[ids[i]] = i;
+                live[i] = true;
+            }
+            assertEquals(bruteForce(boxes, live), pairsOf(broadPhase, indexOfId));
+
+            for (int frame = 0; frame < 50; frame++) {
+                for (int i = 0; i < count; i++) {
+                    if (!live[i]) {
+                        continue;
+                    }
+                    double dx = random.nextGaussian();
+                    double dy = random.nextGaussian();
+                    boxes[i] = new double[]{boxes[i][0] + dx, boxes[i][1] + dy, boxes[i][2] + dx, boxes[i][3] + dy};
+                    broadPhase.translate(ids[i], dx, dy);
+                }
+                int victim = random.nextInt(count);
+                if (live[victim]) {
+                    broadPhase.remove(ids[victim]);
+                    live[victim] = false;
+                } else {
+                    ids[victim] = broadPhase.add(boxes[victim][0], boxes[victim][1], boxes[victim][2], boxes[victim][3]);
+                    indexOfId[ids[victim]] = victim;
+                    live[victim] = true;
+                }
+                assertEquals(bruteForce(boxes, live), pairsOf(broadPhase, indexOfId), "frame " + frame);
+            }
+        }
+
+        @Test
+        @DisplayName("should not swap endpoints for objects that barely move")
+        void shouldScaleWithMovement() {
+            SweepAndPrune broadPhase = new SweepAndPrune();
+            for (int i = 0; i < 1000; i++) {
+                broadPhase.add(i * 10, i * 10, i * 10 + 5, i * 10 + 5);
+            }
+
+            long before = broadPhase.getSwapCount();
+            for (int i = 0; i < 1000; i++) {
+                broadPhase.translate(i, 0.1, 0.1);
+            }
+
+            assertEquals(0, broadPhase.getSwapCount() - before);
+            assertEquals(0, broadPhase.getPairCount());
+        }
+
+        @Test
+        @DisplayName("should reject invalid bounds and ids")
+        void shouldRejectInvalidInput() {
+            SweepAndPrune broadPhase = new SweepAndPrune();
+
+            assertThrows(IllegalArgumentException.class, () -> broadPhase.add(1, 0, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> broadPhase.add(0, 0, Double.NaN, 1));
+            assertThrows(IllegalArgumentException.class, () -> broadPhase.update(0, 0, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> broadPhase.add((Polygon) null));
+        }
+    }
+}
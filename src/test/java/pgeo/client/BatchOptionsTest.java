@@ -0,0 +1,90 @@
+package pgeo.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchOptions")
+class BatchOptionsTest {
+
+    @Nested
+    @DisplayName("Mode Detection")
+    class ModeDetection {
+
+        @Test
+        @DisplayName("should detect batch flag")
+        void shouldDetectBatchFlag() {
+            assertTrue(BatchOptions.isBatchMode(new String[]{"--op=area", "--batch"}));
+        }
+
+        @Test
+        @DisplayName("should stay interactive without batch flag")
+        void shouldStayInteractiveWithoutBatchFlag() {
+            assertFalse(BatchOptions.isBatchMode(new String[0]));
+            assertFalse(BatchOptions.isBatchMode(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("should parse equals and space separated options")
+        void shouldParseEqualsAndSpaceSeparatedOptions() {
+            BatchOptions options = BatchOptions.parse(new String[]{
+                "--batch", "--op=intersect", "--in", "in.csv", "--out=out.txt", "--threads", "3", "--chunk=100", "--header"
+            });
+
+            assertEquals(BatchOptions.Operation.INTERSECT, options.getOperation());
+            assertEquals(Paths.get("in.csv"), options.getInput());
+            assertEquals(Paths.get("out.txt"), options.getOutput());
+            assertEquals(3, options.getThreads());
+            assertEquals(100, options.getChunkRecords());
+            assertTrue(options.isSkipHeader());
+        }
+
+        @Test
+        @DisplayName("should map operations to record widths")
+        void shouldMapOperationsToRecordWidths() {
+            assertEquals(6, BatchOptions.Operation.AREA.getColumns());
+            assertEquals(6, BatchOptions.Operation.POSITION.getColumns());
+            assertEquals(8, BatchOptions.Operation.INTERSECT.getColumns());
+            assertEquals(8, BatchOptions.Operation.QUAD.getColumns());
+        }
+
+        @Test
+        @DisplayName("should reject unknown operation")
+        void shouldRejectUnknownOperation() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[]{"--batch", "--op=volume", "--in", "a", "--out", "b"}));
+        }
+
+        @Test
+        @DisplayName("should reject missing input or output")
+        void shouldRejectMissingInputOrOutput() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[]{"--batch", "--op=area", "--out", "b"}));
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[]{"--batch", "--op=area", "--in", "a"}));
+        }
+
+        @Test
+        @DisplayName("should reject non-positive thread count")
+        void shouldRejectNonPositiveThreadCount() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[]{"--op=area", "--in", "a", "--out", "b", "--threads=0"}));
+        }
+
+        @Test
+        @DisplayName("should reject option without value")
+        void shouldRejectOptionWithoutValue() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[]{"--op=area", "--in"}));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package pgeo.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pgeo.geometry.PGeoBatch;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchRunner")
+class BatchRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ByteArrayOutputStream console;
+    private BatchRunner runner;
+
+    private void createRunner() {
+        console = new ByteArrayOutputStream();
+        runner = new BatchRunner(new PGeoBatch(), new PrintStream(console));
+    }
+
+    private List<String> runOperation(String op, String input, int threads, int chunk) throws IOException {
+        createRunner();
+        Path in = tempDir.resolve(op + ".csv");
+        Path out = tempDir.resolve(op + ".out");
+        Files.writeString(in, input);
+
+        int exitCode = runner.execute(new String[]{
+            "--batch", "--op=" + op, "--in", in.toString(), "--out", out.toString(),
+            "--threads=" + threads, "--chunk=" + chunk
+        });
+
+        assertTrue(exitCode == 0 || exitCode == 2);
+        return Files.readAllLines(out);
+    }
+
+    @Nested
+    @DisplayName("Operations")
+    class Operations {
+
+        @Test
+        @DisplayName("should compute triangle areas")
+        void shouldComputeTriangleAreas() throws IOException {
+            List<String> lines = runOperation("area", "0,0,4,0,0,3\n0,0,2,0,0,2\n", 2, 1);
+
+            assertEquals(List.of("6.0", "2.0"), lines);
+        }
+
+        @Test
+        @DisplayName("should compute point positions")
+        void shouldComputePointPositions() throws IOException {
+            List<String> lines = runOperation("position", "0,0,4,0,2,3\n0,0,4,0,2,-3\n0,0,4,0,1,0\n", 1, 8);
+
+            assertEquals(List.of("1", "-1", "0"), lines);
+        }
+
+        @Test
+        @DisplayName("should compute segment-line intersections")
+        void shouldComputeSegmentLineIntersections() throws IOException {
+            List<String> lines = runOperation("intersect", "0,0,4,4,0,4,4,0\n0,0,1,1,0,5,1,5\n", 2, 8);
+
+            assertEquals(List.of("true", "false"), lines);
+        }
+
+        @Test
+        @DisplayName("should compute quadrilateral areas")
+        void shouldComputeQuadrilateralAreas() throws IOException {
+            List<String> lines = runOperation("quad", "0,0,4,0,4,3,0,3\n", 1, 8);
+
+            assertEquals(List.of("12.0"), lines);
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("should keep output order across chunks and workers")
+        void shouldKeepOutputOrderAcrossChunksAndWorkers() throws IOException {
+            StringBuilder input = new StringBuilder();
+            for (int i = 1; i <= 5000; i++) {
+                input.append("0,0,").append(i).append(",0,0,2\n");
+            }
+
+            List<String> lines = runOperation("area", input.toString(), 4, 700);
+
+            assertEquals(5000, lines.size());
+            for (int i = 1; i <= 5000; i++) {
+                assertEquals((double) i, Double.parseDouble(lines.get(i - 1)));
+            }
+        }
+
+        @Test
+        @DisplayName("should mark invalid records without aborting the run")
+        void shouldMarkInvalidRecordsWithoutAbortingRun() throws IOException {
+            List<String> lines = runOperation("area", "0,0,4,0,0,3\n1,1,1,1,2,2\n0,0,2,0,0,2\n", 1, 8);
+
+            assertEquals(List.of("6.0", "ERROR", "2.0"), lines);
+            assertTrue(console.toString().contains("(1 failed)"));
+        }
+
+        @Test
+        @DisplayName("should mark unparseable lines without aborting the run")
+        void shouldMarkUnparseableLinesWithoutAbortingRun() throws IOException {
+            List<String> lines = runOperation("area", "0 0 1 0 0 1\n1 2 abc 4 5 6\n0 0 2 0 0 2\n", 2, 8);
+
+            assertEquals(List.of("0.5", "ERROR", "2.0"), lines);
+            assertTrue(console.toString().contains("(1 failed)"));
+        }
+
+        @Test
+        @DisplayName("should print throughput and latency statistics")
+        void shouldPrintThroughputAndLatencyStatistics() throws IOException {
+            runOperation("area", "0,0,4,0,0,3\n", 1, 8);
+
+            String output = console.toString();
+            assertTrue(output.contains("Throughput"));
+            assertTrue(output.contains("Chunk latency"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        @DisplayName("should report missing input file")
+        void shouldReportMissingInputFile() {
+            createRunner();
+
+            int exitCode = runner.execute(new String[]{
+                "--batch", "--op=area", "--in", tempDir.resolve("missing.csv").toString(),
+                "--out", tempDir.resolve("x.out").toString()
+            });
+
+            assertEquals(1, exitCode);
+            assertTrue(console.toString().contains("I/O failure"));
+        }
+
+        @Test
+        @DisplayName("should report invalid arguments")
+        void shouldReportInvalidArguments() {
+            createRunner();
+
+            assertEquals(1, runner.execute(new String[]{"--batch", "--op=unknown"}));
+        }
+    }
+}
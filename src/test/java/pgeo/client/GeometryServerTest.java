@@ -0,0 +1,198 @@
+package pgeo.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GeometryServer")
+class GeometryServerTest {
+
+    private GeometryServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = GeometryServer.start(0);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(server.getBaseUri().resolve(path))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Map<?, ?> postJson(String path, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = post(path, body);
+        assertEquals(200, response.statusCode(), response.body());
+        return (Map<?, ?>) Json.parse(response.body());
+    }
+
+    @Nested
+    @DisplayName("Single Operations")
+    class SingleOperations {
+
+        @Test
+        @DisplayName("should compute triangle area")
+        void shouldComputeTriangleArea() throws Exception {
+            Map<?, ?> response = postJson("/api/area_triangulo", "{\"points\":[[0,0],[4,0],[0,3]]}");
+
+            assertEquals(6.0, response.get("result"));
+        }
+
+        @Test
+        @DisplayName("should compute point position")
+        void shouldComputePointPosition() throws Exception {
+            Map<?, ?> response = postJson("/api/acima_abaixo", "{\"points\":[[0,0],[4,0],[2,-3]]}");
+
+            assertEquals(-1.0, response.get("result"));
+        }
+
+        @Test
+        @DisplayName("should compute intersection and intersection point")
+        void shouldComputeIntersectionAndIntersectionPoint() throws Exception {
+            String body = "{\"points\":[[0,0],[4,4],[0,4],[4,0]]}";
+
+            assertEquals(Boolean.TRUE, postJson("/api/intersecao", body).get("result"));
+            assertEquals(List.of(List.of(2.0, 2.0)), postJson("/api/ponto_intersecao", body).get("result"));
+        }
+
+        @Test
+        @DisplayName("should return null when there is no intersection point")
+        void shouldReturnNullWhenThereIsNoIntersectionPoint() throws Exception {
+            Map<?, ?> response = postJson("/api/ponto_intersecao", "{\"points\":[[0,0],[1,1],[0,5],[1,5]]}");
+
+            assertTrue(response.containsKey("result"));
+            assertNull(response.get("result"));
+        }
+
+        @Test
+        @DisplayName("should compute quadrilateral area")
+        void shouldComputeQuadrilateralArea() throws Exception {
+            Map<?, ?> response = postJson("/api/area_P4", "{\"points\":[[0,0],[4,0],[4,3],[0,3]]}");
+
+            assertEquals(12.0, response.get("result"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Operations")
+    class BatchOperations {
+
+        @Test
+        @DisplayName("should evaluate every record and report invalid ones")
+        void shouldEvaluateEveryRecordAndReportInvalidOnes() throws Exception {
+            Map<?, ?> response = postJson("/api/batch/area_triangulo",
+                "{\"records\":[[[0,0],[4,0],[0,3]],[[1,1],[1,1],[2,2]],[[0,0],[2,0],[0,2]]]}");
+
+            assertEquals(Arrays.asList(6.0, null, 2.0), response.get("results"));
+            List<?> errors = (List<?>) response.get("errors");
+            assertEquals(1, errors.size());
+            assertEquals(1.0, ((Map<?, ?>) errors.get(0)).get("index"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Errors")
+    class Errors {
+
+        @Test
+        @DisplayName("should reject invalid geometry with 400")
+        void shouldRejectInvalidGeometryWith400() throws Exception {
+            assertEquals(400, post("/api/area_triangulo", "{\"points\":[[0,0],[4,0]]}").statusCode());
+        }
+
+        @Test
+        @DisplayName("should reject malformed JSON with 400")
+        void shouldRejectMalformedJsonWith400() throws Exception {
+            assertEquals(400, post("/api/area_triangulo", "{\"points\":").statusCode());
+        }
+
+        @Test
+        @DisplayName("should reject deeply nested JSON with 400")
+        void shouldRejectDeeplyNestedJsonWith400() throws Exception {
+            assertEquals(400, post("/api/area_triangulo", "{\"points\":" + "[".repeat(100_000)).statusCode());
+        }
+
+        @Test
+        @DisplayName("should reject oversized bodies with 413")
+        void shouldRejectOversizedBodiesWith413() throws Exception {
+            String body = "{\"points\":[]" + " ".repeat(GeometryServer.MAX_BODY_BYTES) + "}";
+
+            assertEquals(413, post("/api/area_triangulo", body).statusCode());
+        }
+
+        @Test
+        @DisplayName("should return 404 for unknown operations")
+        void shouldReturn404ForUnknownOperations() throws Exception {
+            assertEquals(404, post("/api/volume", "{}").statusCode());
+        }
+
+        @Test
+        @DisplayName("should return 405 for non-POST requests")
+        void shouldReturn405ForNonPostRequests() throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(server.getBaseUri().resolve("/api/area_triangulo")).GET().build();
+
+            assertEquals(405, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Executors")
+    class RequestExecutors {
+
+        @Test
+        @DisplayName("should create a request executor on any supported JDK")
+        void shouldCreateRequestExecutorOnAnySupportedJdk() {
+            ExecutorService executor = GeometryServer.createRequestExecutor();
+
+            assertNotNull(executor);
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("should reject non-positive bounded pool size")
+        void shouldRejectNonPositiveBoundedPoolSize() {
+            assertThrows(IllegalArgumentException.class, () -> GeometryServer.createBoundedExecutor(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Test")
+    class LoadTestHarness {
+
+        @Test
+        @DisplayName("should drive requests against the local server")
+        void shouldDriveRequestsAgainstLocalServer() throws Exception {
+            ByteArrayOutputStream console = new ByteArrayOutputStream();
+            LoadTest loadTest = new LoadTest(server.getBaseUri(), 200, 4, 8, new PrintStream(console));
+
+            LoadTest.Result result = loadTest.run();
+
+            assertEquals(200, result.getRequests());
+            assertEquals(0, result.getFailures());
+            assertTrue(result.getRequestsPerSecond() > 0);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package pgeo.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Json")
+class JsonTest {
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("should parse nested objects and arrays")
+        void shouldParseNestedObjectsAndArrays() {
+            Object value = Json.parse("{\"points\": [[0, 1.5], [-2e1, 3]], \"flag\": true, \"name\": \"a\\\"b\", \"none\": null}");
+
+            Map<?, ?> object = (Map<?, ?>) value;
+            assertEquals(List.of(List.of(0.0, 1.5), List.of(-20.0, 3.0)), object.get("points"));
+            assertEquals(Boolean.TRUE, object.get("flag"));
+            assertEquals("a\"b", object.get("name"));
+            assertTrue(object.containsKey("none"));
+            assertNull(object.get("none"));
+        }
+
+        @Test
+        @DisplayName("should convert point arrays")
+        void shouldConvertPointArrays() {
+            double[][] points = Json.toPoints(Json.parse("[[0,0],[4,0],[2,3]]"), "points");
+
+            assertTrue(Arrays.deepEquals(new double[][]{{0, 0}, {4, 0}, {2, 3}}, points));
+        }
+
+        @Test
+        @DisplayName("should reject malformed documents")
+        void shouldRejectMalformedDocuments() {
+            assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"a\": }"));
+            assertThrows(IllegalArgumentException.class, () -> Json.parse("[1, 2"));
+            assertThrows(IllegalArgumentException.class, () -> Json.parse("[1] x"));
+        }
+
+        @Test
+        @DisplayName("should reject documents nested deeper than the limit")
+        void shouldRejectDeepNesting() {
+            String allowed = "[".repeat(Json.MAX_DEPTH) + "]".repeat(Json.MAX_DEPTH);
+
+            assertDoesNotThrow(() -> Json.parse(allowed));
+            assertThrows(IllegalArgumentException.class, () -> Json.parse("[".repeat(100_000)));
+            assertThrows(IllegalArgumentException.class, () -> Json.parse("{\"a\":".repeat(Json.MAX_DEPTH + 1)));
+        }
+
+        @Test
+        @DisplayName("should reject non-numeric coordinates")
+        void shouldRejectNonNumericCoordinates() {
+            assertThrows(IllegalArgumentException.class, () -> Json.toPoints(Json.parse("[[0,\"x\"]]"), "points"));
+            assertThrows(IllegalArgumentException.class, () -> Json.toPoints(null, "points"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Writing")
+    class Writing {
+
+        @Test
+        @DisplayName("should write maps, lists and primitive arrays")
+        void shouldWriteMapsListsAndPrimitiveArrays() {
+            Map<String, Object> value = new LinkedHashMap<>();
+            value.put("result", 6.0);
+            value.put("point", new double[]{1.5, 2.0});
+            value.put("ok", true);
+            value.put("missing", null);
+
+            assertEquals("{\"result\":6.0,\"point\":[1.5,2.0],\"ok\":true,\"missing\":null}", Json.write(value));
+        }
+
+        @Test
+        @DisplayName("should escape strings and drop non-finite numbers")
+        void shouldEscapeStringsAndDropNonFiniteNumbers() {
+            assertEquals("[\"a\\nb\",null]", Json.write(List.of("a\nb", Double.NaN)));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package pgeo.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Envelope")
+class EnvelopeTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("should expose bounds and dimensions")
+        void shouldExposeBoundsAndDimensions() {
+            Envelope envelope = new Envelope(1, 2, 4, 6);
+
+            assertEquals(1, envelope.getMinX(), DELTA);
+            assertEquals(6, envelope.getMaxY(), DELTA);
+            assertEquals(3, envelope.getWidth(), DELTA);
+            assertEquals(4, envelope.getHeight(), DELTA);
+            assertEquals(12, envelope.getArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should allow degenerate envelopes")
+        void shouldAllowDegenerateEnvelopes() {
+            assertEquals(0.0, new Envelope(1, 1, 1, 1).getArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject inverted or non-finite bounds")
+        void shouldRejectInvalidBounds() {
+            assertThrows(IllegalArgumentException.class, () -> new Envelope(2, 0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> new Envelope(0, 0, 1, Double.NaN));
+            assertThrows(IllegalArgumentException.class, () -> new Envelope(0, 0, Double.POSITIVE_INFINITY, 1));
+        }
+
+        @Test
+        @DisplayName("should compute envelope of a coordinate range")
+        void shouldComputeEnvelopeOfRange() {
+            double[] coordinates = {100, 100, 0, 5, 3, -1, 2, 8, -100, -100};
+
+            assertEquals(new Envelope(0, -1, 3, 8), Envelope.of(coordinates, 1, 4));
+            assertThrows(IllegalArgumentException.class, () -> Envelope.of(coordinates, 2, 2));
+            assertThrows(IllegalArgumentException.class, () -> Envelope.of(coordinates, 0, 6));
+        }
+    }
+
+    @Nested
+    @DisplayName("Relations")
+    class Relations {
+
+        private final Envelope envelope = new Envelope(0, 0, 10, 10);
+
+        @Test
+        @DisplayName("should test point and envelope containment inclusively")
+        void shouldTestContainment() {
+            assertTrue(envelope.contains(10, 0));
+            assertFalse(envelope.contains(10.5, 5));
+            assertTrue(envelope.contains(new Envelope(2, 2, 10, 10)));
+            assertFalse(envelope.contains(new Envelope(2, 2, 11, 10)));
+        }
+
+        @Test
+        @DisplayName("should detect intersecting and touching envelopes")
+        void shouldDetectIntersection() {
+            assertTrue(envelope.intersects(new Envelope(5, 5, 15, 15)));
+            assertTrue(envelope.intersects(new Envelope(10, 10, 15, 15)));
+            assertFalse(envelope.intersects(new Envelope(11, 0, 15, 15)));
+        }
+
+        @Test
+        @DisplayName("should compute union")
+        void shouldComputeUnion() {
+            assertEquals(new Envelope(-1, 0, 10, 12), envelope.union(new Envelope(-1, 5, 3, 12)));
+        }
+    }
+}
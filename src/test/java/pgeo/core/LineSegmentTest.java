@@ -373,6 +373,52 @@ class LineSegmentTest {
         }
     }
 
+    @Nested
+    @DisplayName("Distance")
+    class Distance {
+
+        @Test
+        @DisplayName("should measure point distance to interior and endpoints")
+        void shouldMeasurePointDistance() {
+            LineSegment segment = new LineSegment(new Point(0, 0), new Point(4, 0));
+
+            assertEquals(3.0, segment.distanceTo(new Point(2, 3)), DELTA);
+            assertEquals(5.0, segment.distanceTo(new Point(7, 4)), DELTA);
+            assertEquals(5.0, segment.distanceTo(new Point(-3, -4)), DELTA);
+            assertEquals(0.0, segment.distanceTo(new Point(1, 0)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should find the closest point on the segment")
+        void shouldFindClosestPoint() {
+            LineSegment segment = new LineSegment(new Point(0, 0), new Point(4, 4));
+
+            assertEquals(new Point(2, 2), segment.closestPointTo(new Point(0, 4)));
+            assertEquals(new Point(4, 4), segment.closestPointTo(new Point(9, 9)));
+        }
+
+        @Test
+        @DisplayName("should measure segment distance for crossing, parallel and disjoint segments")
+        void shouldMeasureSegmentDistance() {
+            LineSegment segment = new LineSegment(new Point(0, 0), new Point(4, 0));
+
+            assertEquals(0.0, segment.distanceTo(new LineSegment(new Point(2, -1), new Point(2, 1))), DELTA);
+            assertEquals(0.0, segment.distanceTo(new LineSegment(new Point(4, 0), new Point(6, 3))), DELTA);
+            assertEquals(2.0, segment.distanceTo(new LineSegment(new Point(1, 2), new Point(3, 2))), DELTA);
+            assertEquals(5.0, segment.distanceTo(new LineSegment(new Point(7, 4), new Point(9, 9))), DELTA);
+            assertEquals(1.0, segment.distanceTo(new LineSegment(new Point(5, 0), new Point(8, 0))), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject null arguments")
+        void shouldRejectNull() {
+            LineSegment segment = new LineSegment(new Point(0, 0), new Point(1, 0));
+
+            assertThrows(NullPointerException.class, () -> segment.distanceTo((Point) null));
+            assertThrows(NullPointerException.class, () -> segment.distanceTo((LineSegment) null));
+        }
+    }
+
     @Nested
     @DisplayName("Equality")
     class Equality {
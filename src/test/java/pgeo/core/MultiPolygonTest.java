@@ -0,0 +1,104 @@
+package pgeo.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MultiPolygon")
+class MultiPolygonTest {
+
+    private static final double DELTA = 1e-10;
+
+    private static double[] square(double minX, double minY, double size) {
+        return new double[]{minX, minY, minX + size, minY, minX + size, minY + size, minX, minY + size};
+    }
+
+    private final MultiPolygon features = MultiPolygon.of(
+        PolygonWithHoles.of(square(0, 0, 10), square(2, 2, 2)),
+        PolygonWithHoles.of(square(20, 0, 5)));
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("should count polygons, rings and vertices")
+        void shouldCountParts() {
+            assertEquals(2, features.getPolygonCount());
+            assertEquals(3, features.getRingCount());
+            assertEquals(12, features.getVertexCount());
+            assertFalse(features.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should expose polygons as views over shared storage")
+        void shouldExposePolygonViews() {
+            PolygonWithHoles second = features.getPolygon(1);
+
+            assertEquals(0, second.getHoleCount());
+            assertEquals(20.0, second.getX(0, 0), DELTA);
+            assertEquals(25.0, second.calculateArea(), DELTA);
+            assertEquals(PolygonWithHoles.of(square(20, 0, 5)), second);
+        }
+
+        @Test
+        @DisplayName("should round trip through ring lists")
+        void shouldRoundTripRings() {
+            List<double[][]> rings = features.toRings();
+
+            assertEquals(features, MultiPolygon.fromRings(rings));
+            assertEquals(2, rings.get(0).length);
+        }
+
+        @Test
+        @DisplayName("should allow empty multipolygons")
+        void shouldAllowEmpty() {
+            MultiPolygon empty = MultiPolygon.fromRings(List.of());
+
+            assertTrue(empty.isEmpty());
+            assertEquals(0.0, empty.calculateArea(), DELTA);
+            assertFalse(empty.contains(0, 0));
+            assertThrows(IllegalStateException.class, empty::getEnvelope);
+        }
+
+        @Test
+        @DisplayName("should reject invalid input")
+        void shouldRejectInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> MultiPolygon.fromRings(null));
+            assertThrows(IllegalArgumentException.class, () -> MultiPolygon.fromRings(List.<double[][]>of(new double[0][])));
+            assertThrows(IllegalArgumentException.class, () -> MultiPolygon.of((PolygonWithHoles) null));
+            assertThrows(IndexOutOfBoundsException.class, () -> features.getPolygon(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Measures")
+    class Measures {
+
+        @Test
+        @DisplayName("should sum areas and perimeters across polygons")
+        void shouldSumMeasures() {
+            assertEquals(96.0 + 25.0, features.calculateArea(), DELTA);
+            assertEquals(40.0 + 8.0 + 20.0, features.calculatePerimeter(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should compute envelope over all parts")
+        void shouldComputeEnvelope() {
+            assertEquals(new Envelope(0, 0, 25, 10), features.getEnvelope());
+        }
+
+        @Test
+        @DisplayName("should test containment across parts")
+        void shouldTestContainment() {
+            assertTrue(features.contains(1, 1));
+            assertFalse(features.contains(3, 3));
+            assertTrue(features.contains(new Point(22, 2)));
+            assertFalse(features.contains(15, 5));
+        }
+    }
+}
@@ -184,6 +184,59 @@ class PolygonTest {
 
             assertNotSame(original, retrieved);
         }
+
+        @Test
+        @DisplayName("should return coordinates by index")
+        void shouldReturnCoordinatesByIndex() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {4, 3}, {0, 3}});
+
+            assertEquals(4, polygon.getX(1), DELTA);
+            assertEquals(0, polygon.getY(1), DELTA);
+            assertEquals(0, polygon.getX(3), DELTA);
+            assertEquals(3, polygon.getY(3), DELTA);
+            assertThrows(IndexOutOfBoundsException.class, () -> polygon.getX(4));
+            assertThrows(IndexOutOfBoundsException.class, () -> polygon.getY(-1));
+        }
+
+        @Test
+        @DisplayName("should visit every edge including the closing one")
+        void shouldVisitEveryEdge() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {4, 3}, {0, 3}});
+            double[] length = new double[1];
+            int[] count = new int[1];
+
+            polygon.forEachEdge((index, x0, y0, x1, y1) -> {
+                assertEquals(polygon.getX((index + 1) % 4), x1, DELTA);
+                assertEquals(polygon.getY((index + 1) % 4), y1, DELTA);
+                length[0] += Math.hypot(x1 - x0, y1 - y0);
+                count[0]++;
+            });
+
+            assertEquals(4, count[0]);
+            assertEquals(polygon.calculatePerimeter(), length[0], DELTA);
+        }
+
+        @Test
+        @DisplayName("should copy coordinates into caller buffer at offset")
+        void shouldCopyCoordinatesIntoBuffer() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {2, 3}});
+            double[] buffer = new double[8];
+
+            int written = polygon.copyCoordinates(buffer, 2);
+
+            assertEquals(6, written);
+            assertArrayEquals(new double[]{0, 0, 0, 0, 4, 0, 2, 3}, buffer, DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject buffer that is too small")
+        void shouldRejectBufferThatIsTooSmall() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {2, 3}});
+
+            assertThrows(IllegalArgumentException.class, () -> polygon.copyCoordinates(new double[6], 1));
+            assertThrows(IllegalArgumentException.class, () -> polygon.copyCoordinates(new double[6], -1));
+            assertThrows(IllegalArgumentException.class, () -> polygon.copyCoordinates(null, 0));
+        }
     }
 
     @Nested
@@ -352,6 +405,44 @@ class PolygonTest {
         }
     }
 
+    @Nested
+    @DisplayName("Convex Hull")
+    class ConvexHull {
+
+        @Test
+        @DisplayName("should drop reflex and collinear vertices")
+        void shouldDropReflexAndCollinearVertices() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {2, 0}, {4, 0}, {4, 4}, {2, 1}, {0, 4}});
+
+            Polygon hull = polygon.getConvexHull();
+
+            assertEquals(Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {4, 4}, {0, 4}}), hull);
+            assertTrue(hull.isConvex());
+            assertTrue(hull.calculateSignedArea() > 0);
+        }
+
+        @Test
+        @DisplayName("should cache the hull")
+        void shouldCacheHull() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {2, 3}});
+
+            Polygon hull = polygon.getConvexHull();
+
+            assertSame(hull, polygon.getConvexHull());
+            assertSame(hull, hull.getConvexHull());
+        }
+
+        @Test
+        @DisplayName("should reject hull of collinear vertices")
+        void shouldRejectCollinearHull() {
+            Polygon polygon = Polygon.fromArray(new double[][]{{0, 0}, {1, 1}, {2, 2}, {3, 3}});
+
+            assertTrue(polygon.isCollinear());
+            assertThrows(IllegalArgumentException.class, polygon::getConvexHull);
+            assertFalse(Polygon.fromArray(new double[][]{{0, 0}, {1, 1}, {2, 0}}).isCollinear());
+        }
+    }
+
     @Nested
     @DisplayName("Convexity Check")
     class ConvexityCheck {
@@ -0,0 +1,139 @@
+package pgeo.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolygonWithHoles")
+class PolygonWithHolesTest {
+
+    private static final double DELTA = 1e-10;
+
+    private static double[] square(double minX, double minY, double size) {
+        return new double[]{minX, minY, minX + size, minY, minX + size, minY + size, minX, minY + size};
+    }
+
+    private final PolygonWithHoles parcel = PolygonWithHoles.of(square(0, 0, 10), square(2, 2, 2), square(6, 6, 3));
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("should store all rings contiguously")
+        void shouldStoreRings() {
+            assertEquals(3, parcel.getRingCount());
+            assertEquals(2, parcel.getHoleCount());
+            assertEquals(12, parcel.getVertexCount());
+            assertEquals(4, parcel.getRingVertexCount(2));
+            assertEquals(9.0, parcel.getX(2, 1), DELTA);
+            assertEquals(6.0, parcel.getY(2, 1), DELTA);
+        }
+
+        @Test
+        @DisplayName("should copy input rings")
+        void shouldCopyInputRings() {
+            double[] shell = square(0, 0, 1);
+            PolygonWithHoles polygon = PolygonWithHoles.of(shell);
+
+            shell[0] = 99;
+
+            assertEquals(0.0, polygon.getX(0, 0), DELTA);
+            assertArrayEquals(square(0, 0, 1), polygon.getRing(0), DELTA);
+        }
+
+        @Test
+        @DisplayName("should create from core polygons")
+        void shouldCreateFromPolygons() {
+            Polygon shell = Polygon.fromArray(new double[][]{{0, 0}, {4, 0}, {4, 4}, {0, 4}});
+            Polygon hole = Polygon.fromArray(new double[][]{{1, 1}, {2, 1}, {2, 2}});
+
+            PolygonWithHoles polygon = PolygonWithHoles.fromPolygons(shell, hole);
+
+            assertEquals(15.5, polygon.calculateArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject invalid rings")
+        void shouldRejectInvalidRings() {
+            assertThrows(IllegalArgumentException.class, () -> PolygonWithHoles.fromRings(new double[0][]));
+            assertThrows(IllegalArgumentException.class, () -> PolygonWithHoles.of(null));
+            assertThrows(IllegalArgumentException.class, () -> PolygonWithHoles.of(new double[]{0, 0, 1, 1}));
+            assertThrows(IllegalArgumentException.class, () -> PolygonWithHoles.of(square(0, 0, 1), new double[]{0, 0, 1}));
+            assertThrows(IllegalArgumentException.class,
+                () -> PolygonWithHoles.of(new double[]{0, 0, 1, 0, 1, Double.NaN}));
+        }
+
+        @Test
+        @DisplayName("should reject out of range ring and vertex indices")
+        void shouldRejectOutOfRangeIndices() {
+            assertThrows(IndexOutOfBoundsException.class, () -> parcel.getRing(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> parcel.getX(0, 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> parcel.getY(-1, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Measures")
+    class Measures {
+
+        @Test
+        @DisplayName("should subtract hole areas regardless of ring orientation")
+        void shouldSubtractHoleAreas() {
+            PolygonWithHoles reversed = PolygonWithHoles.of(square(0, 0, 10), new double[]{2, 2, 2, 4, 4, 4, 4, 2});
+
+            assertEquals(100.0 - 4.0 - 9.0, parcel.calculateArea(), DELTA);
+            assertEquals(96.0, reversed.calculateArea(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should include hole boundaries in perimeter")
+        void shouldIncludeHolePerimeters() {
+            assertEquals(40.0 + 8.0 + 12.0, parcel.calculatePerimeter(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should compute envelope from the shell")
+        void shouldComputeEnvelope() {
+            assertEquals(new Envelope(0, 0, 10, 10), parcel.getEnvelope());
+        }
+    }
+
+    @Nested
+    @DisplayName("Containment")
+    class Containment {
+
+        @Test
+        @DisplayName("should exclude points inside holes")
+        void shouldExcludeHoles() {
+            assertTrue(parcel.contains(1, 1));
+            assertFalse(parcel.contains(3, 3));
+            assertFalse(parcel.contains(7, 7));
+            assertFalse(parcel.contains(11, 5));
+        }
+
+        @Test
+        @DisplayName("should include boundary points of shell and holes")
+        void shouldIncludeBoundaries() {
+            assertTrue(parcel.contains(0, 5));
+            assertTrue(parcel.contains(new Point(2, 3)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality")
+    class Equality {
+
+        @Test
+        @DisplayName("should compare ring coordinates")
+        void shouldCompareRingCoordinates() {
+            PolygonWithHoles same = PolygonWithHoles.fromRings(parcel.toRings());
+
+            assertEquals(parcel, same);
+            assertEquals(parcel.hashCode(), same.hashCode());
+            assertNotEquals(parcel, PolygonWithHoles.of(square(0, 0, 10)));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package pgeo.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Polyline")
+class PolylineTest {
+
+    private static final double DELTA = 1e-10;
+
+    private final Polyline route = Polyline.of(0, 0, 4, 0, 4, 3, 10, 3);
+
+    private static Polyline zigzag(int segments) {
+        double[] coordinates = new double[(segments + 1) * 2];
+        for (int i = 0; i <= segments; i++) {
+            coordinates[i * 2] = i;
+            coordinates[i * 2 + 1] = i % 2;
+        }
+        return Polyline.of(coordinates);
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("should create polyline from points and arrays")
+        void shouldCreateFromPointsAndArrays() {
+            Polyline fromPoints = Polyline.fromPoints(new Point(0, 0), new Point(4, 0), new Point(4, 3), new Point(10, 3));
+            Polyline fromArray = Polyline.fromArray(new double[][]{{0, 0}, {4, 0}, {4, 3}, {10, 3}});
+
+            assertEquals(route, fromPoints);
+            assertEquals(route, fromArray);
+            assertEquals(4, route.getVertexCount());
+            assertEquals(3, route.getSegmentCount());
+        }
+
+        @Test
+        @DisplayName("should copy input coordinates")
+        void shouldCopyInputCoordinates() {
+            double[] coordinates = {0, 0, 1, 0};
+            Polyline polyline = Polyline.of(coordinates);
+            coordinates[2] = 5;
+
+            assertEquals(1.0, polyline.getX(1), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject invalid coordinates")
+        void shouldRejectInvalidCoordinates() {
+            assertThrows(IllegalArgumentException.class, () -> Polyline.of((double[]) null));
+            assertThrows(IllegalArgumentException.class, () -> Polyline.of(0, 0));
+            assertThrows(IllegalArgumentException.class, () -> Polyline.of(0, 0, 1));
+            assertThrows(IllegalArgumentException.class, () -> Polyline.of(0, 0, Double.NaN, 1));
+            assertThrows(IllegalArgumentException.class, () -> Polyline.fromPoints(new Point(0, 0), null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Length Index")
+    class LengthIndex {
+
+        @Test
+        @DisplayName("should compute total and cumulative lengths")
+        void shouldComputeLengths() {
+            assertEquals(13.0, route.getLength(), DELTA);
+            assertEquals(0.0, route.getLengthAtVertex(0), DELTA);
+            assertEquals(4.0, route.getLengthAtVertex(1), DELTA);
+            assertEquals(7.0, route.getLengthAtVertex(2), DELTA);
+        }
+
+        @Test
+        @DisplayName("should find the segment containing a distance")
+        void shouldFindSegmentAtDistance() {
+            assertEquals(0, route.segmentAt(0.0));
+            assertEquals(0, route.segmentAt(3.9));
+            assertEquals(1, route.segmentAt(4.0));
+            assertEquals(2, route.segmentAt(13.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Interpolation")
+    class Interpolation {
+
+        @Test
+        @DisplayName("should interpolate points along the route")
+        void shouldInterpolatePoints() {
+            assertEquals(new Point(2, 0), route.pointAtDistance(2.0));
+            assertEquals(new Point(4, 1.5), route.pointAtDistance(5.5));
+            assertEquals(new Point(10, 3), route.pointAtDistance(13.0));
+        }
+
+        @Test
+        @DisplayName("should clamp distances outside the route")
+        void shouldClampDistances() {
+            assertEquals(new Point(0, 0), route.pointAtDistance(-1.0));
+            assertEquals(new Point(10, 3), route.pointAtDistance(100.0));
+            assertThrows(IllegalArgumentException.class, () -> route.pointAtDistance(Double.NaN));
+        }
+
+        @Test
+        @DisplayName("should write interpolated point into caller buffer")
+        void shouldWriteIntoBuffer() {
+            double[] buffer = new double[4];
+
+            route.pointAtDistance(10.0, buffer, 2);
+
+            assertArrayEquals(new double[]{0, 0, 7, 3}, buffer, DELTA);
+            assertThrows(IllegalArgumentException.class, () -> route.pointAtDistance(1.0, buffer, 3));
+        }
+
+        @Test
+        @DisplayName("should handle zero-length segments")
+        void shouldHandleZeroLengthSegments() {
+            Polyline polyline = Polyline.of(0, 0, 2, 0, 2, 0, 2, 2);
+
+            assertEquals(new Point(2, 0), polyline.pointAtDistance(2.0));
+            assertEquals(new Point(2, 1), polyline.pointAtDistance(3.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Locate")
+    class Locate {
+
+        @Test
+        @DisplayName("should project points onto the nearest segment")
+        void shouldProjectPoints() {
+            assertEquals(2.0, route.locate(2, -1), DELTA);
+            assertEquals(5.0, route.locate(5, 1), DELTA);
+            assertEquals(13.0, route.locate(new Point(12, 3)), DELTA);
+        }
+
+        @Test
+        @DisplayName("should agree with brute force across many chunks")
+        void shouldAgreeAcrossChunks() {
+            Polyline polyline = zigzag(200);
+            assertTrue(polyline.getChunkCount() > 1);
+
+            for (int i = 0; i <= 100; i++) {
+                double distance = polyline.getLength() * i / 100.0;
+                Point point = polyline.pointAtDistance(distance);
+                assertEquals(distance, polyline.locate(point), 1e-9);
+            }
+        }
+
+        @Test
+        @DisplayName("should match a brute-force scan for points off a long spiral")
+        void shouldMatchBruteForceOffSpiral() {
+            double[] coordinates = new double[20000 * 2];
+            for (int i = 0; i < 20000; i++) {
+                double angle = i * 0.01;
+                coordinates[i * 2] = angle * Math.cos(angle);
+                coordinates[i * 2 + 1] = angle * Math.sin(angle);
+            }
+            Polyline spiral = Polyline.of(coordinates);
+            Random random = new Random(11);
+
+            for (int trial = 0; trial < 200; trial++) {
+                double x = random.nextDouble() * 440 - 220;
+                double y = random.nextDouble() * 440 - 220;
+                double best = Double.POSITIVE_INFINITY;
+                double expected = 0.0;
+                for (int i = 0; i + 1 < 20000; i++) {
+                    Point start = new Point(coordinates[i * 2], coordinates[i * 2 + 1]);
+                    LineSegment segment = new LineSegment(start, new Point(coordinates[i * 2 + 2], coordinates[i * 2 + 3]));
+                    double distance = segment.distanceTo(new Point(x, y));
+                    if (distance < best) {
+                        best = distance;
+                        expected = spiral.getLengthAtVertex(i) + start.distanceTo(segment.closestPointTo(new Point(x, y)));
+                    }
+                }
+                assertEquals(expected, spiral.locate(x, y), 1e-6, "trial " + trial);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Substring")
+    class Substring {
+
+        @Test
+        @DisplayName("should extract the section between two distances")
+        void shouldExtractSection() {
+            Polyline section = route.substring(2.0, 10.0);
+
+            assertEquals(Polyline.of(2, 0, 4, 0, 4, 3, 7, 3), section);
+            assertEquals(8.0, section.getLength(), DELTA);
+        }
+
+        @Test
+        @DisplayName("should not repeat vertices at the cut points")
+        void shouldNotRepeatVertices() {
+            assertEquals(Polyline.of(4, 0, 4, 3), route.substring(4.0, 7.0));
+        }
+
+        @Test
+        @DisplayName("should reject reversed distances")
+        void shouldRejectReversedDistances() {
+            assertThrows(IllegalArgumentException.class, () -> route.substring(5.0, 2.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Envelopes")
+    class Envelopes {
+
+        @Test
+        @DisplayName("should compute overall and chunk envelopes")
+        void shouldComputeEnvelopes() {
+            Polyline polyline = zigzag(40);
+
+            assertEquals(new Envelope(0, 0, 40, 1), polyline.getEnvelope());
+            assertEquals(2, polyline.getChunkCount());
+            assertEquals(new Envelope(0, 0, 32, 1), polyline.getChunkEnvelope(0));
+            assertEquals(new Envelope(32, 0, 40, 1), polyline.getChunkEnvelope(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> polyline.getChunkEnvelope(2));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package pgeo.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PreparedLine")
+class PreparedLineTest {
+
+    private static final double DELTA = 1e-10;
+
+    @Nested
+    @DisplayName("Coefficients")
+    class Coefficients {
+
+        @Test
+        @DisplayName("should cache normalized implicit coefficients")
+        void shouldCacheNormalizedCoefficients() {
+            PreparedLine prepared = new PreparedLine(0, 1, 3, 5);
+
+            assertEquals(1.0, Math.hypot(prepared.getA(), prepared.getB()), DELTA);
+            assertEquals(0.0, prepared.signedDistance(0, 1), DELTA);
+            assertEquals(0.0, prepared.signedDistance(3, 5), DELTA);
+        }
+
+        @Test
+        @DisplayName("should measure signed distance positive on the left")
+        void shouldMeasureSignedDistance() {
+            PreparedLine prepared = new Line(new Point(0, 0), new Point(4, 0)).prepare();
+
+            assertEquals(2.0, prepared.signedDistance(1, 2), DELTA);
+            assertEquals(-3.0, prepared.signedDistance(-7, -3), DELTA);
+            assertEquals(3.0, prepared.distance(-7, -3), DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject coincident points")
+        void shouldRejectCoincidentPoints() {
+            assertThrows(IllegalArgumentException.class, () -> new PreparedLine(2, 2, 2, 2));
+            assertThrows(NullPointerException.class, () -> new PreparedLine(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Classification")
+    class Classification {
+
+        @Test
+        @DisplayName("should match Line.positionOfPoint")
+        void shouldMatchLinePositionOfPoint() {
+            Random random = new Random(29);
+            Line line = new Line(new Point(-3.7, 1.1), new Point(5.3, -2.9));
+            PreparedLine prepared = line.prepare();
+            int count = 2000;
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            for (int i = 0; i < count; i++) {
+                xs[i] = random.nextDouble() * 20 - 10;
+                ys[i] = random.nextDouble() * 20 - 10;
+            }
+            byte[] out = new byte[count];
+
+            prepared.classify(xs, ys, out);
+
+            for (int i = 0; i < count; i++) {
+                Point point = new Point(xs[i], ys[i]);
+                assertEquals(line.positionOfPoint(point), out[i]);
+                assertEquals(line.positionOfPoint(point), prepared.positionOfPoint(point));
+            }
+        }
+
+        @Test
+        @DisplayName("should classify points exactly on the line as zero")
+        void shouldClassifyPointsOnLine() {
+            PreparedLine prepared = new PreparedLine(0, 0, 1, 3);
+            byte[] out = new byte[3];
+
+            prepared.classify(new double[]{2, 0, 5}, new double[]{6, 1, 15}, out);
+
+            assertArrayEquals(new byte[]{0, 1, 0}, out);
+        }
+
+        @Test
+        @DisplayName("should reject mismatched buffers")
+        void shouldRejectMismatchedBuffers() {
+            PreparedLine prepared = new PreparedLine(0, 0, 1, 1);
+
+            assertThrows(IllegalArgumentException.class,
+                () -> prepared.classify(new double[2], new double[3], new byte[3]));
+            assertThrows(IllegalArgumentException.class,
+                () -> prepared.classify(new double[2], new double[2], new byte[1]));
+            assertThrows(IllegalArgumentException.class,
+                () -> prepared.classify(null, new double[2], new byte[2]));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package pgeo.geometry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import pgeo.io.CoordinateChunk;
+import pgeo.io.CoordinateLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PGeoBatch")
+class PGeoBatchTest {
+
+    private static final double DELTA = 1e-10;
+
+    private PGeo pgeo;
+    private PGeoBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        pgeo = new PGeo();
+        batch = new PGeoBatch();
+    }
+
+    @Nested
+    @DisplayName("area_triangulo")
+    class AreaTriangulo {
+
+        @Test
+        @DisplayName("should match scalar area for every record")
+        void shouldMatchScalarAreaForEveryRecord() {
+            double[] coords = {
+                0, 0, 4, 0, 0, 3,
+                -2, -2, 2, -2, 0, 2,
+                0, 0, 0, 3, 4, 0
+            };
+            double[] out = new double[3];
+
+            batch.area_triangulo(coords, 3, out);
+
+            for (int i = 0; i < 3; i++) {
+                double[][] triangle = {
+                    {coords[i * 6], coords[i * 6 + 1]},
+                    {coords[i * 6 + 2], coords[i * 6 + 3]},
+                    {coords[i * 6 + 4], coords[i * 6 + 5]}
+                };
+                assertEquals(pgeo.area_triangulo(triangle), out[i], DELTA);
+            }
+        }
+
+        @Test
+        @DisplayName("should report the record holding coincident points")
+        void shouldReportRecordHoldingCoincidentPoints() {
+            double[] coords = {0, 0, 4, 0, 0, 3, 1, 1, 1, 1, 2, 2};
+
+            IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> batch.area_triangulo(coords, 2, new double[2])
+            );
+            assertTrue(e.getMessage().contains("Record 1"));
+        }
+
+        @Test
+        @DisplayName("should reject non-finite coordinates")
+        void shouldRejectNonFiniteCoordinates() {
+            double[] coords = {0, 0, 4, Double.NaN, 0, 3};
+
+            assertThrows(IllegalArgumentException.class, () -> batch.area_triangulo(coords, 1, new double[1]));
+        }
+
+        @Test
+        @DisplayName("should reject undersized buffers")
+        void shouldRejectUndersizedBuffers() {
+            assertThrows(IllegalArgumentException.class, () -> batch.area_triangulo(new double[6], 2, new double[2]));
+            assertThrows(IllegalArgumentException.class, () -> batch.area_triangulo(new double[12], 2, new double[1]));
+            assertThrows(IllegalArgumentException.class, () -> batch.area_triangulo(null, 0, new double[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("acima_abaixo")
+    class AcimaAbaixo {
+
+        @Test
+        @DisplayName("should classify points above, below and on the line")
+        void shouldClassifyPointsAboveBelowAndOnLine() {
+            double[] coords = {
+                0, 0, 4, 0, 2, 3,
+                0, 0, 4, 0, 2, -3,
+                0, 0, 4, 0, 8, 0
+            };
+            int[] out = new int[3];
+
+            batch.acima_abaixo(coords, 3, out);
+
+            assertArrayEquals(new int[]{1, -1, 0}, out);
+        }
+
+        @Test
+        @DisplayName("should reject coincident line points")
+        void shouldRejectCoincidentLinePoints() {
+            double[] coords = {1, 1, 1, 1, 2, 3};
+
+            assertThrows(IllegalArgumentException.class, () -> batch.acima_abaixo(coords, 1, new int[1]));
+        }
+    }
+
+    @Nested
+    @DisplayName("intersecao")
+    class Intersecao {
+
+        @Test
+        @DisplayName("should match scalar intersection for every record")
+        void shouldMatchScalarIntersectionForEveryRecord() {
+            double[] coords = {
+                0, 0, 4, 4, 0, 4, 4, 0,
+                0, 0, 1, 1, 0, 5, 1, 5,
+                0, 0, 4, 0, 2, 0, 2, 5,
+                0, 0, 4, 0, 0, 0, 4, 0
+            };
+            boolean[] out = new boolean[4];
+
+            batch.intersecao(coords, 4, out);
+
+            for (int i = 0; i < 4; i++) {
+                double[][] record = new double[4][];
+                for (int p = 0; p < 4; p++) {
+                    record[p] = new double[]{coords[i * 8 + p * 2], coords[i * 8 + p * 2 + 1]};
+                }
+                assertEquals(pgeo.intersecao(record), out[i]);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("area_P4")
+    class AreaP4 {
+
+        @Test
+        @DisplayName("should match scalar quadrilateral area")
+        void shouldMatchScalarQuadrilateralArea() {
+            double[] coords = {
+                0, 0, 4, 0, 4, 3, 0, 3,
+                0, 0, 4, 0, 6, 3, 2, 3
+            };
+            double[] out = new double[2];
+
+            batch.area_P4(coords, 2, out);
+
+            assertEquals(pgeo.area_P4(new double[][]{{0, 0}, {4, 0}, {4, 3}, {0, 3}}), out[0], DELTA);
+            assertEquals(pgeo.area_P4(new double[][]{{0, 0}, {4, 0}, {6, 3}, {2, 3}}), out[1], DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject coincident vertices")
+        void shouldRejectCoincidentVertices() {
+            double[] coords = {0, 0, 4, 0, 4, 0, 0, 3};
+
+            assertThrows(IllegalArgumentException.class, () -> batch.area_P4(coords, 1, new double[1]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Record Ranges")
+    class RecordRanges {
+
+        @Test
+        @DisplayName("should only write results inside the range")
+        void shouldOnlyWriteResultsInsideRange() {
+            double[] coords = {
+                0, 0, 4, 0, 0, 3,
+                0, 0, 2, 0, 0, 2,
+                0, 0, 1, 0, 0, 1
+            };
+            double[] out = {-1, -1, -1};
+
+            batch.area_triangulo(coords, 1, 2, out);
+
+            assertArrayEquals(new double[]{-1, 2.0, -1}, out, DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject inverted ranges")
+        void shouldRejectInvertedRanges() {
+            assertThrows(IllegalArgumentException.class,
+                () -> batch.area_triangulo(new double[12], 2, 1, new double[2]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunk Input")
+    class ChunkInput {
+
+        @Test
+        @DisplayName("should consume loader chunks directly")
+        void shouldConsumeLoaderChunksDirectly() throws IOException {
+            String csv = "0,0,4,0,0,3\n0,0,2,0,0,2\n";
+            CoordinateLoader loader = new CoordinateLoader(
+                Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.US_ASCII))),
+                PGeoBatch.TRIANGLE_STRIDE, 16, false
+            );
+            CoordinateChunk chunk = loader.newChunk();
+            double[] out = new double[chunk.getCapacity()];
+
+            loader.readChunk(chunk);
+            batch.area_triangulo(chunk, out);
+
+            assertEquals(6.0, out[0], DELTA);
+            assertEquals(2.0, out[1], DELTA);
+        }
+
+        @Test
+        @DisplayName("should reject chunks with the wrong column count")
+        void shouldRejectChunksWithWrongColumnCount() {
+            CoordinateChunk chunk = new CoordinateChunk(4, 8);
+
+            assertThrows(IllegalArgumentException.class, () -> batch.intersecao(chunk, new boolean[8]));
+        }
+    }
+}
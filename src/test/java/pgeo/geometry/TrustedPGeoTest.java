@@ -0,0 +1,106 @@
+package pgeo.geometry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrustedPGeo")
+class TrustedPGeoTest {
+
+    private final PGeo pgeo = new PGeo();
+    private final PGeo trusted = new TrustedPGeo();
+
+    static Stream<Arguments> triangles() {
+        return Stream.of(
+            Arguments.of((Object) new double[][]{{0, 0}, {4, 0}, {0, 3}}),
+            Arguments.of((Object) new double[][]{{0, 0}, {0, 3}, {4, 0}}),
+            Arguments.of((Object) new double[][]{{-2, -2}, {2, -2}, {0, 2}}),
+            Arguments.of((Object) new double[][]{{0, 0}, {4, 0}, {8, 0}}),
+            Arguments.of((Object) new double[][]{{0.1, 0.2}, {1e6, -3.5}, {7.25, 1e-6}})
+        );
+    }
+
+    static Stream<Arguments> segmentsWithLines() {
+        return Stream.of(
+            Arguments.of((Object) new double[][]{{0, 0}, {4, 4}, {0, 4}, {4, 0}}),
+            Arguments.of((Object) new double[][]{{0, 0}, {1, 1}, {0, 5}, {1, 5}}),
+            Arguments.of((Object) new double[][]{{0, 0}, {4, 0}, {2, 0}, {2, 5}}),
+            Arguments.of((Object) new double[][]{{0, 0}, {4, 0}, {0, 0}, {4, 0}}),
+            Arguments.of((Object) new double[][]{{-3, 1}, {5, 2}, {1, -4}, {1.5, 9}})
+        );
+    }
+
+    @Nested
+    @DisplayName("Equivalence With Validated PGeo")
+    class Equivalence {
+
+        @ParameterizedTest
+        @MethodSource("pgeo.geometry.TrustedPGeoTest#triangles")
+        @DisplayName("should match triangle operations")
+        void shouldMatchTriangleOperations(double[][] triangle) {
+            if (!pgeo.arePointsCollinear(triangle)) {
+                assertEquals(pgeo.area_triangulo(triangle), trusted.area_triangulo(triangle));
+            }
+            assertEquals(pgeo.acima_abaixo(triangle), trusted.acima_abaixo(triangle));
+            assertEquals(pgeo.calculateTriangleSignedArea(triangle), trusted.calculateTriangleSignedArea(triangle));
+            assertEquals(pgeo.arePointsCollinear(triangle), trusted.arePointsCollinear(triangle));
+            assertEquals(pgeo.isPointOnLine(triangle), trusted.isPointOnLine(triangle));
+            assertEquals(pgeo.isPointAboveLine(triangle), trusted.isPointAboveLine(triangle));
+            assertEquals(pgeo.isPointBelowLine(triangle), trusted.isPointBelowLine(triangle));
+            assertEquals(pgeo.getPointPositionDescription(triangle), trusted.getPointPositionDescription(triangle));
+        }
+
+        @ParameterizedTest
+        @MethodSource("pgeo.geometry.TrustedPGeoTest#segmentsWithLines")
+        @DisplayName("should match intersection operations")
+        void shouldMatchIntersectionOperations(double[][] record) {
+            assertEquals(pgeo.intersecao(record), trusted.intersecao(record));
+            assertArrayEquals(pgeo.ponto_intersecao(record), trusted.ponto_intersecao(record));
+        }
+
+        @Test
+        @DisplayName("should match quadrilateral area on random inputs")
+        void shouldMatchQuadrilateralAreaOnRandomInputs() {
+            Random random = new Random(42);
+
+            for (int i = 0; i < 1000; i++) {
+                double[][] quad = new double[4][2];
+                for (double[] point : quad) {
+                    point[0] = random.nextDouble() * 100 - 50;
+                    point[1] = random.nextDouble() * 100 - 50;
+                }
+                assertEquals(pgeo.area_P4(quad), trusted.area_P4(quad));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Skipped Validation")
+    class SkippedValidation {
+
+        @Test
+        @DisplayName("should not reject coincident points")
+        void shouldNotRejectCoincidentPoints() {
+            double[][] degenerate = {{1, 1}, {1, 1}, {2, 2}};
+
+            assertThrows(IllegalArgumentException.class, () -> pgeo.area_triangulo(degenerate));
+            assertEquals(0.0, trusted.area_triangulo(degenerate));
+        }
+
+        @Test
+        @DisplayName("should ignore extra points instead of rejecting the shape")
+        void shouldIgnoreExtraPointsInsteadOfRejectingShape() {
+            double[][] fourPoints = {{0, 0}, {4, 0}, {0, 3}, {9, 9}};
+
+            assertEquals(6.0, trusted.area_triangulo(fourPoints));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package pgeo.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CoordinateLoader")
+class CoordinateLoaderTest {
+
+    private static CoordinateLoader loaderFor(String content, int columns, int chunkRecords, boolean skipHeader) {
+        ByteArrayInputStream input = new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+        return new CoordinateLoader(Channels.newChannel(input), columns, chunkRecords, skipHeader);
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("should read CSV records into a flat chunk")
+        void shouldReadCsvRecordsIntoFlatChunk() throws IOException {
+            CoordinateLoader loader = loaderFor("0,0,4,0,2,3\n1,1,5,1,3,4\n", 6, 10, false);
+            CoordinateChunk chunk = loader.newChunk();
+
+            assertTrue(loader.readChunk(chunk));
+            assertEquals(2, chunk.size());
+            assertEquals(3.0, chunk.get(0, 5));
+            assertEquals(5.0, chunk.get(1, 2));
+            assertFalse(loader.readChunk(chunk));
+        }
+
+        @Test
+        @DisplayName("should read TSV and semicolon separated records")
+        void shouldReadTsvAndSemicolonSeparatedRecords() throws IOException {
+            CoordinateLoader loader = loaderFor("1\t2\r\n3 ; 4\n5   6", 2, 10, false);
+            CoordinateChunk chunk = loader.newChunk();
+
+            loader.readChunk(chunk);
+
+            assertEquals(3, chunk.size());
+            assertEquals(2.0, chunk.get(0, 1));
+            assertEquals(4.0, chunk.get(1, 1));
+            assertEquals(6.0, chunk.get(2, 1));
+        }
+
+        @Test
+        @DisplayName("should skip header, comments and blank lines")
+        void shouldSkipHeaderCommentsAndBlankLines() throws IOException {
+            CoordinateLoader loader = loaderFor("x,y\n# comment\n\n1,2\n", 2, 10, true);
+            CoordinateChunk chunk = loader.newChunk();
+
+            loader.readChunk(chunk);
+
+            assertEquals(1, chunk.size());
+            assertEquals(1.0, chunk.get(0, 0));
+        }
+
+        @Test
+        @DisplayName("should reject records with wrong field count")
+        void shouldRejectRecordsWithWrongFieldCount() {
+            CoordinateLoader loader = loaderFor("1,2\n3\n", 2, 10, false);
+
+            IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> loader.readChunk(loader.newChunk())
+            );
+            assertTrue(e.getMessage().contains("Line 2"));
+        }
+
+        @Test
+        @DisplayName("should reject malformed numbers")
+        void shouldRejectMalformedNumbers() {
+            CoordinateLoader loader = loaderFor("1,abc\n", 2, 10, false);
+
+            assertThrows(IllegalArgumentException.class, () -> loader.readChunk(loader.newChunk()));
+        }
+
+        @Test
+        @DisplayName("should keep malformed lines as flagged records when tolerant")
+        void shouldFlagMalformedRecordsWhenTolerant() throws IOException {
+            ByteArrayInputStream input = new ByteArrayInputStream(
+                "1,2\n3\n4,abc\n5,6,7\n8,9\n".getBytes(StandardCharsets.US_ASCII));
+            CoordinateLoader loader = new CoordinateLoader(Channels.newChannel(input), 2, 10, false, true);
+            CoordinateChunk chunk = loader.newChunk();
+
+            loader.readChunk(chunk);
+
+            assertEquals(5, chunk.size());
+            assertFalse(chunk.isMalformed(0));
+            assertTrue(chunk.isMalformed(1));
+            assertTrue(chunk.isMalformed(2));
+            assertTrue(chunk.isMalformed(3));
+            assertFalse(chunk.isMalformed(4));
+            assertTrue(Double.isNaN(chunk.get(2, 0)));
+            assertEquals(9.0, chunk.get(4, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunking")
+    class Chunking {
+
+        @Test
+        @DisplayName("should split records into fixed size chunks")
+        void shouldSplitRecordsIntoFixedSizeChunks() throws IOException {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 25; i++) {
+                content.append(i).append(',').append(-i).append('\n');
+            }
+            CoordinateLoader loader = loaderFor(content.toString(), 2, 10, false);
+            CoordinateChunk chunk = loader.newChunk();
+            List<Integer> sizes = new ArrayList<>();
+            List<Long> firstIndices = new ArrayList<>();
+
+            while (loader.readChunk(chunk)) {
+                sizes.add(chunk.size());
+                firstIndices.add(chunk.getFirstRecordIndex());
+            }
+
+            assertEquals(List.of(10, 10, 5), sizes);
+            assertEquals(List.of(0L, 10L, 20L), firstIndices);
+            assertEquals(25, loader.getRecordCount());
+        }
+
+        @Test
+        @DisplayName("should handle lines longer than the read buffer")
+        void shouldHandleLinesLongerThanReadBuffer() throws IOException {
+            int columns = 20000;
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < columns; i++) {
+                if (i > 0) content.append(',');
+                content.append("1.25");
+            }
+            CoordinateLoader loader = loaderFor(content.toString(), columns, 1, false);
+            CoordinateChunk chunk = loader.newChunk();
+
+            assertTrue(loader.readChunk(chunk));
+            assertEquals(1.25, chunk.get(0, columns - 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("should stream every record of a file through the consumer")
+        void shouldStreamEveryRecordThroughConsumer() throws IOException {
+            Path file = tempDir.resolve("points.csv");
+            StringBuilder content = new StringBuilder();
+            double expectedSum = 0;
+            for (int i = 0; i < 1000; i++) {
+                content.append(i).append(".5,").append(i).append('\n');
+                expectedSum += i + 0.5 + i;
+            }
+            Files.writeString(file, content);
+            double[] sum = new double[1];
+
+            long processed;
+            try (CoordinateLoader loader = CoordinateLoader.open(file, 2, 64, false)) {
+                processed = loader.forEachChunk(chunk -> {
+                    double[] values = chunk.getValues();
+                    for (int i = 0; i < chunk.size() * 2; i++) {
+                        sum[0] += values[i];
+                    }
+                });
+            }
+
+            assertEquals(1000, processed);
+            assertEquals(expectedSum, sum[0], 1e-6);
+        }
+
+        @Test
+        @DisplayName("should propagate parse failures from the reader thread")
+        void shouldPropagateParseFailuresFromReaderThread() {
+            CoordinateLoader loader = loaderFor("1,2\n3,x\n", 2, 1, false);
+
+            assertThrows(IllegalArgumentException.class, () -> loader.forEachChunk(chunk -> { }));
+        }
+    }
+}
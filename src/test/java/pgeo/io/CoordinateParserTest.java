@@ -0,0 +1,92 @@
+package pgeo.io;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CoordinateParser")
+class CoordinateParserTest {
+
+    private static double parse(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        return CoordinateParser.parseDouble(bytes, 0, bytes.length);
+    }
+
+    @Nested
+    @DisplayName("Fast Path")
+    class FastPath {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "0", "1", "-1", "+7", "3.5", "-2.25", "0.1", "123456.789", ".5", "5.",
+            "1e3", "1E-3", "-4.5e+2", "0.000001", "9007199254740991", "-0.3333333333333333"
+        })
+        @DisplayName("should match Double.parseDouble exactly")
+        void shouldMatchDoubleParseDoubleExactly(String text) {
+            assertEquals(Double.parseDouble(text), parse(text));
+        }
+
+        @Test
+        @DisplayName("should preserve negative zero")
+        void shouldPreserveNegativeZero() {
+            assertEquals(-0.0, parse("-0.0"));
+            assertTrue(1.0 / parse("-0.0") < 0);
+        }
+
+        @Test
+        @DisplayName("should parse a field inside a larger buffer")
+        void shouldParseFieldInsideLargerBuffer() {
+            byte[] bytes = "1.5,-2.75,3".getBytes(StandardCharsets.ISO_8859_1);
+
+            assertEquals(-2.75, CoordinateParser.parseDouble(bytes, 4, 9));
+        }
+    }
+
+    @Nested
+    @DisplayName("Fallback Path")
+    class FallbackPath {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+            "12345678901234567890123", "1e300", "4.9e-324", "0.1234567890123456789012", "NaN", "-Infinity",
+            "9999999999999999999", "0.9999999999999999999", "-9223372036854775808", "99999999999999999999",
+            "0.99999999999999999999", "999999999999999999"
+        })
+        @DisplayName("should match Double.parseDouble for values outside the fast path")
+        void shouldMatchDoubleParseDoubleOutsideFastPath(String text) {
+            assertEquals(Double.parseDouble(text), parse(text));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"abc", "1.2.3", "1e", "-", "1x"})
+        @DisplayName("should reject malformed numbers")
+        void shouldRejectMalformedNumbers(String text) {
+            assertThrows(NumberFormatException.class, () -> parse(text));
+        }
+    }
+
+    @Nested
+    @DisplayName("Argument Validation")
+    class ArgumentValidation {
+
+        @Test
+        @DisplayName("should reject null buffer")
+        void shouldRejectNullBuffer() {
+            assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseDouble(null, 0, 1));
+        }
+
+        @Test
+        @DisplayName("should reject empty range")
+        void shouldRejectEmptyRange() {
+            byte[] bytes = {'1'};
+
+            assertThrows(NumberFormatException.class, () -> CoordinateParser.parseDouble(bytes, 0, 0));
+        }
+    }
+}
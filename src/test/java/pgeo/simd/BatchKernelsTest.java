@@ -0,0 +1,253 @@
+package pgeo.simd;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import pgeo.core.Line;
+import pgeo.core.LineSegment;
+import pgeo.core.Point;
+import pgeo.core.Polygon;
+import pgeo.core.Triangle;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchKernels")
+class BatchKernelsTest {
+
+    static Stream<BatchKernels> kernels() {
+        return Stream.of(BatchKernels.scalar(), BatchKernels.best());
+    }
+
+    private static double[] randomCoordinates(Random random, int count) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble() * 200 - 100;
+        }
+        return values;
+    }
+
+    @Nested
+    @DisplayName("Selection")
+    class Selection {
+
+        @Test
+        @DisplayName("should always provide a kernel implementation")
+        void shouldAlwaysProvideKernelImplementation() {
+            assertNotNull(BatchKernels.best());
+            assertEquals("scalar", BatchKernels.scalar().getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Triangle Signed Areas")
+    class TriangleSignedAreas {
+
+        @ParameterizedTest
+        @MethodSource("pgeo.simd.BatchKernelsTest#kernels")
+        @DisplayName("should match Triangle.calculateSignedAreaFromPoints exactly")
+        void shouldMatchTriangleSignedAreaExactly(BatchKernels kernels) {
+            Random random = new Random(7);
+            int count = 1003;
+            double[] ax = randomCoordinates(random, count);
+            double[] ay = randomCoordinates(random, count);
+            double[] bx = randomCoordinates(random, count);
+            double[] by = randomCoordinates(random, count);
+            double[] cx = randomCoordinates(random, count);
+            double[] cy = randomCoordinates(random, count);
+            double[] out = new double[count];
+
+            kernels.triangleSignedAreas(ax, ay, bx, by, cx, cy, out, count);
+
+            for (int i = 0; i < count; i++) {
+                double expected = Triangle.calculateSignedAreaFromPoints(
+                    new Point(ax[i], ay[i]), new Point(bx[i], by[i]), new Point(cx[i], cy[i]));
+                assertEquals(expected, out[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("should reject undersized buffers")
+        void shouldRejectUndersizedBuffers() {
+            double[] small = new double[1];
+            double[] large = new double[2];
+
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchKernels.scalar().triangleSignedAreas(large, large, large, large, large, small, large, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Polygon Signed Area")
+    class PolygonSignedArea {
+
+        @ParameterizedTest
+        @MethodSource("pgeo.simd.BatchKernelsTest#kernels")
+        @DisplayName("should match Polygon.calculateSignedArea")
+        void shouldMatchPolygonSignedArea(BatchKernels kernels) {
+            int count = 517;
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            Point[] vertices = new Point[count];
+            for (int i = 0; i < count; i++) {
+                double angle = 2 * Math.PI * i / count;
+                double radius = 10 + (i % 3);
+                xs[i] = radius * Math.cos(angle);
+                ys[i] = radius * Math.sin(angle);
+                vertices[i] = new Point(xs[i], ys[i]);
+            }
+
+            double expected = new Polygon(vertices).calculateSignedArea();
+
+            assertEquals(expected, kernels.polygonSignedArea(xs, ys, count), Math.abs(expected) * 1e-12);
+        }
+
+        @ParameterizedTest
+        @MethodSource("pgeo.simd.BatchKernelsTest#kernels")
+        @DisplayName("should compute signed area of a small square")
+        void shouldComputeSignedAreaOfSmallSquare(BatchKernels kernels) {
+            assertEquals(16.0, kernels.polygonSignedArea(new double[]{0, 4, 4, 0}, new double[]{0, 0, 4, 4}, 4));
+            assertEquals(-16.0, kernels.polygonSignedArea(new double[]{0, 0, 4, 4}, new double[]{0, 4, 4, 0}, 4));
+        }
+
+        @Test
+        @DisplayName("should reject fewer than three vertices")
+        void shouldRejectFewerThanThreeVertices() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchKernels.scalar().polygonSignedArea(new double[2], new double[2], 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Point Classification")
+    class PointClassification {
+
+        @ParameterizedTest
+        @MethodSource("pgeo.simd.BatchKernelsTest#kernels")
+        @DisplayName("should match Line.positionOfPoint")
+        void shouldMatchLinePositionOfPoint(BatchKernels kernels) {
+            Random random = new Random(11);
+            int count = 777;
+            double[] xs = randomCoordinates(random, count);
+            double[] ys = randomCoordinates(random, count);
+            xs[5] = 2;
+            ys[5] = 2;
+            byte[] out = new byte[count];
+            Line line = new Line(new Point(-1, -1), new Point(3, 3));
+
+            kernels.classifyPoints(-1, -1, 3, 3, xs, ys, out, count);
+
+            for (int i = 0; i < count; i++) {
+                assertEquals(line.positionOfPoint(new Point(xs[i], ys[i])), out[i]);
+            }
+            assertEquals(0, out[5]);
+        }
+
+        @Test
+        @DisplayName("should reject degenerate line")
+        void shouldRejectDegenerateLine() {
+            assertThrows(IllegalArgumentException.class,
+                () -> BatchKernels.scalar().classifyPoints(1, 1, 1, 1, new double[1], new double[1], new byte[1], 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Line Segment Intersections")
+    class LineSegmentIntersections {
+
+        private void assertMatchesLineSegment(LineSegment segment, Line line, boolean hit, double x, double y) {
+            assertEquals(segment.intersectsLine(line), hit);
+            Point expected = segment.findIntersectionWithLine(line);
+            if (expected == null) {
+                assertTrue(Double.isNaN(x) && Double.isNaN(y));
+            } else {
+                assertEquals(expected.getX(), x);
+                assertEquals(expected.getY(), y);
+            }
+        }
+
+        @ParameterizedTest
+        @MethodSource("pgeo.simd.BatchKernelsTest#kernels")
+        @DisplayName("should match LineSegment.findIntersectionWithLine for one line against many segments")
+        void shouldMatchLineAgainstSegments(BatchKernels kernels) {
+            Random random = new Random(13);
+            int count = 901;
+            double[] x1 = randomCoordinates(random, count);
+            double[] y1 = randomCoordinates(random, count);
+            double[] x2 = randomCoordinates(random, count);
+            double[] y2 = randomCoordinates(random, count);
+            x1[3] = 4;
+            y1[3] = 3;
+            x1[4] = 0;
+            y1[4] = 1.5;
+            x2[4] = 8;
+            y2[4] = 4.5;
+            boolean[] hits = new boolean[count];
+            double[] outX = new double[count];
+            double[] outY = new double[count];
+            Line line = new Line(new Point(-4, 0), new Point(4, 3));
+
+            int found = kernels.lineSegmentIntersections(-4, 0, 4, 3, x1, y1, x2, y2, hits, outX, outY, count);
+
+            int expectedFound = 0;
+            for (int i = 0; i < count; i++) {
+                LineSegment segment = new LineSegment(new Point(x1[i], y1[i]), new Point(x2[i], y2[i]));
+                assertMatchesLineSegment(segment, line, hits[i], outX[i], outY[i]);
+                expectedFound += hits[i] ? 1 : 0;
+            }
+            assertEquals(expectedFound, found);
+            assertTrue(hits[3]);
+            assertEquals(4.0, outX[3]);
+            assertTrue(hits[4]);
+            assertTrue(Double.isNaN(outX[4]));
+        }
+
+        @ParameterizedTest
+        @MethodSource("pgeo.simd.BatchKernelsTest#kernels")
+        @DisplayName("should match LineSegment.findIntersectionWithLine for one segment against many lines")
+        void shouldMatchSegmentAgainstLines(BatchKernels kernels) {
+            Random random = new Random(19);
+            int count = 611;
+            double[] ax = randomCoordinates(random, count);
+            double[] ay = randomCoordinates(random, count);
+            double[] bx = randomCoordinates(random, count);
+            double[] by = randomCoordinates(random, count);
+            boolean[] hits = new boolean[count];
+            double[] outX = new double[count];
+            double[] outY = new double[count];
+            LineSegment segment = new LineSegment(new Point(-30, -20), new Point(40, 25));
+
+            int found = kernels.segmentLineIntersections(-30, -20, 40, 25, ax, ay, bx, by, hits, outX, outY, count);
+
+            int expectedFound = 0;
+            for (int i = 0; i < count; i++) {
+                Line line = new Line(new Point(ax[i], ay[i]), new Point(bx[i], by[i]));
+                assertMatchesLineSegment(segment, line, hits[i], outX[i], outY[i]);
+                expectedFound += hits[i] ? 1 : 0;
+            }
+            assertEquals(expectedFound, found);
+            assertTrue(found > 0 && found < count);
+        }
+
+        @Test
+        @DisplayName("should reject degenerate queries and undersized buffers")
+        void shouldRejectInvalidInput() {
+            double[] values = new double[2];
+            boolean[] hits = new boolean[2];
+            BatchKernels kernels = BatchKernels.scalar();
+
+            assertThrows(IllegalArgumentException.class,
+                () -> kernels.lineSegmentIntersections(1, 1, 1, 1, values, values, values, values, hits, values, values, 2));
+            assertThrows(IllegalArgumentException.class,
+                () -> kernels.segmentLineIntersections(2, 2, 2, 2, values, values, values, values, hits, values, values, 2));
+            assertThrows(IllegalArgumentException.class,
+                () -> kernels.lineSegmentIntersections(0, 0, 1, 1, values, values, values, values, new boolean[1], values, values, 2));
+            assertThrows(IllegalArgumentException.class,
+                () -> kernels.segmentLineIntersections(0, 0, 1, 1, values, values, values, values, hits, values, null, 2));
+        }
+    }
+}
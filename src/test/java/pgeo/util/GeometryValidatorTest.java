@@ -373,5 +373,78 @@ class GeometryValidatorTest {
             assertFalse(GeometryValidator.areAllPointsDistinct(coincident));
             assertFalse(GeometryValidator.areAllPointsDistinct(null));
         }
+
+        @Test
+        @DisplayName("should reject coincident points by index")
+        void shouldRejectCoincidentPointsByIndex() {
+            GeometryValidator.validateDistinctPoints(new double[][]{{0, 0}, {1, 1}, {2, 2}});
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> GeometryValidator.validateDistinctPoints(new double[][]{{0, 0}, {1, 1}, {1, 1}}));
+            assertEquals("Points at index 1 and 2 are coincident", exception.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> GeometryValidator.validateDistinctPoints(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Coordinate Validation")
+    class BulkCoordinateValidation {
+
+        @Test
+        @DisplayName("should return -1 for a fully finite buffer")
+        void shouldReturnMinusOneForFullyFiniteBuffer() {
+            double[] values = {0, 1.5, -3, 1e300, -0.0};
+
+            assertEquals(-1, GeometryValidator.indexOfInvalidCoordinate(values));
+        }
+
+        @Test
+        @DisplayName("should return index of first non-finite value")
+        void shouldReturnIndexOfFirstNonFiniteValue() {
+            double[] values = {0, 1, Double.POSITIVE_INFINITY, Double.NaN};
+
+            assertEquals(2, GeometryValidator.indexOfInvalidCoordinate(values));
+        }
+
+        @Test
+        @DisplayName("should only scan the requested range")
+        void shouldOnlyScanRequestedRange() {
+            double[] values = {Double.NaN, 1, 2, Double.NaN};
+
+            assertEquals(-1, GeometryValidator.indexOfInvalidCoordinate(values, 1, 3));
+            assertEquals(3, GeometryValidator.indexOfInvalidCoordinate(values, 1, 4));
+        }
+
+        @Test
+        @DisplayName("should reject null buffer and invalid range")
+        void shouldRejectNullBufferAndInvalidRange() {
+            assertThrows(IllegalArgumentException.class, () -> GeometryValidator.indexOfInvalidCoordinate(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> GeometryValidator.indexOfInvalidCoordinate(new double[2], 1, 3));
+        }
+
+        @Test
+        @DisplayName("should name the offending value when validating a buffer")
+        void shouldNameOffendingValueWhenValidatingBuffer() {
+            IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> GeometryValidator.validateCoordinateBuffer(new double[]{0, Double.NaN})
+            );
+
+            assertEquals("Value[1] coordinate cannot be NaN", e.getMessage());
+        }
+
+        @Test
+        @DisplayName("should keep indexed messages for invalid points")
+        void shouldKeepIndexedMessagesForInvalidPoints() {
+            double[][] coords = {{0, 0}, {4, Double.NEGATIVE_INFINITY}, {2, 3}};
+
+            IllegalArgumentException e = assertThrows(
+                IllegalArgumentException.class,
+                () -> GeometryValidator.validateTriangleArray(coords)
+            );
+
+            assertEquals("Point[1].y coordinate cannot be infinite", e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
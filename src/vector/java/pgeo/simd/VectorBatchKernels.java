@@ -0,0 +1,188 @@
+package pgeo.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorBatchKernels extends BatchKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int CLASSIFY_BLOCK = 256;
+    private static final DoubleVector ZERO = DoubleVector.zero(SPECIES);
+
+    @Override
+    public String getName() {
+        return "vector-" + SPECIES.length() + "x64";
+    }
+
+    @Override
+    void computeTriangleSignedAreas(double[] ax, double[] ay, double[] bx, double[] by,
+                                    double[] cx, double[] cy, double[] out, int count) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector vax = DoubleVector.fromArray(SPECIES, ax, i);
+            DoubleVector vay = DoubleVector.fromArray(SPECIES, ay, i);
+            DoubleVector vbx = DoubleVector.fromArray(SPECIES, bx, i);
+            DoubleVector vby = DoubleVector.fromArray(SPECIES, by, i);
+            DoubleVector vcx = DoubleVector.fromArray(SPECIES, cx, i);
+            DoubleVector vcy = DoubleVector.fromArray(SPECIES, cy, i);
+
+            determinant(vax, vay, vbx, vby, vcx, vcy).div(2.0).intoArray(out, i);
+        }
+
+        for (; i < count; i++) {
+            out[i] = ScalarBatchKernels.determinant(ax[i], ay[i], bx[i], by[i], cx[i], cy[i]) / 2.0;
+        }
+    }
+
+    @Override
+    double computeShoelaceSum(double[] xs, double[] ys, int count) {
+        int pairs = count - 1;
+        int bound = SPECIES.loopBound(pairs);
+        DoubleVector partial = DoubleVector.zero(SPECIES);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+            DoubleVector y = DoubleVector.fromArray(SPECIES, ys, i);
+            DoubleVector nextX = DoubleVector.fromArray(SPECIES, xs, i + 1);
+            DoubleVector nextY = DoubleVector.fromArray(SPECIES, ys, i + 1);
+
+            partial = partial.add(x.mul(nextY).sub(nextX.mul(y)));
+        }
+
+        return partial.reduceLanes(VectorOperators.ADD)
+            + ScalarBatchKernels.shoelaceRange(xs, ys, i, pairs)
+            + ScalarBatchKernels.closingTerm(xs, ys, count);
+    }
+
+    @Override
+    void computeClassification(double ax, double ay, double bx, double by,
+                               double[] xs, double[] ys, byte[] out, int count) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector vax = DoubleVector.broadcast(SPECIES, ax);
+        DoubleVector vay = DoubleVector.broadcast(SPECIES, ay);
+        DoubleVector vbx = DoubleVector.broadcast(SPECIES, bx);
+        DoubleVector vby = DoubleVector.broadcast(SPECIES, by);
+        double[] signs = new double[Math.min(bound, CLASSIFY_BLOCK)];
+
+        for (int block = 0; block < bound; block += CLASSIFY_BLOCK) {
+            int blockEnd = Math.min(bound, block + CLASSIFY_BLOCK);
+
+            for (int i = block; i < blockEnd; i += SPECIES.length()) {
+                DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+                DoubleVector y = DoubleVector.fromArray(SPECIES, ys, i);
+                DoubleVector det = determinant(vax, vay, vbx, vby, x, y);
+
+                ZERO.blend(1.0, det.compare(VectorOperators.GT, 0.0))
+                    .blend(-1.0, det.compare(VectorOperators.LT, 0.0))
+                    .intoArray(signs, i - block);
+            }
+
+            for (int i = block; i < blockEnd; i++) {
+                out[i] = (byte) signs[i - block];
+            }
+        }
+
+        ScalarBatchKernels.classifyRange(ax, ay, bx, by, xs, ys, out, bound, count);
+    }
+
+    @Override
+    int computeLineSegmentIntersections(double ax, double ay, double bx, double by,
+                                        double[] x1, double[] y1, double[] x2, double[] y2,
+                                        boolean[] hits, double[] outX, double[] outY, int count) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector vax = DoubleVector.broadcast(SPECIES, ax);
+        DoubleVector vay = DoubleVector.broadcast(SPECIES, ay);
+        DoubleVector vbx = DoubleVector.broadcast(SPECIES, bx);
+        DoubleVector vby = DoubleVector.broadcast(SPECIES, by);
+        DoubleVector lx = DoubleVector.broadcast(SPECIES, ax - bx);
+        DoubleVector ly = DoubleVector.broadcast(SPECIES, ay - by);
+        DoubleVector k = DoubleVector.broadcast(SPECIES, (ax * by) - (ay * bx));
+        int found = 0;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector sx1 = DoubleVector.fromArray(SPECIES, x1, i);
+            DoubleVector sy1 = DoubleVector.fromArray(SPECIES, y1, i);
+            DoubleVector sx2 = DoubleVector.fromArray(SPECIES, x2, i);
+            DoubleVector sy2 = DoubleVector.fromArray(SPECIES, y2, i);
+
+            DoubleVector start = side(k, vax, vay, vbx, vby, sx1, sy1);
+            DoubleVector end = side(k, vax, vay, vbx, vby, sx2, sy2);
+            DoubleVector denominator = sx1.sub(sx2).mul(ly).sub(sy1.sub(sy2).mul(lx));
+            DoubleVector t = sx1.sub(vax).mul(ly).sub(sy1.sub(vay).mul(lx)).div(denominator);
+
+            found += store(start, end, denominator, t, sx1, sy1, sx2.sub(sx1), sy2.sub(sy1), hits, outX, outY, i);
+        }
+
+        return found + ScalarBatchKernels.lineSegmentRange(ax, ay, bx, by, x1, y1, x2, y2,
+            hits, outX, outY, bound, count);
+    }
+
+    @Override
+    int computeSegmentLineIntersections(double x1, double y1, double x2, double y2,
+                                        double[] ax, double[] ay, double[] bx, double[] by,
+                                        boolean[] hits, double[] outX, double[] outY, int count) {
+        int bound = SPECIES.loopBound(count);
+        DoubleVector sx1 = DoubleVector.broadcast(SPECIES, x1);
+        DoubleVector sy1 = DoubleVector.broadcast(SPECIES, y1);
+        DoubleVector sx2 = DoubleVector.broadcast(SPECIES, x2);
+        DoubleVector sy2 = DoubleVector.broadcast(SPECIES, y2);
+        DoubleVector sx = DoubleVector.broadcast(SPECIES, x2 - x1);
+        DoubleVector sy = DoubleVector.broadcast(SPECIES, y2 - y1);
+        DoubleVector ex = DoubleVector.broadcast(SPECIES, x1 - x2);
+        DoubleVector ey = DoubleVector.broadcast(SPECIES, y1 - y2);
+        int found = 0;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector vax = DoubleVector.fromArray(SPECIES, ax, i);
+            DoubleVector vay = DoubleVector.fromArray(SPECIES, ay, i);
+            DoubleVector vbx = DoubleVector.fromArray(SPECIES, bx, i);
+            DoubleVector vby = DoubleVector.fromArray(SPECIES, by, i);
+            DoubleVector lx = vax.sub(vbx);
+            DoubleVector ly = vay.sub(vby);
+            DoubleVector k = vax.mul(vby).sub(vay.mul(vbx));
+
+            DoubleVector start = side(k, vax, vay, vbx, vby, sx1, sy1);
+            DoubleVector end = side(k, vax, vay, vbx, vby, sx2, sy2);
+            DoubleVector denominator = ex.mul(ly).sub(ey.mul(lx));
+            DoubleVector t = sx1.sub(vax).mul(ly).sub(sy1.sub(vay).mul(lx)).div(denominator);
+
+            found += store(start, end, denominator, t, sx1, sy1, sx, sy, hits, outX, outY, i);
+        }
+
+        return found + ScalarBatchKernels.segmentLineRange(x1, y1, x2, y2, ax, ay, bx, by,
+            hits, outX, outY, bound, count);
+    }
+
+    private static DoubleVector side(DoubleVector k, DoubleVector ax, DoubleVector ay,
+                                     DoubleVector bx, DoubleVector by, DoubleVector px, DoubleVector py) {
+        return k.add(ay.mul(px)).sub(ax.mul(py)).add(bx.mul(py)).sub(px.mul(by));
+    }
+
+    private static int store(DoubleVector start, DoubleVector end, DoubleVector denominator, DoubleVector t,
+                             DoubleVector x, DoubleVector y, DoubleVector dx, DoubleVector dy,
+                             boolean[] hits, double[] outX, double[] outY, int offset) {
+        VectorMask<Double> above = start.compare(VectorOperators.GT, 0.0).and(end.compare(VectorOperators.GT, 0.0));
+        VectorMask<Double> below = start.compare(VectorOperators.LT, 0.0).and(end.compare(VectorOperators.LT, 0.0));
+        VectorMask<Double> hit = above.or(below).not();
+        VectorMask<Double> missing = hit.not().or(denominator.compare(VectorOperators.EQ, 0.0));
+
+        hit.intoArray(hits, offset);
+        x.add(t.mul(dx)).blend(Double.NaN, missing).intoArray(outX, offset);
+        y.add(t.mul(dy)).blend(Double.NaN, missing).intoArray(outY, offset);
+        return hit.trueCount();
+    }
+
+    private static DoubleVector determinant(DoubleVector ax, DoubleVector ay, DoubleVector bx,
+                                            DoubleVector by, DoubleVector cx, DoubleVector cy) {
+        return ax.mul(by).sub(ay.mul(bx))
+            .add(ay.mul(cx)).sub(ax.mul(cy))
+            .add(bx.mul(cy)).sub(cx.mul(by));
+    }
+}